@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.config;
+
+import java.util.List;
+
+/**
+ * A reusable handle to a config entry of the {@link ConfigRegistry}. The handle always reads the value from the
+ * current snapshot of the registry, but looks up the entry only when the snapshot is replaced.
+ *
+ * @since 2.0.0
+ */
+public class ConfigHandle {
+
+    private final ConfigRegistry registry;
+    private final String key;
+    // Entry of the key in the snapshot it was looked up from.
+    private volatile CachedEntry cachedEntry;
+
+    ConfigHandle(ConfigRegistry registry, String key) {
+        this.registry = registry;
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Checks whether the entry is present in the Config Registry.
+     *
+     * @return Returns true if the key is in the registry; returns false otherwise
+     */
+    public boolean contains() {
+        return getEntry().isPresent();
+    }
+
+    /**
+     * Retrieves the config value.
+     *
+     * @return The config value if it exists
+     */
+    public Object getConfiguration() {
+        return getEntry().getConfiguration();
+    }
+
+    /**
+     * Retrieves the config value as a boolean.
+     *
+     * @return The config value if it exists
+     */
+    public boolean getAsBoolean() {
+        return getEntry().getAsBoolean();
+    }
+
+    /**
+     * Retrieves the config value as an int.
+     *
+     * @return The config value
+     */
+    public long getAsInt() {
+        return getEntry().getAsInt();
+    }
+
+    /**
+     * Retrieves the config value as a float.
+     *
+     * @return The config value
+     */
+    public double getAsFloat() {
+        return getEntry().getAsFloat();
+    }
+
+    /**
+     * Retrieves the config value as a List.
+     *
+     * @return The config value
+     */
+    public List getAsArray() {
+        return getEntry().getAsArray();
+    }
+
+    /**
+     * Retrieves the config value as a string.
+     *
+     * @return The config value as a string
+     */
+    public String getAsString() {
+        return getEntry().getAsString();
+    }
+
+    private ConfigSnapshot.Entry getEntry() {
+        ConfigSnapshot snapshot = registry.getSnapshot();
+        CachedEntry current = cachedEntry;
+        if (current == null || current.snapshot != snapshot) {
+            // An entry may be shared by several snapshots, hence the snapshot is kept along with the entry.
+            current = new CachedEntry(snapshot, snapshot.getEntry(key));
+            cachedEntry = current;
+        }
+        return current.entry;
+    }
+
+    private static class CachedEntry {
+
+        private final ConfigSnapshot snapshot;
+        private final ConfigSnapshot.Entry entry;
+
+        private CachedEntry(ConfigSnapshot snapshot, ConfigSnapshot.Entry entry) {
+            this.snapshot = snapshot;
+            this.entry = entry;
+        }
+    }
+}
@@ -27,31 +27,34 @@ import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * ConfigRegistry caches configuration properties and provide API.
+ * <p>
+ * The configurations are read through a {@link ConfigSnapshot}, which is compiled from the configuration entries
+ * once they are loaded. Adding or removing an entry replaces the snapshot with an updated copy, which shares the
+ * compiled entries of the other keys, hence the other values are not resolved again. Loading the configurations
+ * again replaces the snapshot atomically, hence a reader sees either the old or the new configurations, but never a
+ * mix of both.
  *
  * @since 0.95
  */
 public class ConfigRegistry {
 
     private static final ConfigRegistry configRegistry = new ConfigRegistry();
-    private static final Pattern encryptedFieldPattern = Pattern.compile("@encrypted:\\{(.*)\\}");
-    private static final String ENV_VAR_FORMAT = "[a-zA-Z_]+[a-zA-Z0-9_]*";
 
-    private Map<String, Object> configEntries = new ConcurrentHashMap<>();
+    // Guarded by the registry. The entries are changed only through the registry, which updates the snapshot.
+    private Map<String, Object> configEntries = new HashMap<>();
     private AESCipherTool cipherTool;
     private PrintStream stderr = System.err;
+    // Snapshot of the current entries, or null if it is not compiled yet.
+    private volatile ConfigSnapshot snapshot;
 
-    private boolean isInitialized;
+    private volatile boolean isInitialized;
 
     private ConfigRegistry() {
     }
@@ -61,7 +64,10 @@ public class ConfigRegistry {
     }
 
     /**
-     * Prepares for parsing and loading the configurations by initializing the config processor.
+     * Prepares for parsing and loading the configurations by initializing the config processor. The registry can be
+     * initialized again to reload the configurations, in which case the loaded configurations replace the current
+     * configurations at once.
+     *
      * @param runtimeParams     The Ballerina runtime parameters (-B params)
      * @param configFilePath    The path to the user provided Ballerina config file
      * @param ballerinaConfPath Path to the default ballerina.conf file
@@ -71,7 +77,8 @@ public class ConfigRegistry {
             throws IOException {
         BConfig resolvedConfigs = ConfigProcessor.processConfiguration(runtimeParams, configFilePath,
                                                                        ballerinaConfPath);
-        configEntries = resolvedConfigs.getConfigurations();
+        Map<String, Object> loadedEntries = new HashMap<>(resolvedConfigs.getConfigurations());
+        AESCipherTool loadedCipherTool = null;
 
         if (resolvedConfigs.hasEncryptedValues()) {
             String customSecretFilePath = runtimeParams != null ? runtimeParams.get("b7a.config.secret") : null;
@@ -79,11 +86,11 @@ public class ConfigRegistry {
 
             try {
                 if (Files.exists(userSecretFile)) {
-                    cipherTool = new AESCipherTool(userSecretFile);
+                    loadedCipherTool = new AESCipherTool(userSecretFile);
                 } else {
                     // Prompting should not happen when secret file is explicitly set by the user
                     stderr.println("ballerina: enter secret for config value decryption:");
-                    cipherTool = new AESCipherTool(new String(System.console().readPassword()));
+                    loadedCipherTool = new AESCipherTool(new String(System.console().readPassword()));
                 }
             } catch (AESCipherToolException e) {
                 String msg = "failed to initialize the cipher tool: " + e.getMessage();
@@ -91,8 +98,48 @@ public class ConfigRegistry {
             }
         }
 
-        addConfiguration("ballerina.source.root", System.getProperty("ballerina.source.root"));
-        isInitialized = true;
+        loadedEntries.put("ballerina.source.root", System.getProperty("ballerina.source.root"));
+        ConfigSnapshot loadedSnapshot = new ConfigSnapshot(loadedEntries, loadedCipherTool);
+
+        synchronized (this) {
+            configEntries = loadedEntries;
+            cipherTool = loadedCipherTool;
+            snapshot = loadedSnapshot;
+            isInitialized = true;
+        }
+    }
+
+    /**
+     * Returns the snapshot of the current configurations. Multiple configurations read from a snapshot are consistent
+     * with each other, even if the configurations are reloaded or changed meanwhile.
+     *
+     * @return The snapshot of the current configurations
+     */
+    public ConfigSnapshot getSnapshot() {
+        ConfigSnapshot current = snapshot;
+        return current != null ? current : compileSnapshot();
+    }
+
+    /**
+     * Returns a handle to read the config value specified by the key. The handle looks up the key only once per
+     * snapshot, hence it can be kept and reused to read a frequently used config value.
+     *
+     * @param key The key of the config entry
+     * @return A handle to the config entry
+     */
+    public ConfigHandle getHandle(String key) {
+        return new ConfigHandle(this, key);
+    }
+
+    /**
+     * Returns a handle to read the config value specified by the section header and the field.
+     *
+     * @param sectionHeader The header name
+     * @param field         The field in the section
+     * @return A handle to the config entry
+     */
+    public ConfigHandle getHandle(String sectionHeader, String field) {
+        return getHandle(getConfigKey(sectionHeader, field));
     }
 
     /**
@@ -101,8 +148,12 @@ public class ConfigRegistry {
      * @param key   The configuration key
      * @param value The configuration value
      */
-    public void addConfiguration(String key, Object value) {
+    public synchronized void addConfiguration(String key, Object value) {
         configEntries.put(key, value);
+        ConfigSnapshot current = snapshot;
+        if (current != null) {
+            snapshot = current.withEntry(key, value);
+        }
     }
 
     /**
@@ -123,7 +174,7 @@ public class ConfigRegistry {
      * @param key   The configuration key
      * @param value The configuration value
      */
-    public void addEncryptedConfiguration(String key, String value) {
+    public synchronized void addEncryptedConfiguration(String key, String value) {
         if (cipherTool == null) {
             throw new RuntimeException("cipher tool is not initialized.");
         }
@@ -150,7 +201,7 @@ public class ConfigRegistry {
      * @return Returns true if the key is in the registry; returns false otherwise
      */
     public boolean contains(String key) {
-        return configEntries.containsKey(key);
+        return getSnapshot().contains(key);
     }
 
     /**
@@ -171,17 +222,7 @@ public class ConfigRegistry {
      * @return The associated config value if it exists
      */
     public Object getConfiguration(String key) {
-        if (contains(key)) {
-            Object value = configEntries.get(key);
-
-            if (value instanceof String) {
-                return resolveStringValue((String) value);
-            }
-
-            return value;
-        }
-
-        return null;
+        return getSnapshot().getConfiguration(key);
     }
 
     /**
@@ -202,20 +243,7 @@ public class ConfigRegistry {
      * @return The associated config value if it exists
      */
     public boolean getAsBoolean(String key) {
-        if (contains(key)) {
-            Object value;
-            try {
-                value = configEntries.get(key);
-                if (value instanceof String) {
-                    return Boolean.parseBoolean(resolveStringValue((String) value));
-                }
-                return (Boolean) value;
-            } catch (ClassCastException e) {
-                throw new IllegalArgumentException("config key '" + key + "' does not map to a valid 'boolean'");
-            }
-        }
-
-        return Boolean.parseBoolean(lookupEnvVars(key));
+        return getSnapshot().getAsBoolean(key);
     }
 
     /**
@@ -236,20 +264,7 @@ public class ConfigRegistry {
      * @return The associated config val
      */
     public long getAsInt(String key) {
-        if (contains(key)) {
-            Object value;
-            try {
-                value = configEntries.get(key);
-                if (value instanceof String) {
-                    return Long.parseLong(resolveStringValue((String) value));
-                }
-                return (Long) value;
-            } catch (ClassCastException | NumberFormatException e) {
-                throw new IllegalArgumentException("config key '" + key + "' does not map to a valid 'int'");
-            }
-        }
-
-        return Long.parseLong(lookupEnvVars(key));
+        return getSnapshot().getAsInt(key);
     }
 
     /**
@@ -270,22 +285,7 @@ public class ConfigRegistry {
      * @return The associated config val
      */
     public double getAsFloat(String key) {
-        if (contains(key)) {
-            Object value;
-            try {
-                value = configEntries.get(key);
-                if (value instanceof String) {
-                    return Double.parseDouble(resolveStringValue((String) value));
-                } else if (value instanceof Long) {
-                    return (Long) value;
-                }
-                return (Double) value;
-            } catch (ClassCastException | NumberFormatException e) {
-                throw new IllegalArgumentException("config key '" + key + "' does not map to a valid 'float'");
-            }
-        }
-
-        return Double.parseDouble(lookupEnvVars(key));
+        return getSnapshot().getAsFloat(key);
     }
 
     /**
@@ -306,17 +306,7 @@ public class ConfigRegistry {
      * @return The associated config val
      */
     public Map<String, Object> getAsMap(String key) {
-        Map<String, Object> section = new HashMap<>();
-        int subStringIndex = key.length() + 1;
-
-        // TODO: handle tables properly at the config parsing level
-        configEntries.entrySet().forEach(entry -> {
-            if (entry.getKey().startsWith(key)) {
-                section.put(entry.getKey().substring(subStringIndex), entry.getValue());
-            }
-        });
-
-        return section;
+        return getSnapshot().getAsMap(key);
     }
 
     /**
@@ -340,11 +330,7 @@ public class ConfigRegistry {
         if (key == null) {
             return null;
         }
-        Object value = configEntries.get(key);
-        if (value instanceof List) {
-            return (List) value;
-        }
-        return new ArrayList();
+        return getSnapshot().getAsArray(key);
     }
 
     /**
@@ -369,12 +355,7 @@ public class ConfigRegistry {
             return null;
         }
 
-        if (contains(key)) {
-            String value = String.valueOf(configEntries.get(key));
-            return resolveStringValue(value);
-        }
-
-        return lookupEnvVars(key);
+        return getSnapshot().getAsString(key);
     }
 
     /**
@@ -406,7 +387,7 @@ public class ConfigRegistry {
      * @return An iterator for the key set
      */
     public Iterator<String> keySetIterator() {
-        return configEntries.keySet().iterator();
+        return getSnapshot().keySet().iterator();
     }
 
     /**
@@ -415,15 +396,20 @@ public class ConfigRegistry {
      * @param key The key for the configuration value to be removed
      * @return The removed configuration value
      */
-    public Object removeConfiguration(String key) {
+    public synchronized Object removeConfiguration(String key) {
+        ConfigSnapshot current = snapshot;
+        if (current != null) {
+            snapshot = current.withoutEntry(key);
+        }
         return configEntries.remove(key);
     }
 
     /**
      * Removes all the entries in the Config Registry.
      */
-    public void resetRegistry() {
+    public synchronized void resetRegistry() {
         configEntries.clear();
+        snapshot = null;
     }
 
     private String getConfigKey(String tableHeader, String tableField) {
@@ -444,33 +430,11 @@ public class ConfigRegistry {
         return userConfiguredPath;
     }
 
-    private String resolveStringValue(String value) {
-        Matcher base64Matcher = null;
-
-        try {
-            if (value != null) {
-                base64Matcher = encryptedFieldPattern.matcher(value);
-
-                if (base64Matcher.find()) {
-                    return cipherTool.decrypt(base64Matcher.group(1));
-                }
-            }
-        } catch (IllegalArgumentException e) {
-            throw new RuntimeException("invalid base 64 value: " + base64Matcher.group(1));
-        } catch (AESCipherToolException e) {
-            throw new RuntimeException("failed to retrieve encrypted value: " + e.getMessage(), e);
+    private synchronized ConfigSnapshot compileSnapshot() {
+        if (snapshot == null) {
+            snapshot = new ConfigSnapshot(configEntries, cipherTool);
         }
-
-        return value;
-    }
-
-    private String lookupEnvVars(String key) {
-        String convertedKey = getEnvVarKey(key);
-        return convertedKey.matches(ENV_VAR_FORMAT) ? System.getenv(convertedKey) : null;
-    }
-
-    private String getEnvVarKey(String configKey) {
-        return configKey.replace('.', '_');
+        return snapshot;
     }
 
     public boolean isInitialized() {
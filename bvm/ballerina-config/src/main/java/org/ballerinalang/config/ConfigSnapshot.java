@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.config;
+
+import org.ballerinalang.config.cipher.AESCipherTool;
+import org.ballerinalang.config.cipher.AESCipherToolException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable view of the configuration entries of the {@link ConfigRegistry}.
+ * <p>
+ * The string values are resolved when the snapshot is compiled, and each value is converted to a given type at most
+ * once, hence the reads do not repeat the decryption or the parsing of the values. The entries are also indexed by
+ * each of their sections, so that a section can be retrieved without scanning all the entries.
+ *
+ * @since 2.0.0
+ */
+public class ConfigSnapshot {
+
+    private static final Pattern encryptedFieldPattern = Pattern.compile("@encrypted:\\{(.*)\\}");
+    private static final String ENV_VAR_FORMAT = "[a-zA-Z_]+[a-zA-Z0-9_]*";
+    private static final char SECTION_SEPARATOR = '.';
+    // Marks a string value of which the resolution failed. The resolution is repeated on access to report the error.
+    private static final Object UNRESOLVED = new Object();
+
+    private final AESCipherTool cipherTool;
+    private final Map<String, Entry> entries;
+    private final Map<String, Map<String, Object>> sections;
+    // Entries of the keys which are not in the snapshot, but are set as environment variables. Keys which are not set
+    // either are not cached, hence the cache is bounded by the environment variables.
+    private final Map<String, Entry> envEntries = new ConcurrentHashMap<>();
+
+    ConfigSnapshot(Map<String, Object> configEntries, AESCipherTool cipherTool) {
+        this.cipherTool = cipherTool;
+        Map<String, Entry> entries = new HashMap<>(configEntries.size() * 2);
+        Map<String, Map<String, Object>> sections = new HashMap<>();
+        for (Map.Entry<String, Object> configEntry : configEntries.entrySet()) {
+            String key = configEntry.getKey();
+            Object value = configEntry.getValue();
+            entries.put(key, new Entry(cipherTool, key, true, value));
+            indexSections(sections, key, value);
+        }
+        this.entries = entries;
+        this.sections = sections;
+    }
+
+    private ConfigSnapshot(AESCipherTool cipherTool, Map<String, Entry> entries,
+                           Map<String, Map<String, Object>> sections) {
+        this.cipherTool = cipherTool;
+        this.entries = entries;
+        this.sections = sections;
+    }
+
+    /**
+     * Returns a snapshot with the given entry added or replaced. The entries of the other keys, including their
+     * resolved and converted values, are shared with this snapshot, and only the sections of the given key are copied.
+     * This snapshot is not changed.
+     *
+     * @param key   The key of the config entry
+     * @param value The value of the config entry
+     * @return The updated snapshot
+     */
+    ConfigSnapshot withEntry(String key, Object value) {
+        Map<String, Entry> updatedEntries = new HashMap<>(entries);
+        Map<String, Map<String, Object>> updatedSections = new HashMap<>(sections);
+        updatedEntries.put(key, new Entry(cipherTool, key, true, value));
+        int index = key.indexOf(SECTION_SEPARATOR);
+        while (index >= 0) {
+            String sectionKey = key.substring(0, index);
+            Map<String, Object> section = sections.get(sectionKey);
+            Map<String, Object> updatedSection = section != null ? new HashMap<>(section) : new HashMap<>();
+            updatedSection.put(key.substring(index + 1), value);
+            updatedSections.put(sectionKey, updatedSection);
+            index = key.indexOf(SECTION_SEPARATOR, index + 1);
+        }
+        return new ConfigSnapshot(cipherTool, updatedEntries, updatedSections);
+    }
+
+    /**
+     * Returns a snapshot without the given entry. The entries of the other keys are shared with this snapshot, and
+     * only the sections of the given key are copied. This snapshot is not changed.
+     *
+     * @param key The key of the config entry
+     * @return The updated snapshot, or this snapshot if it does not contain the key
+     */
+    ConfigSnapshot withoutEntry(String key) {
+        if (!entries.containsKey(key)) {
+            return this;
+        }
+        Map<String, Entry> updatedEntries = new HashMap<>(entries);
+        updatedEntries.remove(key);
+        Map<String, Map<String, Object>> updatedSections = new HashMap<>(sections);
+        int index = key.indexOf(SECTION_SEPARATOR);
+        while (index >= 0) {
+            String sectionKey = key.substring(0, index);
+            Map<String, Object> updatedSection = new HashMap<>(sections.get(sectionKey));
+            updatedSection.remove(key.substring(index + 1));
+            if (updatedSection.isEmpty()) {
+                updatedSections.remove(sectionKey);
+            } else {
+                updatedSections.put(sectionKey, updatedSection);
+            }
+            index = key.indexOf(SECTION_SEPARATOR, index + 1);
+        }
+        return new ConfigSnapshot(cipherTool, updatedEntries, updatedSections);
+    }
+
+    /**
+     * Checks whether the given key is present in the snapshot.
+     *
+     * @param key The key to look-up
+     * @return Returns true if the key is in the snapshot; returns false otherwise
+     */
+    public boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Retrieves the config value specified by the key.
+     *
+     * @param key The key of the config entry
+     * @return The associated config value if it exists
+     */
+    public Object getConfiguration(String key) {
+        return getEntry(key).getConfiguration();
+    }
+
+    /**
+     * Retrieves the config value specified by the key as a boolean.
+     *
+     * @param key The key of the config entry
+     * @return The associated config value if it exists
+     */
+    public boolean getAsBoolean(String key) {
+        return getEntry(key).getAsBoolean();
+    }
+
+    /**
+     * Retrieves the config value specified by the key as an int.
+     *
+     * @param key The key of the config entry
+     * @return The associated config value
+     */
+    public long getAsInt(String key) {
+        return getEntry(key).getAsInt();
+    }
+
+    /**
+     * Retrieves the config value specified by the key as a float.
+     *
+     * @param key The key of the config entry
+     * @return The associated config value
+     */
+    public double getAsFloat(String key) {
+        return getEntry(key).getAsFloat();
+    }
+
+    /**
+     * Retrieves the entries of the section specified by the key as a Map, keyed by their keys relative to the
+     * section.
+     *
+     * @param key The key of the section
+     * @return The entries of the section
+     */
+    public Map<String, Object> getAsMap(String key) {
+        Map<String, Object> section = sections.get(key);
+        return section != null ? new HashMap<>(section) : new HashMap<>();
+    }
+
+    /**
+     * Retrieves the config value specified by the key as a List.
+     *
+     * @param key The key of the config entry
+     * @return The associated config value
+     */
+    public List getAsArray(String key) {
+        return getEntry(key).getAsArray();
+    }
+
+    /**
+     * Retrieve the configuration value mapped by the specified key.
+     *
+     * @param key The key of the configuration value
+     * @return The configuration value as a string
+     */
+    public String getAsString(String key) {
+        return getEntry(key).getAsString();
+    }
+
+    /**
+     * Returns the keys of the entries in the snapshot.
+     *
+     * @return An unmodifiable set of the keys
+     */
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    Entry getEntry(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        entry = envEntries.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        String envValue = lookupEnvVars(key);
+        if (envValue == null) {
+            return new Entry(cipherTool, key, false, null);
+        }
+        entry = new Entry(cipherTool, key, false, envValue);
+        Entry cachedEntry = envEntries.putIfAbsent(key, entry);
+        return cachedEntry != null ? cachedEntry : entry;
+    }
+
+    private static void indexSections(Map<String, Map<String, Object>> sections, String key, Object value) {
+        int index = key.indexOf(SECTION_SEPARATOR);
+        while (index >= 0) {
+            // HashMap is used, since a value can be null.
+            sections.computeIfAbsent(key.substring(0, index), k -> new HashMap<>())
+                    .put(key.substring(index + 1), value);
+            index = key.indexOf(SECTION_SEPARATOR, index + 1);
+        }
+    }
+
+    private static String resolveStringValue(AESCipherTool cipherTool, String value) {
+        Matcher base64Matcher = null;
+
+        try {
+            if (value != null) {
+                base64Matcher = encryptedFieldPattern.matcher(value);
+
+                if (base64Matcher.find()) {
+                    return cipherTool.decrypt(base64Matcher.group(1));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("invalid base 64 value: " + base64Matcher.group(1));
+        } catch (AESCipherToolException e) {
+            throw new RuntimeException("failed to retrieve encrypted value: " + e.getMessage(), e);
+        }
+
+        return value;
+    }
+
+    private static String lookupEnvVars(String key) {
+        String convertedKey = key.replace('.', '_');
+        return convertedKey.matches(ENV_VAR_FORMAT) ? System.getenv(convertedKey) : null;
+    }
+
+    /**
+     * A configuration entry of the snapshot, which caches the typed views of its value. A key which is not in the
+     * snapshot maps to an entry of the value of the matching environment variable. An entry does not refer to the
+     * snapshot it was created for, since the entries are shared by the snapshots derived from each other, and the
+     * earlier snapshots should not be retained by the later ones.
+     */
+    static class Entry {
+
+        private final AESCipherTool cipherTool;
+        private final String key;
+        private final boolean present;
+        private final Object value;
+        private final Object resolvedValue;
+
+        // Lazily converted views of the value. These are immutable, hence are shared across threads without locking.
+        private Boolean booleanValue;
+        private Long intValue;
+        private Double floatValue;
+        private Optional<String> stringValue;
+
+        Entry(AESCipherTool cipherTool, String key, boolean present, Object value) {
+            this.cipherTool = cipherTool;
+            this.key = key;
+            this.present = present;
+            this.value = value;
+            this.resolvedValue = value instanceof String ? tryResolve((String) value) : value;
+        }
+
+        boolean isPresent() {
+            return present;
+        }
+
+        Object getConfiguration() {
+            return present ? getResolvedValue() : null;
+        }
+
+        boolean getAsBoolean() {
+            Boolean converted = booleanValue;
+            if (converted == null) {
+                converted = toBoolean();
+                booleanValue = converted;
+            }
+            return converted;
+        }
+
+        long getAsInt() {
+            Long converted = intValue;
+            if (converted == null) {
+                converted = toInt();
+                intValue = converted;
+            }
+            return converted;
+        }
+
+        double getAsFloat() {
+            Double converted = floatValue;
+            if (converted == null) {
+                converted = toFloat();
+                floatValue = converted;
+            }
+            return converted;
+        }
+
+        List getAsArray() {
+            if (value instanceof List) {
+                return (List) value;
+            }
+            return new ArrayList();
+        }
+
+        String getAsString() {
+            Optional<String> converted = stringValue;
+            if (converted == null) {
+                converted = Optional.ofNullable(toStringValue());
+                stringValue = converted;
+            }
+            return converted.orElse(null);
+        }
+
+        private Object tryResolve(String value) {
+            if (!present) {
+                return value;
+            }
+            try {
+                return resolveStringValue(cipherTool, value);
+            } catch (RuntimeException e) {
+                return UNRESOLVED;
+            }
+        }
+
+        private Object getResolvedValue() {
+            return resolvedValue == UNRESOLVED ? resolveStringValue(cipherTool, (String) value) : resolvedValue;
+        }
+
+        private Boolean toBoolean() {
+            if (!present) {
+                return Boolean.parseBoolean((String) value);
+            }
+            try {
+                Object resolved = getResolvedValue();
+                if (resolved instanceof String) {
+                    return Boolean.parseBoolean((String) resolved);
+                }
+                return (Boolean) resolved;
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("config key '" + key + "' does not map to a valid 'boolean'");
+            }
+        }
+
+        private Long toInt() {
+            if (!present) {
+                return Long.parseLong((String) value);
+            }
+            try {
+                Object resolved = getResolvedValue();
+                if (resolved instanceof String) {
+                    return Long.parseLong((String) resolved);
+                }
+                return (Long) resolved;
+            } catch (ClassCastException | NumberFormatException e) {
+                throw new IllegalArgumentException("config key '" + key + "' does not map to a valid 'int'");
+            }
+        }
+
+        private Double toFloat() {
+            if (!present) {
+                return Double.parseDouble((String) value);
+            }
+            try {
+                Object resolved = getResolvedValue();
+                if (resolved instanceof String) {
+                    return Double.parseDouble((String) resolved);
+                } else if (resolved instanceof Long) {
+                    return ((Long) resolved).doubleValue();
+                }
+                return (Double) resolved;
+            } catch (ClassCastException | NumberFormatException e) {
+                throw new IllegalArgumentException("config key '" + key + "' does not map to a valid 'float'");
+            }
+        }
+
+        private String toStringValue() {
+            if (!present) {
+                return (String) value;
+            }
+            Object resolved = getResolvedValue();
+            if (resolved instanceof String) {
+                return (String) resolved;
+            }
+            return resolveStringValue(cipherTool, String.valueOf(value));
+        }
+    }
+}
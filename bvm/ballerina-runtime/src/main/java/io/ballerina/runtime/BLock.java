@@ -17,6 +17,7 @@
 */
 package io.ballerina.runtime;
 
+import io.ballerina.runtime.scheduling.SchedulerStats;
 import io.ballerina.runtime.scheduling.State;
 import io.ballerina.runtime.scheduling.Strand;
 
@@ -29,6 +30,8 @@ import java.util.ArrayDeque;
  */
 public class BLock {
 
+    private static final SchedulerStats stats = SchedulerStats.getInstance();
+
     private ArrayDeque<Strand> current;
 
     private ArrayDeque<Strand> waitingForLock;
@@ -41,10 +44,12 @@ public class BLock {
     public synchronized boolean lock(Strand strand) {
         if (isLockFree() || lockedBySameContext(strand)) {
             this.current.offerLast(strand);
+            stats.lockAcquired(strand);
             return true;
         }
 
         this.waitingForLock.offerLast(strand);
+        stats.lockWaitStarted(strand);
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
@@ -57,6 +62,7 @@ public class BLock {
         this.current.removeLast();
         if (!waitingForLock.isEmpty()) {
             Strand strand = this.waitingForLock.removeFirst();
+            stats.lockWaitReleased();
             strand.scheduler.unblockStrand(strand);
         }
     }
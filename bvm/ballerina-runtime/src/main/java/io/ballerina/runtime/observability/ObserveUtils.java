@@ -21,6 +21,7 @@ package io.ballerina.runtime.observability;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.observability.tracer.BSpan;
+import io.ballerina.runtime.observability.tracer.TraceSampler;
 import io.ballerina.runtime.scheduling.Scheduler;
 import io.ballerina.runtime.scheduling.Strand;
 import io.ballerina.runtime.values.ErrorValue;
@@ -38,6 +39,7 @@ import java.util.function.Supplier;
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_METRICS_ENABLED;
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_TRACING_ENABLED;
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
+import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_TRACE_PROPERTIES;
 import static io.ballerina.runtime.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ACTION;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_CONNECTOR_NAME;
@@ -111,6 +113,12 @@ public class ObserveUtils {
         observerContext.setServiceName(service);
         observerContext.setResourceName(resourceName.getValue());
         observerContext.setServer();
+        if (tracingEnabled && observerContext.getParent() == null) {
+            // Follow the decision of the upstream service which started the trace, if any
+            Map<String, String> parentTraceContext =
+                    (Map<String, String>) observerContext.getProperty(PROPERTY_TRACE_PROPERTIES);
+            observerContext.setSampled(TraceSampler.getInstance().sample(parentTraceContext));
+        }
 
         observerContext.addTag(TAG_KEY_MODULE, pkg.getValue());
         observerContext.addTag(TAG_KEY_INVOCATION_POSITION, position.getValue());
@@ -193,6 +201,9 @@ public class ObserveUtils {
 
         ObserverContext newObContext = new ObserverContext();
         newObContext.setParent(observerCtx);
+        if (tracingEnabled && observerCtx == null) {
+            newObContext.setSampled(TraceSampler.getInstance().sample());
+        }
         newObContext.setServiceName(observerCtx == null ? UNKNOWN_SERVICE : observerCtx.getServiceName());
         newObContext.setResourceName(observerCtx == null ? UNKNOWN_RESOURCE : observerCtx.getResourceName());
         if (typeDef == null) {
@@ -243,6 +254,9 @@ public class ObserveUtils {
      * @return property map
      */
     public static Map<String, String> getContextProperties(ObserverContext observerContext) {
+        if (tracingEnabled && !observerContext.isSampled()) {
+            return TraceSampler.getInstance().getNotSampledTraceContext();
+        }
         BSpan bSpan = (BSpan) observerContext.getProperty(KEY_SPAN);
         if (bSpan != null) {
             return bSpan.getTraceContext();
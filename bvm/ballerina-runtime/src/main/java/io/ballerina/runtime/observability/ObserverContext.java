@@ -19,8 +19,11 @@ package io.ballerina.runtime.observability;
 
 import io.ballerina.runtime.observability.metrics.Tag;
 
+import java.util.AbstractSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -41,6 +44,19 @@ public class ObserverContext {
      */
     private final Map<String, Tag> tags;
 
+    /**
+     * Immutable snapshot of the tags, which is reused until the tags are changed.
+     */
+    private Set<Tag> tagSet;
+
+    /**
+     * Value derived from the tags by an observer, such as the metrics resolved for them. Discarded along with the
+     * snapshot of the tags when a tag is changed.
+     */
+    private Object tagSetAttachment;
+
+    private long startTime;
+
     private String serviceName;
 
     private String resourceName;
@@ -59,6 +75,11 @@ public class ObserverContext {
 
     private boolean isSystemSpan;
 
+    /**
+     * Whether the trace this context belongs to was selected by the runtime trace sampler.
+     */
+    private boolean sampled = true;
+
     public ObserverContext() {
         this.properties = new HashMap<>();
         this.tags = new HashMap<>();
@@ -81,7 +102,11 @@ public class ObserverContext {
     public void addTag(String key, String value) {
         String sanitizedValue = value != null ? value : "";
         Tag tag = Tag.of(key, sanitizedValue);
-        tags.put(key, tag);
+        Tag previousTag = tags.put(key, tag);
+        if (!tag.equals(previousTag)) {
+            tagSet = null;
+            tagSetAttachment = null;
+        }
     }
 
     public Tag getTag(String key) {
@@ -92,6 +117,49 @@ public class ObserverContext {
         return new HashSet<>(tags.values());
     }
 
+    /**
+     * Get an immutable set of all the tags. Unlike {@link #getAllTags()}, the same set instance is returned
+     * until a tag is added or changed, which allows the set to be used as a cache key without copying. The hash code
+     * of the set is computed only once.
+     *
+     * @return An immutable set of tags
+     */
+    public Set<Tag> getTagSet() {
+        Set<Tag> currentTagSet = tagSet;
+        if (currentTagSet == null) {
+            currentTagSet = new TagSet(new HashSet<>(tags.values()));
+            tagSet = currentTagSet;
+        }
+        return currentTagSet;
+    }
+
+    /**
+     * Get the value attached to the current set of tags by {@link #setTagSetAttachment(Object)}.
+     *
+     * @return The attached value, or null if none is attached or a tag has been changed since it was attached
+     */
+    public Object getTagSetAttachment() {
+        return tagSetAttachment;
+    }
+
+    /**
+     * Attach a value derived from the current set of tags, such as the metrics resolved for the tags, so that it is
+     * not derived again until a tag is added or changed.
+     *
+     * @param tagSetAttachment The value to be attached
+     */
+    public void setTagSetAttachment(Object tagSetAttachment) {
+        this.tagSetAttachment = tagSetAttachment;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(long startTime) {
+        this.startTime = startTime;
+    }
+
     public String getServiceName() {
         return serviceName;
     }
@@ -154,6 +222,9 @@ public class ObserverContext {
 
     public void setParent(ObserverContext parent) {
         this.parent = parent;
+        if (parent != null) {
+            this.sampled = parent.sampled;
+        }
     }
 
     public boolean isSystemSpan() {
@@ -163,4 +234,57 @@ public class ObserverContext {
     public void setSystemSpan(boolean userSpan) {
         isSystemSpan = userSpan;
     }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public void setSampled(boolean sampled) {
+        this.sampled = sampled;
+    }
+
+    /**
+     * Immutable set of tags which caches its hash code, as it is used as a key of the metrics caches.
+     */
+    private static final class TagSet extends AbstractSet<Tag> {
+
+        private final Set<Tag> tags;
+        private final int hashCode;
+
+        private TagSet(Set<Tag> tags) {
+            this.tags = tags;
+            this.hashCode = tags.hashCode();
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return Collections.unmodifiableSet(tags).iterator();
+        }
+
+        @Override
+        public int size() {
+            return tags.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return tags.contains(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (o instanceof TagSet && ((TagSet) o).hashCode != hashCode) {
+                return false;
+            }
+            return super.equals(o);
+        }
+    }
 }
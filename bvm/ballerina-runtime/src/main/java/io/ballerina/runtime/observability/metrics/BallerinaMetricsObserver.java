@@ -23,19 +23,18 @@ import io.ballerina.runtime.observability.ObserverContext;
 import java.io.PrintStream;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Observe the runtime and collect measurements.
  */
 public class BallerinaMetricsObserver implements BallerinaObserver {
 
-    private static final String PROPERTY_START_TIME = "_observation_start_time_";
     private static final String PROPERTY_IN_PROGRESS_COUNTER = "_observation_in_progress_counter_";
 
     private static final PrintStream consoleError = System.err;
 
-    private static final MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
-
     private static final StatisticConfig[] responseTimeStatisticConfigs = new StatisticConfig[]{
             StatisticConfig.builder()
                     .expiry(Duration.ofMinutes(1))
@@ -51,6 +50,16 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    /*
+     * Metrics resolved per set of tags. The tag sets used as keys are the immutable sets returned by
+     * ObserverContext#getTagSet(), so a lookup does not copy the tags or create metric IDs. The number of cached
+     * tag sets is bounded, as tags may have unbounded values, and the metrics of the tag sets beyond the bound are
+     * looked up from the registry on each use. Cached metrics are resolved again once the default registry is
+     * replaced, or a metric is removed from it.
+     */
+    static final int MAX_CACHED_TAG_SETS = 1024;
+    private static final ConcurrentMap<Set<Tag>, ObservationMetrics> observationMetrics = new ConcurrentHashMap<>();
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -80,11 +89,10 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
     }
 
     private void startObservation(ObserverContext observerContext) {
-        observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        Set<Tag> tags = observerContext.getAllTags();
+        observerContext.setStartTime(System.nanoTime());
+        Set<Tag> tags = observerContext.getTagSet();
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = getObservationMetrics(observerContext, tags).inProgressRequests;
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -98,22 +106,51 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = observerContext.getAllTags();
+        Set<Tag> tags = observerContext.getTagSet();
         try {
-            Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
-            long duration = System.nanoTime() - startTime;
+            long duration = System.nanoTime() - observerContext.getStartTime();
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            ObservationMetrics metrics = getObservationMetrics(observerContext, tags);
+            metrics.responseTime.setValue(duration / 1E9);
+            metrics.responseTimeTotal.increment(duration);
+            metrics.requestsTotal.increment();
         } catch (RuntimeException e) {
             handleError("multiple metrics", tags, e);
         }
     }
 
+    private ObservationMetrics getObservationMetrics(ObserverContext observerContext, Set<Tag> tags) {
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        long removalCount = metricRegistry.getRemovalCount();
+        Object attachment = observerContext.getTagSetAttachment();
+        if (attachment instanceof ObservationMetrics &&
+                ((ObservationMetrics) attachment).isResolvedFrom(metricRegistry, removalCount)) {
+            return (ObservationMetrics) attachment;
+        }
+        ObservationMetrics metrics = observationMetrics.get(tags);
+        if (metrics == null || !metrics.isResolvedFrom(metricRegistry, removalCount)) {
+            // Metrics are removed from the registry rarely, hence they are resolved again once any is removed.
+            // Resolving outside computeIfAbsent as the metric provider may throw for mismatching tags.
+            ObservationMetrics newMetrics = new ObservationMetrics(metricRegistry, tags, responseTimeStatisticConfigs);
+            if (metrics != null) {
+                observationMetrics.replace(tags, metrics, newMetrics);
+                metrics = newMetrics;
+            } else if (observationMetrics.size() < MAX_CACHED_TAG_SETS) {
+                ObservationMetrics existingMetrics = observationMetrics.putIfAbsent(tags, newMetrics);
+                metrics = existingMetrics != null && existingMetrics.isResolvedFrom(metricRegistry, removalCount) ?
+                        existingMetrics : newMetrics;
+            } else {
+                metrics = newMetrics;
+            }
+        }
+        observerContext.setTagSetAttachment(metrics);
+        return metrics;
+    }
+
+    static int getCachedTagSetCount() {
+        return observationMetrics.size();
+    }
+
     private void handleError(String metricName, Set<Tag> tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
@@ -22,6 +22,7 @@ import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
@@ -35,6 +36,8 @@ public class MetricRegistry {
     private final MetricProvider metricProvider;
     // Metrics Map by ID
     private final ConcurrentMap<MetricId, Metric> metrics;
+    // Number of times metrics were removed, so that cached metrics can be checked for removal
+    private final AtomicLong removalCount = new AtomicLong();
 
     public MetricRegistry(MetricProvider metricProvider) {
         this.metricProvider = metricProvider;
@@ -179,8 +182,8 @@ public class MetricRegistry {
 
     private <M extends Metric> void unregister(Metric registerMetric, Class<M> metricClass) {
         Metric metric = readMetric(registerMetric.getId(), metricClass);
-        if (metric != null) {
-            metrics.remove(registerMetric.getId());
+        if (metric != null && metrics.remove(registerMetric.getId()) != null) {
+            removalCount.incrementAndGet();
         }
     }
 
@@ -193,6 +196,19 @@ public class MetricRegistry {
         List<MetricId> ids = metrics.keySet().stream()
                 .filter(id -> id.getName().equals(name)).collect(Collectors.toList());
         ids.forEach(metrics::remove);
+        if (!ids.isEmpty()) {
+            removalCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Get the number of times metrics were removed from the registry. A metric looked up from the registry
+     * may have been removed if this count has changed since it was looked up.
+     *
+     * @return the number of removals
+     */
+    public long getRemovalCount() {
+        return removalCount.get();
     }
 
     public MetricProvider getMetricProvider() {
@@ -24,6 +24,7 @@ import io.ballerina.runtime.observability.metrics.noop.NoOpMetricReporter;
 import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
 import io.ballerina.runtime.observability.metrics.spi.MetricReporter;
 import io.ballerina.runtime.observability.tracer.InvalidConfigurationException;
+import io.ballerina.runtime.scheduling.SchedulerStats;
 import org.ballerinalang.config.ConfigRegistry;
 
 import java.io.PrintStream;
@@ -31,6 +32,9 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.util.ServiceLoader;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
+
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_METRICS_ENABLED;
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_OBSERVABILITY_PROVIDER;
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_TABLE_METRICS;
@@ -45,6 +49,7 @@ public class MetricsLaunchListener implements LaunchListener {
     private static final String METRIC_REPORTER_NAME = CONFIG_TABLE_METRICS + ".reporter";
     private static final String DEFAULT_METRIC_PROVIDER_NAME = "default";
     private static final String DEFAULT_METRIC_REPORTER_NAME = "prometheus";
+    private static final String SCHEDULER_STATS_MBEAN_NAME = "io.ballerina.runtime:type=SchedulerStats";
 
     @Override
     public void beforeRunProgram(boolean service) {
@@ -110,20 +115,61 @@ public class MetricsLaunchListener implements LaunchListener {
     }
 
     private void registerBallerinaMetrics() {
-//        final BLangScheduler.SchedulerStats schedulerStats = BLangScheduler.getStats();
-//        final String prefix = "ballerina_scheduler_";
-//        PolledGauge.builder(prefix + "ready_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getReadyWorkerCount).register();
-//        PolledGauge.builder(prefix + "running_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getRunningWorkerCount).register();
-//        PolledGauge.builder(prefix + "excepted_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getExceptedWorkerCount).register();
-//        PolledGauge.builder(prefix + "paused_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getPausedWorkerCount).register();
-//        PolledGauge.builder(prefix + "waiting_for_response_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getWaitingForResponseWorkerCount).register();
-//        PolledGauge.builder(prefix + "waiting_for_lock_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getWaitingForLockWorkerCount).register();
+        final SchedulerStats schedulerStats = SchedulerStats.getInstance();
+        final String prefix = "ballerina_scheduler_";
+        PolledGauge.builder(prefix + "active_strands", schedulerStats, SchedulerStats::getActiveStrands)
+                .description("Strands that are scheduled and not yet completed").register();
+        PolledGauge.builder(prefix + "runnable_strand_groups", schedulerStats,
+                SchedulerStats::getRunnableStrandGroups)
+                .description("Strand groups waiting in the runnable list for a scheduler thread").register();
+        PolledGauge.builder(prefix + "parked_strands", schedulerStats, SchedulerStats::getParkedStrands)
+                .description("Strands blocked until another strand or an extern unblocks them").register();
+        PolledGauge.builder(prefix + "lock_waiting_strands", schedulerStats,
+                SchedulerStats::getLockWaitingStrands)
+                .description("Strands waiting to acquire a lock").register();
+        PolledGauge.builder(prefix + "worker_channel_backlog", schedulerStats,
+                SchedulerStats::getWorkerChannelBacklog)
+                .description("Messages sent over worker channels and not yet received").register();
+        PolledGauge.builder(prefix + "carrier_threads", schedulerStats, SchedulerStats::getCarrierThreads)
+                .description("Threads executing strands").register();
+        PolledGauge.builder(prefix + "blocked_carrier_threads", schedulerStats,
+                SchedulerStats::getBlockedCarrierThreads)
+                .description("Threads of the adaptive pool found parked or waiting while executing the same " +
+                        "strand over a sampling interval, such as in a blocking extern").register();
+        PolledGauge.builder(prefix + "carrier_threads_added", schedulerStats,
+                SchedulerStats::getCarrierThreadsAdded)
+                .description("Threads added by the adaptive pool to replace blocked threads").register();
+        PolledGauge.builder(prefix + "carrier_threads_retired", schedulerStats,
+                SchedulerStats::getCarrierThreadsRetired)
+                .description("Threads retired by the adaptive pool after being idle").register();
+        // Wait times are published as totals along with the number of waits, from which the reporters derive the
+        // average wait time, and are summarized into percentiles by gauges updated in batches.
+        PolledGauge.builder(prefix + "runnable_wait_time_seconds_total", schedulerStats,
+                stats -> stats.getRunnableWaitTimeNanos() / 1E9)
+                .description("Total time strand groups spent in the runnable list before being executed").register();
+        PolledGauge.builder(prefix + "runnable_strand_groups_taken_total", schedulerStats,
+                SchedulerStats::getRunnableStrandGroupsTaken)
+                .description("Strand groups taken from the runnable list to be executed").register();
+        PolledGauge.builder(prefix + "lock_wait_time_seconds_total", schedulerStats,
+                stats -> stats.getLockWaitTimeNanos() / 1E9)
+                .description("Total time strands spent waiting to acquire a lock").register();
+        PolledGauge.builder(prefix + "lock_waits_total", schedulerStats, SchedulerStats::getLockWaits)
+                .description("Lock acquisitions which had to wait for the lock").register();
+        Gauge runnableWaitTime = Gauge.builder(prefix + "runnable_wait_time_seconds")
+                .description("Time strand groups spent in the runnable list before being executed")
+                .summarize(StatisticConfig.DEFAULT).register();
+        Gauge lockWaitTime = Gauge.builder(prefix + "lock_wait_time_seconds")
+                .description("Time strands spent waiting to acquire a lock")
+                .summarize(StatisticConfig.DEFAULT).register();
+        schedulerStats.summarizeWaitTimes(runnableWaitTime, lockWaitTime);
+        schedulerStats.enable();
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(schedulerStats,
+                    new ObjectName(SCHEDULER_STATS_MBEAN_NAME));
+        } catch (JMException e) {
+            consoleError.println("error: unable to register scheduler statistics with JMX: " + e.getMessage());
+        }
     }
 
     @Override
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import java.util.Set;
+
+/**
+ * Holds the metrics updated by {@link BallerinaMetricsObserver} for a single set of tags, so that the metrics
+ * are resolved from the {@link MetricRegistry} only once per set of tags.
+ *
+ * @since 2.0.0
+ */
+final class ObservationMetrics {
+
+    final Gauge inProgressRequests;
+    final Gauge responseTime;
+    final Counter responseTimeTotal;
+    final Counter requestsTotal;
+    // Registry from which the metrics were resolved, and its removal count at the time
+    private final MetricRegistry registry;
+    private final long registryRemovalCount;
+
+    ObservationMetrics(MetricRegistry metricRegistry, Set<Tag> tags, StatisticConfig... responseTimeConfigs) {
+        registry = metricRegistry;
+        registryRemovalCount = metricRegistry.getRemovalCount();
+        inProgressRequests = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
+                tags));
+        responseTime = metricRegistry.gauge(new MetricId("response_time_seconds", "Response time", tags),
+                responseTimeConfigs);
+        responseTimeTotal = metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                "Total response response time for all requests", tags));
+        requestsTotal = metricRegistry.counter(new MetricId("requests_total", "Total number of requests", tags));
+    }
+
+    /**
+     * Checks whether the metrics are still the ones registered in the given registry, that is, whether they were
+     * resolved from the same registry and no metric has been removed from it since.
+     */
+    boolean isResolvedFrom(MetricRegistry metricRegistry, long removalCount) {
+        return registry == metricRegistry && registryRemovalCount == removalCount;
+    }
+}
@@ -21,8 +21,11 @@ package io.ballerina.runtime.observability.tracer;
 import io.ballerina.runtime.observability.ObserverContext;
 import io.opentracing.Span;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.runtime.observability.tracer.TraceConstants.DEFAULT_OPERATION_NAME;
@@ -65,6 +68,15 @@ public class BSpan {
      * Open tracer specific span.
      */
     private Span span;
+    /**
+     * Buffer holding this span until the tail sampling decision, if the trace was not selected by head sampling.
+     */
+    private final TraceBuffer traceBuffer;
+    private boolean deferred;
+    private int depth;
+    private long startTimeMicros;
+    private long finishTimeMicros;
+    private List<DeferredLog> deferredLogs;
 
     public BSpan(ObserverContext observerContext, boolean isClientContext) {
         this.properties = new HashMap<>();
@@ -73,24 +85,82 @@ public class BSpan {
         this.tags.put(TraceConstants.TAG_KEY_SPAN_KIND, isClientContext
                 ? TraceConstants.TAG_SPAN_KIND_CLIENT
                 : TraceConstants.TAG_SPAN_KIND_SERVER);
+        if (observerContext.isSampled()) {
+            this.traceBuffer = null;
+        } else {
+            BSpan parentBSpan = getParentBSpan();
+            if (parentBSpan != null && parentBSpan.traceBuffer != null) {
+                this.traceBuffer = parentBSpan.traceBuffer;
+                this.depth = parentBSpan.depth + 1;
+            } else {
+                this.traceBuffer = new TraceBuffer();
+            }
+            this.deferred = true;
+            this.deferredLogs = new ArrayList<>(0);
+        }
     }
 
     public void startSpan() {
+        if (deferred) {
+            startTimeMicros = currentTimeMicros();
+            return;
+        }
         manager.startSpan(getParentBSpan(), this);
     }
 
     public void finishSpan() {
+        if (deferred) {
+            finishTimeMicros = currentTimeMicros();
+            traceBuffer.spanFinished(this, getParentBSpan() == null);
+            return;
+        }
         manager.finishSpan(this);
     }
 
     public void log(Map<String, Object> fields) {
+        if (deferred) {
+            deferredLogs.add(new DeferredLog(currentTimeMicros(), fields));
+            return;
+        }
         manager.log(this, fields);
     }
 
     public void logError(Map<String, Object> fields) {
         addTags(Collections.singletonMap(TAG_KEY_STR_ERROR, TAG_STR_TRUE));
-        manager.log(this, fields);
+        if (deferred) {
+            traceBuffer.markError();
+        }
+        log(fields);
+    }
+
+    /**
+     * Reports a span buffered for tail sampling to the tracer, using the recorded timestamps.
+     */
+    void report() {
+        deferred = false;
+        manager.startSpan(getParentBSpan(), this, startTimeMicros);
+        for (DeferredLog deferredLog : deferredLogs) {
+            manager.log(this, deferredLog.timeMicros, deferredLog.fields);
+        }
+        deferredLogs = null;
+        manager.finishSpan(this, finishTimeMicros);
+    }
 
+    boolean isParentReported() {
+        BSpan parentBSpan = getParentBSpan();
+        return parentBSpan == null || parentBSpan.span != null;
+    }
+
+    long getStartTimeMicros() {
+        return startTimeMicros;
+    }
+
+    long getDurationMicros() {
+        return finishTimeMicros - startTimeMicros;
+    }
+
+    int getDepth() {
+        return depth;
     }
 
     public void addTags(Map<String, String> tags) {
@@ -160,4 +230,23 @@ public class BSpan {
         }
         return null;
     }
+
+    private static long currentTimeMicros() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000 + now.getNano() / 1000;
+    }
+
+    /**
+     * A log recorded while the span was buffered for tail sampling.
+     */
+    private static class DeferredLog {
+
+        private final long timeMicros;
+        private final Map<String, Object> fields;
+
+        private DeferredLog(long timeMicros, Map<String, Object> fields) {
+            this.timeMicros = timeMicros;
+            this.fields = fields;
+        }
+    }
 }
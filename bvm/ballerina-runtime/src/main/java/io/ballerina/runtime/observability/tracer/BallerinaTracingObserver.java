@@ -26,14 +26,20 @@ import io.ballerina.runtime.observability.TracingUtils;
  */
 public class BallerinaTracingObserver implements BallerinaObserver {
 
+    private static final TraceSampler sampler = TraceSampler.getInstance();
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
-        TracingUtils.startObservation(observerContext, false);
+        if (isTraced(observerContext)) {
+            TracingUtils.startObservation(observerContext, false);
+        }
     }
 
     @Override
     public void startClientObservation(ObserverContext observerContext) {
-        TracingUtils.startObservation(observerContext, true);
+        if (isTraced(observerContext)) {
+            TracingUtils.startObservation(observerContext, true);
+        }
     }
 
     @Override
@@ -45,4 +51,9 @@ public class BallerinaTracingObserver implements BallerinaObserver {
     public void stopClientObservation(ObserverContext observerContext) {
         TracingUtils.stopObservation(observerContext);
     }
+
+    private boolean isTraced(ObserverContext observerContext) {
+        // Spans of traces which are not sampled are still recorded if they may be kept by tail sampling
+        return observerContext.isSampled() || sampler.isTailSamplingEnabled();
+    }
 }
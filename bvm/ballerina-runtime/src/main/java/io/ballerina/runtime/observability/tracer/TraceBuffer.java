@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.tracer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Buffers the finished spans of a trace which was not selected by head sampling, until the root span finishes
+ * and the {@link TraceSampler} decides whether the trace should be reported.
+ *
+ * @since 2.0.0
+ */
+class TraceBuffer {
+
+    private static final TraceSampler sampler = TraceSampler.getInstance();
+
+    private List<BSpan> spans = new ArrayList<>();
+    private boolean hasError;
+    private Boolean keep;
+
+    synchronized void markError() {
+        hasError = true;
+    }
+
+    /**
+     * Adds a finished span to the buffer. When the root span finishes, the buffered spans are either reported or
+     * discarded. Spans finishing after that, such as those of workers which outlive the root, follow the same
+     * decision.
+     *
+     * @param span   the finished span
+     * @param isRoot true if the span is the root span of the trace
+     */
+    synchronized void spanFinished(BSpan span, boolean isRoot) {
+        if (keep != null) {
+            if (keep) {
+                span.report();
+            }
+            return;
+        }
+        // The root span is always kept, as the rest of the spans of the trace are reported as its descendants
+        if (isRoot || spans.size() < sampler.getMaxBufferedSpans()) {
+            spans.add(span);
+        }
+        if (isRoot) {
+            keep = sampler.shouldKeep(span.getDurationMicros(), hasError);
+            if (keep) {
+                // Parents have to be reported before their children so that the spans can be linked.
+                spans.sort(Comparator.comparingLong(BSpan::getStartTimeMicros).thenComparingInt(BSpan::getDepth));
+                for (BSpan bufferedSpan : spans) {
+                    // Spans whose parents were dropped by the limit cannot be linked, hence they are dropped too
+                    if (bufferedSpan.isParentReported()) {
+                        bufferedSpan.report();
+                    }
+                }
+            }
+            spans = null;
+        }
+    }
+}
@@ -52,4 +52,18 @@ public class TraceConstants {
     public static final String JAEGER = "jaeger";
     public static final String TRACER_NAME_CONFIG = CONFIG_TABLE_TRACING + ".name";
 
+    public static final String SAMPLING_RATE_CONFIG = CONFIG_TABLE_TRACING + ".sampling.rate";
+    public static final String TAIL_SAMPLING_LATENCY_THRESHOLD_CONFIG =
+            CONFIG_TABLE_TRACING + ".sampling.tail.latency_threshold_ms";
+    public static final String TAIL_SAMPLING_KEEP_ERRORS_CONFIG = CONFIG_TABLE_TRACING + ".sampling.tail.errors";
+    public static final String TAIL_SAMPLING_MAX_SPANS_CONFIG = CONFIG_TABLE_TRACING + ".sampling.tail.max_spans";
+
+    // Trace context headers carrying the sampling decision of the upstream service
+    public static final String HEADER_B3_SAMPLED = "X-B3-Sampled";
+    public static final String HEADER_B3_FLAGS = "X-B3-Flags";
+    public static final String HEADER_B3_TRACE_ID = "X-B3-TraceId";
+    public static final String HEADER_B3_SINGLE = "b3";
+    public static final String HEADER_W3C_TRACE_PARENT = "traceparent";
+    public static final String HEADER_JAEGER_TRACE_ID = "uber-trace-id";
+
 }
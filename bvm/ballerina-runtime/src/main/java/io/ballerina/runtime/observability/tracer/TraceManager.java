@@ -47,16 +47,28 @@ public class TraceManager {
     }
 
     public void startSpan(BSpan parentBSpan, BSpan activeBSpan) {
+        startSpan(parentBSpan, activeBSpan, 0);
+    }
+
+    /**
+     * Starts the open tracing span of a {@link BSpan}.
+     *
+     * @param parentBSpan     parent of the span if any
+     * @param activeBSpan     the span to be started
+     * @param startTimeMicros start time of the span in microseconds since the epoch, or 0 for the current time
+     */
+    public void startSpan(BSpan parentBSpan, BSpan activeBSpan, long startTimeMicros) {
         if (activeBSpan != null) {
             String service = activeBSpan.getServiceName();
             String operationName = activeBSpan.getOperationName();
 
             Span span;
             if (parentBSpan != null) {
-                span = startSpan(operationName, parentBSpan.getSpan(), activeBSpan.getTags(), service, false);
+                span = startSpan(operationName, parentBSpan.getSpan(), activeBSpan.getTags(), service, false,
+                        startTimeMicros);
             } else {
                 span = startSpan(operationName, extractSpanContext(activeBSpan.getProperties(), service),
-                        activeBSpan.getTags(), service, true);
+                        activeBSpan.getTags(), service, true, startTimeMicros);
             }
 
             activeBSpan.setSpan(span);
@@ -67,10 +79,18 @@ public class TraceManager {
         bSpan.getSpan().finish();
     }
 
+    public void finishSpan(BSpan bSpan, long finishTimeMicros) {
+        bSpan.getSpan().finish(finishTimeMicros);
+    }
+
     public void log(BSpan bSpan, Map<String, Object> fields) {
         bSpan.getSpan().log(fields);
     }
 
+    public void log(BSpan bSpan, long timeMicros, Map<String, Object> fields) {
+        bSpan.getSpan().log(timeMicros, fields);
+    }
+
     public void addTags(BSpan bSpan, Map<String, String> tags) {
         tags.forEach((key, value) -> bSpan.getSpan().setTag(key, String.valueOf(value)));
     }
@@ -86,9 +106,13 @@ public class TraceManager {
     }
 
     private Span startSpan(String spanName, Object spanContextMap,
-                           Map<String, String> tags, String serviceName, boolean isParent) {
+                           Map<String, String> tags, String serviceName, boolean isParent,
+                           long startTimeMicros) {
         Tracer tracer = tracerStore.getTracer(serviceName);
         Tracer.SpanBuilder spanBuilder = tracer.buildSpan(spanName);
+        if (startTimeMicros > 0) {
+            spanBuilder = spanBuilder.withStartTimestamp(startTimeMicros);
+        }
 
         for (Map.Entry<String, String> tag : tags.entrySet()) {
             spanBuilder = spanBuilder.withTag(tag.getKey(), tag.getValue());
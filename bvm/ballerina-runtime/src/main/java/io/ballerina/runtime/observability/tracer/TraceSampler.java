@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.tracer;
+
+import org.ballerinalang.config.ConfigRegistry;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.runtime.observability.tracer.TraceConstants.HEADER_B3_FLAGS;
+import static io.ballerina.runtime.observability.tracer.TraceConstants.HEADER_B3_SAMPLED;
+import static io.ballerina.runtime.observability.tracer.TraceConstants.HEADER_B3_SINGLE;
+import static io.ballerina.runtime.observability.tracer.TraceConstants.HEADER_B3_TRACE_ID;
+import static io.ballerina.runtime.observability.tracer.TraceConstants.HEADER_JAEGER_TRACE_ID;
+import static io.ballerina.runtime.observability.tracer.TraceConstants.HEADER_W3C_TRACE_PARENT;
+import static io.ballerina.runtime.observability.tracer.TraceConstants.SAMPLING_RATE_CONFIG;
+import static io.ballerina.runtime.observability.tracer.TraceConstants.TAIL_SAMPLING_KEEP_ERRORS_CONFIG;
+import static io.ballerina.runtime.observability.tracer.TraceConstants.TAIL_SAMPLING_LATENCY_THRESHOLD_CONFIG;
+import static io.ballerina.runtime.observability.tracer.TraceConstants.TAIL_SAMPLING_MAX_SPANS_CONFIG;
+
+/**
+ * Runtime level trace sampler. The head sampling decision is taken when the root observation of a trace starts,
+ * so that no spans are created for traces which are not sampled. If the trace was started by an upstream service,
+ * the decision of the upstream service carried in the trace context is followed instead, and the decision not to
+ * sample a trace is propagated to the downstream services, so that a trace is either sampled by all the services
+ * or by none of them. If tail sampling is configured, the spans of traces which are not sampled are buffered
+ * instead, and reported only if the trace turns out to be slow or to have failed.
+ *
+ * @since 2.0.0
+ */
+public class TraceSampler {
+
+    private static final PrintStream consoleError = System.err;
+    private static final TraceSampler instance = new TraceSampler();
+
+    private static final int DEFAULT_MAX_BUFFERED_SPANS = 1000;
+    private static final Map<String, String> NOT_SAMPLED_TRACE_CONTEXT =
+            Collections.singletonMap(HEADER_B3_SAMPLED, "0");
+
+    private double samplingRate = 1.0;
+    private long latencyThresholdMicros = -1;
+    private boolean keepErrors;
+    private int maxBufferedSpans = DEFAULT_MAX_BUFFERED_SPANS;
+
+    private TraceSampler() {
+    }
+
+    public static TraceSampler getInstance() {
+        return instance;
+    }
+
+    void init(ConfigRegistry configRegistry) {
+        try {
+            samplingRate = Double.parseDouble(configRegistry.getConfigOrDefault(SAMPLING_RATE_CONFIG, "1.0"));
+            if (samplingRate < 0 || samplingRate > 1) {
+                consoleError.println("error: tracing configuration: \"sampling rate\" should be between 0 and 1. "
+                        + "Defaulted to 1.0");
+                samplingRate = 1.0;
+            }
+            long latencyThresholdMillis = Long.parseLong(
+                    configRegistry.getConfigOrDefault(TAIL_SAMPLING_LATENCY_THRESHOLD_CONFIG, "-1"));
+            latencyThresholdMicros = latencyThresholdMillis < 0 ? -1
+                    : TimeUnit.MILLISECONDS.toMicros(latencyThresholdMillis);
+            keepErrors = Boolean.parseBoolean(
+                    configRegistry.getConfigOrDefault(TAIL_SAMPLING_KEEP_ERRORS_CONFIG, "false"));
+            maxBufferedSpans = Integer.parseInt(configRegistry.getConfigOrDefault(TAIL_SAMPLING_MAX_SPANS_CONFIG,
+                    String.valueOf(DEFAULT_MAX_BUFFERED_SPANS)));
+        } catch (NumberFormatException e) {
+            consoleError.println("error: error in tracing sampling configurations: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Takes the head sampling decision for a new trace.
+     *
+     * @return true if spans should be created for the trace
+     */
+    public boolean sample() {
+        return samplingRate >= 1.0 || (samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate);
+    }
+
+    /**
+     * Takes the head sampling decision for a trace which may have been started by an upstream service.
+     *
+     * @param parentTraceContext trace context headers received from the upstream service, if any
+     * @return the decision of the upstream service if the trace context carries it, or a new decision otherwise
+     */
+    public boolean sample(Map<String, String> parentTraceContext) {
+        Boolean parentDecision = getSamplingDecision(parentTraceContext);
+        return parentDecision != null ? parentDecision : sample();
+    }
+
+    /**
+     * Gets the trace context to be propagated to the downstream services for a trace which is not sampled, so that
+     * they do not sample it either.
+     *
+     * @return trace context headers
+     */
+    public Map<String, String> getNotSampledTraceContext() {
+        return NOT_SAMPLED_TRACE_CONTEXT;
+    }
+
+    /**
+     * Reads the sampling decision from the trace context headers of the B3, W3C and Jaeger propagation formats.
+     *
+     * @param traceContext trace context headers
+     * @return the sampling decision, or null if the headers do not carry a trace context
+     */
+    static Boolean getSamplingDecision(Map<String, String> traceContext) {
+        if (traceContext == null || traceContext.isEmpty()) {
+            return null;
+        }
+        boolean hasTraceId = false;
+        for (Map.Entry<String, String> header : traceContext.entrySet()) {
+            String name = header.getKey();
+            String value = header.getValue();
+            if (name == null || value == null) {
+                continue;
+            }
+            value = value.trim();
+            if (HEADER_B3_SAMPLED.equalsIgnoreCase(name)) {
+                return "1".equals(value) || "true".equalsIgnoreCase(value);
+            } else if (HEADER_B3_FLAGS.equalsIgnoreCase(name) && "1".equals(value)) {
+                // Debug flag, which implies that the trace is sampled
+                return true;
+            } else if (HEADER_B3_SINGLE.equalsIgnoreCase(name)) {
+                // Either only the decision, or "{trace id}-{span id}[-{decision}[-{parent span id}]]"
+                String[] parts = value.split("-");
+                String decision = parts.length == 1 ? parts[0] : parts.length > 2 ? parts[2] : null;
+                if (decision != null) {
+                    return "1".equals(decision) || "d".equals(decision);
+                }
+                hasTraceId = true;
+            } else if (HEADER_W3C_TRACE_PARENT.equalsIgnoreCase(name)) {
+                // "{version}-{trace id}-{parent id}-{flags}", where the lowest bit of the flags is the decision
+                String[] parts = value.split("-");
+                if (parts.length >= 4) {
+                    return (parseHex(parts[3]) & 1) == 1;
+                }
+            } else if (HEADER_JAEGER_TRACE_ID.equalsIgnoreCase(name)) {
+                // "{trace id}:{span id}:{parent span id}:{flags}", where the lowest bit of the flags is the decision
+                String[] parts = value.split(":");
+                if (parts.length == 4) {
+                    return (parseHex(parts[3]) & 1) == 1;
+                }
+            } else if (HEADER_B3_TRACE_ID.equalsIgnoreCase(name)) {
+                hasTraceId = true;
+            }
+        }
+        // A trace context without a decision means that the upstream service traced the request
+        return hasTraceId ? Boolean.TRUE : null;
+    }
+
+    private static int parseHex(String value) {
+        try {
+            return Integer.parseInt(value, 16);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Checks whether spans of traces which are not sampled should be buffered for tail sampling.
+     *
+     * @return true if tail sampling is enabled
+     */
+    public boolean isTailSamplingEnabled() {
+        return latencyThresholdMicros >= 0 || keepErrors;
+    }
+
+    boolean shouldKeep(long durationMicros, boolean hasError) {
+        return (latencyThresholdMicros >= 0 && durationMicros >= latencyThresholdMicros) || (keepErrors && hasError);
+    }
+
+    int getMaxBufferedSpans() {
+        return maxBufferedSpans;
+    }
+}
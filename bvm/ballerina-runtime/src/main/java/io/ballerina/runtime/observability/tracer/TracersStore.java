@@ -53,6 +53,7 @@ public class TracersStore {
         if (configRegistry.getAsBoolean(CONFIG_TRACING_ENABLED)) {
             String overallProviderName = configRegistry.getConfigOrDefault(CONFIG_OBSERVABILITY_PROVIDER, JAEGER);
             String tracerName = configRegistry.getConfigOrDefault(TRACER_NAME_CONFIG, overallProviderName);
+            TraceSampler.getInstance().init(configRegistry);
 
             ServiceLoader<OpenTracer> openTracers = ServiceLoader.load(OpenTracer.class);
             for (OpenTracer openTracer : openTracers) {
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import static io.ballerina.runtime.scheduling.Carrier.EXITED;
+import static io.ballerina.runtime.scheduling.Carrier.IDLE;
+import static io.ballerina.runtime.scheduling.Carrier.RUNNING;
+
+/**
+ * Runnable list of a {@link Scheduler} with a fixed number of carriers, which hands a rescheduled strand group back
+ * to the carrier that executed it last, so that the group keeps running on the same core and its data stays in the
+ * caches of that core.
+ * <p>
+ * A group is handed over to its last carrier only if the carrier can execute it right away, that is, if the carrier
+ * is rescheduling the group itself after executing the last item of its current group, or if the carrier is idle. A
+ * group whose last carrier is busy, including with the rest of its current group, as well as a new group, is added
+ * to the shared list, from which any carrier takes it, waking up an idle carrier if any. A carrier which goes on to
+ * execute another group moves the groups handed over to it to the shared list, and an idle carrier also steals the
+ * groups handed over to a carrier which has started executing an item meanwhile, hence no group waits for a
+ * particular carrier while another one is idle.
+ *
+ * @since 2.0.0
+ */
+class AffinityRunnableList {
+
+    private final Carrier[] carriers;
+    private final Queue<ItemGroup> sharedGroups = new ConcurrentLinkedQueue<>();
+
+    AffinityRunnableList(int numThreads) {
+        carriers = new Carrier[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            carriers[i] = new Carrier(false);
+        }
+    }
+
+    Carrier getCarrier(int index) {
+        return carriers[index];
+    }
+
+    /**
+     * Adds a runnable strand group, preferring the carrier which executed the group last.
+     */
+    void add(ItemGroup group) {
+        Carrier last = group.lastCarrier;
+        if (last != null) {
+            if (last.thread == Thread.currentThread()) {
+                if (!last.isExecuting() && isDrained(last.currentGroup)) {
+                    // Rescheduled by the carrier after executing the last item of its current group, so it takes
+                    // the group next.
+                    last.localGroups.addLast(group);
+                    return;
+                }
+            } else if (last.state.get() == IDLE) {
+                // The group is added before waking up the carrier, so that it finds the group once woken up. If the
+                // carrier woke up by itself meanwhile, the group is withdrawn unless the carrier has taken it.
+                last.localGroups.addLast(group);
+                if (last.state.compareAndSet(IDLE, RUNNING)) {
+                    LockSupport.unpark(last.thread);
+                    return;
+                }
+                if (!last.localGroups.removeLastOccurrence(group)) {
+                    return;
+                }
+            }
+        }
+        addShared(group);
+    }
+
+    /**
+     * Adds a strand group to the shared list, which any carrier can take.
+     */
+    void addShared(ItemGroup group) {
+        sharedGroups.add(group);
+        for (Carrier carrier : carriers) {
+            if (carrier.state.get() == IDLE && carrier.state.compareAndSet(IDLE, RUNNING)) {
+                LockSupport.unpark(carrier.thread);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Takes the next strand group to be executed by the carrier, waiting until one is available.
+     */
+    ItemGroup take(Carrier carrier) {
+        while (true) {
+            ItemGroup group = poll(carrier);
+            if (group != null) {
+                return group;
+            }
+            // A group added after the carrier is marked as idle either wakes up the carrier or is seen by the
+            // recheck below.
+            carrier.state.set(IDLE);
+            group = poll(carrier);
+            if (group != null) {
+                carrier.state.set(RUNNING);
+                return group;
+            }
+            while (carrier.state.get() == IDLE) {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * Moves the groups handed over to the carrier to the shared list, waking up idle carriers for them, as the
+     * carrier is about to execute another group.
+     */
+    void share(Carrier carrier) {
+        ItemGroup group;
+        while ((group = carrier.localGroups.pollFirst()) != null) {
+            addShared(group);
+        }
+    }
+
+    void exited(Carrier carrier) {
+        carrier.state.set(EXITED);
+        // Hand over the groups left behind, if any, to the rest of the carriers.
+        share(carrier);
+    }
+
+    boolean isEmpty() {
+        if (!sharedGroups.isEmpty()) {
+            return false;
+        }
+        for (Carrier carrier : carriers) {
+            if (!carrier.localGroups.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDrained(ItemGroup group) {
+        return group == null || group.items.empty();
+    }
+
+    private ItemGroup poll(Carrier carrier) {
+        ItemGroup group = carrier.localGroups.pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = sharedGroups.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(carrier);
+    }
+
+    private ItemGroup steal(Carrier thief) {
+        for (Carrier carrier : carriers) {
+            // A carrier which is not executing an item is about to take its groups by itself.
+            if (carrier != thief && carrier.isExecuting()) {
+                ItemGroup group = carrier.localGroups.pollLast();
+                if (group != null) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+}
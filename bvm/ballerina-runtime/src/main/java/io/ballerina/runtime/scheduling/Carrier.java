@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.scheduling;
+
+import java.lang.management.ThreadMXBean;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread executing strand groups of a {@link Scheduler}, which is tracked either by the {@link CarrierPool} in the
+ * adaptive mode or by the {@link AffinityRunnableList} when strand groups are kept on their last carriers.
+ *
+ * @since 2.0.0
+ */
+class Carrier {
+
+    static final int RUNNING = 0;
+    static final int IDLE = 1;
+    static final int EXITED = 2;
+
+    final boolean retirable;
+    // Incremented before and after executing each item, hence it is odd while an item is being executed.
+    final AtomicLong progress = new AtomicLong();
+    volatile boolean retired;
+
+    // Accessed only by the monitor thread of the carrier pool.
+    private long lastProgress;
+    private long lastCpuTime = -1;
+
+    /**
+     * Strand groups handed over to this carrier, as it was the last one to execute them.
+     */
+    final Deque<ItemGroup> localGroups = new ConcurrentLinkedDeque<>();
+    final AtomicInteger state = new AtomicInteger(RUNNING);
+    volatile Thread thread;
+    /**
+     * Strand group being executed by the carrier, or null if the carrier is taking the next group. Accessed only by
+     * the carrier thread.
+     */
+    ItemGroup currentGroup;
+
+    Carrier(boolean retirable) {
+        this.retirable = retirable;
+    }
+
+    void itemStarted() {
+        progress.lazySet(progress.get() + 1);
+    }
+
+    void itemFinished() {
+        progress.lazySet(progress.get() + 1);
+    }
+
+    /**
+     * Checks whether the carrier is executing an item. The result may be stale if called by another thread.
+     */
+    boolean isExecuting() {
+        return (progress.get() & 1) == 1;
+    }
+
+    /**
+     * Checks whether the carrier has been blocked since the last call, which is when it is executing the same item as
+     * then, and either its thread is parked or waiting for a monitor, or its thread has used less than the given CPU
+     * time since the last call. The JVM reports a thread blocked in I/O, such as a socket read, to be runnable, hence
+     * such a thread is recognized only by the CPU time it did not use. A carrier executing a long running item on the
+     * CPU is not considered to be blocked, since adding a carrier for it would only oversubscribe the CPUs. Called
+     * only by the monitor thread of the carrier pool.
+     *
+     * @param threadMXBean   the bean to read the CPU time of the thread, or null if the CPU time is not measured
+     * @param maxIdleCpuTime the CPU time in nanoseconds below which a runnable thread is considered to be blocked
+     * @return whether the carrier is blocked
+     */
+    boolean isBlocked(ThreadMXBean threadMXBean, long maxIdleCpuTime) {
+        long current = progress.get();
+        boolean executing = (current & 1) == 1;
+        boolean stalled = executing && current == lastProgress;
+        lastProgress = current;
+        Thread carrierThread = thread;
+        if (!executing || carrierThread == null) {
+            lastCpuTime = -1;
+            return false;
+        }
+        long previousCpuTime = lastCpuTime;
+        // The CPU time is -1 if the thread has exited, or if the CPU time is not measured.
+        lastCpuTime = threadMXBean != null ? threadMXBean.getThreadCpuTime(carrierThread.getId()) : -1;
+        if (!stalled) {
+            return false;
+        }
+        switch (carrierThread.getState()) {
+            case BLOCKED:
+            case WAITING:
+            case TIMED_WAITING:
+                return true;
+            case RUNNABLE:
+                return previousCpuTime >= 0 && lastCpuTime >= 0 && lastCpuTime - previousCpuTime < maxIdleCpuTime;
+            default:
+                return false;
+        }
+    }
+}
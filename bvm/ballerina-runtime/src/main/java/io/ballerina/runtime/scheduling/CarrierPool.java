@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.scheduling;
+
+import io.ballerina.runtime.util.RuntimeUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.runtime.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * Carrier threads of a {@link Scheduler} in the adaptive mode, of which the number is adjusted to the load within
+ * the given bounds.
+ * <p>
+ * A monitor thread samples the runnable list and the carrier threads periodically. A carrier which executes the
+ * same item over a whole sampling interval is considered to be blocked, such as in a blocking extern, if its thread
+ * is parked or waiting when sampled, or if its thread barely used the CPU over the interval, such as in a socket
+ * read. A carrier running a long item on the CPU is not, so that the pool is not grown beyond the CPUs for CPU bound
+ * strands. When strand groups are waiting in the runnable list while the blocked carriers leave fewer than the
+ * minimum number of carriers to run them, carriers are added for the blocked ones. A carrier which stays idle for the
+ * keep-alive time is retired, unless the pool is at the minimum size. Carriers are added only after the pool is found
+ * to be short of carriers in consecutive samples, and retired only after being idle for much longer than that, so
+ * that a brief burst of blocking calls does not make the pool oscillate.
+ *
+ * @since 2.0.0
+ */
+class CarrierPool {
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 100;
+    // A runnable carrier thread which used less than a tenth of the sampling interval on the CPU is blocked.
+    private static final long MAX_IDLE_CPU_TIME_NANOS = TimeUnit.MILLISECONDS.toNanos(SAMPLE_INTERVAL_MILLIS) / 10;
+    static final long KEEP_ALIVE_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final int GROW_SAMPLES = 2;
+    private static final String CARRIER_THREAD_NAME_PREFIX = "jbal-strand-exec-";
+    private static final String MONITOR_THREAD_NAME = "jbal-strand-pool-monitor";
+
+    private final Scheduler scheduler;
+    private final BlockingQueue<ItemGroup> runnableList;
+    private final int minThreads;
+    private final int maxThreads;
+    private final long keepAliveNanos;
+    private final Set<Carrier> carriers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger liveThreads = new AtomicInteger();
+    private final AtomicInteger threadIds = new AtomicInteger();
+    private final CountDownLatch allExited = new CountDownLatch(1);
+    private final SchedulerStats stats = SchedulerStats.getInstance();
+    // Guarded by this pool, so that no carrier is started once the pool is terminated.
+    private volatile boolean terminated;
+
+    // Accessed only by the monitor thread.
+    private ThreadMXBean threadMXBean;
+    private int shortSamples;
+    private int lastBlockedThreads;
+
+    CarrierPool(Scheduler scheduler, BlockingQueue<ItemGroup> runnableList, int minThreads, int maxThreads,
+                long keepAliveNanos) {
+        this.scheduler = scheduler;
+        this.runnableList = runnableList;
+        this.minThreads = minThreads;
+        this.maxThreads = maxThreads;
+        this.keepAliveNanos = keepAliveNanos;
+    }
+
+    /**
+     * Starts the minimum number of carriers, using the calling thread as one of them, and returns once all the
+     * carriers have exited after the pool is terminated.
+     */
+    void start() {
+        Carrier mainCarrier = new Carrier(false);
+        register(mainCarrier);
+        for (int i = 1; i < minThreads; i++) {
+            startCarrier();
+        }
+        Thread monitor = new Thread(this::monitor, MONITOR_THREAD_NAME);
+        monitor.setDaemon(true);
+        monitor.start();
+
+        runCarrier(mainCarrier);
+        try {
+            allExited.await();
+        } catch (InterruptedException e) {
+            RuntimeUtils.printCrashLog(e);
+        }
+    }
+
+    /**
+     * Stops all the carriers once the runnable list is drained up to the point of termination.
+     */
+    void terminate() {
+        synchronized (this) {
+            terminated = true;
+        }
+        // The carrier which takes the poison pill puts it back for the rest of the carriers.
+        runnableList.add(POISON_PILL);
+    }
+
+    /**
+     * Takes the next strand group to be executed by the carrier.
+     *
+     * @return the next strand group, or null if the carrier is retired
+     */
+    ItemGroup take(Carrier carrier) throws InterruptedException {
+        if (!carrier.retirable) {
+            return runnableList.take();
+        }
+        ItemGroup group = runnableList.poll(keepAliveNanos, TimeUnit.NANOSECONDS);
+        while (group == null) {
+            if (tryRetire(carrier)) {
+                return null;
+            }
+            group = runnableList.poll(keepAliveNanos, TimeUnit.NANOSECONDS);
+        }
+        return group;
+    }
+
+    void poisoned() {
+        runnableList.add(POISON_PILL);
+    }
+
+    private boolean tryRetire(Carrier carrier) {
+        int live;
+        do {
+            live = liveThreads.get();
+            if (live <= minThreads) {
+                return false;
+            }
+        } while (!liveThreads.compareAndSet(live, live - 1));
+        carrier.retired = true;
+        stats.carrierThreadRetired();
+        return true;
+    }
+
+    /**
+     * Starts a carrier, unless the pool is terminated. A carrier started after the poison pill is added would not be
+     * waited for by {@link #start()}, and could be left waiting on the runnable list once the pill is taken.
+     *
+     * @return whether the carrier is started
+     */
+    boolean startCarrier() {
+        Carrier carrier = new Carrier(true);
+        synchronized (this) {
+            if (terminated) {
+                return false;
+            }
+            register(carrier);
+        }
+        new Thread(() -> {
+            scheduler.pinCarrierThread();
+            runCarrier(carrier);
+        }, CARRIER_THREAD_NAME_PREFIX + threadIds.getAndIncrement()).start();
+        return true;
+    }
+
+    private void register(Carrier carrier) {
+        liveThreads.incrementAndGet();
+        carriers.add(carrier);
+    }
+
+    private void runCarrier(Carrier carrier) {
+        try {
+            scheduler.runSafely(carrier);
+        } finally {
+            carriers.remove(carrier);
+            if (!carrier.retired && liveThreads.decrementAndGet() == 0) {
+                allExited.countDown();
+            }
+        }
+    }
+
+    private void monitor() {
+        threadMXBean = getThreadMXBean();
+        while (!terminated) {
+            try {
+                Thread.sleep(SAMPLE_INTERVAL_MILLIS);
+                sample();
+            } catch (InterruptedException ignored) {
+                // Continue sampling until the pool is terminated.
+            } catch (Throwable t) {
+                RuntimeUtils.printCrashLog(t);
+            }
+        }
+        stats.carrierThreadsBlocked(-lastBlockedThreads);
+        lastBlockedThreads = 0;
+    }
+
+    private void sample() {
+        int blocked = 0;
+        for (Carrier carrier : carriers) {
+            if (carrier.isBlocked(threadMXBean, MAX_IDLE_CPU_TIME_NANOS)) {
+                blocked++;
+            }
+        }
+        stats.carrierThreadsBlocked(blocked - lastBlockedThreads);
+        lastBlockedThreads = blocked;
+
+        int live = liveThreads.get();
+        int shortage = Math.min(minThreads - (live - blocked), maxThreads - live);
+        if (shortage <= 0 || runnableList.isEmpty()) {
+            shortSamples = 0;
+            return;
+        }
+        if (++shortSamples < GROW_SAMPLES) {
+            return;
+        }
+        shortSamples = 0;
+        int additions = Math.min(shortage, runnableList.size());
+        int added = 0;
+        while (added < additions && startCarrier()) {
+            added++;
+        }
+        stats.carrierThreadsAdded(added);
+    }
+
+    /**
+     * Returns the bean to read the CPU time of the carrier threads, or null if the JVM does not measure it, in which
+     * case only the parked or waiting carriers are found to be blocked.
+     */
+    private static ThreadMXBean getThreadMXBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean.isThreadCpuTimeSupported() && bean.isThreadCpuTimeEnabled() ? bean : null;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.scheduling;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Restricts the calling thread to a set of CPUs. There is no API for this in the JDK, hence the thread is pinned by
+ * forking a {@code taskset} process, using the id of the thread in the kernel. This is only supported on Linux. If
+ * taskset cannot be run, such as when it is not installed, pinning is found to be unavailable, and no process is
+ * forked afterwards.
+ *
+ * @since 2.0.0
+ */
+class CpuAffinity {
+
+    // CPU list in the format accepted by taskset, such as "0-7,16-23".
+    private static final Pattern CPU_LIST = Pattern.compile("\\d+(-\\d+)?(,\\d+(-\\d+)?)*");
+    private static final Path THREAD_SELF = Paths.get("/proc/thread-self");
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private static volatile boolean unavailable;
+
+    private CpuAffinity() {
+    }
+
+    static boolean isValidCpuList(String cpuList) {
+        return CPU_LIST.matcher(cpuList).matches();
+    }
+
+    /**
+     * Checks whether threads can be pinned, which is until taskset is found to be unavailable.
+     *
+     * @return whether threads can be pinned
+     */
+    static boolean isAvailable() {
+        return !unavailable;
+    }
+
+    /**
+     * Pins the calling thread to the given CPUs.
+     *
+     * @param cpuList CPUs in the format accepted by taskset, such as "0-7,16-23"
+     * @throws IOException if the thread cannot be pinned
+     */
+    static void pinCurrentThread(String cpuList) throws IOException {
+        Process process;
+        try {
+            // The link is of the form "<pid>/task/<tid>".
+            String threadId = Files.readSymbolicLink(THREAD_SELF).getFileName().toString();
+            process = new ProcessBuilder("taskset", "-p", "-c", cpuList, threadId)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException e) {
+            // Neither the kernel thread ids nor taskset appear later, hence taskset is not tried again.
+            unavailable = true;
+            throw new IOException("taskset is unavailable: " + e.getMessage(), e);
+        }
+        try {
+            if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroy();
+                throw new IOException("taskset timed out");
+            }
+        } catch (InterruptedException e) {
+            process.destroy();
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for taskset");
+        }
+        if (process.exitValue() != 0) {
+            throw new IOException("taskset exited with " + process.exitValue());
+        }
+    }
+}
@@ -29,6 +29,7 @@ import io.ballerina.runtime.util.exceptions.BallerinaErrorReasons;
 import io.ballerina.runtime.values.ChannelDetails;
 import io.ballerina.runtime.values.FutureValue;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Map;
 import java.util.Set;
@@ -64,19 +65,69 @@ public class Scheduler {
 
     private AtomicInteger totalStrands = new AtomicInteger();
 
+    private static final SchedulerStats stats = SchedulerStats.getInstance();
+
     private static String poolSizeConf = System.getenv(BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
+    private static String minPoolSizeConf = System.getenv(BLangConstants.BALLERINA_MIN_POOL_SIZE_ENV_VAR);
+    private static boolean adaptivePool =
+            Boolean.parseBoolean(System.getenv(BLangConstants.BALLERINA_ADAPTIVE_POOL_ENV_VAR));
+    private static boolean groupAffinity =
+            Boolean.parseBoolean(System.getenv(BLangConstants.BALLERINA_STRAND_GROUP_AFFINITY_ENV_VAR));
+    private static String cpuSetConf = System.getenv(BLangConstants.BALLERINA_SCHEDULER_CPU_SET_ENV_VAR);
 
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
-     * Default is 100.
+     * Default is twice the number of processors, or 100 in the adaptive mode.
      */
     private final int numThreads;
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    private static final int DEFAULT_ADAPTIVE_MAX_POOL_SIZE = 100;
+
+    /**
+     * Carrier threads in the adaptive mode, which is enabled by setting the BALLERINA_ADAPTIVE_POOL system variable
+     * to true. Null if the number of threads is fixed.
+     */
+    private final CarrierPool carrierPool;
+
+    /**
+     * Runnable list which keeps strand groups on the threads that executed them last, which is used when the
+     * BALLERINA_STRAND_GROUP_AFFINITY system variable is set to true. Null if the strand groups are taken by any
+     * thread, as well as in the adaptive mode.
+     */
+    private final AffinityRunnableList affinityList;
+
+    /**
+     * CPUs to which the threads of this scheduler are pinned, in the format accepted by taskset, or null if the
+     * threads are not pinned. Pinning is opted in by passing the CPUs to {@link Builder#cpuSet(String)}, or by setting
+     * the BALLERINA_SCHEDULER_CPU_SET system variable for a scheduler configured by the system variables. Each thread
+     * is pinned by forking a taskset process when the thread starts, see {@link CpuAffinity}.
+     */
+    private final String cpuSet;
+    private final AtomicBoolean cpuSetFailureReported = new AtomicBoolean();
+    private static final AtomicBoolean cpuAffinityUnavailableReported = new AtomicBoolean();
+
     private Semaphore mainBlockSem;
 
     public Scheduler(boolean immortal) {
+        this.immortal = immortal;
+        this.cpuSet = readCpuSet();
+        if (adaptivePool) {
+            int minThreads = readPoolSize(minPoolSizeConf, BLangConstants.BALLERINA_MIN_POOL_SIZE_ENV_VAR,
+                                          Runtime.getRuntime().availableProcessors());
+            int maxThreads = readPoolSize(poolSizeConf, BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR,
+                                          Math.max(DEFAULT_ADAPTIVE_MAX_POOL_SIZE, minThreads));
+            this.numThreads = Math.max(maxThreads, minThreads);
+            this.carrierPool = new CarrierPool(this, runnableList, minThreads, numThreads,
+                                               CarrierPool.KEEP_ALIVE_NANOS);
+            this.affinityList = null;
+            if (groupAffinity) {
+                err.println("ballerina: system variable:" + BLangConstants.BALLERINA_STRAND_GROUP_AFFINITY_ENV_VAR +
+                                    " is ignored in the adaptive mode");
+            }
+            return;
+        }
         try {
             if (poolSizeConf != null) {
                 poolSize = Integer.parseInt(poolSizeConf);
@@ -87,12 +138,73 @@ public class Scheduler {
                                 BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR + ", " + t.getMessage());
         }
         this.numThreads = poolSize;
-        this.immortal = immortal;
+        this.carrierPool = null;
+        this.affinityList = groupAffinity ? new AffinityRunnableList(poolSize) : null;
     }
 
     public Scheduler(int numThreads, boolean immortal) {
-        this.numThreads = numThreads;
-        this.immortal = immortal;
+        this(builder().threads(numThreads).immortal(immortal));
+    }
+
+    private Scheduler(Builder builder) {
+        this.immortal = builder.immortal;
+        this.cpuSet = validateCpuSet(builder.cpuSet);
+        if (builder.minThreads > 0) {
+            if (builder.groupAffinity) {
+                throw new IllegalArgumentException("strand group affinity is not supported in the adaptive mode");
+            }
+            this.numThreads = builder.maxThreads;
+            this.carrierPool = new CarrierPool(this, runnableList, builder.minThreads, builder.maxThreads,
+                                               builder.keepAliveNanos);
+            this.affinityList = null;
+            return;
+        }
+        this.numThreads = builder.numThreads;
+        this.carrierPool = null;
+        this.affinityList = builder.groupAffinity ? new AffinityRunnableList(builder.numThreads) : null;
+    }
+
+    /**
+     * Returns a builder of a scheduler with twice as many threads as the processors, which is not immortal.
+     *
+     * @return the scheduler builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static String validateCpuSet(String cpuSet) {
+        if (cpuSet != null && !CpuAffinity.isValidCpuList(cpuSet)) {
+            throw new IllegalArgumentException("invalid scheduler CPU set: " + cpuSet);
+        }
+        return cpuSet;
+    }
+
+    private String readCpuSet() {
+        if (cpuSetConf == null || CpuAffinity.isValidCpuList(cpuSetConf)) {
+            return cpuSetConf;
+        }
+        err.println("ballerina: invalid value for system variable:" +
+                            BLangConstants.BALLERINA_SCHEDULER_CPU_SET_ENV_VAR + ", " + cpuSetConf);
+        return null;
+    }
+
+    private int readPoolSize(String conf, String envVar, int defaultSize) {
+        if (conf == null) {
+            return defaultSize;
+        }
+        try {
+            int size = Integer.parseInt(conf);
+            if (size > 0) {
+                return size;
+            }
+            err.println("ballerina: invalid value for system variable:" + envVar + ", " + conf);
+        } catch (NumberFormatException e) {
+            // Log and continue with default
+            err.println("ballerina: error occurred in scheduler while reading system variable:" + envVar + ", " +
+                                e.getMessage());
+        }
+        return defaultSize;
     }
 
     public static Strand getStrand() {
@@ -141,10 +253,11 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(fp.getFunction(), params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        stats.strandCreated();
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+            addToRunnableList(future.strand.strandGroup);
         }
         return future;
     }
@@ -191,10 +304,11 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        stats.strandCreated();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunnableList(group);
         return future;
     }
 
@@ -217,19 +331,28 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(consumer, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        stats.strandCreated();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        addToRunnableList(group);
         return future;
     }
 
     public void start() {
+        if (carrierPool != null) {
+            carrierPool.start();
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            Carrier carrier = getCarrier(i);
+            new Thread(() -> {
+                pinCarrierThread();
+                runSafely(carrier);
+            }, "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(getCarrier(numThreads - 1));
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -237,43 +360,110 @@ public class Scheduler {
         }
     }
 
+    private Carrier getCarrier(int index) {
+        return affinityList == null ? null : affinityList.getCarrier(index);
+    }
+
+    /**
+     * Pins the calling carrier thread to the CPUs of this scheduler, if pinning is opted in. A failure is reported
+     * once per scheduler and the thread is left unpinned. If taskset cannot be run at all, this is reported once,
+     * and no thread is pinned afterwards.
+     */
+    void pinCarrierThread() {
+        if (cpuSet == null || !CpuAffinity.isAvailable()) {
+            return;
+        }
+        try {
+            CpuAffinity.pinCurrentThread(cpuSet);
+        } catch (IOException e) {
+            if (!CpuAffinity.isAvailable()) {
+                if (cpuAffinityUnavailableReported.compareAndSet(false, true)) {
+                    err.println("ballerina: scheduler threads are not pinned to CPUs, " + e.getMessage());
+                }
+            } else if (cpuSetFailureReported.compareAndSet(false, true)) {
+                err.println("ballerina: unable to pin scheduler threads to CPUs " + cpuSet + ", " + e.getMessage());
+            }
+        }
+    }
+
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    void runSafely(Carrier carrier) {
+        stats.carrierThreadStarted();
+        if (carrier != null) {
+            carrier.thread = Thread.currentThread();
+        }
         try {
-            run();
+            run(carrier);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
+        } finally {
+            if (affinityList != null) {
+                affinityList.exited(carrier);
+            }
+            stats.flushWaitTimes();
+            stats.carrierThreadExited();
         }
     }
 
     /**
      * Executes tasks that are submitted to the Scheduler.
+     *
+     * @param carrier carrier executing the tasks, or null if the number of threads is fixed and the strand groups
+     *                are taken by any thread
      */
-    private void run() {
+    private void run(Carrier carrier) {
         while (true) {
             SchedulerItem item;
             ItemGroup group;
             try {
-                group = runnableList.take();
+                if (carrierPool != null) {
+                    group = carrierPool.take(carrier);
+                } else if (affinityList != null) {
+                    group = affinityList.take(carrier);
+                } else {
+                    group = runnableList.take();
+                }
             } catch (InterruptedException ignored) {
                 continue;
             }
 
+            if (group == null) {
+                // The carrier is retired.
+                break;
+            }
             if (group == POISON_PILL) {
-                this.mainBlockSem.release();
+                if (carrierPool == null) {
+                    this.mainBlockSem.release();
+                } else {
+                    carrierPool.poisoned();
+                }
                 break;
             }
+            stats.groupTakenFromRunnableList(group);
+            if (affinityList != null) {
+                group.lastCarrier = carrier;
+                carrier.currentGroup = group;
+            }
 
             while (!group.items.empty()) {
                 Object result = null;
                 Throwable panic = null;
 
+                if (affinityList != null && !carrier.localGroups.isEmpty()) {
+                    // The carrier is busy with the current group, hence the groups handed over to it are left to
+                    // the rest of the carriers, such as one handed over while the current group looked drained.
+                    affinityList.share(carrier);
+                }
+
                 item = group.get();
 
                 try {
                     strandHolder.get().strand = item.future.strand;
+                    if (carrier != null) {
+                        carrier.itemStarted();
+                    }
                     result = item.execute();
                 } catch (Throwable e) {
                     panic = createError(e);
@@ -289,12 +479,18 @@ public class Scheduler {
                     }
                 } finally {
                     strandHolder.get().strand = null;
+                    if (carrier != null) {
+                        carrier.itemFinished();
+                    }
                 }
                 postProcess(item, result, panic);
                 if (group.items.empty()) {
                     group.scheduled.set(false);
                 }
             }
+            if (affinityList != null) {
+                carrier.currentGroup = null;
+            }
         }
     }
 
@@ -312,6 +508,7 @@ public class Scheduler {
                     break;
                 }
                 item.parked = true;
+                stats.strandParked();
                 item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
@@ -366,15 +563,14 @@ public class Scheduler {
 
                 cleanUp(justCompleted);
 
+                stats.strandCompleted();
                 int strandsLeft = totalStrands.decrementAndGet();
                 if (strandsLeft == 0) {
                     // (number of started stands - finished stands) = 0, all the work is done
-                    assert runnableList.size() == 0;
+                    assert affinityList == null ? runnableList.isEmpty() : affinityList.isEmpty();
 
                     if (!immortal) {
-                        for (int i = 0; i < numThreads; i++) {
-                            runnableList.add(POISON_PILL);
-                        }
+                        poison();
                     }
                 }
                 break;
@@ -396,6 +592,7 @@ public class Scheduler {
         strand.lock();
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
+            stats.strandUnparked();
             reschedule(strand.schedulerItem);
         } else {
             // item not returned to scheduler, yet.
@@ -409,6 +606,9 @@ public class Scheduler {
         justCompleted.scheduler = null;
         justCompleted.frames = null;
         justCompleted.waitingContexts = null;
+        if (stats.isEnabled()) {
+            justCompleted.wdChannels.releaseBacklog();
+        }
         //TODO: more cleanup , eg channels
     }
 
@@ -443,11 +643,20 @@ public class Scheduler {
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
             if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+                addToRunnableList(group);
             }
         }
     }
 
+    private void addToRunnableList(ItemGroup group) {
+        stats.groupAddedToRunnableList(group);
+        if (affinityList != null) {
+            affinityList.add(group);
+        } else {
+            runnableList.add(group);
+        }
+    }
+
     public FutureValue createFuture(Strand parent, Callback callback, Map<String, Object> properties,
                                     Type constraint, String name, StrandMetadata metadata) {
         Strand newStrand = new Strand(name, metadata, this, parent, properties);
@@ -464,8 +673,127 @@ public class Scheduler {
     }
 
     public void poison() {
+        if (carrierPool != null) {
+            carrierPool.terminate();
+            return;
+        }
         for (int i = 0; i < numThreads; i++) {
-            runnableList.add(POISON_PILL);
+            if (affinityList != null) {
+                affinityList.addShared(POISON_PILL);
+            } else {
+                runnableList.add(POISON_PILL);
+            }
+        }
+    }
+
+    /**
+     * Builder of a {@link Scheduler}, which runs strands on a fixed number of threads unless the adaptive mode is
+     * chosen with {@link #adaptiveThreads(int, int)}.
+     */
+    public static class Builder {
+
+        private int numThreads = Runtime.getRuntime().availableProcessors() * 2;
+        // Zero unless the adaptive mode is chosen.
+        private int minThreads;
+        private int maxThreads;
+        private long keepAliveNanos = CarrierPool.KEEP_ALIVE_NANOS;
+        private boolean immortal;
+        private boolean groupAffinity;
+        private String cpuSet;
+
+        private Builder() {
+        }
+
+        /**
+         * Runs the strands on the given number of threads.
+         *
+         * @param numThreads number of threads
+         * @return this builder
+         */
+        public Builder threads(int numThreads) {
+            if (numThreads < 1) {
+                throw new IllegalArgumentException("invalid scheduler pool size: " + numThreads);
+            }
+            this.numThreads = numThreads;
+            this.minThreads = 0;
+            return this;
+        }
+
+        /**
+         * Runs the strands in the adaptive mode, which keeps at least the given minimum number of threads running
+         * strands, adding threads up to the given maximum when strands are blocked.
+         *
+         * @param minThreads minimum number of threads
+         * @param maxThreads maximum number of threads
+         * @return this builder
+         */
+        public Builder adaptiveThreads(int minThreads, int maxThreads) {
+            if (minThreads < 1 || maxThreads < minThreads) {
+                throw new IllegalArgumentException("invalid scheduler pool size: min " + minThreads + ", max " +
+                                                           maxThreads);
+            }
+            this.minThreads = minThreads;
+            this.maxThreads = maxThreads;
+            return this;
+        }
+
+        /**
+         * Sets the time for which a thread added in the adaptive mode is kept while idle.
+         *
+         * @param keepAliveNanos time in nanoseconds
+         * @return this builder
+         */
+        Builder keepAlive(long keepAliveNanos) {
+            this.keepAliveNanos = keepAliveNanos;
+            return this;
+        }
+
+        /**
+         * Sets whether the scheduler keeps running once all the strands are completed.
+         *
+         * @param immortal whether the scheduler is immortal
+         * @return this builder
+         */
+        public Builder immortal(boolean immortal) {
+            this.immortal = immortal;
+            return this;
+        }
+
+        /**
+         * Sets whether a rescheduled strand group prefers the thread which executed it last. This is not supported
+         * in the adaptive mode.
+         *
+         * @param groupAffinity whether strand groups prefer their last threads
+         * @return this builder
+         */
+        public Builder groupAffinity(boolean groupAffinity) {
+            this.groupAffinity = groupAffinity;
+            return this;
+        }
+
+        /**
+         * Pins the threads started by the scheduler, including the ones added in the adaptive mode, to the given
+         * CPUs. The thread calling {@link Scheduler#start()} is not pinned. Each thread is pinned by forking a
+         * {@code taskset} process when the thread starts, which is only supported on Linux. If taskset cannot be run,
+         * the threads are left unpinned, and this is reported once.
+         *
+         * @param cpuSet CPUs in the format accepted by taskset, such as "0-7,16-23", or null to not pin the threads
+         * @return this builder
+         */
+        public Builder cpuSet(String cpuSet) {
+            this.cpuSet = cpuSet;
+            return this;
+        }
+
+        /**
+         * Creates the scheduler.
+         *
+         * @return the scheduler
+         * @throws IllegalArgumentException if the CPU set is invalid, or if the strand group affinity is chosen in the
+         *                                  adaptive mode
+         */
+        public Scheduler build() {
+            return new Scheduler(this);
         }
     }
 }
@@ -535,6 +863,17 @@ class ItemGroup {
      */
     AtomicBoolean scheduled = new AtomicBoolean(false);
 
+    /**
+     * Time at which this group was added to the runnable list, if scheduler statistics are enabled.
+     */
+    long runnableSince;
+
+    /**
+     * Carrier which executed this group last, if strand groups are kept on their last carriers. Written only by the
+     * carrier which takes the group, and a stale value only makes the group prefer another carrier.
+     */
+    Carrier lastCarrier;
+
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.scheduling;
+
+import io.ballerina.runtime.observability.metrics.Gauge;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime statistics of the strand {@link Scheduler}, {@link io.ballerina.runtime.BLock} and
+ * {@link WorkerDataChannel}. Statistics are only collected after {@link #enable()} is called, which is done when
+ * metrics are enabled, so that the scheduler does not pay for them otherwise. The statistics of the scheduler
+ * threads are always collected, since those change rarely and the threads are started before metrics are enabled.
+ * <p>
+ * The statistics are only accumulated in striped counters on the paths of the scheduler, and are read by the
+ * metric reporters and JMX when polled, so that the threads executing strands do not contend on a metric. The wait
+ * times are also summarized into percentiles by the gauges set with {@link #summarizeWaitTimes(Gauge, Gauge)}, which
+ * are updated in batches per thread for the same reason.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerStats implements SchedulerStatsMXBean {
+
+    private static final SchedulerStats instance = new SchedulerStats();
+
+    private volatile boolean enabled;
+
+    private final LongAdder activeStrands = new LongAdder();
+    private final LongAdder runnableStrandGroups = new LongAdder();
+    private final LongAdder parkedStrands = new LongAdder();
+    private final LongAdder lockWaitingStrands = new LongAdder();
+    private final LongAdder workerChannelBacklog = new LongAdder();
+    private final LongAdder runnableWaitTimeNanos = new LongAdder();
+    private final LongAdder lockWaitTimeNanos = new LongAdder();
+    private final LongAdder runnableStrandGroupsTaken = new LongAdder();
+    private final LongAdder lockWaits = new LongAdder();
+    private final LongAdder carrierThreads = new LongAdder();
+    private final LongAdder blockedCarrierThreads = new LongAdder();
+    private final LongAdder carrierThreadsAdded = new LongAdder();
+    private final LongAdder carrierThreadsRetired = new LongAdder();
+
+    private volatile WaitTimeHistogram runnableWaitTimes;
+    private volatile WaitTimeHistogram lockWaitTimes;
+
+    private SchedulerStats() {
+    }
+
+    public static SchedulerStats getInstance() {
+        return instance;
+    }
+
+    /**
+     * Start collecting statistics. This should be called before any strand is scheduled.
+     */
+    public void enable() {
+        this.enabled = true;
+    }
+
+    /**
+     * Summarize the wait times of strand groups in the runnable list and of strands waiting for locks into the given
+     * gauges, in seconds.
+     *
+     * @param runnableWaitTimeGauge gauge summarizing the time strand groups spend in the runnable list
+     * @param lockWaitTimeGauge     gauge summarizing the time strands spend waiting to acquire a lock
+     */
+    public void summarizeWaitTimes(Gauge runnableWaitTimeGauge, Gauge lockWaitTimeGauge) {
+        this.runnableWaitTimes = new WaitTimeHistogram(runnableWaitTimeGauge);
+        this.lockWaitTimes = new WaitTimeHistogram(lockWaitTimeGauge);
+    }
+
+    /**
+     * Publish the wait times recorded by the current thread which are not yet published to the gauges.
+     */
+    void flushWaitTimes() {
+        WaitTimeHistogram histogram = runnableWaitTimes;
+        if (histogram != null) {
+            histogram.flush();
+        }
+        histogram = lockWaitTimes;
+        if (histogram != null) {
+            histogram.flush();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    void strandCreated() {
+        if (enabled) {
+            activeStrands.increment();
+        }
+    }
+
+    void strandCompleted() {
+        if (enabled) {
+            activeStrands.decrement();
+        }
+    }
+
+    void groupAddedToRunnableList(ItemGroup group) {
+        if (enabled) {
+            group.runnableSince = System.nanoTime();
+            runnableStrandGroups.increment();
+        }
+    }
+
+    void groupTakenFromRunnableList(ItemGroup group) {
+        if (enabled && group.runnableSince != 0) {
+            long waitTime = System.nanoTime() - group.runnableSince;
+            group.runnableSince = 0;
+            runnableStrandGroups.decrement();
+            runnableWaitTimeNanos.add(waitTime);
+            runnableStrandGroupsTaken.increment();
+            WaitTimeHistogram histogram = runnableWaitTimes;
+            if (histogram != null) {
+                histogram.record(waitTime);
+            }
+        }
+    }
+
+    void strandParked() {
+        if (enabled) {
+            parkedStrands.increment();
+        }
+    }
+
+    void strandUnparked() {
+        if (enabled) {
+            parkedStrands.decrement();
+        }
+    }
+
+    /**
+     * Record that a strand is waiting to acquire a lock.
+     *
+     * @param strand the waiting strand
+     */
+    public void lockWaitStarted(Strand strand) {
+        if (enabled) {
+            if (strand.lockWaitStartTime == 0) {
+                strand.lockWaitStartTime = System.nanoTime();
+            }
+            lockWaitingStrands.increment();
+        }
+    }
+
+    /**
+     * Record that a waiting strand was released by the lock holder.
+     */
+    public void lockWaitReleased() {
+        if (enabled) {
+            lockWaitingStrands.decrement();
+        }
+    }
+
+    /**
+     * Record that a strand acquired a lock.
+     *
+     * @param strand the strand holding the lock
+     */
+    public void lockAcquired(Strand strand) {
+        if (enabled && strand.lockWaitStartTime != 0) {
+            long waitTime = System.nanoTime() - strand.lockWaitStartTime;
+            strand.lockWaitStartTime = 0;
+            lockWaitTimeNanos.add(waitTime);
+            lockWaits.increment();
+            WaitTimeHistogram histogram = lockWaitTimes;
+            if (histogram != null) {
+                histogram.record(waitTime);
+            }
+        }
+    }
+
+    /**
+     * Record that a message was added to a worker channel.
+     *
+     * @return whether the message is counted in the backlog, in which case it is expected to be removed with
+     * {@link #channelMessagesRemoved(int)}
+     */
+    boolean channelMessageAdded() {
+        if (enabled) {
+            workerChannelBacklog.increment();
+            return true;
+        }
+        return false;
+    }
+
+    void channelMessagesRemoved(int count) {
+        workerChannelBacklog.add(-count);
+    }
+
+    void carrierThreadStarted() {
+        carrierThreads.increment();
+    }
+
+    void carrierThreadExited() {
+        carrierThreads.decrement();
+    }
+
+    void carrierThreadsBlocked(int delta) {
+        blockedCarrierThreads.add(delta);
+    }
+
+    void carrierThreadsAdded(int count) {
+        carrierThreadsAdded.add(count);
+    }
+
+    void carrierThreadRetired() {
+        carrierThreadsRetired.increment();
+    }
+
+    @Override
+    public long getActiveStrands() {
+        return activeStrands.sum();
+    }
+
+    @Override
+    public long getRunnableStrandGroups() {
+        return runnableStrandGroups.sum();
+    }
+
+    @Override
+    public long getParkedStrands() {
+        return parkedStrands.sum();
+    }
+
+    @Override
+    public long getLockWaitingStrands() {
+        return lockWaitingStrands.sum();
+    }
+
+    @Override
+    public long getWorkerChannelBacklog() {
+        return workerChannelBacklog.sum();
+    }
+
+    @Override
+    public long getRunnableWaitTimeNanos() {
+        return runnableWaitTimeNanos.sum();
+    }
+
+    @Override
+    public long getLockWaitTimeNanos() {
+        return lockWaitTimeNanos.sum();
+    }
+
+    @Override
+    public long getRunnableStrandGroupsTaken() {
+        return runnableStrandGroupsTaken.sum();
+    }
+
+    @Override
+    public long getLockWaits() {
+        return lockWaits.sum();
+    }
+
+    @Override
+    public long getCarrierThreads() {
+        return carrierThreads.sum();
+    }
+
+    @Override
+    public long getBlockedCarrierThreads() {
+        return blockedCarrierThreads.sum();
+    }
+
+    @Override
+    public long getCarrierThreadsAdded() {
+        return carrierThreadsAdded.sum();
+    }
+
+    @Override
+    public long getCarrierThreadsRetired() {
+        return carrierThreadsRetired.sum();
+    }
+
+    /**
+     * Records wait times into a gauge summarizing them into percentiles. Updates of a gauge are serialized, hence the
+     * samples are batched per thread and a batch is published once it is full or has been recorded for a while. A
+     * thread which stops recording leaves at most one batch unpublished until {@link #flush()} is called by it.
+     */
+    static class WaitTimeHistogram {
+
+        static final int BATCH_SIZE = 64;
+        static final long MAX_BATCH_AGE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private final Gauge gauge;
+        private final ThreadLocal<Batch> batches = ThreadLocal.withInitial(Batch::new);
+
+        WaitTimeHistogram(Gauge gauge) {
+            this.gauge = gauge;
+        }
+
+        void record(long waitTimeNanos) {
+            Batch batch = batches.get();
+            long now = System.nanoTime();
+            if (batch.size == 0) {
+                batch.startTime = now;
+            }
+            batch.waitTimes[batch.size++] = waitTimeNanos;
+            if (batch.size == BATCH_SIZE || now - batch.startTime >= MAX_BATCH_AGE_NANOS) {
+                publish(batch);
+            }
+        }
+
+        void flush() {
+            publish(batches.get());
+        }
+
+        private void publish(Batch batch) {
+            for (int i = 0; i < batch.size; i++) {
+                gauge.setValue(batch.waitTimes[i] / 1E9);
+            }
+            batch.size = 0;
+        }
+
+        /**
+         * Wait times recorded by a thread and not yet published.
+         */
+        private static class Batch {
+
+            private final long[] waitTimes = new long[BATCH_SIZE];
+            private int size;
+            private long startTime;
+        }
+    }
+}
@@ -78,6 +78,7 @@ public class Strand {
     List<WaitContext> waitingContexts;
     WaitContext waitContext;
     ItemGroup strandGroup;
+    long lockWaitStartTime;
 
     private Map<String, Object> globalProps;
     public TransactionLocalContext currentTrxContext;
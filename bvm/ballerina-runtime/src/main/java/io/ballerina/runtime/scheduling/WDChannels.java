@@ -44,4 +44,17 @@ public class WDChannels {
         }
         return channel;
     }
+
+    /**
+     * Remove the messages left in the channels from the worker channel backlog, once the strand holding the channels
+     * is completed.
+     */
+    synchronized void releaseBacklog() {
+        if (this.wDChannels == null) {
+            return;
+        }
+        for (WorkerDataChannel channel : this.wDChannels.values()) {
+            channel.releaseBacklog();
+        }
+    }
 }
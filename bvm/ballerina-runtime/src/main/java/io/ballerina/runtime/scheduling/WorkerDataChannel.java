@@ -42,9 +42,14 @@ public class WorkerDataChannel {
     private int senderCounter;
     private int receiverCounter;
     private boolean reschedule;
+    // Messages in the channel counted in the worker channel backlog of the scheduler statistics
+    private int countedMessages;
+    private boolean backlogReleased;
 
     private Lock channelLock;
 
+    private static final SchedulerStats stats = SchedulerStats.getInstance();
+
     public String chnlName;
 
     @SuppressWarnings("rawtypes")
@@ -75,6 +80,7 @@ public class WorkerDataChannel {
         try {
             acquireChannelLock();
             this.channel.add(new WorkerResult(data));
+            messageAdded();
             this.senderCounter++;
             if (this.receiver != null) {
                 this.receiver.scheduler.unblockStrand(this.receiver);
@@ -98,6 +104,7 @@ public class WorkerDataChannel {
             if (!reschedule) {
                 // this is a new message, not a reschedule
                 this.channel.add(new WorkerResult(data, true));
+                messageAdded();
                 this.senderCounter++;
                 this.waitingSender = new WaitingSender(strand, -1);
 
@@ -143,6 +150,10 @@ public class WorkerDataChannel {
             if (result != null) {
                 this.receiverCounter++;
                 this.channel.remove();
+                if (this.countedMessages > 0) {
+                    this.countedMessages--;
+                    stats.channelMessagesRemoved(1);
+                }
 
                 if (result.isSync) {
                     // sync sender will pick the this.error as result, which is null
@@ -203,6 +214,7 @@ public class WorkerDataChannel {
         acquireChannelLock();
         this.error = error;
         this.receiverCounter++;
+        releaseBacklogLocked();
         if (this.flushSender != null) {
             this.flushSender.waitingStrand.flushDetail.flushLock.lock();
             Strand flushStrand = this.flushSender.waitingStrand;
@@ -281,6 +293,7 @@ public class WorkerDataChannel {
         acquireChannelLock();
         this.panic  = panic;
         this.receiverCounter++;
+        releaseBacklogLocked();
         if (this.flushSender != null) {
             this.flushSender.waitingStrand.flushDetail.flushLock.lock();
             Strand flushStrand = this.flushSender.waitingStrand;
@@ -298,6 +311,33 @@ public class WorkerDataChannel {
         releaseChannelLock();
     }
 
+    /**
+     * Remove the messages of the channel from the worker channel backlog, since those are not going to be received.
+     * The messages are kept in the channel, since a sync sender checks them once it is resumed.
+     */
+    void releaseBacklog() {
+        acquireChannelLock();
+        try {
+            releaseBacklogLocked();
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
+    private void messageAdded() {
+        if (!this.backlogReleased && stats.channelMessageAdded()) {
+            this.countedMessages++;
+        }
+    }
+
+    private void releaseBacklogLocked() {
+        this.backlogReleased = true;
+        if (this.countedMessages > 0) {
+            stats.channelMessagesRemoved(this.countedMessages);
+            this.countedMessages = 0;
+        }
+    }
+
     /**
      * This represents a worker result value. This is done as a value to be used in the
      * queues used for worker communication. In this way, the queue can distinguish the
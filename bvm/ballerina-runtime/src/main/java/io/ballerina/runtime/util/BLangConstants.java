@@ -96,6 +96,10 @@ public class BLangConstants {
     public static final String BALLERINA_RUNTIME_PKG = BALLERINA_PACKAGE_PREFIX + "runtime";
     public static final String BALLERINA_LANG_ERROR_PKG = BALLERINA_PACKAGE_PREFIX + "lang_error";
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_MIN_POOL_SIZE_ENV_VAR = "BALLERINA_MIN_POOL_SIZE";
+    public static final String BALLERINA_ADAPTIVE_POOL_ENV_VAR = "BALLERINA_ADAPTIVE_POOL";
+    public static final String BALLERINA_STRAND_GROUP_AFFINITY_ENV_VAR = "BALLERINA_STRAND_GROUP_AFFINITY";
+    public static final String BALLERINA_SCHEDULER_CPU_SET_ENV_VAR = "BALLERINA_SCHEDULER_CPU_SET";
 
     public static final Module BALLERINA_BUILTIN_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX, "builtin");
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
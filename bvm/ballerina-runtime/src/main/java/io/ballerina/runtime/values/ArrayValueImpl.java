@@ -71,6 +71,10 @@ public class ArrayValueImpl extends AbstractArrayValue {
     private byte[] byteValues;
     private double[] floatValues;
     private BString[] bStringValues;
+
+    // Whether the values of a simple basic type are shared with a copy of this array. Shared values are copied
+    // before the first mutation of either array, hence a copy does not need to copy the values unless it is mutated.
+    private boolean sharedValues;
     // ------------------------ Constructors -------------------------------------------------------------------
 
     @Deprecated
@@ -527,6 +531,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public Object shift(long index) {
         handleImmutableArrayValue();
         Object val = get(index);
+        unshareValues();
         shiftArray((int) index, getArrayFromType(this.elementType.getTag()));
         return val;
     }
@@ -696,20 +701,20 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(intValues, this.size));
+                valueArray = shareValues(new ArrayValueImpl(intValues));
                 break;
             case TypeTags.BOOLEAN_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(booleanValues, this.size));
+                valueArray = shareValues(new ArrayValueImpl(booleanValues));
                 break;
             case TypeTags.BYTE_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(byteValues, this.size));
+                valueArray = shareValues(new ArrayValueImpl(byteValues));
                 break;
             case TypeTags.FLOAT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(floatValues, this.size));
+                valueArray = shareValues(new ArrayValueImpl(floatValues));
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(bStringValues, this.size));
+                valueArray = shareValues(new ArrayValueImpl(bStringValues));
                 break;
             default:
                 Object[] values = new Object[this.size];
@@ -928,6 +933,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 refValues = Arrays.copyOf(refValues, newLength);
                 break;
         }
+        sharedValues = false;
     }
 
     @Override
@@ -1055,6 +1061,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
         int intIndex = (int) index;
         rangeCheck(index, size);
         fillerValueCheck(intIndex, size);
+        unshareValues();
         ensureCapacity(intIndex + 1, currentArraySize);
         fillValues(intIndex);
         resetSize(intIndex);
@@ -1088,6 +1095,61 @@ public class ArrayValueImpl extends AbstractArrayValue {
         resetSize(intIndex);
     }
 
+    private ArrayValueImpl shareValues(ArrayValueImpl copy) {
+        copy.size = this.size;
+        copy.sharedValues = true;
+        this.sharedValues = true;
+        return copy;
+    }
+
+    /**
+     * Copies the values if they are shared with another array, so that they can be mutated. Only the members are
+     * copied, hence the rest of the values hold the default values as in a new array. The capacity is retained.
+     */
+    private void unshareValues() {
+        if (!sharedValues) {
+            return;
+        }
+
+        switch (this.elementType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                long[] newIntValues = new long[intValues.length];
+                System.arraycopy(intValues, 0, newIntValues, 0, size);
+                intValues = newIntValues;
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                boolean[] newBooleanValues = new boolean[booleanValues.length];
+                System.arraycopy(booleanValues, 0, newBooleanValues, 0, size);
+                booleanValues = newBooleanValues;
+                break;
+            case TypeTags.BYTE_TAG:
+                byte[] newByteValues = new byte[byteValues.length];
+                System.arraycopy(byteValues, 0, newByteValues, 0, size);
+                byteValues = newByteValues;
+                break;
+            case TypeTags.FLOAT_TAG:
+                double[] newFloatValues = new double[floatValues.length];
+                System.arraycopy(floatValues, 0, newFloatValues, 0, size);
+                floatValues = newFloatValues;
+                break;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                BString[] newBStringValues = new BString[bStringValues.length];
+                System.arraycopy(bStringValues, 0, newBStringValues, 0, size);
+                bStringValues = newBStringValues;
+                break;
+            default:
+                break;
+        }
+        sharedValues = false;
+    }
+
     private void setArrayType(Type elementType) {
         this.arrayType = new BArrayType(elementType);
         this.elementType = elementType;
@@ -1108,6 +1170,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     private void unshiftArray(long index, int unshiftByN, int arrLength) {
+        unshareValues();
         int lastIndex = size() + unshiftByN - 1;
         prepareForConsecutiveMultiAdd(lastIndex, arrLength);
         Object arr = getArrayFromType(elementType.getTag());
@@ -50,14 +50,34 @@ public class DecimalValue implements SimpleValue, BDecimal {
 
     private static final DecimalValue NaN = new DecimalValue("-1", DecimalValueKind.NOT_A_NUMBER);
 
+    // Decimals of which the unscaled value has at most this many digits, and of which the scale is between zero and
+    // the maximum compact scale, are kept in compact form. Arithmetic on compact decimals is done using long
+    // arithmetic, as long as the result fits in a long.
+    private static final int MAX_COMPACT_PRECISION = 18;
+    private static final int MAX_COMPACT_SCALE = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_COMPACT_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_COMPACT_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
     // Variable used to track the kind of a decimal value.
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
+    // Created lazily for the compact decimals resulting from arithmetic operations.
     private BigDecimal value;
 
+    private boolean compact;
+    private long compactValue;
+    private int compactScale;
+
     public DecimalValue(BigDecimal value) {
         this.value = value;
+        initCompactValue(value);
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
@@ -70,6 +90,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         } else {
             this.value = new BigDecimal(value, MathContext.DECIMAL128);
         }
+        initCompactValue(this.value);
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
@@ -80,6 +101,24 @@ public class DecimalValue implements SimpleValue, BDecimal {
         this.valueKind = valueKind;
     }
 
+    private DecimalValue(long compactValue, int compactScale) {
+        this.compact = true;
+        this.compactValue = compactValue;
+        this.compactScale = compactScale;
+        if (compactValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+    }
+
+    private void initCompactValue(BigDecimal value) {
+        int scale = value.scale();
+        if (scale >= 0 && scale <= MAX_COMPACT_SCALE && value.precision() <= MAX_COMPACT_PRECISION) {
+            this.compact = true;
+            this.compactValue = value.unscaledValue().longValue();
+            this.compactScale = scale;
+        }
+    }
+
     private static boolean isHexValueString(String value) {
         String upperCaseValue = value.toUpperCase();
         return upperCaseValue.startsWith("0X") || upperCaseValue.startsWith("-0X");
@@ -142,6 +181,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the value
      */
     public BigDecimal decimalValue() {
+        if (this.value == null) {
+            this.value = BigDecimal.valueOf(this.compactValue, this.compactScale);
+        }
         return this.value;
     }
 
@@ -160,11 +202,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_INT);
         }
 
-        if (!isDecimalWithinIntRange(value)) {
+        BigDecimal decimal = decimalValue();
+        if (!isDecimalWithinIntRange(decimal)) {
             throw ErrorUtils.createNumericConversionError(this.stringValue(null), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_INT);
         }
-        return (long) Math.rint(value.doubleValue());
+        return (long) Math.rint(decimal.doubleValue());
     }
 
     /**
@@ -192,9 +235,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_BYTE);
         }
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        BigDecimal decimal = decimalValue();
+        int intVal = (int) Math.rint(decimal.doubleValue());
         if (!isByteLiteral(intVal)) {
-            throw ErrorUtils.createNumericConversionError(value, PredefinedTypes.TYPE_DECIMAL,
+            throw ErrorUtils.createNumericConversionError(decimal, PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_BYTE);
         }
         return intVal;
@@ -212,7 +256,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind == DecimalValueKind.NOT_A_NUMBER) {
             return Double.NaN;
         }
-        return value.doubleValue();
+        return decimalValue().doubleValue();
     }
 
     /**
@@ -220,6 +264,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is non zero
      */
     public boolean booleanValue() {
+        if (this.compact) {
+            return this.compactValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -242,7 +289,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return decimalValue().toString();
     }
 
     /**
@@ -254,7 +301,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue() + "d";
         }
-        return value.toString() + "d";
+        return decimalValue().toString() + "d";
     }
 
     /**
@@ -262,7 +309,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the decimal value
      */
     public BigDecimal value() {
-        return this.value;
+        return decimalValue();
     }
 
     /**
@@ -303,6 +350,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (augend.valueKind == DecimalValueKind.OTHER) {
+                    if (this.compact && augend.compact) {
+                        DecimalValue sum = addCompact(this.compactValue, this.compactScale, augend.compactValue,
+                                                      augend.compactScale);
+                        if (sum != null) {
+                            return sum;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
                 }
                 return augend;
@@ -341,6 +395,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (subtrahend.valueKind == DecimalValueKind.OTHER) {
+                    if (this.compact && subtrahend.compact && subtrahend.compactValue != Long.MIN_VALUE) {
+                        DecimalValue difference = addCompact(this.compactValue, this.compactScale,
+                                                             -subtrahend.compactValue, subtrahend.compactScale);
+                        if (difference != null) {
+                            return difference;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -384,6 +445,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+                    if (this.compact && multiplicand.compact) {
+                        DecimalValue product = multiplyCompact(this.compactValue, this.compactScale,
+                                                               multiplicand.compactValue, multiplicand.compactScale);
+                        if (product != null) {
+                            return product;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -433,6 +501,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (divisor.valueKind == DecimalValueKind.OTHER) {
+                    if (this.compact && divisor.compact) {
+                        DecimalValue quotient = divideCompact(this.compactValue, this.compactScale,
+                                                              divisor.compactValue, divisor.compactScale);
+                        if (quotient != null) {
+                            return quotient;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().divide(divisor.decimalValue(), MathContext.DECIMAL128));
                 }
                 if (divisor.valueKind == DecimalValueKind.POSITIVE_INFINITY ||
@@ -476,6 +551,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     public DecimalValue negate() {
         switch (this.valueKind) {
             case OTHER:
+                if (this.compact && this.compactValue != Long.MIN_VALUE) {
+                    return new DecimalValue(-this.compactValue, this.compactScale);
+                }
                 return new DecimalValue(this.decimalValue().negate());
             case POSITIVE_INFINITY:
                 return NEGATIVE_INF;
@@ -486,6 +564,75 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
     }
 
+    /**
+     * Adds two compact decimals. The result has the larger of the two scales, as with {@link BigDecimal#add}, and is
+     * exact since it has fewer digits than the precision of {@link MathContext#DECIMAL128}.
+     *
+     * @return the sum, or null if the sum does not fit in a long
+     */
+    private static DecimalValue addCompact(long x, int xScale, long y, int yScale) {
+        int scale = Math.max(xScale, yScale);
+        long alignedX = scaleUp(x, scale - xScale);
+        long alignedY = scaleUp(y, scale - yScale);
+        if (alignedX == Long.MIN_VALUE || alignedY == Long.MIN_VALUE) {
+            return null;
+        }
+        long sum = alignedX + alignedY;
+        if (((alignedX ^ sum) & (alignedY ^ sum)) < 0) {
+            return null;
+        }
+        return new DecimalValue(sum, scale);
+    }
+
+    /**
+     * Multiplies two compact decimals. The result has the sum of the two scales, as with {@link BigDecimal#multiply}.
+     *
+     * @return the product, or null if the product does not fit in a long or its scale is not compact
+     */
+    private static DecimalValue multiplyCompact(long x, int xScale, long y, int yScale) {
+        int scale = xScale + yScale;
+        if (scale > MAX_COMPACT_SCALE) {
+            return null;
+        }
+        long product = x * y;
+        if (Math.multiplyHigh(x, y) != (product >> 63)) {
+            return null;
+        }
+        return new DecimalValue(product, scale);
+    }
+
+    /**
+     * Divides two compact decimals if the unscaled value of the divisor divides that of the dividend. Then the exact
+     * quotient has the preferred scale of {@link BigDecimal#divide(BigDecimal, MathContext)}, which is the difference
+     * of the two scales.
+     *
+     * @return the quotient, or null if the division is not exact in terms of the unscaled values
+     */
+    private static DecimalValue divideCompact(long x, int xScale, long y, int yScale) {
+        int scale = xScale - yScale;
+        if (scale < 0 || y == 0 || x % y != 0 || (x == Long.MIN_VALUE && y == -1)) {
+            return null;
+        }
+        return new DecimalValue(x / y, scale);
+    }
+
+    /**
+     * Multiplies the given unscaled value by the given power of ten.
+     *
+     * @return the scaled value, or {@code Long.MIN_VALUE} if it does not fit in a long
+     */
+    private static long scaleUp(long value, int powerOfTen) {
+        if (powerOfTen == 0) {
+            return value;
+        }
+        long multiplier = POWERS_OF_TEN[powerOfTen];
+        long result = value * multiplier;
+        if (Math.multiplyHigh(value, multiplier) != (result >> 63)) {
+            return Long.MIN_VALUE;
+        }
+        return result;
+    }
+
     @Override
     public BDecimal add(BDecimal augend) {
         return add((DecimalValue) augend);
@@ -532,12 +679,24 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        if (this.valueKind != bDecimal.valueKind) {
+            return false;
+        }
+        if (this.compact && bDecimal.compact && this.compactScale == bDecimal.compactScale) {
+            return this.compactValue == bDecimal.compactValue;
+        }
+        return decimalValue().compareTo(bDecimal.decimalValue()) == 0;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        if (this.compact) {
+            // The hash code of the BigDecimal with the same unscaled value and scale, computed without creating it.
+            long magnitude = this.compactValue < 0 ? -this.compactValue : this.compactValue;
+            int hash = (int) (((int) (magnitude >>> 32)) * 31 + (magnitude & 0xFFFFFFFFL));
+            return 31 * (this.compactValue < 0 ? -hash : hash) + this.compactScale;
+        }
+        return decimalValue().hashCode();
     }
 
     /**
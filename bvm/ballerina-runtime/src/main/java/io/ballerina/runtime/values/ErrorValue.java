@@ -33,10 +33,13 @@ import io.ballerina.runtime.services.ErrorHandlerUtils;
 import io.ballerina.runtime.types.BErrorType;
 import io.ballerina.runtime.types.BTypeIdSet;
 import io.ballerina.runtime.util.exceptions.BallerinaErrorReasons;
+import org.ballerinalang.config.ConfigHandle;
+import org.ballerinalang.config.ConfigRegistry;
 
 import java.io.PrintWriter;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -64,12 +67,18 @@ import static io.ballerina.runtime.util.BLangConstants.STOP_FUNCTION_SUFFIX;
 public class ErrorValue extends BError implements RefValue {
 
     private static final long serialVersionUID = 1L;
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
     private final Type type;
     private final BString message;
     private final BError cause;
     private final Object details;
+    // Ballerina frames of the stack trace, filtered from the JVM stack trace when they are first requested.
+    private transient StackTraceElement[] filteredStackTrace;
 
     public static final String GENERATE_OBJECT_CLASS_PREFIX = ".$value$";
+    public static final String CONFIG_ERROR_STACKLESS = "b7a.runtime.error.stackless";
+
+    private static final ConfigHandle STACKLESS = ConfigRegistry.getInstance().getHandle(CONFIG_ERROR_STACKLESS);
 
     public ErrorValue(BString message, Object details) {
         this(new BErrorType(TypeConstants.ERROR, PredefinedTypes.TYPE_ERROR.getPackage(), TypeChecker.getType(details)),
@@ -226,7 +235,7 @@ public class ErrorValue extends BError implements RefValue {
      */
     public Object getDetails() {
         if (details instanceof RefValue) {
-            return ((RefValue) details).copy(new HashMap<>());
+            return ((RefValue) details).copy(new IdentityHashMap<>());
         }
         return details;
     }
@@ -249,17 +258,51 @@ public class ErrorValue extends BError implements RefValue {
         printWriter.print(ERROR_PRINT_PREFIX + getPrintableStackTrace());
     }
     
+    /**
+     * Records the stack trace of the error, unless error values are configured to be stackless using the
+     * {@code b7a.runtime.error.stackless} configuration. The JVM only records the frames here, and they are
+     * converted to Ballerina frames when the stack trace is requested.
+     *
+     * @return this error
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (isStackless()) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
+    @Override
+    public synchronized void setStackTrace(StackTraceElement[] stackTrace) {
+        super.setStackTrace(stackTrace);
+        this.filteredStackTrace = null;
+    }
+
     @Override
     public StackTraceElement[] getStackTrace() {
-        StackTraceElement[] stackTrace = super.getStackTrace();
-        List<StackTraceElement> filteredStack = new LinkedList<>();
-        int index = 0;
-        for (StackTraceElement stackFrame : stackTrace) {
-            Optional<StackTraceElement> stackTraceElement = filterStackTraceElement(stackFrame, index++);
-            stackTraceElement.ifPresent(filteredStack::add);
+        StackTraceElement[] stackTrace = this.filteredStackTrace;
+        if (stackTrace == null) {
+            List<StackTraceElement> filteredStack = new ArrayList<>();
+            int index = 0;
+            for (StackTraceElement stackFrame : getJvmStackTrace()) {
+                filterStackTraceElement(stackFrame.getClassName(), stackFrame.getMethodName(),
+                                        stackFrame.getFileName(), stackFrame.getLineNumber(), index++)
+                        .ifPresent(filteredStack::add);
+            }
+            stackTrace = filteredStack.toArray(new StackTraceElement[0]);
+            this.filteredStackTrace = stackTrace;
         }
-        StackTraceElement[] filteredStackArray = new StackTraceElement[filteredStack.size()];
-        return filteredStack.toArray(filteredStackArray);
+        return stackTrace.clone();
+    }
+
+    /**
+     * Returns the JVM frames recorded for the error, before the Ballerina frames are filtered from them.
+     *
+     * @return the JVM stack trace
+     */
+    StackTraceElement[] getJvmStackTrace() {
+        return super.getStackTrace();
     }
 
     /**
@@ -286,14 +329,17 @@ public class ErrorValue extends BError implements RefValue {
 
     @Override
     public List<StackTraceElement> getCallStack() {
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        List<StackTraceElement> filteredStack = new LinkedList<>();
-        int index = 0;
-        for (StackTraceElement stackFrame : stackTrace) {
-            Optional<StackTraceElement> stackTraceElement = filterStackTraceElement(stackFrame, index++);
-            stackTraceElement.ifPresent(filteredStack::add);
-        }
-        return filteredStack;
+        // The frames are walked without creating stack trace elements for the Java frames which are filtered out.
+        return STACK_WALKER.walk(frames -> {
+            List<StackTraceElement> filteredStack = new ArrayList<>();
+            Iterator<StackWalker.StackFrame> iterator = frames.iterator();
+            for (int index = 0; iterator.hasNext(); index++) {
+                StackWalker.StackFrame frame = iterator.next();
+                filterStackTraceElement(frame.getClassName(), frame.getMethodName(), frame.getFileName(),
+                                        frame.getLineNumber(), index).ifPresent(filteredStack::add);
+            }
+            return filteredStack;
+        });
     }
 
     private void printStackElement(StringBuilder sb, StackTraceElement stackTraceElement, String tab) {
@@ -340,15 +386,12 @@ public class ErrorValue extends BError implements RefValue {
         return (details instanceof MapValue) && ((MapValue<?, ?>) details).isEmpty();
     }
 
-    private Optional<StackTraceElement> filterStackTraceElement(StackTraceElement stackFrame, int currentIndex) {
-        String fileName = stackFrame.getFileName();
-        int lineNo = stackFrame.getLineNumber();
+    private Optional<StackTraceElement> filterStackTraceElement(String className, String methodName, String fileName,
+                                                                int lineNo, int currentIndex) {
         if (lineNo < 0) {
             return Optional.empty();
         }
         // Handle init function
-        String className = stackFrame.getClassName();
-        String methodName = stackFrame.getMethodName();
         if (className.equals(MODULE_INIT_CLASS_NAME)) {
             if (currentIndex == 0) {
                 return Optional.empty();
@@ -366,16 +409,14 @@ public class ErrorValue extends BError implements RefValue {
                 default:
                     return Optional.empty();
             }
-            return Optional.of(new StackTraceElement(cleanupClassName(className), methodName, fileName,
-                                                     stackFrame.getLineNumber()));
+            return Optional.of(new StackTraceElement(cleanupClassName(className), methodName, fileName, lineNo));
 
         }
         if (fileName != null && !fileName.endsWith(BLANG_SRC_FILE_SUFFIX)) {
             // Remove java sources for bal stacktrace if they are not extern functions.
             return Optional.empty();
         }
-        return Optional.of(
-                new StackTraceElement(cleanupClassName(className), methodName, fileName, stackFrame.getLineNumber()));
+        return Optional.of(new StackTraceElement(cleanupClassName(className), methodName, fileName, lineNo));
     }
 
     public static Object[] getStackFrame(StackTraceElement stackTraceElement) {
@@ -390,4 +431,12 @@ public class ErrorValue extends BError implements RefValue {
     private String cleanupClassName(String className) {
         return className.replace(GENERATE_OBJECT_CLASS_PREFIX, ".");
     }
+
+    /**
+     * Returns whether error values are created without stack traces. Errors may also be created before the
+     * configurations are loaded, hence the handle reads the configuration again whenever the configurations change.
+     */
+    private static boolean isStackless() {
+        return STACKLESS.getAsBoolean();
+    }
 }
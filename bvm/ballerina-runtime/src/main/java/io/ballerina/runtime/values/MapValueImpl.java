@@ -104,11 +104,28 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public MapValueImpl(Type type, BMapInitialValueEntry[] initialValues) {
-        super();
+        // Size the table up front, so that spreading a large map does not rehash the entries as the map grows. The
+        // members of a spread map are copied one by one, hence building a map with a spread field takes time and
+        // space linear in the size of the spread map. Readonly maps derived from persistent maps are built by
+        // PersistentMapValue instead, and share the structure of the spread map.
+        super(getInitialCapacity(initialValues));
         this.type = type;
         populateInitialValues(initialValues);
     }
 
+    private static int getInitialCapacity(BMapInitialValueEntry[] initialValues) {
+        long expectedSize = 0;
+        for (BMapInitialValueEntry initialValue : initialValues) {
+            if (initialValue.isKeyValueEntry()) {
+                expectedSize++;
+            } else {
+                expectedSize += ((MappingInitialValueEntry.SpreadFieldEntry) initialValue).values.size();
+            }
+        }
+        // Capacity at which the entries fit within the default load factor of 0.75.
+        return (int) Math.min(expectedSize * 4 / 3 + 1, Integer.MAX_VALUE);
+    }
+
     public MapValueImpl() {
         super();
         type = PredefinedTypes.TYPE_MAP;
@@ -280,12 +297,27 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
 
             MapValueImpl<K, V> values =
                     (MapValueImpl<K, V>) ((MappingInitialValueEntry.SpreadFieldEntry) initialValue).values;
+            if (isSpreadWithinConstraint(type, values)) {
+                // Members of the spread map already belong to the constraint of this map.
+                for (Map.Entry<K, V> entry : values.entrySet()) {
+                    putValue(entry.getKey(), entry.getValue());
+                }
+                continue;
+            }
             for (Map.Entry<K, V> entry : values.entrySet()) {
                 populateInitialValue(entry.getKey(), entry.getValue());
             }
         }
     }
 
+    static boolean isSpreadWithinConstraint(Type type, MapValueImpl<?, ?> spreadMap) {
+        if (type.getTag() != TypeTags.MAP_TAG || spreadMap.type.getTag() != TypeTags.MAP_TAG) {
+            return false;
+        }
+        return TypeChecker.checkIsType(((BMapType) spreadMap.type).getConstrainedType(),
+                                       ((BMapType) type).getConstrainedType());
+    }
+
     public void populateInitialValue(K key, V value) {
         if (type.getTag() == TypeTags.MAP_TAG) {
             MapUtils.handleInherentTypeViolatingMapUpdate(value, (BMapType) type);
@@ -329,7 +361,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             return true;
         }
 
-        if (o == null || getClass() != o.getClass()) {
+        if (o == null || getValueClass(this) != getValueClass(o)) {
            return false;
         }
 
@@ -346,6 +378,11 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return entrySet().equals(mapValue.entrySet());
     }
 
+    private static Class<?> getValueClass(Object value) {
+        // A persistent map is equal to a map with the same members, as the representation is an implementation detail.
+        return value instanceof PersistentMapValue ? MapValueImpl.class : value.getClass();
+    }
+
     /**
      * Returns the hash code value.
      *
@@ -436,11 +473,32 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     @SuppressWarnings("unchecked")
     @Override
     public Object frozenCopy(Map<Object, Object> refs) {
-        MapValueImpl<K, V> copy = (MapValueImpl<K, V>) copy(refs);
-        if (!copy.isFrozen()) {
-            copy.freezeDirect();
+        if (isFrozen()) {
+            return this;
+        }
+
+        if (refs.containsKey(this)) {
+            return refs.get(this);
+        }
+
+        if (type.getTag() == TypeTags.MAP_TAG && size() >= PersistentMapValue.MIN_SIZE) {
+            return PersistentMapValue.frozenCopyOf(this, refs);
         }
-        return copy;
+
+        // Members are frozen as they are copied, instead of freezing the copy afterwards, which would walk the
+        // copied values again. Frozen members are shared as they are.
+        MapValueImpl<K, V> newMap = new MapValueImpl<>(type);
+        refs.put(this, newMap);
+        for (Map.Entry<K, V> entry : this.entrySet()) {
+            V value = entry.getValue();
+            value = value instanceof RefValue ? (V) ((RefValue) value).frozenCopy(refs) : value;
+            // The copy may already be frozen, if it is reachable from a member through a cycle.
+            newMap.putValue(entry.getKey(), value);
+        }
+        if (!newMap.isFrozen()) {
+            newMap.type = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(newMap.type);
+        }
+        return newMap;
     }
 
     @Override
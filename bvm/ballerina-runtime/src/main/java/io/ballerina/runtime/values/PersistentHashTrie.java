@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.values;
+
+import java.util.Arrays;
+
+/**
+ * An immutable hash array mapped trie, mapping keys to int values. Each level of the trie consumes five bits of the
+ * hash of a key, and keys with the same hash are kept in a collision node. Adding a key copies only the path to the
+ * key, hence it takes O(log n) time and space, and the rest of the trie is shared with the trie it was derived from.
+ *
+ * @param <K> the type of keys
+ *
+ * @since 2.0.0
+ */
+final class PersistentHashTrie<K> {
+
+    static final int NOT_FOUND = -1;
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final PersistentHashTrie<?> EMPTY = new PersistentHashTrie<>(new BitmapNode(0, new Object[0]));
+
+    private final Node root;
+
+    private PersistentHashTrie(Node root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K> PersistentHashTrie<K> empty() {
+        return (PersistentHashTrie<K>) EMPTY;
+    }
+
+    /**
+     * Creates a trie mapping each of the given distinct keys to its index. The keys are sorted by the path they take
+     * in the trie, and each node is built once, instead of adding the keys one by one.
+     *
+     * @param keys the distinct keys
+     * @param <K>  the type of keys
+     * @return the trie
+     */
+    static <K> PersistentHashTrie<K> of(Object[] keys) {
+        if (keys.length == 0) {
+            return empty();
+        }
+        int[] hashes = new int[keys.length];
+        // The lowest bits of a hash select the child at the root, hence the reversed hashes of the keys in the
+        // subtrie of a node form a contiguous range once sorted.
+        long[] order = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            hashes[i] = hash(keys[i]);
+            order[i] = ((long) Integer.reverse(hashes[i]) << 32) | i;
+        }
+        Arrays.sort(order);
+        int[] indices = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            indices[i] = (int) order[i];
+        }
+        return new PersistentHashTrie<>(build(keys, hashes, indices, 0, indices.length, 0));
+    }
+
+    /**
+     * Returns the value the given key is mapped to.
+     *
+     * @param key the key
+     * @return the value, or {@link #NOT_FOUND} if the key is not in the trie
+     */
+    int get(Object key) {
+        return root.get(0, hash(key), key);
+    }
+
+    /**
+     * Returns a trie in which the given key is mapped to the given value.
+     *
+     * @param key   the key
+     * @param value the value, which is not negative
+     * @return the updated trie
+     */
+    PersistentHashTrie<K> put(K key, int value) {
+        return new PersistentHashTrie<>(root.put(0, hash(key), key, value));
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int getBit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Node build(Object[] keys, int[] hashes, int[] indices, int from, int to, int shift) {
+        int first = hashes[indices[from]];
+        if (hashes[indices[to - 1]] == first) {
+            // All the keys have the same hash, since the ones with the same hash are next to each other.
+            Object[] entries = new Object[(to - from) * 2];
+            for (int i = from; i < to; i++) {
+                entries[(i - from) * 2] = keys[indices[i]];
+                entries[(i - from) * 2 + 1] = indices[i];
+            }
+            Node node = new CollisionNode(first, entries);
+            // The root is always a bitmap node.
+            return shift == 0 ? new BitmapNode(getBit(first, 0), new Object[]{null, node}) : node;
+        }
+
+        int bitmap = 0;
+        for (int i = from; i < to; i++) {
+            bitmap |= getBit(hashes[indices[i]], shift);
+        }
+        Object[] entries = new Object[Integer.bitCount(bitmap) * 2];
+        int start = from;
+        while (start < to) {
+            int bit = getBit(hashes[indices[start]], shift);
+            int end = start + 1;
+            while (end < to && getBit(hashes[indices[end]], shift) == bit) {
+                end++;
+            }
+            int position = Integer.bitCount(bitmap & (bit - 1)) * 2;
+            if (end - start == 1) {
+                entries[position] = keys[indices[start]];
+                entries[position + 1] = indices[start];
+            } else {
+                entries[position + 1] = build(keys, hashes, indices, start, end, shift + BITS);
+            }
+            start = end;
+        }
+        return new BitmapNode(bitmap, entries);
+    }
+
+    private static Node createNode(int shift, Object key1, int value1, int hash2, Object key2, int value2) {
+        int hash1 = hash(key1);
+        if (hash1 == hash2) {
+            return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+        }
+        return EMPTY.root.put(shift, hash1, key1, value1).put(shift, hash2, key2, value2);
+    }
+
+    /**
+     * A node of the trie.
+     */
+    private interface Node {
+
+        int get(int shift, int hash, Object key);
+
+        Node put(int shift, int hash, Object key, int value);
+    }
+
+    /**
+     * A node holding an entry or a child node for each of the bits set in its bitmap. An entry is a key followed by
+     * its value, and a child node is preceded by a null key.
+     */
+    private static final class BitmapNode implements Node {
+
+        private final int bitmap;
+        private final Object[] entries;
+
+        BitmapNode(int bitmap, Object[] entries) {
+            this.bitmap = bitmap;
+            this.entries = entries;
+        }
+
+        @Override
+        public int get(int shift, int hash, Object key) {
+            int bit = getBit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            int position = Integer.bitCount(bitmap & (bit - 1)) * 2;
+            Object entryKey = entries[position];
+            if (entryKey == null) {
+                return ((Node) entries[position + 1]).get(shift + BITS, hash, key);
+            }
+            return key.equals(entryKey) ? (int) entries[position + 1] : NOT_FOUND;
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, int value) {
+            int bit = getBit(hash, shift);
+            int position = Integer.bitCount(bitmap & (bit - 1)) * 2;
+            if ((bitmap & bit) == 0) {
+                Object[] newEntries = new Object[entries.length + 2];
+                System.arraycopy(entries, 0, newEntries, 0, position);
+                newEntries[position] = key;
+                newEntries[position + 1] = value;
+                System.arraycopy(entries, position, newEntries, position + 2, entries.length - position);
+                return new BitmapNode(bitmap | bit, newEntries);
+            }
+
+            Object entryKey = entries[position];
+            Object[] newEntries = entries.clone();
+            if (entryKey == null) {
+                newEntries[position + 1] = ((Node) entries[position + 1]).put(shift + BITS, hash, key, value);
+            } else if (key.equals(entryKey)) {
+                newEntries[position + 1] = value;
+            } else {
+                newEntries[position] = null;
+                newEntries[position + 1] = createNode(shift + BITS, entryKey, (int) entries[position + 1], hash,
+                                                      key, value);
+            }
+            return new BitmapNode(bitmap, newEntries);
+        }
+    }
+
+    /**
+     * A node holding the entries of keys with the same hash.
+     */
+    private static final class CollisionNode implements Node {
+
+        private final int hash;
+        private final Object[] entries;
+
+        CollisionNode(int hash, Object[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        @Override
+        public int get(int shift, int hash, Object key) {
+            if (hash != this.hash) {
+                return NOT_FOUND;
+            }
+            for (int i = 0; i < entries.length; i += 2) {
+                if (key.equals(entries[i])) {
+                    return (int) entries[i + 1];
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, int value) {
+            if (hash != this.hash) {
+                // The new key branches off at this level, hence this node moves down under a bitmap node.
+                return new BitmapNode(getBit(this.hash, shift), new Object[]{null, this}).put(shift, hash, key,
+                                                                                              value);
+            }
+            for (int i = 0; i < entries.length; i += 2) {
+                if (key.equals(entries[i])) {
+                    Object[] newEntries = entries.clone();
+                    newEntries[i + 1] = value;
+                    return new CollisionNode(hash, newEntries);
+                }
+            }
+            Object[] newEntries = Arrays.copyOf(entries, entries.length + 2);
+            newEntries[entries.length] = key;
+            newEntries[entries.length + 1] = value;
+            return new CollisionNode(hash, newEntries);
+        }
+    }
+}
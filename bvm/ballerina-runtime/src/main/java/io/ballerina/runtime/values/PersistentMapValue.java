@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.values;
+
+import io.ballerina.runtime.MapUtils;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.types.BMapType;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.ballerina.runtime.util.BLangConstants.MAP_LANG_LIB;
+import static io.ballerina.runtime.values.ReadOnlyUtils.handleInvalidUpdate;
+
+/**
+ * <p>
+ * A readonly map backed by persistent structures instead of the hash table of {@link MapValueImpl}. The members are
+ * kept in insertion order in a {@link PersistentVector}, and a {@link PersistentHashTrie} maps each key to the index
+ * of its member. A variant of the map with a member added or replaced, such as {@code {...snapshot, key: value}}, is
+ * built in O(log n) time and space, and shares the rest of the structure with the map it was derived from.
+ * </p>
+ * <p>
+ * Readonly maps with at least {@link #MIN_SIZE} members are created as persistent maps, when they are frozen copies
+ * of other maps or when a mapping constructor of a readonly map type spreads a persistent map first. Smaller readonly
+ * maps stay hash tables, for which lookups are cheaper.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @since 2.0.0
+ */
+public class PersistentMapValue<K, V> extends MapValueImpl<K, V> {
+
+    static final int MIN_SIZE = 32;
+
+    private static final long serialVersionUID = 1L;
+
+    private PersistentHashTrie<K> indices;
+    private PersistentVector<Map.Entry<K, V>> members;
+
+    private PersistentMapValue(Type type, PersistentHashTrie<K> indices, PersistentVector<Map.Entry<K, V>> members) {
+        super(type);
+        this.indices = indices;
+        this.members = members;
+    }
+
+    /**
+     * Creates a value of a readonly map type from the entries of a mapping constructor. If the first entry spreads a
+     * persistent map, the new map is derived from it, and only the rest of the entries are added.
+     *
+     * @param type          the readonly map type
+     * @param initialValues the entries of the mapping constructor
+     * @param <K>           the type of keys
+     * @param <V>           the type of values
+     * @return the new map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> MapValueImpl<K, V> create(Type type, BMapInitialValueEntry[] initialValues) {
+        BMapInitialValueEntry firstValue = initialValues.length == 0 ? null : initialValues[0];
+        if (firstValue == null || firstValue.isKeyValueEntry() ||
+                !(((MappingInitialValueEntry.SpreadFieldEntry) firstValue).values instanceof PersistentMapValue)) {
+            MapValueImpl<K, V> map = new MapValueImpl<>(type, initialValues);
+            return map.size() < MIN_SIZE ? map : copyOf(type, map);
+        }
+
+        PersistentMapValue<K, V> spreadMap =
+                (PersistentMapValue<K, V>) ((MappingInitialValueEntry.SpreadFieldEntry) firstValue).values;
+        if (!isSpreadWithinConstraint(type, spreadMap)) {
+            for (Map.Entry<K, V> entry : spreadMap.members) {
+                MapUtils.handleInherentTypeViolatingMapUpdate(entry.getValue(), (BMapType) type);
+            }
+        }
+        PersistentMapValue<K, V> map = new PersistentMapValue<>(type, spreadMap.indices, spreadMap.members);
+        BMapInitialValueEntry[] restOfInitialValues = new BMapInitialValueEntry[initialValues.length - 1];
+        System.arraycopy(initialValues, 1, restOfInitialValues, 0, restOfInitialValues.length);
+        map.populateInitialValues(restOfInitialValues);
+        return map;
+    }
+
+    /**
+     * Creates a frozen copy of the given map, freezing the members as they are copied.
+     *
+     * @param map  the map of a map type to copy
+     * @param refs the frozen copies of the values already copied
+     * @param <K>  the type of keys
+     * @param <V>  the type of values
+     * @return the frozen copy
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentMapValue<K, V> frozenCopyOf(MapValueImpl<K, V> map, Map<Object, Object> refs) {
+        PersistentMapValue<K, V> newMap =
+                new PersistentMapValue<>(ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(map.getType()),
+                                         PersistentHashTrie.empty(), PersistentVector.empty());
+        refs.put(map, newMap);
+        Object[] keys = new Object[map.size()];
+        Object[] members = new Object[keys.length];
+        int index = 0;
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            V value = entry.getValue();
+            value = value instanceof RefValue ? (V) ((RefValue) value).frozenCopy(refs) : value;
+            keys[index] = entry.getKey();
+            members[index++] = new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), value);
+        }
+        newMap.indices = PersistentHashTrie.of(keys);
+        newMap.members = PersistentVector.of(members);
+        return newMap;
+    }
+
+    private static <K, V> PersistentMapValue<K, V> copyOf(Type type, MapValueImpl<K, V> map) {
+        Object[] keys = new Object[map.size()];
+        Object[] members = new Object[keys.length];
+        int index = 0;
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            keys[index] = entry.getKey();
+            members[index++] = new AbstractMap.SimpleImmutableEntry<>(entry);
+        }
+        return new PersistentMapValue<>(type, PersistentHashTrie.of(keys), PersistentVector.of(members));
+    }
+
+    @Override
+    public V get(Object key) {
+        int index = getIndex(key);
+        return index == PersistentHashTrie.NOT_FOUND ? null : members.get(index).getValue();
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        int index = getIndex(key);
+        return index == PersistentHashTrie.NOT_FOUND ? defaultValue : members.get(index).getValue();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return getIndex(key) != PersistentHashTrie.NOT_FOUND;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (Map.Entry<K, V> entry : members) {
+            if (Objects.equals(entry.getValue(), value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return members.size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public K[] getKeys() {
+        BString[] keys = new BString[members.size()];
+        int index = 0;
+        for (Map.Entry<K, V> entry : members) {
+            keys[index++] = (BString) entry.getKey();
+        }
+        return (K[]) keys;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return members.iterator();
+            }
+
+            @Override
+            public int size() {
+                return members.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Map.Entry)) {
+                    return false;
+                }
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                int index = getIndex(entry.getKey());
+                return index != PersistentHashTrie.NOT_FOUND &&
+                        Objects.equals(members.get(index).getValue(), entry.getValue());
+            }
+        };
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+
+            @Override
+            public Iterator<K> iterator() {
+                return new MemberIterator<>(members.iterator(), Map.Entry::getKey);
+            }
+
+            @Override
+            public int size() {
+                return members.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+        };
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+
+            @Override
+            public Iterator<V> iterator() {
+                return new MemberIterator<>(members.iterator(), Map.Entry::getValue);
+            }
+
+            @Override
+            public int size() {
+                return members.size();
+            }
+        };
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (Map.Entry<K, V> entry : members) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public IteratorValue getIterator() {
+        // The members never change, hence they are iterated without taking a snapshot.
+        return new MapIterator<>(members.iterator());
+    }
+
+    @Override
+    protected V putValue(K key, V value) {
+        Map.Entry<K, V> member = new AbstractMap.SimpleImmutableEntry<>(key, value);
+        int index = getIndex(key);
+        if (index == PersistentHashTrie.NOT_FOUND) {
+            indices = indices.put(key, members.size());
+            members = members.append(member);
+            return null;
+        }
+        V oldValue = members.get(index).getValue();
+        members = members.set(index, member);
+        return oldValue;
+    }
+
+    // The updates of the hash table of the super class are not valid, as the map is readonly.
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        invalidUpdate();
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return invalidUpdate();
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        return invalidUpdate();
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        return invalidUpdate();
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        return invalidUpdate();
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        invalidUpdate();
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        return invalidUpdate();
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return invalidUpdate();
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return invalidUpdate();
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        return invalidUpdate();
+    }
+
+    private int getIndex(Object key) {
+        return key == null ? PersistentHashTrie.NOT_FOUND : indices.get(key);
+    }
+
+    private static <T> T invalidUpdate() {
+        handleInvalidUpdate(MAP_LANG_LIB);
+        return null;
+    }
+
+    /**
+     * Iterates over the keys or the values of the members of the map.
+     */
+    private static class MemberIterator<K, V, T> implements Iterator<T> {
+
+        private final Iterator<Map.Entry<K, V>> iterator;
+        private final Function<Map.Entry<K, V>, T> function;
+
+        MemberIterator(Iterator<Map.Entry<K, V>> iterator, Function<Map.Entry<K, V>, T> function) {
+            this.iterator = iterator;
+            this.function = function;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return function.apply(iterator.next());
+        }
+    }
+}
@@ -83,6 +83,9 @@ public class TypedescValueImpl implements  TypedescValue {
     @Override
     public Object instantiate(Strand s, BInitialValueEntry[] initialValues) {
         if (describingType.getTag() == TypeTags.MAP_TAG) {
+            if (describingType.isReadOnly()) {
+                return PersistentMapValue.create(describingType, (BMapInitialValueEntry[]) initialValues);
+            }
             return new MapValueImpl(describingType, (BMapInitialValueEntry[]) initialValues);
         }
         // This method will be overridden for user-defined types, therefor this line shouldn't be reached.
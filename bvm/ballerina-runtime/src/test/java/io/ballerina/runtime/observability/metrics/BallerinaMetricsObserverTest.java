@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+
+/**
+ * Tests for caching the metrics resolved per set of tags in {@link BallerinaMetricsObserver}.
+ *
+ * @since 2.0.0
+ */
+public class BallerinaMetricsObserverTest {
+
+    private static final String IN_PROGRESS_REQUESTS = "inprogress_requests";
+
+    private final BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+    private boolean wasNoOp;
+    private MetricRegistry registry;
+
+    @BeforeClass
+    public void allowRegistryReplacement() {
+        // The default registry can be replaced only while it is a no-op one.
+        wasNoOp = DefaultMetricRegistry.isNoOp;
+        DefaultMetricRegistry.isNoOp = true;
+    }
+
+    @AfterClass
+    public void restoreRegistryReplacement() {
+        DefaultMetricRegistry.isNoOp = wasNoOp;
+    }
+
+    @BeforeMethod
+    public void init() {
+        registry = new MetricRegistry(new NoOpMetricProvider());
+        DefaultMetricRegistry.setInstance(registry);
+    }
+
+    @Test(description = "The cache of tag sets stops growing at the bound, while the rest of the tag sets are still " +
+            "observed")
+    public void testCacheBound() {
+        int tagSets = BallerinaMetricsObserver.MAX_CACHED_TAG_SETS + 100;
+        ObserverContext lastContext = null;
+        for (int i = 0; i < tagSets; i++) {
+            lastContext = startObservation("bound-" + i);
+            Assert.assertTrue(BallerinaMetricsObserver.getCachedTagSetCount() <=
+                                      BallerinaMetricsObserver.MAX_CACHED_TAG_SETS);
+        }
+        Assert.assertEquals(BallerinaMetricsObserver.getCachedTagSetCount(),
+                            BallerinaMetricsObserver.MAX_CACHED_TAG_SETS);
+        Assert.assertNotNull(lookupInProgressGauge(lastContext.getTagSet()));
+    }
+
+    @Test(description = "A metric removed from the registry is created again instead of being served from the cache")
+    public void testRemovedMetric() {
+        ObserverContext context = startObservation("removed");
+        Metric gauge = lookupInProgressGauge(context.getTagSet());
+        Assert.assertNotNull(gauge);
+        Assert.assertSame(startObservation("removed").getProperty("_observation_in_progress_counter_"), gauge);
+
+        registry.remove(IN_PROGRESS_REQUESTS);
+        Assert.assertNull(lookupInProgressGauge(context.getTagSet()));
+
+        // Both the cache and the metrics attached to the tags of an existing context are resolved again.
+        ObserverContext newContext = startObservation("removed");
+        Metric newGauge = lookupInProgressGauge(newContext.getTagSet());
+        Assert.assertNotNull(newGauge);
+        Assert.assertNotSame(newGauge, gauge);
+        Assert.assertSame(newContext.getProperty("_observation_in_progress_counter_"), newGauge);
+        observer.startClientObservation(context);
+        Assert.assertSame(context.getProperty("_observation_in_progress_counter_"), newGauge);
+    }
+
+    @Test(description = "Metrics are resolved from the default registry in use, once it is replaced")
+    public void testReplacedRegistry() {
+        ObserverContext context = startObservation("replaced");
+        Assert.assertNotNull(lookupInProgressGauge(context.getTagSet()));
+
+        MetricRegistry oldRegistry = registry;
+        init();
+        observer.startClientObservation(context);
+        Metric gauge = lookupInProgressGauge(context.getTagSet());
+        Assert.assertNotNull(gauge);
+        Assert.assertSame(context.getProperty("_observation_in_progress_counter_"), gauge);
+        Assert.assertNotSame(oldRegistry.lookup(gauge.getId()), gauge);
+    }
+
+    private ObserverContext startObservation(String tagValue) {
+        ObserverContext context = new ObserverContext();
+        context.addTag("test", tagValue);
+        observer.startClientObservation(context);
+        return context;
+    }
+
+    private Metric lookupInProgressGauge(Set<Tag> tags) {
+        return registry.lookup(new MetricId(IN_PROGRESS_REQUESTS, "", tags));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.tracer;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for reading the sampling decision of the upstream service in {@link TraceSampler}.
+ */
+public class TraceSamplerTest {
+
+    @DataProvider(name = "traceContexts")
+    public Object[][] traceContexts() {
+        return new Object[][]{
+                {"X-B3-Sampled", "1", Boolean.TRUE},
+                {"x-b3-sampled", "0", Boolean.FALSE},
+                {"X-B3-Sampled", "true", Boolean.TRUE},
+                {"X-B3-Flags", "1", Boolean.TRUE},
+                {"X-B3-TraceId", "463ac35c9f6413ad", Boolean.TRUE},
+                {"b3", "0", Boolean.FALSE},
+                {"b3", "d", Boolean.TRUE},
+                {"b3", "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1-1-05e3ac9a4f6e3b90", Boolean.TRUE},
+                {"b3", "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1-0", Boolean.FALSE},
+                {"b3", "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1", Boolean.TRUE},
+                {"traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01", Boolean.TRUE},
+                {"traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-00", Boolean.FALSE},
+                {"uber-trace-id", "5b8aa5a2d2c872e8:321a3c4c1b6b8e9f:0:1", Boolean.TRUE},
+                {"uber-trace-id", "5b8aa5a2d2c872e8:321a3c4c1b6b8e9f:0:0", Boolean.FALSE},
+                {"content-type", "application/json", null},
+        };
+    }
+
+    @Test(dataProvider = "traceContexts")
+    public void testUpstreamSamplingDecision(String header, String value, Boolean decision) {
+        Map<String, String> traceContext = new HashMap<>();
+        traceContext.put(header, value);
+        Assert.assertEquals(TraceSampler.getSamplingDecision(traceContext), decision);
+    }
+
+    @Test
+    public void testSampleFollowsUpstreamDecision() {
+        TraceSampler sampler = TraceSampler.getInstance();
+        Assert.assertFalse(sampler.sample(sampler.getNotSampledTraceContext()));
+        Assert.assertTrue(sampler.sample(Collections.singletonMap("X-B3-Sampled", "1")));
+        // Without a trace context, the default sampling rate of 1.0 samples every trace
+        Assert.assertTrue(sampler.sample(Collections.emptyMap()));
+        Assert.assertTrue(sampler.sample(null));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for handing rescheduled strand groups over to their last carriers in {@link AffinityRunnableList}. The test
+ * thread acts as the first carrier, and the second carrier takes groups on another thread.
+ *
+ * @since 2.0.0
+ */
+public class AffinityRunnableListTest {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private AffinityRunnableList list;
+    private Carrier carrier;
+    private Carrier otherCarrier;
+    private Thread otherThread;
+
+    @BeforeMethod
+    public void init() {
+        list = new AffinityRunnableList(2);
+        carrier = list.getCarrier(0);
+        carrier.thread = Thread.currentThread();
+        otherCarrier = list.getCarrier(1);
+    }
+
+    @AfterMethod
+    public void stop() throws InterruptedException {
+        if (otherThread != null) {
+            list.addShared(ItemGroup.POISON_PILL);
+            otherThread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+            otherThread = null;
+        }
+    }
+
+    @Test(description = "A group rescheduled after the last item of the current group is taken next by the carrier")
+    public void testRescheduleAfterCurrentGroup() {
+        carrier.currentGroup = drainedGroup();
+        ItemGroup group = groupOf(carrier);
+        list.add(group);
+
+        Assert.assertSame(carrier.localGroups.peekFirst(), group);
+        Assert.assertSame(list.take(carrier), group);
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test(description = "A group rescheduled while the current group has items left is taken by an idle carrier")
+    public void testRescheduleWithinCurrentGroup() throws Exception {
+        CompletableFuture<ItemGroup> taken = takeOnOtherCarrier();
+        await().atMost(TIMEOUT_SECONDS, TimeUnit.SECONDS).until(() -> otherCarrier.state.get() == Carrier.IDLE);
+
+        carrier.currentGroup = new ItemGroup(null);
+        ItemGroup group = groupOf(carrier);
+        list.add(group);
+
+        Assert.assertTrue(carrier.localGroups.isEmpty());
+        Assert.assertSame(taken.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), group);
+    }
+
+    @Test(description = "A group rescheduled by another thread is handed over to its last carrier if it is idle")
+    public void testRescheduleToIdleCarrier() throws Exception {
+        CompletableFuture<ItemGroup> taken = takeOnOtherCarrier();
+        await().atMost(TIMEOUT_SECONDS, TimeUnit.SECONDS).until(() -> otherCarrier.state.get() == Carrier.IDLE);
+
+        ItemGroup group = groupOf(otherCarrier);
+        list.add(group);
+
+        Assert.assertSame(taken.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), group);
+    }
+
+    @Test(description = "A group rescheduled by another thread while its last carrier is busy is shared")
+    public void testRescheduleToBusyCarrier() {
+        carrier.itemStarted();
+        ItemGroup group = groupOf(carrier);
+        Thread thread = new Thread(() -> list.add(group));
+        thread.start();
+        await().atMost(TIMEOUT_SECONDS, TimeUnit.SECONDS).until(() -> !thread.isAlive());
+        carrier.itemFinished();
+
+        Assert.assertTrue(carrier.localGroups.isEmpty());
+        Assert.assertFalse(list.isEmpty());
+        otherCarrier.thread = Thread.currentThread();
+        Assert.assertSame(list.take(otherCarrier), group);
+    }
+
+    @Test(description = "The groups handed over to a carrier which goes on to execute another group are shared")
+    public void testShareHandedOverGroups() throws Exception {
+        carrier.currentGroup = drainedGroup();
+        ItemGroup group = groupOf(carrier);
+        list.add(group);
+        CompletableFuture<ItemGroup> taken = takeOnOtherCarrier();
+        await().atMost(TIMEOUT_SECONDS, TimeUnit.SECONDS).until(() -> otherCarrier.state.get() == Carrier.IDLE);
+
+        // A carrier which is not executing an item is expected to take its groups by itself.
+        Thread.sleep(200);
+        Assert.assertFalse(taken.isDone());
+        list.share(carrier);
+        Assert.assertSame(taken.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), group);
+    }
+
+    @Test(description = "The groups handed over to a carrier which exits are taken by the rest of the carriers")
+    public void testExitedCarrier() {
+        carrier.currentGroup = drainedGroup();
+        ItemGroup first = groupOf(carrier);
+        ItemGroup second = groupOf(carrier);
+        list.add(first);
+        list.add(second);
+        list.exited(carrier);
+
+        otherCarrier.thread = Thread.currentThread();
+        Assert.assertSame(list.take(otherCarrier), first);
+        Assert.assertSame(list.take(otherCarrier), second);
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test(description = "A new group is taken by any carrier")
+    public void testNewGroup() throws Exception {
+        CompletableFuture<ItemGroup> taken = takeOnOtherCarrier();
+        ItemGroup group = new ItemGroup(null);
+        list.add(group);
+        Assert.assertSame(taken.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), group);
+    }
+
+    private CompletableFuture<ItemGroup> takeOnOtherCarrier() {
+        CompletableFuture<ItemGroup> taken = new CompletableFuture<>();
+        otherThread = new Thread(() -> {
+            otherCarrier.thread = Thread.currentThread();
+            ItemGroup group = list.take(otherCarrier);
+            taken.complete(group);
+            while (group != ItemGroup.POISON_PILL) {
+                group = list.take(otherCarrier);
+            }
+        }, "affinity-test-carrier");
+        otherThread.setDaemon(true);
+        otherThread.start();
+        return taken;
+    }
+
+    private static ItemGroup groupOf(Carrier lastCarrier) {
+        ItemGroup group = new ItemGroup(null);
+        group.lastCarrier = lastCarrier;
+        return group;
+    }
+
+    private static ItemGroup drainedGroup() {
+        ItemGroup group = new ItemGroup(null);
+        group.get();
+        return group;
+    }
+}
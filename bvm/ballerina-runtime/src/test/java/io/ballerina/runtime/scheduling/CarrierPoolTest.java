@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.scheduling;
+
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.values.BError;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for growing, retiring and terminating the carrier threads of a {@link Scheduler} in the adaptive mode.
+ *
+ * @since 2.0.0
+ */
+public class CarrierPoolTest {
+
+    private static final long KEEP_ALIVE_NANOS = TimeUnit.MILLISECONDS.toNanos(300);
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private final SchedulerStats stats = SchedulerStats.getInstance();
+
+    @Test(description = "A carrier is added while a strand is blocked, and retired once it stays idle")
+    public void testGrowAndRetire() throws InterruptedException {
+        Scheduler scheduler = createScheduler(1, 4, true);
+        Thread main = start(scheduler);
+        long added = stats.getCarrierThreadsAdded();
+        long retired = stats.getCarrierThreadsRetired();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(2);
+        try {
+            schedule(scheduler, params -> {
+                awaitRelease(release);
+                return null;
+            }, completed);
+            await().atMost(TIMEOUT_SECONDS, TimeUnit.SECONDS).until(() -> stats.getBlockedCarrierThreads() == 1);
+
+            // The only carrier is blocked, hence the strand runs only on an added carrier.
+            CountDownLatch ran = new CountDownLatch(1);
+            schedule(scheduler, params -> {
+                ran.countDown();
+                return null;
+            }, completed);
+            Assert.assertTrue(ran.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Assert.assertEquals(stats.getCarrierThreadsAdded() - added, 1);
+        } finally {
+            release.countDown();
+        }
+        Assert.assertTrue(completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        await().atMost(TIMEOUT_SECONDS, TimeUnit.SECONDS).until(() -> stats.getBlockedCarrierThreads() == 0);
+
+        // The added carrier is retired after the keep-alive time, while the minimum number of carriers is kept.
+        await().atMost(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .until(() -> stats.getCarrierThreadsRetired() - retired == 1);
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(KEEP_ALIVE_NANOS) * 2);
+        Assert.assertEquals(stats.getCarrierThreadsRetired() - retired, 1);
+        Assert.assertTrue(main.isAlive());
+
+        scheduler.poison();
+        main.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        Assert.assertFalse(main.isAlive());
+    }
+
+    @Test(description = "A carrier is added while a strand is blocked in a socket read, which the JVM reports to be " +
+            "runnable")
+    public void testGrowForSocketRead() throws IOException, InterruptedException {
+        Scheduler scheduler = createScheduler(1, 4, true);
+        Thread main = start(scheduler);
+        long added = stats.getCarrierThreadsAdded();
+        CountDownLatch completed = new CountDownLatch(2);
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            schedule(scheduler, params -> {
+                try (Socket socket = new Socket(server.getInetAddress(), server.getLocalPort());
+                     InputStream in = socket.getInputStream()) {
+                    // Nothing is written by the server, hence the read returns only once the server closes.
+                    return in.read();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, completed);
+            try (Socket accepted = server.accept()) {
+                await().atMost(TIMEOUT_SECONDS, TimeUnit.SECONDS).until(() -> stats.getBlockedCarrierThreads() == 1);
+
+                // The only carrier is blocked in the read, hence the strand runs only on an added carrier.
+                CountDownLatch ran = new CountDownLatch(1);
+                schedule(scheduler, params -> {
+                    ran.countDown();
+                    return null;
+                }, completed);
+                Assert.assertTrue(ran.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+                Assert.assertEquals(stats.getCarrierThreadsAdded() - added, 1);
+            }
+        }
+        Assert.assertTrue(completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        await().atMost(TIMEOUT_SECONDS, TimeUnit.SECONDS).until(() -> stats.getBlockedCarrierThreads() == 0);
+
+        scheduler.poison();
+        main.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        Assert.assertFalse(main.isAlive());
+    }
+
+    @Test(description = "No carrier is added for a strand which keeps running on the CPU")
+    public void testBusyCarrierIsNotBlocked() throws InterruptedException {
+        Scheduler scheduler = createScheduler(1, 4, true);
+        Thread main = start(scheduler);
+        long added = stats.getCarrierThreadsAdded();
+        Spinner spinner = new Spinner();
+        CountDownLatch completed = new CountDownLatch(2);
+        CountDownLatch ran = new CountDownLatch(1);
+        try {
+            schedule(scheduler, params -> {
+                spinner.spin();
+                return null;
+            }, completed);
+            schedule(scheduler, params -> {
+                ran.countDown();
+                return null;
+            }, completed);
+
+            // Several sampling intervals pass while the only carrier is busy.
+            Assert.assertFalse(ran.await(1, TimeUnit.SECONDS));
+            Assert.assertEquals(stats.getBlockedCarrierThreads(), 0);
+            Assert.assertEquals(stats.getCarrierThreadsAdded(), added);
+        } finally {
+            spinner.stop();
+        }
+        Assert.assertTrue(completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        scheduler.poison();
+        main.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        Assert.assertFalse(main.isAlive());
+    }
+
+    @Test(description = "All the carriers, including the added ones, exit once the scheduler is terminated")
+    public void testTerminate() throws InterruptedException {
+        long carriers = stats.getCarrierThreads();
+        Scheduler scheduler = createScheduler(2, 4, false);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(2);
+        for (int i = 0; i < 3; i++) {
+            schedule(scheduler, params -> {
+                blocked.countDown();
+                awaitRelease(release);
+                return null;
+            }, new CountDownLatch(1));
+        }
+        Thread main = start(scheduler);
+        try {
+            // The third strand runs only on an added carrier.
+            Assert.assertTrue(blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            await().atMost(TIMEOUT_SECONDS, TimeUnit.SECONDS).until(() -> stats.getCarrierThreads() - carriers == 3);
+        } finally {
+            release.countDown();
+        }
+
+        // The scheduler terminates once all the strands are completed.
+        main.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        Assert.assertFalse(main.isAlive());
+        await().atMost(TIMEOUT_SECONDS, TimeUnit.SECONDS).until(() -> stats.getCarrierThreads() == carriers);
+    }
+
+    @Test(description = "No carrier is started once the pool is terminated")
+    public void testStartCarrierAfterTerminate() throws InterruptedException {
+        long carriers = stats.getCarrierThreads();
+        CarrierPool pool = new CarrierPool(createScheduler(1, 2, false), new LinkedBlockingDeque<>(), 1, 2,
+                                           KEEP_ALIVE_NANOS);
+        pool.terminate();
+        Assert.assertFalse(pool.startCarrier());
+        Thread.sleep(100);
+        Assert.assertEquals(stats.getCarrierThreads(), carriers);
+    }
+
+    private static Scheduler createScheduler(int minThreads, int maxThreads, boolean immortal) {
+        return Scheduler.builder()
+                .adaptiveThreads(minThreads, maxThreads)
+                .keepAlive(KEEP_ALIVE_NANOS)
+                .immortal(immortal)
+                .build();
+    }
+
+    private static Thread start(Scheduler scheduler) {
+        Thread main = new Thread(scheduler::start, "carrier-pool-test-main");
+        main.setDaemon(true);
+        main.start();
+        return main;
+    }
+
+    private static void schedule(Scheduler scheduler, Function<Object[], Object> function,
+                                 CountDownLatch completed) {
+        scheduler.schedule(new Object[1], function, null, new Callback() {
+            @Override
+            public void notifySuccess() {
+                completed.countDown();
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                completed.countDown();
+            }
+        }, null, null);
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Keeps a strand running on the CPU until stopped.
+     */
+    private static class Spinner {
+
+        private volatile boolean stopped;
+
+        void spin() {
+            while (!stopped) {
+                Thread.onSpinWait();
+            }
+        }
+
+        void stop() {
+            stopped = true;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.scheduling;
+
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.values.BError;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Tests for pinning the threads of a {@link Scheduler} to a set of CPUs.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerCpuSetTest {
+
+    private static final long TIMEOUT_SECONDS = 30;
+    // A CPU which no machine running the tests is expected to have, hence taskset fails to pin a thread to it.
+    private static final String MISSING_CPU = "4095";
+
+    @DataProvider(name = "schedulers")
+    public Object[][] schedulers() {
+        return new Object[][]{
+                {(Supplier<Scheduler>) () -> Scheduler.builder().threads(3).cpuSet(MISSING_CPU).build()},
+                {(Supplier<Scheduler>) () -> Scheduler.builder().threads(3).groupAffinity(true)
+                        .cpuSet(MISSING_CPU).build()},
+                {(Supplier<Scheduler>) () -> Scheduler.builder().adaptiveThreads(3, 4).cpuSet(MISSING_CPU).build()},
+        };
+    }
+
+    @Test(dataProvider = "schedulers",
+          description = "A failure to pin the threads is reported once, and the strands run on unpinned threads")
+    public void testPinningFailure(Supplier<Scheduler> schedulerSupplier) throws InterruptedException {
+        ByteArrayOutputStream errStream = new ByteArrayOutputStream();
+        PrintStream originalErr = System.err;
+        Scheduler scheduler;
+        // The scheduler captures the error stream when created.
+        System.setErr(new PrintStream(errStream, true, StandardCharsets.UTF_8));
+        try {
+            scheduler = schedulerSupplier.get();
+        } finally {
+            System.setErr(originalErr);
+        }
+
+        int strands = 10;
+        CountDownLatch completed = new CountDownLatch(strands);
+        for (int i = 0; i < strands; i++) {
+            scheduler.schedule(new Object[1], params -> null, null, new Callback() {
+                @Override
+                public void notifySuccess() {
+                    completed.countDown();
+                }
+
+                @Override
+                public void notifyFailure(BError error) {
+                }
+            }, null, null);
+        }
+        Thread main = new Thread(scheduler::start, "cpu-set-test-main");
+        main.setDaemon(true);
+        main.start();
+        Assert.assertTrue(completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        main.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        Assert.assertFalse(main.isAlive());
+
+        // Two threads are started by the scheduler, of which the failures are reported once.
+        String err = errStream.toString(StandardCharsets.UTF_8);
+        Assert.assertEquals(err.split("unable to pin scheduler threads to CPUs " + MISSING_CPU, -1).length, 2, err);
+    }
+
+    @Test(description = "A scheduler is not created with an invalid CPU set",
+          expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidCpuSet() {
+        Scheduler.builder().threads(2).cpuSet("0-a").build();
+    }
+
+    @Test(description = "A pool with an invalid CPU set is not created in the adaptive mode",
+          expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidCpuSetInAdaptiveMode() {
+        Scheduler.builder().adaptiveThreads(1, 2).cpuSet("1,").build();
+    }
+
+    @Test(description = "A scheduler is not created with strand group affinity in the adaptive mode",
+          expectedExceptions = IllegalArgumentException.class)
+    public void testGroupAffinityInAdaptiveMode() {
+        Scheduler.builder().adaptiveThreads(1, 2).groupAffinity(true).build();
+    }
+}
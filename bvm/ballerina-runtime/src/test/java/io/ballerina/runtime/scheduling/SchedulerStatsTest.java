@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.scheduling;
+
+import io.ballerina.runtime.api.ErrorCreator;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.observability.metrics.AbstractMetric;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.noop.NoOpGauge;
+import io.ballerina.runtime.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the worker channel backlog and the wait times collected by {@link SchedulerStats}.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerStatsTest {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private final SchedulerStats stats = SchedulerStats.getInstance();
+    private RecordingGauge runnableWaitTimes;
+    private RecordingGauge lockWaitTimes;
+
+    @BeforeClass
+    public void init() {
+        stats.enable();
+        runnableWaitTimes = new RecordingGauge("runnable_wait_time_seconds");
+        lockWaitTimes = new RecordingGauge("lock_wait_time_seconds");
+        stats.summarizeWaitTimes(runnableWaitTimes, lockWaitTimes);
+    }
+
+    @AfterClass
+    public void stopSummarizing() {
+        stats.summarizeWaitTimes(new NoOpGauge(runnableWaitTimes.getId()), new NoOpGauge(lockWaitTimes.getId()));
+    }
+
+    @Test(description = "Messages are counted in the backlog until received")
+    public void testBacklogOfReceivedMessages() throws Throwable {
+        long backlog = stats.getWorkerChannelBacklog();
+        WorkerDataChannel channel = new WorkerDataChannel("received");
+        channel.sendData(1L, null);
+        channel.sendData(2L, null);
+        Assert.assertEquals(stats.getWorkerChannelBacklog() - backlog, 2);
+
+        Assert.assertEquals(channel.tryTakeData(null), 1L);
+        Assert.assertEquals(stats.getWorkerChannelBacklog() - backlog, 1);
+        Assert.assertEquals(channel.tryTakeData(null), 2L);
+        Assert.assertEquals(stats.getWorkerChannelBacklog(), backlog);
+    }
+
+    @Test(description = "Messages left in a channel are removed from the backlog once the receiver fails")
+    public void testBacklogAfterReceiveError() throws Throwable {
+        long backlog = stats.getWorkerChannelBacklog();
+        WorkerDataChannel channel = new WorkerDataChannel("error");
+        channel.sendData(1L, null);
+        channel.sendData(2L, null);
+        ErrorValue error = (ErrorValue) ErrorCreator.createError(StringUtils.fromString("receive failed"));
+        channel.setReceiveError(error);
+        Assert.assertEquals(stats.getWorkerChannelBacklog(), backlog);
+
+        // Messages sent and taken afterwards are not counted.
+        channel.sendData(3L, null);
+        Assert.assertEquals(stats.getWorkerChannelBacklog(), backlog);
+        Assert.assertEquals(channel.tryTakeData(null), 1L);
+        Assert.assertEquals(stats.getWorkerChannelBacklog(), backlog);
+    }
+
+    @Test(description = "Messages left in a channel are removed from the backlog once the receiver panics")
+    public void testBacklogAfterReceiverPanic() {
+        long backlog = stats.getWorkerChannelBacklog();
+        WorkerDataChannel channel = new WorkerDataChannel("panic");
+        channel.sendData(1L, null);
+        channel.setReceiverPanic(new IllegalStateException("receiver panicked"));
+        Assert.assertEquals(stats.getWorkerChannelBacklog(), backlog);
+    }
+
+    @Test(description = "Messages never received are removed from the backlog once the strand holding the channels " +
+            "is completed")
+    public void testBacklogAfterStrandCompletion() throws InterruptedException {
+        long backlog = stats.getWorkerChannelBacklog();
+        Scheduler scheduler = new Scheduler(false);
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        scheduler.schedule(new Object[1], params -> {
+            WDChannels channels = Scheduler.getStrand().wdChannels;
+            channels.getWorkerDataChannel("first").sendData(1L, null);
+            channels.getWorkerDataChannel("second").sendData(2L, null);
+            channels.getWorkerDataChannel("second").sendData(3L, null);
+            sent.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }, null, new Callback() {
+            @Override
+            public void notifySuccess() {
+                completed.countDown();
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                completed.countDown();
+            }
+        }, null, null);
+        Thread main = new Thread(scheduler::start, "scheduler-stats-test-main");
+        main.setDaemon(true);
+        main.start();
+        try {
+            Assert.assertTrue(sent.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Assert.assertEquals(stats.getWorkerChannelBacklog() - backlog, 3);
+        } finally {
+            release.countDown();
+        }
+
+        Assert.assertTrue(completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        main.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        Assert.assertFalse(main.isAlive());
+        Assert.assertEquals(stats.getWorkerChannelBacklog(), backlog);
+    }
+
+    @Test(description = "The time a strand group spends in the runnable list is counted and summarized")
+    public void testRunnableWaitTime() throws InterruptedException {
+        long taken = stats.getRunnableStrandGroupsTaken();
+        long waitTime = stats.getRunnableWaitTimeNanos();
+        long runnable = stats.getRunnableStrandGroups();
+        int recorded = runnableWaitTimes.values().size();
+        ItemGroup group = new ItemGroup(null);
+        stats.groupAddedToRunnableList(group);
+        Assert.assertEquals(stats.getRunnableStrandGroups() - runnable, 1);
+        Thread.sleep(20);
+        stats.groupTakenFromRunnableList(group);
+
+        Assert.assertEquals(stats.getRunnableStrandGroups(), runnable);
+        Assert.assertEquals(stats.getRunnableStrandGroupsTaken() - taken, 1);
+        long groupWaitTime = stats.getRunnableWaitTimeNanos() - waitTime;
+        Assert.assertTrue(groupWaitTime >= TimeUnit.MILLISECONDS.toNanos(20), "wait time: " + groupWaitTime);
+        stats.flushWaitTimes();
+        List<Double> values = runnableWaitTimes.values();
+        Assert.assertEquals(values.size() - recorded, 1);
+        Assert.assertEquals(values.get(values.size() - 1), groupWaitTime / 1E9, 1E-9);
+    }
+
+    @Test(description = "The time a strand waits to acquire a lock is counted and summarized")
+    public void testLockWaitTime() {
+        long waits = stats.getLockWaits();
+        long waiting = stats.getLockWaitingStrands();
+        int recorded = lockWaitTimes.values().size();
+        Strand strand = new Strand("lock-waiter", null, null, null, null);
+        stats.lockWaitStarted(strand);
+        Assert.assertEquals(stats.getLockWaitingStrands() - waiting, 1);
+        stats.lockWaitReleased();
+        stats.lockAcquired(strand);
+
+        Assert.assertEquals(stats.getLockWaitingStrands(), waiting);
+        Assert.assertEquals(stats.getLockWaits() - waits, 1);
+        stats.flushWaitTimes();
+        Assert.assertEquals(lockWaitTimes.values().size() - recorded, 1);
+
+        // A lock acquired without waiting is not counted.
+        stats.lockAcquired(strand);
+        stats.flushWaitTimes();
+        Assert.assertEquals(stats.getLockWaits() - waits, 1);
+        Assert.assertEquals(lockWaitTimes.values().size() - recorded, 1);
+    }
+
+    @Test(description = "Wait times are published to the gauge in batches")
+    public void testWaitTimeBatches() {
+        RecordingGauge gauge = new RecordingGauge("batched_wait_time_seconds");
+        SchedulerStats.WaitTimeHistogram histogram = new SchedulerStats.WaitTimeHistogram(gauge);
+        for (int i = 1; i < SchedulerStats.WaitTimeHistogram.BATCH_SIZE; i++) {
+            histogram.record(i);
+        }
+        Assert.assertTrue(gauge.values().isEmpty());
+        histogram.record(SchedulerStats.WaitTimeHistogram.BATCH_SIZE);
+        Assert.assertEquals(gauge.values().size(), SchedulerStats.WaitTimeHistogram.BATCH_SIZE);
+        Assert.assertEquals(gauge.values().get(0), 1E-9, 1E-12);
+
+        // A batch recorded on another thread is published separately.
+        histogram.record(TimeUnit.SECONDS.toNanos(2));
+        Thread thread = new Thread(() -> {
+            histogram.record(TimeUnit.SECONDS.toNanos(3));
+            histogram.flush();
+        });
+        thread.start();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Assert.assertEquals(gauge.values().size(), SchedulerStats.WaitTimeHistogram.BATCH_SIZE + 1);
+        Assert.assertEquals(gauge.values().get(SchedulerStats.WaitTimeHistogram.BATCH_SIZE), 3D, 0);
+        histogram.flush();
+        Assert.assertEquals(gauge.values().get(SchedulerStats.WaitTimeHistogram.BATCH_SIZE + 1), 2D, 0);
+    }
+
+    /**
+     * Gauge keeping all the values set.
+     */
+    private static class RecordingGauge extends AbstractMetric implements Gauge {
+
+        private final List<Double> values = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingGauge(String name) {
+            super(new MetricId(name, "", Collections.emptySet()));
+        }
+
+        List<Double> values() {
+            synchronized (values) {
+                return new ArrayList<>(values);
+            }
+        }
+
+        @Override
+        public void increment(double amount) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void decrement(double amount) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setValue(double value) {
+            values.add(value);
+        }
+
+        @Override
+        public double getValue() {
+            return values.isEmpty() ? 0 : values.get(values.size() - 1);
+        }
+
+        @Override
+        public long getCount() {
+            return values.size();
+        }
+
+        @Override
+        public double getSum() {
+            return values().stream().mapToDouble(Double::doubleValue).sum();
+        }
+
+        @Override
+        public Snapshot[] getSnapshots() {
+            return new Snapshot[0];
+        }
+
+        @Override
+        public StatisticConfig[] getStatisticsConfig() {
+            return new StatisticConfig[0];
+        }
+    }
+}
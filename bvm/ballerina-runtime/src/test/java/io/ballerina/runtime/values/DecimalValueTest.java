@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.values;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+
+/**
+ * Tests that the arithmetic on the compact form of {@link DecimalValue} gives the same values as the arithmetic on
+ * {@link BigDecimal} with {@link MathContext#DECIMAL128}.
+ *
+ * @since 2.0.0
+ */
+public class DecimalValueTest {
+
+    private static final long MAX_COMPACT = 999_999_999_999_999_999L;
+    private static final long[] BOUNDARY_UNSCALED_VALUES = {1, 9, 10, MAX_COMPACT / 10, MAX_COMPACT,
+            MAX_COMPACT + 1, Long.MAX_VALUE, -1, -MAX_COMPACT, -MAX_COMPACT - 1, Long.MIN_VALUE + 1, Long.MIN_VALUE};
+    private static final int[] BOUNDARY_SCALES = {-19, -18, -1, 0, 1, 17, 18, 19, 36};
+    private static final int RANDOM_PAIRS = 100_000;
+
+    @Test(description = "Arithmetic on decimals at the boundaries of the compact form")
+    public void testBoundaries() {
+        List<BigDecimal> values = new ArrayList<>();
+        for (long unscaledValue : BOUNDARY_UNSCALED_VALUES) {
+            for (int scale : BOUNDARY_SCALES) {
+                values.add(BigDecimal.valueOf(unscaledValue, scale));
+            }
+        }
+        for (BigDecimal x : values) {
+            assertNegate(x);
+            for (BigDecimal y : values) {
+                assertArithmetic(x, y);
+            }
+        }
+    }
+
+    @Test(description = "Arithmetic on random decimals, which are compact or not")
+    public void testRandomValues() {
+        Random random = new Random(45);
+        for (int i = 0; i < RANDOM_PAIRS; i++) {
+            BigDecimal x = randomDecimal(random);
+            BigDecimal y = randomDecimal(random);
+            assertNegate(x);
+            assertArithmetic(x, y);
+        }
+    }
+
+    @Test(description = "The hash code of a decimal is that of its BigDecimal, and equal decimals are equal")
+    public void testHashCodeAndEquality() {
+        for (long unscaledValue : BOUNDARY_UNSCALED_VALUES) {
+            for (int scale : BOUNDARY_SCALES) {
+                BigDecimal expected = BigDecimal.valueOf(unscaledValue, scale);
+                DecimalValue fromBigDecimal = new DecimalValue(expected);
+                DecimalValue fromString = new DecimalValue(expected.toString());
+                Assert.assertEquals(fromBigDecimal.hashCode(), expected.hashCode(), expected.toString());
+                Assert.assertEquals(fromString.hashCode(), expected.hashCode(), expected.toString());
+                Assert.assertEquals(fromBigDecimal, fromString);
+                // The BigDecimal of a compact sum is created only when it is needed.
+                BigDecimal one = BigDecimal.valueOf(1, Math.max(0, Math.min(scale, 18)));
+                DecimalValue sum = fromBigDecimal.add(new DecimalValue(one));
+                BigDecimal expectedSum = expected.add(one, MathContext.DECIMAL128);
+                Assert.assertEquals(sum.hashCode(), expectedSum.hashCode(), expectedSum.toString());
+                Assert.assertEquals(sum.decimalValue(), expectedSum);
+            }
+        }
+        Assert.assertEquals(new DecimalValue("1.0"), new DecimalValue("1.00"));
+        Assert.assertNotEquals(new DecimalValue("1.0"), new DecimalValue("1.01"));
+    }
+
+    private static BigDecimal randomDecimal(Random random) {
+        BigInteger unscaledValue;
+        switch (random.nextInt(4)) {
+            case 0:
+                // Up to the maximum compact precision.
+                unscaledValue = BigInteger.valueOf(random.nextLong() % (MAX_COMPACT + 1));
+                break;
+            case 1:
+                // Few digits, so that products and exact quotients stay compact.
+                unscaledValue = BigInteger.valueOf(random.nextInt(20001) - 10000);
+                break;
+            case 2:
+                unscaledValue = BigInteger.valueOf(BOUNDARY_UNSCALED_VALUES[random.nextInt(
+                        BOUNDARY_UNSCALED_VALUES.length)] / (random.nextBoolean() ? 1 : random.nextInt(1000) + 1));
+                break;
+            default:
+                // Beyond the range of a long, up to the precision of DECIMAL128.
+                unscaledValue = new BigInteger(random.nextInt(112 - 63) + 64, random);
+                unscaledValue = random.nextBoolean() ? unscaledValue : unscaledValue.negate();
+                break;
+        }
+        if (unscaledValue.signum() == 0) {
+            unscaledValue = BigInteger.ONE;
+        }
+        int scale = random.nextBoolean() ? random.nextInt(19) : random.nextInt(60) - 30;
+        return new BigDecimal(unscaledValue, scale);
+    }
+
+    private static void assertArithmetic(BigDecimal x, BigDecimal y) {
+        assertBinaryOperation("+", x, y, DecimalValue::add, (a, b) -> a.add(b, MathContext.DECIMAL128));
+        assertBinaryOperation("-", x, y, DecimalValue::subtract, (a, b) -> a.subtract(b, MathContext.DECIMAL128));
+        assertBinaryOperation("*", x, y, DecimalValue::multiply, (a, b) -> a.multiply(b, MathContext.DECIMAL128));
+        assertBinaryOperation("/", x, y, DecimalValue::divide, (a, b) -> a.divide(b, MathContext.DECIMAL128));
+    }
+
+    private static void assertBinaryOperation(String operator, BigDecimal x, BigDecimal y,
+                                              BinaryOperator<DecimalValue> operation,
+                                              BinaryOperator<BigDecimal> expectedOperation) {
+        String expression = x + " " + operator + " " + y;
+        // Decimals of the same value are created both from BigDecimals and from strings.
+        DecimalValue result = operation.apply(new DecimalValue(x), new DecimalValue(y.toString()));
+        assertDecimal(result, expectedOperation.apply(x, y), expression);
+    }
+
+    private static void assertNegate(BigDecimal x) {
+        assertDecimal(new DecimalValue(x).negate(), x.negate(), "-" + x);
+    }
+
+    private static void assertDecimal(DecimalValue actual, BigDecimal expected, String expression) {
+        DecimalValue expectedValue = new DecimalValue(expected);
+        // BigDecimal.equals compares the scales as well.
+        Assert.assertEquals(actual.decimalValue(), expected, expression);
+        Assert.assertEquals(actual.stringValue(null), expectedValue.stringValue(null), expression);
+        Assert.assertEquals(actual.getValueKind(), expectedValue.getValueKind(), expression);
+        Assert.assertEquals(actual.hashCode(), expected.hashCode(), expression);
+        Assert.assertEquals(actual, expectedValue, expression);
+        Assert.assertEquals(expectedValue, actual, expression);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.values;
+
+import io.ballerina.runtime.api.StringUtils;
+import org.ballerinalang.config.ConfigRegistry;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static io.ballerina.runtime.util.BLangConstants.MODULE_INIT_CLASS_NAME;
+import static io.ballerina.runtime.util.BLangConstants.START_FUNCTION_SUFFIX;
+
+/**
+ * Tests the stack traces of {@link ErrorValue}, which are not recorded when errors are configured to be stackless,
+ * and are filtered to the Ballerina frames once.
+ *
+ * @since 2.0.0
+ */
+public class ErrorValueTest {
+
+    private final ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+
+    @BeforeMethod
+    public void setup() {
+        configRegistry.resetRegistry();
+        configRegistry.setInitialized(false);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        configRegistry.resetRegistry();
+        configRegistry.setInitialized(false);
+    }
+
+    @Test(description = "The stack trace of an error is recorded only if errors are not configured to be stackless")
+    public void testStacklessErrors() {
+        configRegistry.setInitialized(true);
+        Assert.assertNotEquals(createError().getJvmStackTrace().length, 0);
+
+        configRegistry.addConfiguration(ErrorValue.CONFIG_ERROR_STACKLESS, true);
+        ErrorValue stacklessError = createError();
+        Assert.assertEquals(stacklessError.getJvmStackTrace().length, 0);
+        Assert.assertEquals(stacklessError.getStackTrace().length, 0);
+
+        configRegistry.addConfiguration(ErrorValue.CONFIG_ERROR_STACKLESS, false);
+        Assert.assertNotEquals(createError().getJvmStackTrace().length, 0);
+    }
+
+    @Test(description = "The configuration read before the configurations are loaded is not kept afterwards")
+    public void testStacklessBeforeInitialization() {
+        Assert.assertFalse(configRegistry.isInitialized());
+        Assert.assertNotEquals(createError().getJvmStackTrace().length, 0);
+
+        // Loading the configurations replaces the configurations read while the registry was not initialized.
+        configRegistry.addConfiguration(ErrorValue.CONFIG_ERROR_STACKLESS, true);
+        configRegistry.setInitialized(true);
+        Assert.assertEquals(createError().getJvmStackTrace().length, 0);
+
+        configRegistry.resetRegistry();
+        configRegistry.setInitialized(false);
+        Assert.assertNotEquals(createError().getJvmStackTrace().length, 0);
+    }
+
+    @Test(description = "The filtered stack trace is computed once, and holds the frames it held when it was " +
+            "filtered on every call")
+    public void testFilteredStackTrace() {
+        ErrorValue error = createError();
+        error.setStackTrace(new StackTraceElement[]{
+                // The init function at the top of the stack is the frame which created the error.
+                new StackTraceElement(MODULE_INIT_CLASS_NAME, "___init_", "main.bal", 4),
+                new StackTraceElement("foo.bar.main", "validate", "main.bal", 12),
+                new StackTraceElement("io.ballerina.runtime.Scheduler", "schedule", "Scheduler.java", 120),
+                new StackTraceElement("foo.bar.$value$Person", "getName", "person.bal", 30),
+                new StackTraceElement("foo.bar.main", "$lambda$0", "main.bal", -1),
+                new StackTraceElement("foo.bar.main", "callExtern", null, 7),
+                new StackTraceElement(MODULE_INIT_CLASS_NAME, "$moduleInit", "main.bal", 1),
+                new StackTraceElement(MODULE_INIT_CLASS_NAME, "___start_", "main.bal", 2)});
+        StackTraceElement[] expected = {
+                new StackTraceElement("foo.bar.main", "validate", "main.bal", 12),
+                new StackTraceElement("foo.bar.Person", "getName", "person.bal", 30),
+                new StackTraceElement("foo.bar.main", "callExtern", null, 7),
+                new StackTraceElement(MODULE_INIT_CLASS_NAME, START_FUNCTION_SUFFIX, "main.bal", 2)};
+
+        StackTraceElement[] stackTrace = error.getStackTrace();
+        Assert.assertEquals(stackTrace, expected);
+        // Each call returns a copy of the cached stack trace, which the caller may change.
+        stackTrace[0] = null;
+        StackTraceElement[] cachedStackTrace = error.getStackTrace();
+        Assert.assertNotSame(cachedStackTrace, stackTrace);
+        Assert.assertEquals(cachedStackTrace, expected);
+
+        // Setting the stack trace again discards the cached stack trace.
+        error.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("foo.bar.main", "$lambda$0", "main.bal", -1),
+                new StackTraceElement("foo.bar.main", "main", "main.bal", 3)});
+        Assert.assertEquals(error.getStackTrace(),
+                            new StackTraceElement[]{new StackTraceElement("foo.bar.main", "main", "main.bal", 3)});
+    }
+
+    private static ErrorValue createError() {
+        return new ErrorValue(StringUtils.fromString("error"), null);
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.values;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.types.BMapType;
+import io.ballerina.runtime.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tests for the readonly maps backed by persistent structures in {@link PersistentMapValue}.
+ *
+ * @since 2.0.0
+ */
+public class PersistentMapValueTest {
+
+    private static final Type READONLY_INT_MAP = new BMapType(PredefinedTypes.TYPE_INT, true);
+    // Strings built from these blocks have the same hash code, hence they end up in collision nodes.
+    private static final String[] COLLIDING_BLOCKS = {"Aa", "BB"};
+
+    @Test(description = "Frozen copies of large maps are persistent, while small ones stay hash tables")
+    public void testFrozenCopy() {
+        for (int size : new int[]{0, 1, PersistentMapValue.MIN_SIZE - 1, PersistentMapValue.MIN_SIZE, 33, 1057,
+                33 * 1024 + 1}) {
+            LinkedHashMap<BString, Object> expected = new LinkedHashMap<>();
+            MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_INT));
+            for (long i = 0; i < size; i++) {
+                expected.put(key("k" + i), i);
+                map.put(key("k" + i), i);
+            }
+            MapValueImpl<BString, Object> frozenCopy = frozenCopy(map);
+            Assert.assertEquals(frozenCopy instanceof PersistentMapValue, size >= PersistentMapValue.MIN_SIZE);
+            Assert.assertTrue(frozenCopy.isFrozen());
+            assertMembers(frozenCopy, expected);
+            Assert.assertEquals(frozenCopy, map);
+            Assert.assertSame(frozenCopy(frozenCopy), frozenCopy);
+        }
+    }
+
+    @Test(description = "A variant of a persistent map shares its structure, and leaves the original map unchanged")
+    public void testSpreadVariant() {
+        MapValueImpl<BString, Object> snapshot = snapshot(100);
+        LinkedHashMap<BString, Object> expected = new LinkedHashMap<>(snapshot);
+
+        MapValueImpl<BString, Object> variant = PersistentMapValue.create(READONLY_INT_MAP, new BMapInitialValueEntry[]{
+                new MappingInitialValueEntry.SpreadFieldEntry(snapshot),
+                new MappingInitialValueEntry.KeyValueEntry(key("k50"), -50L),
+                new MappingInitialValueEntry.KeyValueEntry(key("new"), -1L)});
+        Assert.assertTrue(variant instanceof PersistentMapValue);
+        Assert.assertSame(variant.getType(), READONLY_INT_MAP);
+
+        // A replaced member keeps its position, while a new member is added last.
+        LinkedHashMap<BString, Object> expectedVariant = new LinkedHashMap<>(expected);
+        expectedVariant.put(key("k50"), -50L);
+        expectedVariant.put(key("new"), -1L);
+        assertMembers(variant, expectedVariant);
+        assertMembers(snapshot, expected);
+    }
+
+    @Test(description = "Versions derived from each other hold the same members as hash tables updated alike")
+    public void testRandomVersions() {
+        Random random = new Random(42);
+        List<BString> keys = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            keys.add(key("k" + i));
+        }
+        keys.addAll(collidingKeys(4));
+
+        List<MapValueImpl<BString, Object>> versions = new ArrayList<>();
+        List<Map<BString, Object>> expectedVersions = new ArrayList<>();
+        MapValueImpl<BString, Object> version = snapshot(PersistentMapValue.MIN_SIZE);
+        versions.add(version);
+        expectedVersions.add(new LinkedHashMap<>(version));
+        for (int i = 0; i < 500; i++) {
+            int base = random.nextInt(versions.size());
+            LinkedHashMap<BString, Object> expected = new LinkedHashMap<>(expectedVersions.get(base));
+            BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[1 + random.nextInt(8)];
+            initialValues[0] = new MappingInitialValueEntry.SpreadFieldEntry(versions.get(base));
+            for (int j = 1; j < initialValues.length; j++) {
+                BString key = keys.get(random.nextInt(keys.size()));
+                long value = random.nextLong();
+                initialValues[j] = new MappingInitialValueEntry.KeyValueEntry(key, value);
+                expected.put(key, value);
+            }
+            versions.add(PersistentMapValue.create(READONLY_INT_MAP, initialValues));
+            expectedVersions.add(expected);
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            Assert.assertTrue(versions.get(i) instanceof PersistentMapValue);
+            assertMembers(versions.get(i), expectedVersions.get(i));
+        }
+    }
+
+    @Test(description = "Keys with the same hash code are found in a persistent map")
+    public void testCollidingKeys() {
+        List<BString> keys = collidingKeys(6);
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_INT));
+        LinkedHashMap<BString, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i += 2) {
+            map.put(keys.get(i), (long) i);
+            expected.put(keys.get(i), (long) i);
+        }
+        MapValueImpl<BString, Object> frozenCopy = frozenCopy(map);
+        Assert.assertTrue(frozenCopy instanceof PersistentMapValue);
+        assertMembers(frozenCopy, expected);
+        for (int i = 1; i < keys.size(); i += 2) {
+            Assert.assertFalse(frozenCopy.containsKey(keys.get(i)));
+        }
+
+        BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[keys.size() / 2 + 1];
+        initialValues[0] = new MappingInitialValueEntry.SpreadFieldEntry(frozenCopy);
+        for (int i = 1; i < keys.size(); i += 2) {
+            initialValues[i / 2 + 1] = new MappingInitialValueEntry.KeyValueEntry(keys.get(i), (long) i);
+            expected.put(keys.get(i), (long) i);
+        }
+        assertMembers(PersistentMapValue.create(READONLY_INT_MAP, initialValues), expected);
+    }
+
+    @Test(description = "A persistent map cannot be updated")
+    public void testInvalidUpdate() {
+        MapValueImpl<BString, Object> snapshot = snapshot(PersistentMapValue.MIN_SIZE);
+        Assert.expectThrows(BError.class, () -> snapshot.put(key("k0"), 1L));
+        Assert.expectThrows(RuntimeException.class, () -> snapshot.remove(key("k0")));
+        Assert.expectThrows(RuntimeException.class, snapshot::clear);
+        Assert.expectThrows(RuntimeException.class, () -> snapshot.putIfAbsent(key("new"), 1L));
+        Assert.assertEquals(snapshot.size(), PersistentMapValue.MIN_SIZE);
+        Assert.assertEquals(snapshot.get(key("k0")), 0L);
+    }
+
+    @Test(description = "Members of a spread map which do not belong to the constraint of the new map are rejected")
+    public void testSpreadOutsideConstraint() {
+        BMapType mapType = new BMapType(new BUnionType(Arrays.asList(PredefinedTypes.TYPE_INT,
+                                                                     PredefinedTypes.TYPE_STRING)));
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(mapType);
+        for (long i = 0; i < PersistentMapValue.MIN_SIZE; i++) {
+            map.put(key("k" + i), i);
+        }
+        MapValueImpl<BString, Object> intSnapshot = frozenCopy(map);
+        MapValueImpl<BString, Object> intVariant = PersistentMapValue.create(READONLY_INT_MAP,
+                new BMapInitialValueEntry[]{new MappingInitialValueEntry.SpreadFieldEntry(intSnapshot)});
+        assertMembers(intVariant, new LinkedHashMap<>(intSnapshot));
+
+        map.put(key("string"), key("value"));
+        MapValueImpl<BString, Object> snapshot = frozenCopy(map);
+        Assert.expectThrows(BError.class, () -> PersistentMapValue.create(READONLY_INT_MAP,
+                new BMapInitialValueEntry[]{new MappingInitialValueEntry.SpreadFieldEntry(snapshot)}));
+    }
+
+    private static MapValueImpl<BString, Object> snapshot(int size) {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_INT));
+        for (long i = 0; i < size; i++) {
+            map.put(key("k" + i), i);
+        }
+        return frozenCopy(map);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MapValueImpl<BString, Object> frozenCopy(MapValueImpl<BString, Object> map) {
+        return (MapValueImpl<BString, Object>) map.frozenCopy(new HashMap<>());
+    }
+
+    private static List<BString> collidingKeys(int blocks) {
+        List<BString> keys = new ArrayList<>();
+        for (int i = 0; i < 1 << blocks; i++) {
+            StringBuilder key = new StringBuilder();
+            for (int j = 0; j < blocks; j++) {
+                key.append(COLLIDING_BLOCKS[(i >>> j) & 1]);
+            }
+            keys.add(key(key.toString()));
+        }
+        return keys;
+    }
+
+    private static BString key(String key) {
+        return StringUtils.fromString(key);
+    }
+
+    private static void assertMembers(MapValueImpl<BString, Object> map, Map<BString, Object> expected) {
+        Assert.assertEquals(map.size(), expected.size());
+        Assert.assertEquals(new ArrayList<>(map.entrySet()), new ArrayList<>(expected.entrySet()));
+        Assert.assertEquals(Arrays.asList(map.getKeys()), new ArrayList<>(expected.keySet()));
+        Assert.assertEquals(new ArrayList<>(map.values()), new ArrayList<>(expected.values()));
+        for (Map.Entry<BString, Object> entry : expected.entrySet()) {
+            Assert.assertTrue(map.containsKey(entry.getKey()));
+            Assert.assertEquals(map.get(entry.getKey()), entry.getValue());
+        }
+        Assert.assertFalse(map.containsKey(key("missing")));
+        Assert.assertNull(map.get(key("missing")));
+
+        IteratorValue iterator = map.getIterator();
+        for (Map.Entry<BString, Object> entry : expected.entrySet()) {
+            Assert.assertTrue(iterator.hasNext());
+            TupleValueImpl next = (TupleValueImpl) iterator.next();
+            Assert.assertEquals(next.get(0), entry.getKey());
+            Assert.assertEquals(next.get(1), entry.getValue());
+        }
+        Assert.assertFalse(iterator.hasNext());
+    }
+}
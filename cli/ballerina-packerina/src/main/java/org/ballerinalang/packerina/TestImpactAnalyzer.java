@@ -0,0 +1,276 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.packerina;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
+
+/**
+ * Decides whether the tests of a module are affected by the changes made since their last successful run. The tests
+ * of a module are identified by a fingerprint of the code they can execute, i.e. the classes in their class path, along
+ * with the files of the module such as the test resources, the arguments of the tests, and the configuration of the
+ * project, i.e. the Ballerina.toml and ballerina.conf files in the project root, the configuration file given in the
+ * arguments, and the files they refer to. The fingerprint of the last successful run of each module is kept in the
+ * target directory.
+ *
+ * @since 2.0.0
+ */
+public class TestImpactAnalyzer {
+
+    private static final String FINGERPRINT_FILE_EXT = ".fingerprint";
+    private static final String CONFIG_FILE_NAME = "ballerina.conf";
+    private static final String CONFIG_FILE_ARG = "--b7a.config.file=";
+    // Quoted values in the configuration files, some of which are paths of the files used by the tests, such as key
+    // stores and platform libraries.
+    private static final Pattern QUOTED_VALUE = Pattern.compile("\"([^\"\\r\\n]+)\"|'([^'\\r\\n]+)'");
+
+    private final Path sourceRoot;
+    private final Path targetDir;
+    private final Path fingerprintDir;
+    // Digests of the jars in the class path, which are shared by the tests of different modules.
+    private final Map<Path, String> jarDigests = new HashMap<>();
+
+    public TestImpactAnalyzer(Path sourceRoot, Path targetDir) {
+        this.sourceRoot = sourceRoot;
+        this.targetDir = targetDir.toAbsolutePath().normalize();
+        this.fingerprintDir = targetDir.resolve(ProjectDirConstants.TEST_IMPACT_DIR_NAME);
+    }
+
+    /**
+     * Computes the fingerprint of the tests of a module.
+     *
+     * @param moduleID         ID of the module
+     * @param testDependencies class path of the tests
+     * @param args             arguments of the tests
+     * @return fingerprint of the tests
+     */
+    public String getFingerprint(PackageID moduleID, Set<Path> testDependencies, String[] args) {
+        MessageDigest digest = createDigest();
+        try {
+            for (String arg : args) {
+                update(digest, arg);
+            }
+            List<Path> jars = testDependencies.stream()
+                    .sorted(Comparator.comparing(Path::toString))
+                    .collect(Collectors.toList());
+            for (Path jar : jars) {
+                update(digest, jar.toString());
+                update(digest, getJarDigest(jar));
+            }
+            for (Path file : getModuleFiles(moduleID)) {
+                update(digest, sourceRoot.relativize(file).toString());
+                digest.update(Files.readAllBytes(file));
+            }
+            for (Path file : getConfigurationFiles(args)) {
+                update(digest, file.toString());
+                if (file.toString().endsWith(ProjectDirConstants.BLANG_COMPILED_JAR_EXT)) {
+                    update(digest, getJarDigest(file));
+                } else {
+                    digest.update(Files.readAllBytes(file));
+                }
+            }
+        } catch (IOException e) {
+            throw createLauncherException("error while analyzing the changes affecting the tests of '" + moduleID +
+                    "': " + e.getMessage());
+        }
+        return toHex(digest);
+    }
+
+    /**
+     * Checks whether the tests of a module are affected by the changes made since their last successful run.
+     *
+     * @param moduleID    ID of the module
+     * @param fingerprint current fingerprint of the tests
+     * @return true if the tests have not succeeded with the given fingerprint
+     */
+    public boolean isAffected(PackageID moduleID, String fingerprint) {
+        Path fingerprintFile = getFingerprintFile(moduleID);
+        try {
+            return !Files.exists(fingerprintFile) ||
+                    !fingerprint.equals(new String(Files.readAllBytes(fingerprintFile), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Records a successful run of the tests of a module.
+     *
+     * @param moduleID    ID of the module
+     * @param fingerprint fingerprint of the tests which succeeded
+     */
+    public void recordSuccess(PackageID moduleID, String fingerprint) {
+        Path fingerprintFile = getFingerprintFile(moduleID);
+        try {
+            Files.createDirectories(fingerprintDir);
+            Files.write(fingerprintFile, fingerprint.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw createLauncherException("error while recording the test results of '" + moduleID + "': " +
+                    e.getMessage());
+        }
+    }
+
+    private String getJarDigest(Path jar) throws IOException {
+        String jarDigest = jarDigests.get(jar);
+        if (jarDigest != null) {
+            return jarDigest;
+        }
+        if (!Files.exists(jar)) {
+            jarDigest = "";
+        } else if (jar.toAbsolutePath().normalize().startsWith(targetDir)) {
+            // Jars in the target directory are rewritten on each build, hence their entries are compared rather
+            // than the files.
+            jarDigest = getEntriesDigest(jar);
+        } else {
+            // The rest of the jars, such as the standard library and the platform libraries, rarely change and are
+            // identified by their size and modification time.
+            jarDigest = Files.size(jar) + ":" + Files.getLastModifiedTime(jar).toMillis();
+        }
+        jarDigests.put(jar, jarDigest);
+        return jarDigest;
+    }
+
+    private String getEntriesDigest(Path jar) throws IOException {
+        MessageDigest digest = createDigest();
+        byte[] buffer = new byte[8192];
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            List<? extends ZipEntry> entries = Collections.list(zipFile.entries());
+            entries.sort(Comparator.comparing(ZipEntry::getName));
+            for (ZipEntry entry : entries) {
+                update(digest, entry.getName());
+                try (InputStream inStream = zipFile.getInputStream(entry)) {
+                    int len;
+                    while ((len = inStream.read(buffer)) != -1) {
+                        digest.update(buffer, 0, len);
+                    }
+                }
+            }
+        }
+        return toHex(digest);
+    }
+
+    private List<Path> getModuleFiles(PackageID moduleID) throws IOException {
+        Path moduleDir = sourceRoot.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve(moduleID.name.value);
+        if (!Files.isDirectory(moduleDir)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.walk(moduleDir)) {
+            return paths.filter(Files::isRegularFile)
+                    .sorted(Comparator.comparing(Path::toString))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the configuration files of the project along with the files they refer to by relative or absolute
+     * paths, which exist.
+     *
+     * @param args arguments of the tests
+     * @return configuration files and the files they refer to, sorted by their paths
+     * @throws IOException if a configuration file cannot be read
+     */
+    private Set<Path> getConfigurationFiles(String[] args) throws IOException {
+        List<Path> configFiles = new ArrayList<>();
+        configFiles.add(sourceRoot.resolve(ProjectDirConstants.MANIFEST_FILE_NAME));
+        configFiles.add(sourceRoot.resolve(CONFIG_FILE_NAME));
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_FILE_ARG)) {
+                configFiles.add(sourceRoot.resolve(arg.substring(CONFIG_FILE_ARG.length())));
+            }
+        }
+
+        Set<Path> files = new TreeSet<>(Comparator.comparing(Path::toString));
+        for (Path configFile : configFiles) {
+            if (!Files.isRegularFile(configFile)) {
+                continue;
+            }
+            files.add(configFile.toAbsolutePath().normalize());
+            Path configDir = configFile.toAbsolutePath().getParent();
+            Matcher matcher = QUOTED_VALUE.matcher(new String(Files.readAllBytes(configFile), StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                String value = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+                addReferencedFile(files, sourceRoot, value);
+                if (configDir != null) {
+                    addReferencedFile(files, configDir, value);
+                }
+            }
+        }
+        return files;
+    }
+
+    private static void addReferencedFile(Set<Path> files, Path baseDir, String value) {
+        Path file;
+        try {
+            file = baseDir.resolve(value).toAbsolutePath().normalize();
+        } catch (InvalidPathException e) {
+            // The value is not a path.
+            return;
+        }
+        if (Files.isRegularFile(file)) {
+            files.add(file);
+        }
+    }
+
+    private Path getFingerprintFile(PackageID moduleID) {
+        return fingerprintDir.resolve(moduleID.orgName.value + "-" + moduleID.name.value + FINGERPRINT_FILE_EXT);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw createLauncherException("error while analyzing the changes affecting the tests: " + e.getMessage());
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // Separates the consecutive values, so that different values do not produce the same digest.
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(MessageDigest digest) {
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+}
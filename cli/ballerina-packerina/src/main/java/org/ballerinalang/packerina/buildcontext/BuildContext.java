@@ -292,6 +292,11 @@ public class BuildContext extends HashMap<BuildContextField, Object> {
                                                              RepoUtils.getBallerinaVersion());
     }
 
+    public Path getExecutableLayerCacheFromHome() {
+        return RepoUtils.createAndGetHomeReposPath().resolve(ProjectDirConstants.EXECUTABLE_LAYER_CACHE_DIR_NAME +
+                                                             "-" + RepoUtils.getBallerinaVersion());
+    }
+
     public Path getBaloCacheFromHome() {
         return RepoUtils.createAndGetHomeReposPath().resolve(ProjectDirConstants.BALO_CACHE_DIR_NAME);
     }
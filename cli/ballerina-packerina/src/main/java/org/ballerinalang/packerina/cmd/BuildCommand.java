@@ -57,6 +57,7 @@ import java.util.HashMap;
 import java.util.List;
 
 import static io.ballerina.runtime.util.RuntimeConstants.SYSTEM_PROP_BAL_DEBUG;
+import static org.ballerinalang.compiler.CompilerOptionName.CODE_GEN_CACHE_DIR;
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
@@ -64,11 +65,14 @@ import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURE
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
 import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROFILE_COMPILER;
 import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.compiler.CompilerOptionName.TEST_ENABLED;
 import static org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType.SINGLE_BAL_FILE;
 import static org.ballerinalang.packerina.cmd.Constants.BUILD_COMMAND;
+import static org.ballerinalang.packerina.cmd.Constants.COMPILER_PROFILE_DIR_NAME;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.CODE_GEN_CACHE_DIR_NAME;
 
 /**
  * This class represents the "ballerina build" command.
@@ -151,6 +155,10 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir-file", hidden = true)
     private String dumpBIRFile;
 
+    @CommandLine.Option(names = "--profile-compiler", hidden = true,
+                        description = "Write the time and memory spent in each compiler phase to a report.")
+    private boolean profileCompiler;
+
     @CommandLine.Option(names = "--dump-llvm-ir", hidden = true)
     private boolean dumpLLVMIR;
 
@@ -182,6 +190,10 @@ public class BuildCommand implements BLauncherCmd {
             "JAR file(s).")
     private boolean observabilityIncluded;
 
+    @CommandLine.Option(names = "--layered", description = "Keep the dependencies of the executable JAR file(s) in " +
+            "a separate JAR file in the 'lib' directory next to them.")
+    private boolean layered;
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(BUILD_COMMAND);
@@ -410,6 +422,17 @@ public class BuildCommand implements BLauncherCmd {
         // output path is the current directory if -o flag is not given.
         Path outputPath = null == this.output ? Paths.get(System.getProperty("user.dir")) : Paths.get(this.output);
 
+        if (!isSingleFileBuild) {
+            // the code generated for the modules is cached in the target directory of the project across builds.
+            options.put(CODE_GEN_CACHE_DIR, targetPath.resolve(CODE_GEN_CACHE_DIR_NAME).toString());
+        }
+
+        if (this.profileCompiler) {
+            // the target directory of a single file build is temporary, hence the report is written to the output path.
+            Path profileDir = isSingleFileBuild ? outputPath : targetPath;
+            options.put(PROFILE_COMPILER, profileDir.resolve(COMPILER_PROFILE_DIR_NAME).toString());
+        }
+
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
                 .addTask(new CleanTargetDirTask(), isSingleFileBuild)   // clean the target directory(projects only)
                 .addTask(new CreateTargetDirTask()) // create target directory
@@ -424,7 +447,7 @@ public class BuildCommand implements BLauncherCmd {
                 .addTask(new CopyObservabilitySymbolsTask(), isSingleFileBuild)
                 .addTask(new RunTestsTask(testReport, coverage, args), this.skipTests || isSingleFileBuild) // run tests
                                                                                                 // (projects only)
-                .addTask(new CreateExecutableTask(), this.compile)  // create the executable.jar
+                .addTask(new CreateExecutableTask(this.layered), this.compile)  // create the executable.jar
                                                                                         // file
                 .addTask(new CopyExecutableTask(outputPath), !isSingleFileBuild)    // copy executable
                 .addTask(new PrintExecutablePathTask(), this.compile)   // print the location of the executable
@@ -37,6 +37,7 @@ public class Constants {
     static final String SEARCH_COMMAND = "search";
     static final String CLEAN_COMMAND = "clean";
     static final String UNINSTALL_COMMAND = "uninstall";
+    static final String COMPILER_PROFILE_DIR_NAME = "compiler-profile";
 
     //module name format : <org-name>/<module-name> | <org-name>/<module-name>:<version>
     //version format : 1, 1.*, 1.*.*
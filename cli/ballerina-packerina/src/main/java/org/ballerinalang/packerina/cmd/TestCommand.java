@@ -52,6 +52,7 @@ import java.util.HashMap;
 import java.util.List;
 
 import static io.ballerina.runtime.util.RuntimeConstants.SYSTEM_PROP_BAL_DEBUG;
+import static org.ballerinalang.compiler.CompilerOptionName.CODE_GEN_CACHE_DIR;
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
@@ -62,6 +63,7 @@ import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.compiler.CompilerOptionName.TEST_ENABLED;
 import static org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType.SINGLE_BAL_FILE;
 import static org.ballerinalang.packerina.cmd.Constants.TEST_COMMAND;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.CODE_GEN_CACHE_DIR_NAME;
 
 /**
  * Compile Ballerina modules in to balo.
@@ -160,6 +162,13 @@ public class TestCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--rerun-failed", description = "Rerun failed tests.")
     private boolean rerunTests;
 
+    @CommandLine.Option(names = "--parallelism", description = "Maximum number of tests to be executed in parallel.")
+    private int parallelism = 1;
+
+    @CommandLine.Option(names = "--affected-tests", description = "Execute only the tests of the modules affected by " +
+            "the changes made since their last successful run.")
+    private boolean affectedTests;
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(TEST_COMMAND);
@@ -410,6 +419,11 @@ public class TestCommand implements BLauncherCmd {
         buildContext.setErr(errStream);
 
         boolean isSingleFileBuild = buildContext.getSourceType().equals(SINGLE_BAL_FILE);
+        if (!isSingleFileBuild) {
+            // the code generated for the modules is cached in the target directory of the project across builds.
+            options.put(CODE_GEN_CACHE_DIR, targetPath.resolve(CODE_GEN_CACHE_DIR_NAME).toString());
+        }
+
         // output path is the current directory if -o flag is not given.
 
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
@@ -427,7 +441,7 @@ public class TestCommand implements BLauncherCmd {
                 .addTask(new ListTestGroupsTask(), !listGroups) // list the available test groups
                 // run tests
                 .addTask(new RunTestsTask(testReport, coverage, rerunTests, args, groupList, disableGroupList,
-                                testList), listGroups)
+                                testList, parallelism, affectedTests), listGroups)
                 .build();
 
         taskExecutor.executeTasks(buildContext);
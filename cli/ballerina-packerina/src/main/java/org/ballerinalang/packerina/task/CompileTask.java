@@ -27,10 +27,12 @@ import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContex
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType;
 import org.ballerinalang.packerina.model.DependencyJar;
 import org.wso2.ballerinalang.compiler.Compiler;
+import org.wso2.ballerinalang.compiler.CompilerProfiler;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
@@ -48,26 +50,10 @@ public class CompileTask implements Task {
         Compiler compiler = Compiler.getInstance(context);
         compiler.setOutStream(buildContext.out());
         compiler.setErrorStream(buildContext.err());
-        if (buildContext.getSourceType() == SourceType.SINGLE_BAL_FILE) {
-            SingleFileContext singleFileContext = buildContext.get(BuildContextField.SOURCE_CONTEXT);
-            Path balFile = singleFileContext.getBalFile().getFileName();
-            if (null != balFile) {
-                BLangPackage compiledModule = compiler.build(balFile.toString());
-                singleFileContext.setModule(compiledModule);
-            } else {
-                throw createLauncherException("unable to find ballerina source");
-            }
-        } else if (buildContext.getSourceType() == SourceType.SINGLE_MODULE) {
-            SingleModuleContext moduleContext = buildContext.get(BuildContextField.SOURCE_CONTEXT);
-            BLangPackage compiledModule = compiler.build(moduleContext.getModuleName());
-            moduleContext.setModule(compiledModule);
-        } else {
-            MultiModuleContext multiModuleContext = buildContext.get(BuildContextField.SOURCE_CONTEXT);
-            List<BLangPackage> compiledModules = compiler.compilePackages(true);
-            if (compiledModules.size() == 0) {
-                throw createLauncherException("no modules found to compile.");
-            }
-            multiModuleContext.setModules(compiledModules);
+        try {
+            compile(buildContext, compiler);
+        } finally {
+            writeCompilerProfile(buildContext, context);
         }
 
         // check if there are any build errors
@@ -93,4 +79,41 @@ public class CompileTask implements Task {
         // update build context.
         buildContext.put(BuildContextField.COMPILER_CONTEXT, context);
     }
+
+    private void compile(BuildContext buildContext, Compiler compiler) {
+        if (buildContext.getSourceType() == SourceType.SINGLE_BAL_FILE) {
+            SingleFileContext singleFileContext = buildContext.get(BuildContextField.SOURCE_CONTEXT);
+            Path balFile = singleFileContext.getBalFile().getFileName();
+            if (null != balFile) {
+                BLangPackage compiledModule = compiler.build(balFile.toString());
+                singleFileContext.setModule(compiledModule);
+            } else {
+                throw createLauncherException("unable to find ballerina source");
+            }
+        } else if (buildContext.getSourceType() == SourceType.SINGLE_MODULE) {
+            SingleModuleContext moduleContext = buildContext.get(BuildContextField.SOURCE_CONTEXT);
+            BLangPackage compiledModule = compiler.build(moduleContext.getModuleName());
+            moduleContext.setModule(compiledModule);
+        } else {
+            MultiModuleContext multiModuleContext = buildContext.get(BuildContextField.SOURCE_CONTEXT);
+            List<BLangPackage> compiledModules = compiler.compilePackages(true);
+            if (compiledModules.size() == 0) {
+                throw createLauncherException("no modules found to compile.");
+            }
+            multiModuleContext.setModules(compiledModules);
+        }
+    }
+
+    private void writeCompilerProfile(BuildContext buildContext, CompilerContext context) {
+        CompilerProfiler profiler = CompilerProfiler.getInstance(context);
+        if (!profiler.isEnabled()) {
+            return;
+        }
+        try {
+            Path reportFile = profiler.writeReport();
+            buildContext.out().println("Compiler profile written to " + reportFile.getParent());
+        } catch (IOException e) {
+            buildContext.err().println("warning: unable to write the compiler profile: " + e.getMessage());
+        }
+    }
 }
@@ -29,6 +29,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 
 import static org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType.SINGLE_BAL_FILE;
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
@@ -81,6 +84,7 @@ public class CopyExecutableTask implements Task {
                 
                 // copy the executable. replace the existing executable if exists.
                 Files.copy(executableFile, this.outputPath, StandardCopyOption.REPLACE_EXISTING);
+                copyClassPathJars(executableFile, this.outputPath);
                 
                 // update executable location and target dir
                 // this 'if' is to avoid spotbugs
@@ -97,4 +101,36 @@ public class CopyExecutableTask implements Task {
             throw createLauncherException("unable to copying executable: " + e.getMessage());
         }
     }
+
+    /**
+     * Copies the jars in the class path of the executable, such as the dependency layer of a layered executable,
+     * keeping their paths relative to the executable.
+     *
+     * @param executableFile Executable in the target directory.
+     * @param outputFile     Copied executable.
+     * @throws IOException If the jars cannot be copied.
+     */
+    private void copyClassPathJars(Path executableFile, Path outputFile) throws IOException {
+        Path executableDir = executableFile.toAbsolutePath().getParent();
+        Path outputDir = outputFile.toAbsolutePath().getParent();
+        if (null == executableDir || null == outputDir || executableDir.equals(outputDir)) {
+            return;
+        }
+        Manifest manifest;
+        try (JarFile executableJar = new JarFile(executableFile.toFile())) {
+            manifest = executableJar.getManifest();
+        }
+        String classPath = null == manifest ? null : manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+        if (null == classPath) {
+            return;
+        }
+        for (String jar : classPath.trim().split("\\s+")) {
+            Path outputJar = outputDir.resolve(jar);
+            Path outputJarDir = outputJar.getParent();
+            if (null != outputJarDir) {
+                Files.createDirectories(outputJarDir);
+            }
+            Files.copy(executableDir.resolve(jar), outputJar, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
 }
@@ -32,23 +32,72 @@ import org.wso2.ballerinalang.util.Lists;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.Closeable;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.EXECUTABLE_LIB_DIR_NAME;
 
 /**
- * Task for creating the executable jar file.
+ * Task for creating the executable jar file. The dependency jars which are not built into the target directory, such as
+ * the runtime, the standard library and the platform libraries, are merged into a dependency layer which is cached in
+ * the home repository by the paths, sizes and modification times of the dependency jars. Hence the subsequent builds
+ * only copy the module jars and the cached dependency layer into the executable.
+ * <p>
+ * A layered executable only contains the module jars, and refers to the dependency layer in the lib directory next to
+ * it, which is linked to the cached layer instead of being copied.
  */
 public class CreateExecutableTask implements Task {
 
     private static HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
+    // Number of the most recently used dependency layers kept in the home repository.
+    private static final int MAX_CACHED_DEPENDENCY_LAYERS = 5;
+    // Number of times a dependency layer is created if it is evicted by concurrent builds before it is locked.
+    private static final int MAX_DEPENDENCY_LAYER_ATTEMPTS = 3;
+
+    private final boolean layered;
+
+    public CreateExecutableTask() {
+        this(false);
+    }
+
+    /**
+     * Creates a task to create the executables.
+     *
+     * @param layered Whether the dependencies are kept in a jar in the lib directory next to the executables, instead
+     *                of being copied into them.
+     */
+    public CreateExecutableTask(boolean layered) {
+        this.layered = layered;
+    }
 
     @Override
     public void execute(BuildContext buildContext) {
@@ -65,12 +114,7 @@ public class CreateExecutableTask implements Task {
                     Path executablePath = buildContext.getExecutablePathFromTarget(module.packageID);
                     Path jarFromCachePath = buildContext.getJarPathFromTargetCache(module.packageID);
                     HashSet<Path> dependencies = new HashSet<>(jarResolver.allDependencies(module));
-                    try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(new BufferedOutputStream(
-                            new FileOutputStream(String.valueOf(executablePath))))) {
-                        assembleExecutable(jarFromCachePath, dependencies, outStream);
-                    } catch (IOException e) {
-                        throw createLauncherException("unable to extract the uber jar :" + e.getMessage());
-                    }
+                    assembleExecutable(buildContext, executablePath, jarFromCachePath, dependencies);
                 }
             }
         } else {
@@ -92,35 +136,231 @@ public class CreateExecutableTask implements Task {
         }
     }
 
-    private void assembleExecutable(Path jarFromCachePath, HashSet<Path> dependencySet,
-                                    ZipArchiveOutputStream outStream) {
+    private void assembleExecutable(BuildContext buildContext, Path executablePath, Path jarFromCachePath,
+                                    HashSet<Path> dependencySet) {
         try {
-            // Used to prevent adding duplicated entries during the final jar creation.
-            HashSet<String> entries = new HashSet<>();
-            // Used to process SPI related metadata entries separately. The reason is unlike the other entry types,
-            // service loader related information should be merged together in the final executable jar creation.
-            HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
-            // Copy executable thin jar and the dependency jars.
-            // Executable is created at given location.
-            // If no entry point is found, we do nothing.
-            copyJarToJar(outStream, jarFromCachePath.toString(), entries, serviceEntries);
+            // Jars built into the target directory change along with the project, hence only the rest of the
+            // dependencies are merged into the cached dependency layer.
+            Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
+            targetDir = targetDir.toAbsolutePath().normalize();
+            List<Path> moduleJars = new ArrayList<>();
+            List<Path> dependencyJars = new ArrayList<>();
             for (Path path : dependencySet) {
-                copyJarToJar(outStream, path.toString(), entries, serviceEntries);
+                if (path.toAbsolutePath().normalize().startsWith(targetDir)) {
+                    moduleJars.add(path);
+                } else {
+                    dependencyJars.add(path);
+                }
             }
-            // Copy merged spi services.
-            for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
-                String s = entry.getKey();
-                StringBuilder service = entry.getValue();
-                JarArchiveEntry e = new JarArchiveEntry(s);
-                outStream.putArchiveEntry(e);
-                outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
-                outStream.closeArchiveEntry();
+
+            // The layer is locked until the executable is created, so that concurrent builds do not evict it.
+            try (DependencyLayer dependencyLayer = getDependencyLayer(buildContext, dependencyJars);
+                 ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(new BufferedOutputStream(
+                         new FileOutputStream(String.valueOf(executablePath))))) {
+                // Used to prevent adding duplicated entries during the final jar creation.
+                HashSet<String> entries = new HashSet<>();
+                // Used to process SPI related metadata entries separately. The reason is unlike the other entry types,
+                // service loader related information should be merged together in the final executable jar creation.
+                HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
+                if (this.layered) {
+                    // Classes are loaded from the executable before the jars in its class path, hence the entries
+                    // of the executable take precedence over the duplicated entries of the layer as when copied.
+                    String layerName = linkDependencyLayer(dependencyLayer.path, executablePath);
+                    writeManifest(outStream, jarFromCachePath, EXECUTABLE_LIB_DIR_NAME + "/" + layerName, entries);
+                }
+                // Copy executable thin jar, the module jars and the dependency layer.
+                // Executable is created at given location.
+                // If no entry point is found, we do nothing.
+                copyJarToJar(outStream, jarFromCachePath.toString(), entries, serviceEntries);
+                for (Path path : moduleJars) {
+                    copyJarToJar(outStream, path.toString(), entries, serviceEntries);
+                }
+                if (!this.layered) {
+                    copyJarToJar(outStream, dependencyLayer.path.toString(), entries, serviceEntries);
+                }
+                writeServiceEntries(outStream, serviceEntries);
             }
         } catch (IOException | NullPointerException e) {
             throw createLauncherException("unable to create the executable: " + e.getMessage());
         }
     }
 
+    /**
+     * Returns the jar which merges the given dependency jars, creating it if it is not already cached. The returned
+     * layer is locked until it is closed.
+     *
+     * @param buildContext Build context.
+     * @param dependencies Dependency jars to be merged.
+     * @return Locked dependency layer.
+     * @throws IOException If the dependency layer creation is failed.
+     */
+    private DependencyLayer getDependencyLayer(BuildContext buildContext, List<Path> dependencies) throws IOException {
+        // The order decides which of the duplicated entries is copied, hence it should not change between builds.
+        dependencies.sort(Comparator.comparing(Path::toString));
+        Path layerCacheDir = buildContext.getExecutableLayerCacheFromHome();
+        Path layerPath = layerCacheDir.resolve(getLayerKey(dependencies) + BLANG_COMPILED_JAR_EXT);
+        Files.createDirectories(layerCacheDir);
+        for (int attempt = 0; attempt < MAX_DEPENDENCY_LAYER_ATTEMPTS; attempt++) {
+            DependencyLayer layer = DependencyLayer.lock(layerPath);
+            if (layer != null) {
+                // Mark the layer as recently used, so that it is not evicted.
+                Files.setLastModifiedTime(layerPath, FileTime.fromMillis(System.currentTimeMillis()));
+                return layer;
+            }
+            createDependencyLayer(layerCacheDir, layerPath, dependencies);
+            evictDependencyLayers(layerCacheDir, layerPath);
+        }
+        throw new IOException("dependency layer '" + layerPath + "' is evicted by concurrent builds");
+    }
+
+    private void createDependencyLayer(Path layerCacheDir, Path layerPath, List<Path> dependencies)
+            throws IOException {
+        // The layer is written to a temporary file first, so that a concurrent build never reads a partial layer.
+        Path tempLayerPath = Files.createTempFile(layerCacheDir, "layer-", ".tmp");
+        try {
+            try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(String.valueOf(tempLayerPath))))) {
+                HashSet<String> entries = new HashSet<>();
+                HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
+                for (Path path : dependencies) {
+                    copyJarToJar(outStream, path.toString(), entries, serviceEntries);
+                }
+                writeServiceEntries(outStream, serviceEntries);
+            }
+            Files.move(tempLayerPath, layerPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // The same layer is created by a concurrent build.
+        } finally {
+            Files.deleteIfExists(tempLayerPath);
+        }
+    }
+
+    /**
+     * Computes the key of the dependency layer merging the given jars. The jars are identified by their paths, sizes
+     * and modification times rather than their content, so that the key is computed without reading them.
+     *
+     * @param jars Jar files.
+     * @return Hex encoded digest of the jar paths, sizes and modification times.
+     * @throws IOException If the attributes of a jar file cannot be read.
+     */
+    private String getLayerKey(List<Path> jars) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw createLauncherException("unable to create the executable: " + e.getMessage());
+        }
+        for (Path jar : jars) {
+            BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+            String jarKey = jar.toAbsolutePath() + "|" + attributes.size() + "|" +
+                    attributes.lastModifiedTime().toMillis() + "\n";
+            digest.update(jarKey.getBytes(StandardCharsets.UTF_8));
+        }
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    /**
+     * Deletes the least recently used dependency layers, keeping {@link #MAX_CACHED_DEPENDENCY_LAYERS} layers. Layers
+     * which are locked by concurrent builds are kept.
+     *
+     * @param layerCacheDir Directory of the cached dependency layers.
+     * @param currentLayer  Layer used by this build, which is never evicted.
+     * @throws IOException If the cached layers cannot be listed.
+     */
+    private void evictDependencyLayers(Path layerCacheDir, Path currentLayer) throws IOException {
+        List<Path> layers;
+        try (Stream<Path> paths = Files.list(layerCacheDir)) {
+            layers = paths.filter(path -> path.toString().endsWith(BLANG_COMPILED_JAR_EXT))
+                    .filter(path -> !path.equals(currentLayer))
+                    .sorted(Comparator.comparingLong((Path path) -> path.toFile().lastModified()).reversed())
+                    .collect(Collectors.toList());
+        }
+        int keptLayers = MAX_CACHED_DEPENDENCY_LAYERS - 1;
+        for (Path layer : layers.subList(Math.min(layers.size(), keptLayers), layers.size())) {
+            try (FileChannel channel = FileChannel.open(layer, StandardOpenOption.WRITE)) {
+                // A layer which is in use by a concurrent build is locked, in which case it is evicted by a later
+                // build.
+                if (channel.tryLock() != null) {
+                    Files.deleteIfExists(layer);
+                }
+            } catch (IOException | OverlappingFileLockException e) {
+                // The layer is already deleted, or cannot be deleted while it is open.
+            }
+        }
+    }
+
+    /**
+     * Links the dependency layer into the lib directory next to the executable, copying it if it cannot be linked.
+     *
+     * @param layerPath      Path of the cached dependency layer.
+     * @param executablePath Path of the executable.
+     * @return File name of the dependency layer in the lib directory.
+     * @throws IOException If the dependency layer cannot be linked or copied.
+     */
+    private String linkDependencyLayer(Path layerPath, Path executablePath) throws IOException {
+        Path executableDir = executablePath.toAbsolutePath().getParent();
+        Path layerFileName = layerPath.getFileName();
+        if (executableDir == null || layerFileName == null) {
+            throw new IOException("invalid executable path '" + executablePath + "'");
+        }
+        Path libDir = executableDir.resolve(EXECUTABLE_LIB_DIR_NAME);
+        Files.createDirectories(libDir);
+        String layerName = layerFileName.toString();
+        Path libLayerPath = libDir.resolve(layerName);
+        // A layer with the same name merges the same dependency jars, hence it is kept as it is.
+        if (Files.notExists(libLayerPath)) {
+            try {
+                // A hard link keeps the layer even if it is evicted from the cache later.
+                Files.createLink(libLayerPath, layerPath);
+            } catch (FileAlreadyExistsException e) {
+                // The layer is linked by a concurrent build.
+            } catch (IOException | UnsupportedOperationException e) {
+                // The cache and the executable are in different file systems.
+                Files.copy(layerPath, libLayerPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        return layerName;
+    }
+
+    /**
+     * Writes the manifest of the thin jar, referring to the given class path.
+     *
+     * @param outStream   Output stream of the executable.
+     * @param thinJarPath Path of the thin jar of the module.
+     * @param classPath   Class path relative to the executable.
+     * @param entries     Entries set will be used to ignore duplicate files.
+     * @throws IOException If the manifest cannot be read or written.
+     */
+    private void writeManifest(ZipArchiveOutputStream outStream, Path thinJarPath, String classPath,
+                               HashSet<String> entries) throws IOException {
+        Manifest manifest;
+        try (JarFile thinJar = new JarFile(thinJarPath.toFile())) {
+            manifest = thinJar.getManifest();
+        }
+        if (manifest == null) {
+            manifest = new Manifest();
+            manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        }
+        manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath);
+        outStream.putArchiveEntry(new JarArchiveEntry(JarFile.MANIFEST_NAME));
+        manifest.write(outStream);
+        outStream.closeArchiveEntry();
+        entries.add(JarFile.MANIFEST_NAME);
+    }
+
+    private void writeServiceEntries(ZipArchiveOutputStream outStream, HashMap<String, StringBuilder> serviceEntries)
+            throws IOException {
+        // Copy merged spi services.
+        for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
+            String s = entry.getKey();
+            StringBuilder service = entry.getValue();
+            JarArchiveEntry e = new JarArchiveEntry(s);
+            outStream.putArchiveEntry(e);
+            outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
+            outStream.closeArchiveEntry();
+        }
+    }
+
     /**
      * Copies a given jar file into the executable fat jar.
      *
@@ -191,4 +431,53 @@ public class CreateExecutableTask implements Task {
                     "executable jar.\n" + e.getMessage());
         }
     }
+
+    /**
+     * A cached dependency layer, which holds a shared lock on the layer until it is closed. Layers are only evicted
+     * if they can be locked exclusively.
+     */
+    private static class DependencyLayer implements Closeable {
+
+        private final Path path;
+        private final FileChannel channel;
+
+        private DependencyLayer(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        /**
+         * Locks the given dependency layer.
+         *
+         * @param path Path of the dependency layer.
+         * @return Locked dependency layer, or null if the layer does not exist.
+         * @throws IOException If the layer cannot be locked.
+         */
+        static DependencyLayer lock(Path path) throws IOException {
+            FileChannel channel;
+            try {
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+            } catch (NoSuchFileException e) {
+                return null;
+            }
+            try {
+                channel.lock(0, Long.MAX_VALUE, true);
+                // The layer may have been evicted after it was opened, before it was locked.
+                if (Files.exists(path)) {
+                    return new DependencyLayer(path, channel);
+                }
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            channel.close();
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Closing the channel releases the lock.
+            channel.close();
+        }
+    }
 }
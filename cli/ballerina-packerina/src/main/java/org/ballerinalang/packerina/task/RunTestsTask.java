@@ -21,6 +21,7 @@ package org.ballerinalang.packerina.task;
 import com.google.gson.Gson;
 import org.ballerinalang.compiler.JarResolver;
 import org.ballerinalang.packerina.OsUtils;
+import org.ballerinalang.packerina.TestImpactAnalyzer;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleFileContext;
@@ -83,6 +84,9 @@ public class RunTestsTask implements Task {
     private boolean isSingleTestExecution;
     private boolean isRerunTestExection;
     private List<String> singleExecTests;
+    private int parallelism = 1;
+    private boolean affectedTestsOnly;
+    private boolean testsFiltered;
     TestReport testReport;
     private JarResolver jarResolver;
 
@@ -98,7 +102,22 @@ public class RunTestsTask implements Task {
     public RunTestsTask(boolean report, boolean coverage, boolean rerunTests, String[] args,
                         List<String> groupList,
                         List<String> disableGroupList,  List<String> testList) {
+        this(report, coverage, rerunTests, args, groupList, disableGroupList, testList, 1);
+    }
+
+    public RunTestsTask(boolean report, boolean coverage, boolean rerunTests, String[] args,
+                        List<String> groupList, List<String> disableGroupList, List<String> testList,
+                        int parallelism) {
+        this(report, coverage, rerunTests, args, groupList, disableGroupList, testList, parallelism, false);
+    }
+
+    public RunTestsTask(boolean report, boolean coverage, boolean rerunTests, String[] args,
+                        List<String> groupList, List<String> disableGroupList, List<String> testList,
+                        int parallelism, boolean affectedTestsOnly) {
         this.args = args;
+        this.affectedTestsOnly = affectedTestsOnly;
+        this.testsFiltered = rerunTests || groupList != null || disableGroupList != null || testList != null;
+        this.parallelism = parallelism;
         this.report = report;
         this.coverage = coverage;
         this.isSingleTestExecution = false;
@@ -145,6 +164,13 @@ public class RunTestsTask implements Task {
         Path sourceRootPath = buildContext.get(BuildContextField.SOURCE_ROOT);
         List<BLangPackage> moduleBirMap = buildContext.getModules();
 
+        // Only the successful runs of all the tests of a module are recorded, hence the modules are not skipped when
+        // the tests are filtered. The reports require the results of all the modules.
+        TestImpactAnalyzer testImpactAnalyzer = null;
+        if (affectedTestsOnly && !testsFiltered && !report && !coverage) {
+            testImpactAnalyzer = new TestImpactAnalyzer(sourceRootPath, targetDir);
+        }
+
         int result = 0;
 
         // Only tests in packages are executed so default packages i.e. single bal files which has the package name
@@ -179,10 +205,25 @@ public class RunTestsTask implements Task {
                 continue;
             }
             suite.setReportRequired(report || coverage);
+            suite.setParallelism(parallelism);
             HashSet<Path> testDependencies = new HashSet<>(jarResolver.allTestDependencies(bLangPackage));
+            String testFingerprint = null;
+            if (testImpactAnalyzer != null) {
+                testFingerprint = testImpactAnalyzer.getFingerprint(bLangPackage.packageID, testDependencies, args);
+                if (!testImpactAnalyzer.isAffected(bLangPackage.packageID, testFingerprint)) {
+                    buildContext.out().println();
+                    buildContext.out().println("\t" + bLangPackage.packageID);
+                    buildContext.out().println("\t" + "No changes affecting the tests since their last successful run");
+                    buildContext.out().println();
+                    continue;
+                }
+            }
             Path jsonPath = buildContext.getTestJsonPathTargetCache(bLangPackage.packageID);
             createTestJson(bLangPackage, suite, sourceRootPath, jsonPath);
             int testResult = runTestSuit(jsonPath, buildContext, testDependencies, bLangPackage);
+            if (testFingerprint != null && testResult == 0) {
+                testImpactAnalyzer.recordSuccess(bLangPackage.packageID, testFingerprint);
+            }
             if (result == 0) {
                 result = testResult;
             }
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.packerina;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the {@link TestImpactAnalyzer}.
+ *
+ * @since 2.0.0
+ */
+public class TestImpactAnalyzerTest {
+
+    private static final String[] NO_ARGS = new String[0];
+
+    private final PackageID moduleID = new PackageID(new Name("testorg"), new Name("mymodule"), new Name("0.1.0"));
+    private Path sourceRoot;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        sourceRoot = Files.createTempDirectory("test-impact-");
+        Files.createDirectories(sourceRoot.resolve("src").resolve("mymodule").resolve("tests"));
+        Files.createDirectories(sourceRoot.resolve("resources"));
+        write("src/mymodule/main.bal", "public function main() {\n}\n");
+        write("src/mymodule/tests/main_test.bal", "import ballerina/test;\n");
+        write("Ballerina.toml", "[project]\norg-name = \"testorg\"\nversion = \"0.1.0\"\n");
+        write("ballerina.conf", "[b7a.http]\nkeystore.path = \"resources/keystore.p12\"\n");
+        write("resources/keystore.p12", "key-store");
+        write("resources/test.conf", "greeting = \"hello\"\n");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(sourceRoot)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(description = "The fingerprint does not change without changes")
+    public void testUnchangedProject() {
+        Assert.assertEquals(getFingerprint(NO_ARGS), getFingerprint(NO_ARGS));
+    }
+
+    @Test(description = "Changes to the module sources affect the tests")
+    public void testModuleSourceChanged() throws IOException {
+        String fingerprint = getFingerprint(NO_ARGS);
+        write("src/mymodule/main.bal", "public function main() {\n    int i = 0;\n}\n");
+        Assert.assertNotEquals(getFingerprint(NO_ARGS), fingerprint);
+    }
+
+    @Test(description = "Changes to the Ballerina.toml file in the project root affect the tests")
+    public void testManifestChanged() throws IOException {
+        String fingerprint = getFingerprint(NO_ARGS);
+        write("Ballerina.toml", "[project]\norg-name = \"testorg\"\nversion = \"0.2.0\"\n");
+        Assert.assertNotEquals(getFingerprint(NO_ARGS), fingerprint);
+    }
+
+    @Test(description = "Changes to the ballerina.conf file in the project root affect the tests")
+    public void testConfigChanged() throws IOException {
+        String fingerprint = getFingerprint(NO_ARGS);
+        write("ballerina.conf", "[b7a.http]\nkeystore.path = \"resources/keystore.p12\"\ntimeout = 10\n");
+        Assert.assertNotEquals(getFingerprint(NO_ARGS), fingerprint);
+    }
+
+    @Test(description = "Changes to the files referred to by the configuration affect the tests")
+    public void testReferencedFileChanged() throws IOException {
+        String fingerprint = getFingerprint(NO_ARGS);
+        write("resources/keystore.p12", "updated-key-store");
+        Assert.assertNotEquals(getFingerprint(NO_ARGS), fingerprint);
+    }
+
+    @Test(description = "Changes to the configuration file given in the arguments affect the tests")
+    public void testConfigFileArgChanged() throws IOException {
+        String[] args = {"--b7a.config.file=resources/test.conf"};
+        String fingerprint = getFingerprint(args);
+        write("resources/test.conf", "greeting = \"hi\"\n");
+        Assert.assertNotEquals(getFingerprint(args), fingerprint);
+    }
+
+    private String getFingerprint(String[] args) {
+        TestImpactAnalyzer analyzer = new TestImpactAnalyzer(sourceRoot, sourceRoot.resolve("target"));
+        return analyzer.getFingerprint(moduleID, Collections.emptySet(), args);
+    }
+
+    private void write(String relativePath, String content) throws IOException {
+        Files.write(sourceRoot.resolve(relativePath), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,6 +4,7 @@ module io.ballerina.lang {
     requires toml4j;
     requires gson;
     requires java.xml;
+    requires jdk.management;
     requires org.objectweb.asm;
     requires io.ballerina.runtime;
     requires io.netty.buffer;
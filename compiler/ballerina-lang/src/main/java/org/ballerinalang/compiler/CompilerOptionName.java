@@ -58,7 +58,11 @@ public enum CompilerOptionName {
 
     EXPERIMENTAL_FEATURES_ENABLED("experimentalFeaturesEnabled"),
 
-    TOOLING_COMPILATION("toolingCompilation");
+    TOOLING_COMPILATION("toolingCompilation"),
+
+    PROFILE_COMPILER("profileCompiler"),
+
+    CODE_GEN_CACHE_DIR("codeGenCacheDir");
 
     public final String name;
 
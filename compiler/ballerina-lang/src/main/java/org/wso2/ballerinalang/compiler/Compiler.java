@@ -159,15 +159,21 @@ public class Compiler {
             this.langLibsLoaded = true;
         }
 
-        // 1) Load all source packages. i.e. source-code -> BLangPackageNode
+        // 1) Load all source packages. i.e. source-code -> BLangPackageNode. Source files are parsed concurrently
+        //    beforehand, since parsing does not depend on the other packages.
         // 2) Define all package level symbols for all the packages including imported packages in the AST
+        this.pkgLoader.parseEntryPackageSources(pkgIdList);
         List<BLangPackage> packages = new ArrayList<>();
-        for (PackageID pkgId : pkgIdList) {
-            BLangPackage bLangPackage = this.pkgLoader.loadEntryPackage(pkgId, null, this.outStream);
-            if (bLangPackage != null) {
-                // skip the packages that were not loaded properly
-                packages.add(bLangPackage);
+        try {
+            for (PackageID pkgId : pkgIdList) {
+                BLangPackage bLangPackage = this.pkgLoader.loadEntryPackage(pkgId, null, this.outStream);
+                if (bLangPackage != null) {
+                    // skip the packages that were not loaded properly
+                    packages.add(bLangPackage);
+                }
             }
+        } finally {
+            this.pkgLoader.clearParsedPackageSources();
         }
 
         // 3) Invoke compiler phases. e.g. type_check, code_analyze, taint_analyze, desugar etc.
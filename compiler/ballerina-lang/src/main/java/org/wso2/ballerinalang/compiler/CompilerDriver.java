@@ -35,6 +35,7 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.SemanticAnalyzer;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolEnter;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolResolver;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.TaintAnalyzer;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.spi.ObservabilitySymbolCollector;
@@ -44,8 +45,11 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Constants;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.ballerinalang.compiler.CompilerOptionName.TOOLING_COMPILATION;
 import static org.ballerinalang.model.elements.PackageID.ANNOTATIONS;
@@ -82,6 +86,15 @@ public class CompilerDriver {
     private static final CompilerContext.Key<CompilerDriver> COMPILER_DRIVER_KEY =
             new CompilerContext.Key<>();
 
+    // Phases which do not mutate existing types in place, hence all type relations can be cached while they run. Types
+    // are mutated while defining, type checking and desugaring modules, and the compiler plugins and observability
+    // symbol collectors loaded from the classpath may mutate them. The relations between the types of modules which
+    // are completely compiled or loaded from BIR are cached in every phase, see Types#markTypesResolved.
+    static final Set<CompilerPhase> TYPE_RELATION_CACHE_PHASES =
+            EnumSet.of(CompilerPhase.CODE_ANALYZE, CompilerPhase.DATAFLOW_ANALYZE, CompilerPhase.ISOLATION_ANALYZE,
+                       CompilerPhase.DOCUMENTATION_ANALYZE, CompilerPhase.TAINT_ANALYZE,
+                       CompilerPhase.CONSTANT_PROPAGATION);
+
     private final CompilerOptions options;
     private final BLangDiagnosticLog dlog;
     private final PackageLoader pkgLoader;
@@ -102,6 +115,8 @@ public class CompilerDriver {
     private final CompilerPhase compilerPhase;
     private final DataflowAnalyzer dataflowAnalyzer;
     private final IsolationAnalyzer isolationAnalyzer;
+    private final CompilerProfiler profiler;
+    private final Types types;
     private boolean isToolingCompilation;
 
     public static CompilerDriver getInstance(CompilerContext context) {
@@ -135,6 +150,8 @@ public class CompilerDriver {
         this.compilerPhase = this.options.getCompilerPhase();
         this.dataflowAnalyzer = DataflowAnalyzer.getInstance(context);
         this.isolationAnalyzer = IsolationAnalyzer.getInstance(context);
+        this.profiler = CompilerProfiler.getInstance(context);
+        this.types = Types.getInstance(context);
         this.isToolingCompilation = this.options.isSet(TOOLING_COMPILATION)
                 && Boolean.parseBoolean(this.options.get(TOOLING_COMPILATION));
     }
@@ -171,6 +188,7 @@ public class CompilerDriver {
             symbolTable.langQueryModuleSymbol = pkgLoader.loadPackageSymbol(QUERY, null, null);
             symbolTable.langTransactionModuleSymbol = pkgLoader.loadPackageSymbol(TRANSACTION, null, null);
             symbolTable.loadPredeclaredModules();
+            markLangModuleTypesResolved();
             return;
         }
 
@@ -234,10 +252,37 @@ public class CompilerDriver {
     }
     // Private methods
 
+    private void markLangModuleTypesResolved() {
+        // The built-in types are reloaded along with the lang modules, and are not mutated afterwards.
+        types.markTypesResolved(symbolTable.rootPkgSymbol);
+        BPackageSymbol[] langModuleSymbols = {symbolTable.langAnnotationModuleSymbol,
+                symbolTable.langJavaModuleSymbol, symbolTable.langInternalModuleSymbol,
+                symbolTable.langArrayModuleSymbol, symbolTable.langDecimalModuleSymbol,
+                symbolTable.langErrorModuleSymbol, symbolTable.langFloatModuleSymbol,
+                symbolTable.langFutureModuleSymbol, symbolTable.langIntModuleSymbol, symbolTable.langMapModuleSymbol,
+                symbolTable.langObjectModuleSymbol, symbolTable.langStreamModuleSymbol,
+                symbolTable.langTableModuleSymbol, symbolTable.langStringModuleSymbol,
+                symbolTable.langTypedescModuleSymbol, symbolTable.langValueModuleSymbol,
+                symbolTable.langXmlModuleSymbol, symbolTable.langBooleanModuleSymbol,
+                symbolTable.langQueryModuleSymbol, symbolTable.langTransactionModuleSymbol};
+        for (BPackageSymbol langModuleSymbol : langModuleSymbols) {
+            if (langModuleSymbol != null) {
+                types.markTypesResolved(langModuleSymbol);
+            }
+        }
+    }
+
     private void compilePackageSymbol(BPackageSymbol packageSymbol) {
         BLangPackage pkgNode = this.pkgCache.get(packageSymbol.pkgID);
         if (pkgNode == null) {
             // This is a package loaded from a BALO.
+            types.markTypesResolved(packageSymbol);
+            return;
+        }
+
+        if (pkgNode.completedPhases.contains(CompilerPhase.CODE_GEN)) {
+            // This is a package loaded from the BIR cached by a previous build, see PackageLoader.
+            types.markTypesResolved(packageSymbol);
             return;
         }
 
@@ -321,58 +366,77 @@ public class CompilerDriver {
         }
 
         codeGen(pkgNode);
+        // The types of the module are not mutated anymore, hence the modules importing it can cache their relations.
+        types.markTypesResolved(pkgNode.symbol);
     }
 
     private BLangPackage codeGen(BLangPackage pkgNode) {
-        return this.codeGenerator.generate(pkgNode);
+        return runPhase(CompilerPhase.CODE_GEN, pkgNode.packageID, () -> this.codeGenerator.generate(pkgNode));
     }
 
     private void generateObservabilityData(BLangPackage pkgNode) {
-        this.observabilitySymbolCollector.process(pkgNode);
+        runPhase(CompilerPhase.OBSERVABILITY_DATA_GEN, pkgNode.packageID, () -> {
+            this.observabilitySymbolCollector.process(pkgNode);
+            return pkgNode;
+        });
     }
 
     public BLangPackage define(BLangPackage pkgNode) {
-        return this.symbolEnter.definePackage(pkgNode);
+        return runPhase(CompilerPhase.DEFINE, pkgNode.packageID, () -> this.symbolEnter.definePackage(pkgNode));
     }
 
     private BLangPackage typeCheck(BLangPackage pkgNode) {
-        return this.semAnalyzer.analyze(pkgNode);
+        return runPhase(CompilerPhase.TYPE_CHECK, pkgNode.packageID, () -> this.semAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage documentationAnalyze(BLangPackage pkgNode) {
-        return this.documentationAnalyzer.analyze(pkgNode);
+        return runPhase(CompilerPhase.DOCUMENTATION_ANALYZE, pkgNode.packageID,
+                        () -> this.documentationAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage codeAnalyze(BLangPackage pkgNode) {
-        return this.codeAnalyzer.analyze(pkgNode);
+        return runPhase(CompilerPhase.CODE_ANALYZE, pkgNode.packageID, () -> this.codeAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage dataflowAnalyze(BLangPackage pkgNode) {
-        return this.dataflowAnalyzer.analyze(pkgNode);
+        return runPhase(CompilerPhase.DATAFLOW_ANALYZE, pkgNode.packageID,
+                        () -> this.dataflowAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage isolationAnalyze(BLangPackage pkgNode) {
-        return this.isolationAnalyzer.analyze(pkgNode);
+        return runPhase(CompilerPhase.ISOLATION_ANALYZE, pkgNode.packageID,
+                        () -> this.isolationAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage taintAnalyze(BLangPackage pkgNode) {
-        return this.taintAnalyzer.analyze(pkgNode);
+        return runPhase(CompilerPhase.TAINT_ANALYZE, pkgNode.packageID, () -> this.taintAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage propagateConstants(BLangPackage pkgNode) {
-        return this.constantPropagation.perform(pkgNode);
+        return runPhase(CompilerPhase.CONSTANT_PROPAGATION, pkgNode.packageID,
+                        () -> this.constantPropagation.perform(pkgNode));
     }
 
     private BLangPackage annotationProcess(BLangPackage pkgNode) {
-        return this.compilerPluginRunner.runPlugins(pkgNode);
+        return runPhase(CompilerPhase.COMPILER_PLUGIN, pkgNode.packageID,
+                        () -> this.compilerPluginRunner.runPlugins(pkgNode));
     }
 
     public BLangPackage desugar(BLangPackage pkgNode) {
-        return this.desugar.perform(pkgNode);
+        return runPhase(CompilerPhase.DESUGAR, pkgNode.packageID, () -> this.desugar.perform(pkgNode));
     }
 
     public BLangPackage birGen(BLangPackage pkgNode) {
-        return this.birGenerator.genBIR(pkgNode);
+        return runPhase(CompilerPhase.BIR_GEN, pkgNode.packageID, () -> this.birGenerator.genBIR(pkgNode));
+    }
+
+    private BLangPackage runPhase(CompilerPhase phase, PackageID pkgID, Supplier<BLangPackage> action) {
+        types.resetRelationCache(TYPE_RELATION_CACHE_PHASES.contains(phase));
+        try {
+            return profiler.profile(phase, pkgID, action);
+        } finally {
+            types.resetRelationCache(false);
+        }
     }
 
     private boolean stopCompilation(BLangPackage pkgNode, CompilerPhase nextPhase) {
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import com.google.gson.stream.JsonWriter;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Records the wall time and allocated bytes of each {@link CompilerPhase} per module, when the
+ * {@link CompilerOptionName#PROFILE_COMPILER} option is set to a report directory.
+ * <p>
+ * Phases can be nested, e.g. defining a module defines its imports. The time and allocations of a nested phase are
+ * only attributed to the nested phase, so that the totals of all phases add up to the profiled time.
+ * <p>
+ * The report is written as {@value #REPORT_FILE_NAME} and as {@value #TRACE_FILE_NAME}, which can be opened in a
+ * Chrome trace viewer such as {@code chrome://tracing}.
+ *
+ * @since 2.0.0
+ */
+public class CompilerProfiler {
+
+    private static final CompilerContext.Key<CompilerProfiler> COMPILER_PROFILER_KEY = new CompilerContext.Key<>();
+
+    public static final String REPORT_FILE_NAME = "compiler-profile.json";
+    public static final String TRACE_FILE_NAME = "compiler-profile-trace.json";
+
+    private final Path reportDir;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final long startTime;
+    private final Deque<PhaseEvent> activeEvents = new ArrayDeque<>();
+    private final List<PhaseEvent> completedEvents = new ArrayList<>();
+    private final Map<String, LongSupplier> counters = new LinkedHashMap<>();
+
+    public static CompilerProfiler getInstance(CompilerContext context) {
+        CompilerProfiler compilerProfiler = context.get(COMPILER_PROFILER_KEY);
+        if (compilerProfiler == null) {
+            compilerProfiler = new CompilerProfiler(context);
+        }
+        return compilerProfiler;
+    }
+
+    private CompilerProfiler(CompilerContext context) {
+        context.put(COMPILER_PROFILER_KEY, this);
+
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        String reportDirValue = options.get(CompilerOptionName.PROFILE_COMPILER);
+        this.reportDir = reportDirValue == null || reportDirValue.isEmpty() ? null : Paths.get(reportDirValue);
+        // Enabling allocation tracking affects every thread of the JVM, hence it is only done when profiling.
+        this.threadMXBean = reportDir != null ? getThreadMXBean() : null;
+        this.startTime = System.nanoTime();
+    }
+
+    public boolean isEnabled() {
+        return reportDir != null;
+    }
+
+    /**
+     * Runs the given phase of a module, recording it if profiling is enabled.
+     *
+     * @param phase  compiler phase
+     * @param pkgID  module the phase runs on
+     * @param action phase to run
+     * @param <T>    result type of the phase
+     * @return the result of the phase
+     */
+    public <T> T profile(CompilerPhase phase, PackageID pkgID, Supplier<T> action) {
+        if (reportDir == null) {
+            return action.get();
+        }
+
+        PhaseEvent event = new PhaseEvent(phase, pkgID, System.nanoTime(), getAllocatedBytes());
+        activeEvents.push(event);
+        try {
+            return action.get();
+        } finally {
+            activeEvents.pop();
+            event.wallTime = System.nanoTime() - event.startTime;
+            event.allocatedBytes = getAllocatedBytes() - event.startAllocatedBytes;
+            PhaseEvent enclosingEvent = activeEvents.peek();
+            if (enclosingEvent != null) {
+                enclosingEvent.nestedWallTime += event.wallTime;
+                enclosingEvent.nestedAllocatedBytes += event.allocatedBytes;
+            }
+            completedEvents.add(event);
+        }
+    }
+
+    /**
+     * Registers a counter of another compiler component, such as cache hits, which is included in the report.
+     *
+     * @param name    name of the counter
+     * @param counter supplier of the current value of the counter
+     */
+    public void registerCounter(String name, LongSupplier counter) {
+        counters.put(name, counter);
+    }
+
+    /**
+     * Writes the JSON report and the Chrome trace of the recorded phases to the report directory.
+     *
+     * @return path of the JSON report, or null if profiling is not enabled
+     * @throws IOException if the report cannot be written
+     */
+    public Path writeReport() throws IOException {
+        if (reportDir == null) {
+            return null;
+        }
+
+        Files.createDirectories(reportDir);
+        Path reportFile = reportDir.resolve(REPORT_FILE_NAME);
+        try (JsonWriter writer = newJsonWriter(reportFile)) {
+            writeSummary(writer);
+        }
+        try (JsonWriter writer = newJsonWriter(reportDir.resolve(TRACE_FILE_NAME))) {
+            writeTrace(writer);
+        }
+        return reportFile;
+    }
+
+    private void writeSummary(JsonWriter writer) throws IOException {
+        Map<CompilerPhase, PhaseSummary> phases = new EnumMap<>(CompilerPhase.class);
+        for (PhaseEvent event : completedEvents) {
+            PhaseSummary phaseSummary = phases.computeIfAbsent(event.phase, phase -> new PhaseSummary());
+            phaseSummary.add(event);
+            phaseSummary.modules.computeIfAbsent(event.pkgID.toString(), module -> new PhaseSummary()).add(event);
+        }
+
+        writer.beginObject();
+        writer.name("totalTimeMillis").value(toMillis(System.nanoTime() - startTime));
+        writer.name("allocationTracked").value(threadMXBean != null);
+        writer.name("phases").beginArray();
+        for (Map.Entry<CompilerPhase, PhaseSummary> phase : phases.entrySet()) {
+            writer.beginObject();
+            writer.name("phase").value(phase.getKey().toString());
+            writeSummaryValues(writer, phase.getValue());
+            writer.name("modules").beginArray();
+            for (Map.Entry<String, PhaseSummary> module : phase.getValue().modules.entrySet()) {
+                writer.beginObject();
+                writer.name("module").value(module.getKey());
+                writeSummaryValues(writer, module.getValue());
+                writer.endObject();
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.name("counters").beginObject();
+        for (Map.Entry<String, LongSupplier> counter : counters.entrySet()) {
+            writer.name(counter.getKey()).value(counter.getValue().getAsLong());
+        }
+        writer.endObject();
+        writer.endObject();
+    }
+
+    private void writeSummaryValues(JsonWriter writer, PhaseSummary summary) throws IOException {
+        writer.name("timeMillis").value(toMillis(summary.selfWallTime));
+        writer.name("inclusiveTimeMillis").value(toMillis(summary.wallTime));
+        writer.name("allocatedBytes").value(summary.selfAllocatedBytes);
+        writer.name("count").value(summary.count);
+    }
+
+    private void writeTrace(JsonWriter writer) throws IOException {
+        writer.beginObject();
+        writer.name("displayTimeUnit").value("ms");
+        writer.name("traceEvents").beginArray();
+        for (PhaseEvent event : completedEvents) {
+            writer.beginObject();
+            writer.name("name").value(event.phase.toString());
+            writer.name("cat").value("compiler");
+            writer.name("ph").value("X");
+            writer.name("ts").value((event.startTime - startTime) / 1000);
+            writer.name("dur").value(event.wallTime / 1000);
+            writer.name("pid").value(1);
+            writer.name("tid").value(1);
+            writer.name("args").beginObject();
+            writer.name("module").value(event.pkgID.toString());
+            writer.name("allocatedBytes").value(event.allocatedBytes);
+            writer.endObject();
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+    private static JsonWriter newJsonWriter(Path path) throws IOException {
+        Writer fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        JsonWriter writer = new JsonWriter(fileWriter);
+        writer.setIndent("  ");
+        return writer;
+    }
+
+    private long getAllocatedBytes() {
+        if (threadMXBean == null) {
+            return 0;
+        }
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationTrackingMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!allocationTrackingMXBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        allocationTrackingMXBean.setThreadAllocatedMemoryEnabled(true);
+        return allocationTrackingMXBean;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * A single run of a compiler phase on a module.
+     */
+    private static class PhaseEvent {
+
+        final CompilerPhase phase;
+        final PackageID pkgID;
+        final long startTime;
+        final long startAllocatedBytes;
+        long wallTime;
+        long allocatedBytes;
+        long nestedWallTime;
+        long nestedAllocatedBytes;
+
+        PhaseEvent(CompilerPhase phase, PackageID pkgID, long startTime, long startAllocatedBytes) {
+            this.phase = phase;
+            this.pkgID = pkgID;
+            this.startTime = startTime;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+    }
+
+    /**
+     * Totals of the runs of a phase, overall or for a single module.
+     */
+    private static class PhaseSummary {
+
+        final Map<String, PhaseSummary> modules = new LinkedHashMap<>();
+        long wallTime;
+        long selfWallTime;
+        long selfAllocatedBytes;
+        int count;
+
+        void add(PhaseEvent event) {
+            wallTime += event.wallTime;
+            selfWallTime += event.wallTime - event.nestedWallTime;
+            selfAllocatedBytes += event.allocatedBytes - event.nestedAllocatedBytes;
+            count++;
+        }
+    }
+}
@@ -17,7 +17,9 @@
  */
 package org.wso2.ballerinalang.compiler;
 
+import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.repository.CompiledPackage;
 import org.ballerinalang.repository.CompilerInput;
@@ -33,6 +35,9 @@ import org.ballerinalang.toml.model.LockFileImport;
 import org.ballerinalang.toml.model.Manifest;
 import org.ballerinalang.toml.parser.LockFileProcessor;
 import org.ballerinalang.toml.parser.ManifestProcessor;
+import org.wso2.ballerinalang.compiler.bir.codegen.CodeGenCache;
+import org.wso2.ballerinalang.compiler.bir.codegen.CodeGenCache.CachedModule;
+import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLocation;
 import org.wso2.ballerinalang.compiler.packaging.GenericPackageSource;
 import org.wso2.ballerinalang.compiler.packaging.Patten;
 import org.wso2.ballerinalang.compiler.packaging.RepoHierarchy;
@@ -40,6 +45,7 @@ import org.wso2.ballerinalang.compiler.packaging.RepoHierarchyBuilder;
 import org.wso2.ballerinalang.compiler.packaging.RepoHierarchyBuilder.RepoNode;
 import org.wso2.ballerinalang.compiler.packaging.Resolution;
 import org.wso2.ballerinalang.compiler.packaging.converters.Converter;
+import org.wso2.ballerinalang.compiler.packaging.converters.FileSystemSourceInput;
 import org.wso2.ballerinalang.compiler.packaging.converters.URIDryConverter;
 import org.wso2.ballerinalang.compiler.packaging.repo.BinaryRepo;
 import org.wso2.ballerinalang.compiler.packaging.repo.BirRepo;
@@ -51,8 +57,12 @@ import org.wso2.ballerinalang.compiler.packaging.repo.ProjectSourceRepo;
 import org.wso2.ballerinalang.compiler.packaging.repo.RemoteRepo;
 import org.wso2.ballerinalang.compiler.packaging.repo.Repo;
 import org.wso2.ballerinalang.compiler.parser.Parser;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.NullObservabiltySymbolCollector;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.ObserverbilitySymbolCollectorRunner;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolEnter;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
@@ -68,7 +78,9 @@ import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -113,16 +125,25 @@ public class PackageLoader {
     private final SourceDirectory sourceDirectory;
     private final PackageCache packageCache;
     private final SymbolEnter symbolEnter;
+    private final CompilerProfiler profiler;
     private final BIRPackageSymbolEnter birPackageSymbolEnter;
     private final Names names;
     private static final boolean shouldReadBalo = true;
     private final CompilerPhase compilerPhase;
+    private final CompilerContext context;
+    private final CodeGenCache codeGenCache;
     
     /**
      * Holds the manifests of modules resolved by dependency paths.
      */
     private Map<PackageID, Manifest> dependencyManifests = new HashMap<>();
 
+    /**
+     * Holds the sources of the entry packages which are parsed ahead of being loaded, keyed by the organization and
+     * the name of the package, since the version of the package ID is resolved while loading the package.
+     */
+    private Map<String, PackageSource> parsedPackageSources = new HashMap<>();
+
     public static PackageLoader getInstance(CompilerContext context) {
         PackageLoader loader = context.get(PACKAGE_LOADER_KEY);
         if (loader == null) {
@@ -140,13 +161,16 @@ public class PackageLoader {
             throw new IllegalArgumentException("source directory has not been initialized");
         }
 
+        this.context = context;
         this.options = CompilerOptions.getInstance(context);
         this.compilerPhase = this.options.getCompilerPhase();
         this.parser = Parser.getInstance(context);
         this.packageCache = PackageCache.getInstance(context);
         this.symbolEnter = SymbolEnter.getInstance(context);
+        this.profiler = CompilerProfiler.getInstance(context);
         this.birPackageSymbolEnter = BIRPackageSymbolEnter.getInstance(context);
         this.names = Names.getInstance(context);
+        this.codeGenCache = CodeGenCache.getInstance(context);
         this.offline = Boolean.parseBoolean(options.get(OFFLINE));
         this.testEnabled = Boolean.parseBoolean(options.get(TEST_ENABLED));
         this.lockEnabled = Boolean.parseBoolean(options.get(LOCK_ENABLED));
@@ -249,6 +273,14 @@ public class PackageLoader {
     private PackageEntity loadPackageEntity(PackageID pkgId, PackageID enclPackageId,
                                             RepoHierarchy encPkgRepoHierarchy) {
         updateModuleIDVersion(pkgId, enclPackageId);
+        // A package parsed ahead is resolved by the repositories of the project, hence it is used only if the package
+        // is resolved by the same repositories, to the same version.
+        if (encPkgRepoHierarchy == null || encPkgRepoHierarchy == this.repos) {
+            PackageSource parsedPkgSource = this.parsedPackageSources.remove(getParsedPackageKey(pkgId));
+            if (parsedPkgSource != null && parsedPkgSource.getPackageId().equals(pkgId)) {
+                return parsedPkgSource;
+            }
+        }
         Resolution resolution = resolveModuleByPath(pkgId);
         // if a resolution is found by dependency path
         if (resolution != Resolution.NOT_FOUND) {
@@ -371,11 +403,55 @@ public class PackageLoader {
             return null;
         }
 
-        BLangPackage packageNode = parse(pkgId, (PackageSource) pkgEntity);
+        BLangPackage packageNode = loadCachedPackage(pkgId, (PackageSource) pkgEntity);
+        if (packageNode != null) {
+            return packageNode;
+        }
+        packageNode = parse(pkgId, (PackageSource) pkgEntity);
         define(packageNode);
         return packageNode;
     }
 
+    /**
+     * Parses the sources of the given entry packages concurrently, ahead of the packages being loaded. The packages
+     * are loaded, defined and compiled one after the other, as they share the state of the compiler context. The
+     * parsed sources are kept until the packages are loaded, either as entry packages or as imports, or until they
+     * are cleared by {@link #clearParsedPackageSources()}.
+     *
+     * @param pkgIds IDs of the entry packages
+     */
+    public void parseEntryPackageSources(List<PackageID> pkgIds) {
+        List<PackageSource> pkgSources = new ArrayList<>();
+        for (PackageID pkgId : pkgIds) {
+            // Packages which are already loaded are not parsed again.
+            if (this.packageCache.get(pkgId) != null) {
+                continue;
+            }
+            PackageEntity pkgEntity = loadPackageEntity(pkgId);
+            // Packages which are loaded from the BIR cached by a previous build are not parsed.
+            if (pkgEntity != null && pkgEntity.getKind() == Kind.SOURCE &&
+                    !isCachedPackage(pkgId, (PackageSource) pkgEntity)) {
+                pkgSources.add((PackageSource) pkgEntity);
+            }
+        }
+        this.parser.parseSyntaxTrees(pkgSources);
+        for (PackageSource pkgSource : pkgSources) {
+            this.parsedPackageSources.put(getParsedPackageKey(pkgSource.getPackageId()), pkgSource);
+        }
+    }
+
+    /**
+     * Clears the sources parsed by {@link #parseEntryPackageSources(List)} which are not loaded, e.g. as loading the
+     * packages failed, so that they are not held or used by the subsequent compilations.
+     */
+    public void clearParsedPackageSources() {
+        this.parsedPackageSources.clear();
+    }
+
+    private static String getParsedPackageKey(PackageID pkgId) {
+        return pkgId.orgName + "/" + pkgId.name;
+    }
+
     public BLangPackage loadPackage(PackageID pkgId) {
         // TODO Remove this method()
         BLangPackage bLangPackage = packageCache.get(pkgId);
@@ -403,7 +479,7 @@ public class PackageLoader {
             return null;
         }
 
-        this.symbolEnter.definePackage(bLangPackage);
+        profiler.profile(CompilerPhase.DEFINE, pkgId, () -> this.symbolEnter.definePackage(bLangPackage));
         bLangPackage.symbol.compiledPackage = createInMemoryCompiledPackage(bLangPackage);
         return bLangPackage;
     }
@@ -428,6 +504,10 @@ public class PackageLoader {
         }
 
         if (pkgEntity.getKind() == PackageEntity.Kind.SOURCE) {
+            BLangPackage cachedPackage = loadCachedPackage(packageId, (PackageSource) pkgEntity);
+            if (cachedPackage != null) {
+                return cachedPackage.symbol;
+            }
             return parseAndDefine(packageId, (PackageSource) pkgEntity);
         } else if (pkgEntity.getKind() == Kind.COMPILED || pkgEntity.getKind() == Kind.COMPILED_BIR) {
             return loadCompiledPackageAndDefine(packageId, (PackageBinary) pkgEntity);
@@ -461,7 +541,7 @@ public class PackageLoader {
 
     private BPackageSymbol define(BLangPackage pkgNode) {
         // 2) Define all package-level symbols
-        this.symbolEnter.definePackage(pkgNode);
+        profiler.profile(CompilerPhase.DEFINE, pkgNode.packageID, () -> this.symbolEnter.definePackage(pkgNode));
         this.packageCache.putSymbol(pkgNode.packageID, pkgNode.symbol);
 
         // 3) Create the compiledPackage structure
@@ -502,6 +582,118 @@ public class PackageLoader {
         return pkgSymbol;
     }
 
+    /**
+     * Loads a package from the BIR cached by a previous build, instead of parsing and analyzing its sources, if
+     * neither its sources nor its imports changed since, see {@link CodeGenCache}. The returned package node holds no
+     * compilation units, and all its compiler phases are completed.
+     *
+     * @param pkgId     ID of the package
+     * @param pkgSource sources of the package
+     * @return the package node, or null if the package is to be compiled from its sources
+     */
+    private BLangPackage loadCachedPackage(PackageID pkgId, PackageSource pkgSource) {
+        Optional<CachedModule> cachedModule = getCachedModule(pkgId, pkgSource);
+        if (!cachedModule.isPresent()) {
+            return null;
+        }
+
+        // The imports are loaded first, as the package is compiled again if the BIR of an import is not the one the
+        // package was compiled against. Imports compiled from their sources in this build do not have their BIR yet.
+        List<BPackageSymbol> importSymbols = new ArrayList<>();
+        for (String[] importComps : cachedModule.get().getImports()) {
+            PackageID importPkgId = getPackageID(importComps[0], importComps[1], importComps[2]);
+            BPackageSymbol importSymbol = loadPackageSymbol(importPkgId, pkgId, pkgSource.getRepoHierarchy());
+            if (importSymbol == null) {
+                return null;
+            }
+            importSymbols.add(importSymbol);
+        }
+        Optional<String> importsDigest = this.codeGenCache.getImportsDigest(importSymbols);
+        if (!importsDigest.isPresent() || !importsDigest.get().equals(cachedModule.get().getImportsDigest())) {
+            return null;
+        }
+
+        BPackageSymbol pkgSymbol = this.birPackageSymbolEnter.definePackage(pkgId, pkgSource.getRepoHierarchy(),
+                                                                            cachedModule.get().getBirContent());
+        pkgSymbol.compiledJarFile = cachedModule.get().getCompiledJarFile();
+        pkgSymbol.entryPointExists = cachedModule.get().isEntryPointExists();
+        this.packageCache.putSymbol(pkgSymbol.pkgID, pkgSymbol);
+
+        BLangPackage pkgNode = (BLangPackage) TreeBuilder.createPackageNode();
+        pkgNode.symbol = pkgSymbol;
+        pkgNode.pos = new BLangDiagnosticLocation(pkgSource.getName(), 0, 0, 0, 0);
+        pkgNode.repos = pkgSource.getRepoHierarchy();
+        pkgNode.completedPhases = EnumSet.allOf(CompilerPhase.class);
+        for (BPackageSymbol importSymbol : importSymbols) {
+            pkgNode.imports.add(createImportPackage(importSymbol, pkgNode.pos));
+        }
+        this.packageCache.put(pkgId, pkgNode);
+        pkgSymbol.compiledPackage = createInMemoryCompiledPackage(pkgNode);
+        return pkgNode;
+    }
+
+    private Optional<CachedModule> getCachedModule(PackageID pkgId, PackageSource pkgSource) {
+        return getSourceDigestIfCacheable(pkgId, pkgSource)
+                .flatMap(sourceDigest -> this.codeGenCache.getModule(pkgId, sourceDigest));
+    }
+
+    private boolean isCachedPackage(PackageID pkgId, PackageSource pkgSource) {
+        return getSourceDigestIfCacheable(pkgId, pkgSource)
+                .map(sourceDigest -> this.codeGenCache.isModuleCached(pkgId, sourceDigest))
+                .orElse(false);
+    }
+
+    private Optional<String> getSourceDigestIfCacheable(PackageID pkgId, PackageSource pkgSource) {
+        // Only the modules of the project are cached, when they are compiled to JVM byte code.
+        if (!this.codeGenCache.isEnabled() || this.compilerPhase != CompilerPhase.CODE_GEN || pkgId.isUnnamed ||
+                pkgSource.getRepoHierarchy() != this.repos) {
+            return Optional.empty();
+        }
+
+        Path projectPath = this.sourceDirectory.getPath();
+        List<CompilerInput> sourceEntries = new ArrayList<>();
+        boolean hasTestSources = false;
+        for (CompilerInput sourceEntry : pkgSource.getPackageSourceEntries()) {
+            if (sourceEntry instanceof FileSystemSourceInput && ProjectDirs.isTestSource(
+                    ((FileSystemSourceInput) sourceEntry).getPath(), projectPath, pkgId.getName().value)) {
+                hasTestSources = true;
+            } else {
+                sourceEntries.add(sourceEntry);
+            }
+        }
+        // The digest is computed even if the package is compiled from its sources, so that the package is cached.
+        Optional<String> sourceDigest = this.codeGenCache.getSourceDigest(pkgId, sourceEntries, projectPath);
+
+        // The tests of a package and the observability symbols of a package are generated from its sources.
+        if (!sourceDigest.isPresent() || (this.testEnabled && hasTestSources) ||
+                !(ObserverbilitySymbolCollectorRunner.getInstance(this.context) instanceof
+                        NullObservabiltySymbolCollector)) {
+            return Optional.empty();
+        }
+        return sourceDigest;
+    }
+
+    private BLangImportPackage createImportPackage(BPackageSymbol importSymbol, Location pos) {
+        BLangImportPackage importPkgNode = (BLangImportPackage) TreeBuilder.createImportPackageNode();
+        PackageID importPkgId = importSymbol.pkgID;
+        importPkgNode.pos = pos;
+        importPkgNode.symbol = importSymbol;
+        importPkgNode.orgName = createIdentifier(importPkgId.orgName.value);
+        importPkgNode.pkgNameComps = importPkgId.nameComps.stream()
+                .map(nameComp -> createIdentifier(nameComp.value))
+                .collect(Collectors.toList());
+        importPkgNode.version = createIdentifier(importPkgId.version.value);
+        importPkgNode.alias = createIdentifier(importPkgId.nameComps.get(importPkgId.nameComps.size() - 1).value);
+        return importPkgNode;
+    }
+
+    private static BLangIdentifier createIdentifier(String value) {
+        BLangIdentifier identifier = (BLangIdentifier) TreeBuilder.createIdentifierNode();
+        identifier.value = value;
+        identifier.originalValue = value;
+        return identifier;
+    }
+
     private CompiledPackage createInMemoryCompiledPackage(BLangPackage pkgNode) {
         PackageID packageID = pkgNode.packageID;
         InMemoryCompiledPackage compiledPackage = new InMemoryCompiledPackage(packageID);
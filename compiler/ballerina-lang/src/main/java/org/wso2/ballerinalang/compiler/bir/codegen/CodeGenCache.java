@@ -0,0 +1,589 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.repository.CompilerInput;
+import org.wso2.ballerinalang.compiler.CompiledJarFile;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
+import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Caches the modules compiled by a project build, so that later builds skip the compilation of a module when neither
+ * the module nor its dependencies have changed.
+ * <p>
+ * The JVM byte code generated for a module is keyed by a digest of the compiler and Java versions, the BIR of the
+ * module and its imports, and the platform libraries of the module. Along with the byte code, the BIR of the module is
+ * kept with a digest of its sources, so that {@link org.wso2.ballerinalang.compiler.PackageLoader} loads an unchanged
+ * module from its BIR instead of parsing and analyzing its sources. A module is loaded this way only if its imports
+ * are unchanged too, i.e. they are loaded from their BIR as well and their BIR matches the one the module was compiled
+ * against. Hence a change in a module makes the modules importing it compile from their sources again.
+ * <p>
+ * The warnings of a module loaded from its BIR are not reported again, and compiler plugins do not process it. Modules
+ * which compiler plugins processed, e.g. services, are compiled from their sources in every build.
+ *
+ * @since 2.0.0
+ */
+public class CodeGenCache {
+
+    private static final CompilerContext.Key<CodeGenCache> CODE_GEN_CACHE_KEY = new CompilerContext.Key<>();
+
+    private static final String JAR_EXT = ".jar";
+    private static final String MODULE_BIR_FILE_NAME = "module.bir";
+    private static final String MODULE_INFO_FILE_NAME = "module.properties";
+
+    private static final String SOURCE_DIGEST = "sourceDigest";
+    private static final String IMPORTS_DIGEST = "importsDigest";
+    private static final String JAR_KEY = "jarKey";
+    private static final String ENTRY_POINT_EXISTS = "entryPointExists";
+    private static final String IMPORT_COUNT = "imports";
+    private static final String IMPORT_PREFIX = "import.";
+    private static final String LIB_COUNT = "libs";
+    private static final String LIB_PREFIX = "lib.";
+    private static final String LIB_INFO_SUFFIX = ".info";
+
+    private final Path cacheDir;
+    private final boolean experimentalFeaturesEnabled;
+
+    /**
+     * Holds the digests of the sources of the modules loaded from their sources, keyed by the module ID.
+     */
+    private final Map<String, String> sourceDigests = new HashMap<>();
+
+    public static CodeGenCache getInstance(CompilerContext context) {
+        CodeGenCache codeGenCache = context.get(CODE_GEN_CACHE_KEY);
+        if (codeGenCache == null) {
+            codeGenCache = new CodeGenCache(context);
+        }
+        return codeGenCache;
+    }
+
+    private CodeGenCache(CompilerContext context) {
+        context.put(CODE_GEN_CACHE_KEY, this);
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        String cacheDir = options.get(CompilerOptionName.CODE_GEN_CACHE_DIR);
+        this.cacheDir = cacheDir == null ? null : Paths.get(cacheDir);
+        this.experimentalFeaturesEnabled = Boolean.parseBoolean(
+                options.get(CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED));
+    }
+
+    public boolean isEnabled() {
+        return this.cacheDir != null;
+    }
+
+    /**
+     * Computes the digest of the sources of the given module, which is kept until the module is cached.
+     *
+     * @param pkgID         module ID
+     * @param sourceEntries source files of the module, excluding its tests
+     * @param projectDir    root directory of the project
+     * @return the digest, or empty if it cannot be computed
+     */
+    public Optional<String> getSourceDigest(PackageID pkgID, List<CompilerInput> sourceEntries, Path projectDir) {
+        String sourceDigest = this.sourceDigests.get(pkgID.toString());
+        if (sourceDigest != null) {
+            return Optional.of(sourceDigest);
+        }
+
+        MessageDigest digest = createDigest();
+        if (digest == null) {
+            return Optional.empty();
+        }
+        updateVersions(digest);
+        digest.update(Boolean.toString(this.experimentalFeaturesEnabled).getBytes(StandardCharsets.UTF_8));
+        digest.update(pkgID.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            // The versions of the imports are resolved by the manifest and the lock file of the project.
+            for (String fileName : new String[]{ProjectDirConstants.MANIFEST_FILE_NAME,
+                    ProjectDirConstants.LOCK_FILE_NAME}) {
+                Path file = projectDir.resolve(fileName);
+                digest.update(fileName.getBytes(StandardCharsets.UTF_8));
+                if (Files.exists(file)) {
+                    digest.update(Files.readAllBytes(file));
+                }
+            }
+            List<CompilerInput> entries = new ArrayList<>(sourceEntries);
+            entries.sort(Comparator.comparing(CompilerInput::getEntryName));
+            for (CompilerInput entry : entries) {
+                digest.update(entry.getEntryName().getBytes(StandardCharsets.UTF_8));
+                digest.update(entry.getCode());
+            }
+        } catch (IOException | RuntimeException e) {
+            // A module which cannot be read is loaded from its sources, which reports the error.
+            return Optional.empty();
+        }
+        sourceDigest = toHex(digest);
+        this.sourceDigests.put(pkgID.toString(), sourceDigest);
+        return Optional.of(sourceDigest);
+    }
+
+    /**
+     * Computes the digest of the BIR of the given imports and of the modules they import.
+     *
+     * @param imports imports of a module
+     * @return the digest, or empty if the BIR of one of the modules is not available, e.g. as it is being compiled
+     */
+    public Optional<String> getImportsDigest(List<BPackageSymbol> imports) {
+        MessageDigest digest = createDigest();
+        if (digest == null) {
+            return Optional.empty();
+        }
+        List<BPackageSymbol> modules = new ArrayList<>();
+        Set<PackageID> visited = new HashSet<>();
+        for (BPackageSymbol importSymbol : sortModules(imports)) {
+            collectModules(importSymbol, modules, visited);
+        }
+        return updateModules(digest, modules) ? Optional.of(toHex(digest)) : Optional.empty();
+    }
+
+    /**
+     * Checks whether the given module is cached by a previous build with the same sources. Unlike
+     * {@link #getModule(PackageID, String)}, neither the cached code nor the platform libraries are checked.
+     *
+     * @param pkgID        module ID
+     * @param sourceDigest digest of the current sources of the module
+     * @return true if the module is cached with the same sources
+     */
+    public boolean isModuleCached(PackageID pkgID, String sourceDigest) {
+        Properties moduleInfo = readModuleInfo(getModuleCacheDir(pkgID));
+        return moduleInfo != null && sourceDigest.equals(moduleInfo.getProperty(SOURCE_DIGEST));
+    }
+
+    /**
+     * Returns the given module as cached by a previous build, if its sources are unchanged.
+     *
+     * @param pkgID        module ID
+     * @param sourceDigest digest of the current sources of the module
+     * @return the cached module, or empty if it is not cached, its sources changed or its platform libraries changed
+     */
+    public Optional<CachedModule> getModule(PackageID pkgID, String sourceDigest) {
+        Path moduleCacheDir = getModuleCacheDir(pkgID);
+        Properties moduleInfo = readModuleInfo(moduleCacheDir);
+        if (moduleInfo == null || !sourceDigest.equals(moduleInfo.getProperty(SOURCE_DIGEST))) {
+            return Optional.empty();
+        }
+
+        try {
+            int libCount = Integer.parseInt(moduleInfo.getProperty(LIB_COUNT));
+            for (int i = 0; i < libCount; i++) {
+                String lib = moduleInfo.getProperty(LIB_PREFIX + i);
+                String libInfo = moduleInfo.getProperty(LIB_PREFIX + i + LIB_INFO_SUFFIX);
+                if (!getDependencyInfo(Paths.get(lib)).equals(libInfo)) {
+                    return Optional.empty();
+                }
+            }
+
+            int importCount = Integer.parseInt(moduleInfo.getProperty(IMPORT_COUNT));
+            List<String[]> imports = new ArrayList<>(importCount);
+            for (int i = 0; i < importCount; i++) {
+                // The components of an import are the organization, the name and the version of the module.
+                String[] importComps = moduleInfo.getProperty(IMPORT_PREFIX + i).split("/", -1);
+                if (importComps.length != 3) {
+                    return Optional.empty();
+                }
+                imports.add(importComps);
+            }
+
+            Optional<CompiledJarFile> jarFile = get(pkgID, moduleInfo.getProperty(JAR_KEY));
+            if (!jarFile.isPresent()) {
+                return Optional.empty();
+            }
+            byte[] birContent = Files.readAllBytes(moduleCacheDir.resolve(MODULE_BIR_FILE_NAME));
+            return Optional.of(new CachedModule(birContent, imports, moduleInfo.getProperty(IMPORTS_DIGEST),
+                                                jarFile.get(),
+                                                Boolean.parseBoolean(moduleInfo.getProperty(ENTRY_POINT_EXISTS))));
+        } catch (IOException | RuntimeException e) {
+            // A cache entry which cannot be read is compiled again.
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Computes the key of the code generated for the given module.
+     *
+     * @param packageSymbol      symbol of the module
+     * @param moduleDependencies platform libraries of the module
+     * @return the key, or empty if the BIR of the module or one of its imports is not available
+     */
+    Optional<String> getKey(BPackageSymbol packageSymbol, Set<Path> moduleDependencies) {
+        MessageDigest digest = createDigest();
+        if (digest == null) {
+            return Optional.empty();
+        }
+        updateVersions(digest);
+
+        List<BPackageSymbol> modules = new ArrayList<>();
+        collectModules(packageSymbol, modules, new HashSet<>());
+        if (!updateModules(digest, modules)) {
+            return Optional.empty();
+        }
+
+        for (Path dependency : sortDependencies(moduleDependencies)) {
+            digest.update(getDependencyInfo(dependency).getBytes(StandardCharsets.UTF_8));
+        }
+        return Optional.of(toHex(digest));
+    }
+
+    /**
+     * Returns the cached code of the given module.
+     *
+     * @param pkgID module ID
+     * @param key   key of the code
+     * @return the cached code, or empty if it is not cached
+     */
+    Optional<CompiledJarFile> get(PackageID pkgID, String key) {
+        Path jarPath = getModuleCacheDir(pkgID).resolve(key + JAR_EXT);
+        if (!Files.exists(jarPath)) {
+            return Optional.empty();
+        }
+
+        try (JarInputStream jarStream = new JarInputStream(new BufferedInputStream(Files.newInputStream(jarPath)))) {
+            Manifest manifest = jarStream.getManifest();
+            if (manifest == null) {
+                return Optional.empty();
+            }
+            Map<String, byte[]> jarEntries = new HashMap<>();
+            JarEntry entry;
+            while ((entry = jarStream.getNextJarEntry()) != null) {
+                jarEntries.put(entry.getName(), jarStream.readAllBytes());
+            }
+            String mainClassName = manifest.getMainAttributes().getValue(Attributes.Name.MAIN_CLASS);
+            return Optional.of(new CompiledJarFile(mainClassName, jarEntries));
+        } catch (IOException e) {
+            // A cache entry which cannot be read is regenerated.
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Caches the code generated for the given module, replacing the previously cached code of the module.
+     *
+     * @param pkgID           module ID
+     * @param key             key of the code
+     * @param compiledJarFile generated code
+     */
+    void put(PackageID pkgID, String key, CompiledJarFile compiledJarFile) {
+        if (compiledJarFile == null || compiledJarFile.getJarEntries().isEmpty()) {
+            return;
+        }
+
+        Manifest manifest = new Manifest();
+        Attributes mainAttributes = manifest.getMainAttributes();
+        mainAttributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        compiledJarFile.getMainClassName().ifPresent(mainClassName ->
+                mainAttributes.put(Attributes.Name.MAIN_CLASS, mainClassName));
+
+        Path moduleCacheDir = getModuleCacheDir(pkgID);
+        Path tempJarPath = null;
+        try {
+            Files.createDirectories(moduleCacheDir);
+            removeCachedJars(moduleCacheDir);
+            // The jar is written to a temporary file first, so that a partially written jar is never read.
+            tempJarPath = Files.createTempFile(moduleCacheDir, "codegen-", ".tmp");
+            try (JarOutputStream jarStream = new JarOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempJarPath)), manifest)) {
+                for (Map.Entry<String, byte[]> jarEntry : compiledJarFile.getJarEntries().entrySet()) {
+                    jarStream.putNextEntry(new JarEntry(jarEntry.getKey()));
+                    jarStream.write(jarEntry.getValue());
+                    jarStream.closeEntry();
+                }
+            }
+            Files.move(tempJarPath, moduleCacheDir.resolve(key + JAR_EXT), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // Failing to cache the code does not fail the compilation, the code is generated again next time.
+        } finally {
+            if (tempJarPath != null) {
+                try {
+                    Files.deleteIfExists(tempJarPath);
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * Caches the BIR of the given module, so that later builds load the module from its BIR if its sources are
+     * unchanged. The module is cached only if its sources were read in this build, and its code is cached by the given
+     * key.
+     *
+     * @param packageSymbol      symbol of the module
+     * @param key                key of the code of the module
+     * @param moduleDependencies platform libraries of the module
+     */
+    void putModule(BPackageSymbol packageSymbol, String key, Set<Path> moduleDependencies) {
+        String sourceDigest = this.sourceDigests.get(packageSymbol.pkgID.toString());
+        List<BPackageSymbol> imports = sortModules(packageSymbol.imports);
+        Optional<String> importsDigest = getImportsDigest(imports);
+        if (sourceDigest == null || !importsDigest.isPresent() || packageSymbol.birPackageFile == null) {
+            removeModule(packageSymbol.pkgID);
+            return;
+        }
+
+        Properties moduleInfo = new Properties();
+        moduleInfo.setProperty(SOURCE_DIGEST, sourceDigest);
+        moduleInfo.setProperty(IMPORTS_DIGEST, importsDigest.get());
+        moduleInfo.setProperty(JAR_KEY, key);
+        moduleInfo.setProperty(ENTRY_POINT_EXISTS, Boolean.toString(packageSymbol.entryPointExists));
+        moduleInfo.setProperty(IMPORT_COUNT, Integer.toString(imports.size()));
+        for (int i = 0; i < imports.size(); i++) {
+            PackageID importID = imports.get(i).pkgID;
+            moduleInfo.setProperty(IMPORT_PREFIX + i, importID.orgName.value + "/" + importID.name.value + "/" +
+                    importID.version.value);
+        }
+        List<Path> dependencies = sortDependencies(moduleDependencies);
+        moduleInfo.setProperty(LIB_COUNT, Integer.toString(dependencies.size()));
+        for (int i = 0; i < dependencies.size(); i++) {
+            moduleInfo.setProperty(LIB_PREFIX + i, dependencies.get(i).toString());
+            moduleInfo.setProperty(LIB_PREFIX + i + LIB_INFO_SUFFIX, getDependencyInfo(dependencies.get(i)));
+        }
+
+        Path moduleCacheDir = getModuleCacheDir(packageSymbol.pkgID);
+        try {
+            Files.createDirectories(moduleCacheDir);
+            byte[] birContent = PackageFileWriter.writePackage(
+                    new BIRPackageFile(packageSymbol.birPackageFile.pkgBirBinaryContent));
+            // The module info is written last, since it refers to the BIR and the code of the module.
+            writeAtomically(moduleCacheDir, MODULE_BIR_FILE_NAME, outputStream -> outputStream.write(birContent));
+            writeAtomically(moduleCacheDir, MODULE_INFO_FILE_NAME,
+                            outputStream -> moduleInfo.store(outputStream, null));
+        } catch (IOException e) {
+            // Failing to cache the module does not fail the compilation, the module is compiled again next time.
+            removeModule(packageSymbol.pkgID);
+        }
+    }
+
+    /**
+     * Removes the BIR cached for the given module, so that later builds compile the module from its sources.
+     *
+     * @param pkgID module ID
+     */
+    void removeModule(PackageID pkgID) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(getModuleCacheDir(pkgID).resolve(MODULE_INFO_FILE_NAME));
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    private Properties readModuleInfo(Path moduleCacheDir) {
+        Path moduleInfoPath = moduleCacheDir.resolve(MODULE_INFO_FILE_NAME);
+        if (!Files.exists(moduleInfoPath)) {
+            return null;
+        }
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(moduleInfoPath))) {
+            Properties moduleInfo = new Properties();
+            moduleInfo.load(inputStream);
+            return moduleInfo;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void writeAtomically(Path dir, String fileName, FileContentWriter writer) throws IOException {
+        // The file is written to a temporary file first, so that a partially written file is never read.
+        Path tempPath = Files.createTempFile(dir, "module-", ".tmp");
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempPath))) {
+                writer.write(outputStream);
+            }
+            Files.move(tempPath, dir.resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private static void updateVersions(MessageDigest digest) {
+        digest.update(RepoUtils.getBallerinaVersion().getBytes(StandardCharsets.UTF_8));
+        // The generated main method verifies the compatibility with the Java version used for the compilation.
+        digest.update(String.valueOf(System.getProperty("java.version")).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean updateModules(MessageDigest digest, List<BPackageSymbol> modules) {
+        for (BPackageSymbol module : modules) {
+            if (module.birPackageFile == null) {
+                return false;
+            }
+            digest.update(module.pkgID.toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(module.birPackageFile.pkgBirBinaryContent);
+        }
+        return true;
+    }
+
+    private static String toHex(MessageDigest digest) {
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    private static List<Path> sortDependencies(Set<Path> moduleDependencies) {
+        List<Path> dependencies = new ArrayList<>(moduleDependencies);
+        dependencies.sort(Comparator.comparing(Path::toString));
+        return dependencies;
+    }
+
+    private static String getDependencyInfo(Path dependency) {
+        // Platform libraries are identified by their modification time rather than their content, since they are
+        // large and rarely change.
+        return dependency + ":" + dependency.toFile().length() + ":" + dependency.toFile().lastModified();
+    }
+
+    private static List<BPackageSymbol> sortModules(List<BPackageSymbol> modules) {
+        return modules.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted(Comparator.comparing(module -> module.pkgID.toString()))
+                .collect(Collectors.toList());
+    }
+
+    private void collectModules(BPackageSymbol packageSymbol, List<BPackageSymbol> modules, Set<PackageID> visited) {
+        if (!visited.add(packageSymbol.pkgID)) {
+            return;
+        }
+        modules.add(packageSymbol);
+        for (BPackageSymbol importSymbol : sortModules(packageSymbol.imports)) {
+            collectModules(importSymbol, modules, visited);
+        }
+    }
+
+    private Path getModuleCacheDir(PackageID pkgID) {
+        return this.cacheDir.resolve(pkgID.orgName.value).resolve(pkgID.name.value).resolve(pkgID.version.value);
+    }
+
+    private void removeCachedJars(Path moduleCacheDir) throws IOException {
+        List<Path> cachedJars;
+        try (Stream<Path> paths = Files.list(moduleCacheDir)) {
+            cachedJars = paths.filter(path -> path.toString().endsWith(JAR_EXT)).collect(Collectors.toList());
+        }
+        for (Path cachedJar : cachedJars) {
+            Files.deleteIfExists(cachedJar);
+        }
+    }
+
+    /**
+     * Writes the content of a cached file.
+     */
+    private interface FileContentWriter {
+
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * A module cached by a previous build, which is loaded from its BIR.
+     */
+    public static class CachedModule {
+
+        private final byte[] birContent;
+        private final List<String[]> imports;
+        private final String importsDigest;
+        private final CompiledJarFile compiledJarFile;
+        private final boolean entryPointExists;
+
+        private CachedModule(byte[] birContent, List<String[]> imports, String importsDigest,
+                             CompiledJarFile compiledJarFile, boolean entryPointExists) {
+            this.birContent = birContent;
+            this.imports = imports;
+            this.importsDigest = importsDigest;
+            this.compiledJarFile = compiledJarFile;
+            this.entryPointExists = entryPointExists;
+        }
+
+        /**
+         * Returns the BIR of the module, along with the magic value and the version of the BIR.
+         *
+         * @return the BIR of the module
+         */
+        public byte[] getBirContent() {
+            return birContent;
+        }
+
+        /**
+         * Returns the imports the module was compiled with, each as the organization, the name and the version of the
+         * imported module.
+         *
+         * @return the imports of the module
+         */
+        public List<String[]> getImports() {
+            return imports;
+        }
+
+        /**
+         * Returns the digest of the BIR of the imports the module was compiled with, see
+         * {@link CodeGenCache#getImportsDigest(List)}.
+         *
+         * @return the digest of the imports
+         */
+        public String getImportsDigest() {
+            return importsDigest;
+        }
+
+        public CompiledJarFile getCompiledJarFile() {
+            return compiledJarFile;
+        }
+
+        public boolean isEntryPointExists() {
+            return entryPointExists;
+        }
+    }
+}
@@ -21,10 +21,12 @@ import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.compiler.JarResolver;
 import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
 import org.wso2.ballerinalang.compiler.bir.emit.BIREmitter;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.CompilerPluginRunner;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
@@ -48,6 +50,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.ballerinalang.compiler.JarResolver.JAR_RESOLVER_KEY;
@@ -72,6 +75,8 @@ public class CodeGenerator {
     private boolean dumbBIR;
     private final String dumpBIRFile;
     private boolean skipModuleDependencies;
+    private CodeGenCache codeGenCache;
+    private CompilerPluginRunner compilerPluginRunner;
     private Path ballerinaHome = Paths.get(System.getProperty(BALLERINA_HOME));
 
     private CodeGenerator(CompilerContext compilerContext) {
@@ -89,6 +94,8 @@ public class CodeGenerator {
         this.dumpBIRFile = compilerOptions.get(CompilerOptionName.DUMP_BIR_FILE);
         this.skipModuleDependencies = getBooleanValueIfSet(compilerOptions,
                 CompilerOptionName.SKIP_MODULE_DEPENDENCIES);
+        this.codeGenCache = CodeGenCache.getInstance(compilerContext);
+        this.compilerPluginRunner = CompilerPluginRunner.getInstance(compilerContext);
     }
 
     public static CodeGenerator getInstance(CompilerContext context) {
@@ -125,7 +132,7 @@ public class CodeGenerator {
         Set<Path> moduleDependencies = findDependencies(bLangPackage.packageID);
 
         // generate module jar
-        generate(bLangPackage.symbol, moduleDependencies);
+        generateModule(bLangPackage.symbol, moduleDependencies);
 
         if (skipTests || !bLangPackage.hasTestablePackage()) {
             return bLangPackage;
@@ -143,6 +150,47 @@ public class CodeGenerator {
         return bLangPackage;
     }
 
+    private void generateModule(BPackageSymbol packageSymbol, Set<Path> moduleDependencies) {
+
+        if (!codeGenCache.isEnabled()) {
+            generate(packageSymbol, moduleDependencies);
+            return;
+        }
+
+        Optional<String> cacheKey = codeGenCache.getKey(packageSymbol, moduleDependencies);
+        if (cacheKey.isPresent()) {
+            Optional<CompiledJarFile> cachedJarFile = codeGenCache.get(packageSymbol.pkgID, cacheKey.get());
+            if (cachedJarFile.isPresent()) {
+                // The modules importing this module are generated using its BIR, hence the identifiers are encoded
+                // as they would be during the code generation.
+                encodeModuleIdentifiers(packageSymbol.bir, Names.getInstance(this.compilerContext));
+                packageSymbol.compiledJarFile = cachedJarFile.get();
+                putModule(packageSymbol, cacheKey.get(), moduleDependencies);
+                return;
+            }
+        }
+
+        int errorCount = dlog.errorCount();
+        generate(packageSymbol, moduleDependencies);
+        if (cacheKey.isPresent() && dlog.errorCount() == errorCount) {
+            codeGenCache.put(packageSymbol.pkgID, cacheKey.get(), packageSymbol.compiledJarFile);
+            putModule(packageSymbol, cacheKey.get(), moduleDependencies);
+        } else {
+            codeGenCache.removeModule(packageSymbol.pkgID);
+        }
+    }
+
+    private void putModule(BPackageSymbol packageSymbol, String cacheKey, Set<Path> moduleDependencies) {
+
+        // The modules processed by compiler plugins are compiled from their sources, so that the plugins process them
+        // in every build.
+        if (compilerPluginRunner.isProcessed(packageSymbol.pkgID)) {
+            codeGenCache.removeModule(packageSymbol.pkgID);
+            return;
+        }
+        codeGenCache.putModule(packageSymbol, cacheKey, moduleDependencies);
+    }
+
     private void generate(BPackageSymbol packageSymbol, Set<Path> moduleDependencies) {
 
         dlog.setCurrentPackageId(packageSymbol.pkgID);
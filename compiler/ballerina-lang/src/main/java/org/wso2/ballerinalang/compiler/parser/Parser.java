@@ -37,6 +37,7 @@ import org.wso2.ballerinalang.compiler.util.ProjectDirs;
 
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * This class is responsible for parsing Ballerina source files.
@@ -98,6 +99,29 @@ public class Parser {
         return pkgNode;
     }
 
+    /**
+     * Parses the syntax trees of the sources of the given packages concurrently. Syntax trees do not depend on the
+     * compiler context, unlike the rest of the compilation, hence the packages can be parsed before they are loaded
+     * one after the other. The source entries keep their code and syntax trees, which are used when the packages are
+     * loaded from the same {@link PackageSource} instances by {@link #parse(PackageSource, Path)}.
+     *
+     * @param pkgSources sources of the packages to be parsed
+     */
+    public void parseSyntaxTrees(List<PackageSource> pkgSources) {
+        pkgSources.stream()
+                .flatMap(pkgSource -> pkgSource.getPackageSourceEntries().stream())
+                .parallel()
+                .forEach(this::parseSyntaxTree);
+    }
+
+    private void parseSyntaxTree(CompilerInput sourceEntry) {
+        try {
+            sourceEntry.getTree();
+        } catch (RuntimeException e) {
+            // The error is reported when the source is parsed along with the package.
+        }
+    }
+
     private CompilationUnitNode generateCompilationUnitNew(CompilerInput sourceEntry, PackageID packageID) {
         String entryName = sourceEntry.getEntryName();
         BLangCompilationUnit compilationUnit;
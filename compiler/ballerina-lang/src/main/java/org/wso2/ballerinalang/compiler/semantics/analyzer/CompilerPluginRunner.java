@@ -23,6 +23,7 @@ import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.compiler.plugins.CompilerPlugin;
 import org.ballerinalang.compiler.plugins.SupportedAnnotationPackages;
 import org.ballerinalang.compiler.plugins.SupportedResourceParamTypes;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.TopLevelNode;
@@ -95,6 +96,8 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
     private Map<CompilerPlugin, List<DefinitionID>> resourceTypeProcessorMap;
     private Map<CompilerPlugin, BType> serviceListenerMap;
     private List<CompilerPlugin> failedPlugins;
+    private Set<PackageID> processedPackages;
+    private PackageID currentPackageId;
 
 
     public static CompilerPluginRunner getInstance(CompilerContext context) {
@@ -122,6 +125,7 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
         this.resourceTypeProcessorMap = new HashMap<>();
         this.serviceListenerMap = new HashMap<>();
         this.failedPlugins = new ArrayList<>();
+        this.processedPackages = new HashSet<>();
 
         ServiceLoader<CompilerPlugin> pluginLoader = ServiceLoader.load(CompilerPlugin.class);
         pluginLoader.forEach(plugin -> pluginList.add(plugin));
@@ -130,11 +134,23 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
     public BLangPackage runPlugins(BLangPackage pkgNode) {
         this.dlog.setCurrentPackageId(pkgNode.packageID);
         this.defaultPos = pkgNode.pos;
+        this.currentPackageId = pkgNode.packageID;
         loadPlugins();
         pkgNode.accept(this);
         return pkgNode;
     }
 
+    /**
+     * Checks whether a plugin processed an annotated node or a service of the given package. Such packages are
+     * compiled from their sources in every build, since the plugins may validate them or generate artifacts from them.
+     *
+     * @param packageID ID of the package
+     * @return true if a plugin processed the package
+     */
+    public boolean isProcessed(PackageID packageID) {
+        return this.processedPackages.contains(packageID);
+    }
+
     public void visit(BLangPackage pkgNode) {
         if (pkgNode.completedPhases.contains(CompilerPhase.COMPILER_PLUGIN)) {
             return;
@@ -316,7 +332,9 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
             }
         }
 
-
+        if (!attachmentMap.isEmpty()) {
+            this.processedPackages.add(this.currentPackageId);
+        }
         for (CompilerPlugin processor : attachmentMap.keySet()) {
             if (failedPlugins.contains(processor)) {
                 continue;
@@ -415,6 +433,7 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
 
     private void invokeServiceProcessor(BLangService serviceNode, List<BLangAnnotationAttachment> attachments,
             BiConsumer<CompilerPlugin, List<AnnotationAttachmentNode>> notifier, CompilerPlugin plugin) {
+        this.processedPackages.add(this.currentPackageId);
         notifier.accept(plugin, Collections.unmodifiableList(attachments));
         // Hacking till we figure out service type.
         if (serviceNode.listenerType == null) {
@@ -180,9 +180,12 @@ import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
 import org.wso2.ballerinalang.util.Lists;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -224,6 +227,8 @@ public class TaintAnalyzer extends BLangNodeVisitor {
     private List<BlockedNode> blockedNodeList;
     private List<BlockedNode> blockedEntryPointNodeList;
     private List<BInvokableSymbol> ignoredInvokableSymbol;
+    // Invocation which blocked the invokable that was analyzed last, used to decide when to revisit the invokable.
+    private BlockingNode lastBlockingNode;
 
     private Stack<AnalysisState> analysisStateStack;
     private Set<TaintRecord.TaintError> dlogSet;
@@ -2242,6 +2247,10 @@ public class TaintAnalyzer extends BLangNodeVisitor {
         if (getCurrentAnalysisState().blockedNode != null) {
             // Add the function being blocked into the blocked node list for later processing.
             getCurrentAnalysisState().blockedNode.invokableNode = invokableNode;
+            if (getCurrentAnalysisState().blockedNode.blockingNode != null) {
+                // A function blocked on a lambda is blocked on the invocation which blocked the lambda.
+                lastBlockingNode = getCurrentAnalysisState().blockedNode.blockingNode;
+            }
             if (analyzerPhase == AnalyzerPhase.INITIAL_ANALYSIS) {
                 if (entryPointPreAnalysis || entryPointAnalysis) {
                     blockedEntryPointNodeList.add(getCurrentAnalysisState().blockedNode);
@@ -2311,7 +2320,7 @@ public class TaintAnalyzer extends BLangNodeVisitor {
     }
 
     private void addToBlockedList(BLangInvocation invocationExpr) {
-        BlockingNode blockingNode = new BlockingNode(invocationExpr.symbol.pkgID, invocationExpr.symbol.name);
+        BlockingNode blockingNode = new BlockingNode((BInvokableSymbol) invocationExpr.symbol);
         getCurrentAnalysisState().blockedNode = new BlockedNode(this.currPkgEnv, blockingNode);
         stopAnalysis = true;
         getCurrentAnalysisState().taintedStatus = TaintedStatus.UNTAINTED;
@@ -2928,30 +2937,162 @@ public class TaintAnalyzer extends BLangNodeVisitor {
         return TaintedStatus.UNTAINTED;
     }
 
+    /**
+     * Resolve the taint tables of invokables which were blocked on invocations of invokables without a taint table.
+     * <p>
+     * A blocked invokable is only revisited once the invokable it was blocked on has been resolved, hence invokables
+     * get resolved bottom-up along the call graph instead of revisiting all blocked invokables until none changes.
+     * When no blocked invokable can make progress, the remaining ones wait on each other through recursive
+     * invocations. Only the strongly connected components of the waits-on graph which do not wait on another
+     * component are then resolved using the annotations of the looping invocations, and the invokables waiting on
+     * them continue bottom-up.
+     *
+     * @param blockedNodeList invokables blocked in the initial analysis
+     */
     private void resolveBlockedInvokable(List<BlockedNode> blockedNodeList) {
-        List<BlockedNode> remainingBlockedNodeList = new ArrayList<>();
-        // Revisit blocked nodes and attempt to generate the table.
+        // Blocked invokables keyed by the invokable itself.
+        Map<BlockingNode, BlockedNode> unresolvedNodes = new LinkedHashMap<>();
+        // Blocked invokables keyed by the invokable they wait on. Invokables blocked without a known blocking
+        // invocation are kept with a null key, and are revisited whenever another invokable gets resolved.
+        Map<BlockingNode, List<BlockedNode>> waitingNodes = new HashMap<>();
+        Deque<BlockedNode> worklist = new ArrayDeque<>();
         for (BlockedNode blockedNode : blockedNodeList) {
-            this.env = blockedNode.pkgSymbol;
-            blockedNode.invokableNode.accept(this);
-            if (blockedNode.invokableNode.symbol.taintTable == null) {
-                remainingBlockedNodeList.add(blockedNode);
+            if (unresolvedNodes.putIfAbsent(getInvokableKey(blockedNode), blockedNode) != null) {
+                continue;
+            }
+            if (blockedNode.blockingNode != null && blockedNode.blockingNode.symbol.taintTable == null) {
+                waitingNodes.computeIfAbsent(blockedNode.blockingNode, k -> new ArrayList<>()).add(blockedNode);
+            } else {
+                worklist.add(blockedNode);
             }
         }
-        // If list is not moving, there is a recursion. Derive the tainted status of all the blocked functions by using
-        // annotations and if annotations are not present generate error.
-        if (remainingBlockedNodeList.size() != 0 && blockedNodeList.size() == remainingBlockedNodeList.size()) {
-            for (BlockedNode blockedNode : remainingBlockedNodeList) {
+
+        boolean resolvedAny = false;
+        while (!unresolvedNodes.isEmpty()) {
+            analyzerPhase = AnalyzerPhase.BLOCKED_NODE_ANALYSIS;
+            while (!worklist.isEmpty()) {
+                BlockedNode blockedNode = worklist.poll();
+                revisitBlockedNode(blockedNode);
+                if (blockedNode.invokableNode.symbol.taintTable != null) {
+                    resolvedAny = true;
+                    resolveWaitingNodes(blockedNode, unresolvedNodes, waitingNodes, worklist);
+                } else {
+                    waitOnLastBlockingNode(blockedNode, waitingNodes);
+                }
+            }
+            // Invokables may get resolved while analyzing others, e.g. lambdas within the enclosing function.
+            for (BlockedNode blockedNode : new ArrayList<>(unresolvedNodes.values())) {
+                if (blockedNode.invokableNode.symbol.taintTable != null) {
+                    resolvedAny = true;
+                    resolveWaitingNodes(blockedNode, unresolvedNodes, waitingNodes, worklist);
+                }
+            }
+            if (resolvedAny && waitingNodes.containsKey(null)) {
+                worklist.addAll(waitingNodes.remove(null));
+            }
+            resolvedAny = false;
+            if (!worklist.isEmpty() || unresolvedNodes.isEmpty()) {
+                continue;
+            }
+
+            // There is a recursion. Derive the tainted status of the looping invokables by using annotations and if
+            // annotations are not present generate error.
+            int ignoredInvokableCount = ignoredInvokableSymbol.size();
+            List<BlockedNode> loopingNodes = findLoopingNodes(unresolvedNodes, waitingNodes);
+            for (BlockedNode blockedNode : loopingNodes) {
                 analyzerPhase = AnalyzerPhase.LOOP_ANALYSIS;
                 this.env = blockedNode.pkgSymbol;
                 blockedNode.invokableNode.accept(this);
             }
             analyzerPhase = AnalyzerPhase.LOOPS_RESOLVED_ANALYSIS;
-            resolveBlockedInvokable(remainingBlockedNodeList);
-        } else if (remainingBlockedNodeList.size() > 0) {
-            resolveBlockedInvokable(remainingBlockedNodeList);
+            for (BlockedNode blockedNode : loopingNodes) {
+                revisitBlockedNode(blockedNode);
+                if (blockedNode.invokableNode.symbol.taintTable != null) {
+                    resolvedAny = true;
+                    resolveWaitingNodes(blockedNode, unresolvedNodes, waitingNodes, worklist);
+                } else {
+                    waitOnLastBlockingNode(blockedNode, waitingNodes);
+                }
+            }
+            if (!resolvedAny && ignoredInvokableSymbol.size() == ignoredInvokableCount) {
+                // Neither an invokable got resolved nor a new looping invocation was found, hence no progress can be
+                // made by analyzing the loops again.
+                break;
+            }
         }
-        // If remainingBlockedNodeList is empty, end the recursion.
+    }
+
+    private void revisitBlockedNode(BlockedNode blockedNode) {
+        lastBlockingNode = null;
+        this.env = blockedNode.pkgSymbol;
+        blockedNode.invokableNode.accept(this);
+    }
+
+    private void waitOnLastBlockingNode(BlockedNode blockedNode, Map<BlockingNode, List<BlockedNode>> waitingNodes) {
+        BlockingNode blockingNode = lastBlockingNode;
+        if (blockingNode != null && blockingNode.symbol.taintTable != null) {
+            blockingNode = null;
+        }
+        blockedNode.blockingNode = blockingNode;
+        waitingNodes.computeIfAbsent(blockingNode, k -> new ArrayList<>()).add(blockedNode);
+    }
+
+    private void resolveWaitingNodes(BlockedNode resolvedNode, Map<BlockingNode, BlockedNode> unresolvedNodes,
+                                     Map<BlockingNode, List<BlockedNode>> waitingNodes, Deque<BlockedNode> worklist) {
+        BlockingNode invokableKey = getInvokableKey(resolvedNode);
+        unresolvedNodes.remove(invokableKey);
+        List<BlockedNode> waitingOnResolvedNode = waitingNodes.remove(invokableKey);
+        if (waitingOnResolvedNode != null) {
+            worklist.addAll(waitingOnResolvedNode);
+        }
+    }
+
+    /**
+     * Find the unresolved invokables which belong to a strongly connected component of the waits-on graph that does
+     * not wait on another component. Each invokable waits on at most one other invokable, hence the components with
+     * more than one invokable are simple cycles. An invokable waiting on an invokable which is not being resolved, or
+     * on an unknown invocation, forms a component on its own.
+     *
+     * @param unresolvedNodes blocked invokables keyed by the invokable
+     * @param waitingNodes    blocked invokables keyed by the invokable they wait on, updated to exclude the looping
+     *                        invokables
+     * @return invokables to be resolved using loop analysis
+     */
+    private List<BlockedNode> findLoopingNodes(Map<BlockingNode, BlockedNode> unresolvedNodes,
+                                               Map<BlockingNode, List<BlockedNode>> waitingNodes) {
+        Map<BlockedNode, Integer> visitedIn = new HashMap<>();
+        Set<BlockedNode> loopingNodes = new LinkedHashSet<>();
+        int walk = 0;
+        for (BlockedNode start : unresolvedNodes.values()) {
+            if (visitedIn.containsKey(start)) {
+                continue;
+            }
+            // Follow the invokables being waited on, until reaching one which was already visited or which does not
+            // wait on an unresolved invokable.
+            List<BlockedNode> path = new ArrayList<>();
+            BlockedNode current = start;
+            while (current != null && !visitedIn.containsKey(current)) {
+                visitedIn.put(current, walk);
+                path.add(current);
+                current = current.blockingNode == null ? null : unresolvedNodes.get(current.blockingNode);
+            }
+            if (current == null) {
+                loopingNodes.add(path.get(path.size() - 1));
+            } else if (visitedIn.get(current) == walk) {
+                loopingNodes.addAll(path.subList(path.indexOf(current), path.size()));
+            }
+            walk++;
+        }
+
+        for (List<BlockedNode> waiting : waitingNodes.values()) {
+            waiting.removeAll(loopingNodes);
+        }
+        waitingNodes.values().removeIf(List::isEmpty);
+        return new ArrayList<>(loopingNodes);
+    }
+
+    private BlockingNode getInvokableKey(BlockedNode blockedNode) {
+        return new BlockingNode(blockedNode.invokableNode.symbol);
     }
 
     private BLangSimpleVariable getParam(BLangInvokableNode invNode, int paramIndex, int requiredParamCount) {
@@ -2982,10 +3123,12 @@ public class TaintAnalyzer extends BLangNodeVisitor {
 
         PackageID packageID;
         Name name;
+        BInvokableSymbol symbol;
 
-        BlockingNode(PackageID packageID, Name name) {
-            this.packageID = packageID;
-            this.name = name;
+        BlockingNode(BInvokableSymbol symbol) {
+            this.packageID = symbol.pkgID;
+            this.name = symbol.name;
+            this.symbol = symbol;
         }
 
         @Override
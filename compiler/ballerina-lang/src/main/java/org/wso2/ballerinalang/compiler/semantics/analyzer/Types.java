@@ -26,11 +26,14 @@ import org.ballerinalang.model.types.SelectivelyImmutableReferenceType;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.util.BLangCompilerConstants;
 import org.ballerinalang.util.diagnostic.DiagnosticCode;
+import org.wso2.ballerinalang.compiler.CompilerProfiler;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BAttachedFunction;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BObjectTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BStructureTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
@@ -84,7 +87,9 @@ import java.math.MathContext;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -129,6 +134,26 @@ public class Types {
     private int finiteTypeCount = 0;
     private BUnionType expandedXMLBuiltinSubtypes;
 
+    // Maximum number of relations kept in each cache, so that a long lived compiler context, such as one of a
+    // language server, does not retain the relations of all the types it has resolved.
+    static final int MAX_CACHED_TYPE_RELATIONS = 1 << 16;
+
+    // Results of top level assignability and type equivalence queries. Pairs which are assumed to be related while
+    // they are still being resolved within a query are never cached, only the completed result of the query.
+    // Relations between resolved types, which are not mutated anymore, are kept for the rest of the compilation,
+    // while relations between other types are only cached until the cache is reset.
+    private final Map<TypeIdentityPair, Boolean> assignableCache = new HashMap<>();
+    private final Map<TypeIdentityPair, Boolean> sameTypeCache = new HashMap<>();
+    private final Map<TypeIdentityPair, Boolean> resolvedAssignableCache = new HashMap<>();
+    private final Map<TypeIdentityPair, Boolean> resolvedSameTypeCache = new HashMap<>();
+    private final Set<BType> resolvedTypes = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<BPackageSymbol> resolvedModules = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean relationCacheEnabled = false;
+    private long assignableCacheHits;
+    private long assignableCacheMisses;
+    private long sameTypeCacheHits;
+    private long sameTypeCacheMisses;
+
     public static Types getInstance(CompilerContext context) {
         Types types = context.get(TYPES_KEY);
         if (types == null) {
@@ -149,6 +174,75 @@ public class Types {
                                                             symTable.xmlElementType, symTable.xmlCommentType,
                                                             symTable.xmlPIType, symTable.xmlTextType);
         this.typeBuilder = new ResolvedTypeBuilder();
+
+        CompilerProfiler profiler = CompilerProfiler.getInstance(context);
+        profiler.registerCounter("typeRelationCache.isAssignable.hits", () -> assignableCacheHits);
+        profiler.registerCounter("typeRelationCache.isAssignable.misses", () -> assignableCacheMisses);
+        profiler.registerCounter("typeRelationCache.isSameType.hits", () -> sameTypeCacheHits);
+        profiler.registerCounter("typeRelationCache.isSameType.misses", () -> sameTypeCacheMisses);
+    }
+
+    /**
+     * Clears the cached type relations and enables or disables caching them. A cached relation is only valid as long
+     * as neither of the types is mutated, hence caching must only be enabled while the types are not mutated in
+     * place, i.e. not while modules are defined, type checked or desugared (e.g. union members are added and record
+     * fields are defined after the types are created). Cached types are compared by identity, as the hash codes of
+     * some types depend on their members.
+     * <p>
+     * Relations between types marked as resolved with {@link #markTypesResolved(BPackageSymbol)} are cached
+     * regardless, and are not cleared.
+     *
+     * @param enabled whether type relations are cached until the cache is reset again
+     */
+    public void resetRelationCache(boolean enabled) {
+        assignableCache.clear();
+        sameTypeCache.clear();
+        relationCacheEnabled = enabled;
+    }
+
+    /**
+     * Marks the types defined in the given module as resolved, once the module is no longer going to be compiled,
+     * i.e. it is completely compiled or loaded from BIR. The relations between resolved types are cached for the
+     * rest of the compilation, including while other modules are type checked.
+     *
+     * @param pkgSymbol symbol of the module
+     */
+    public void markTypesResolved(BPackageSymbol pkgSymbol) {
+        if (resolvedModules.add(pkgSymbol)) {
+            markTypesResolved(pkgSymbol.scope);
+        }
+    }
+
+    private void markTypesResolved(Scope scope) {
+        if (scope == null) {
+            return;
+        }
+        for (Scope.ScopeEntry entry : scope.entries.values()) {
+            for (; entry != null && entry.symbol != null; entry = entry.next) {
+                if ((entry.symbol.tag & SymTag.TYPE) == SymTag.TYPE && entry.symbol.type != null) {
+                    resolvedTypes.add(entry.symbol.type);
+                }
+            }
+        }
+    }
+
+    long getRelationCacheHits() {
+        return assignableCacheHits + sameTypeCacheHits;
+    }
+
+    private Map<TypeIdentityPair, Boolean> getRelationCache(BType source, BType target,
+                                                            Map<TypeIdentityPair, Boolean> resolvedCache,
+                                                            Map<TypeIdentityPair, Boolean> cache) {
+        if (resolvedTypes.contains(source) && resolvedTypes.contains(target)) {
+            return resolvedCache;
+        }
+        return relationCacheEnabled ? cache : null;
+    }
+
+    private static void cacheRelation(Map<TypeIdentityPair, Boolean> cache, TypeIdentityPair pair, boolean result) {
+        if (cache.size() < MAX_CACHED_TYPE_RELATIONS) {
+            cache.put(pair, result);
+        }
     }
 
     public List<BType> checkTypes(BLangExpression node,
@@ -223,7 +317,22 @@ public class Types {
     }
 
     public boolean isSameType(BType source, BType target) {
-        return isSameType(source, target, new HashSet<>());
+        Map<TypeIdentityPair, Boolean> cache = getRelationCache(source, target, resolvedSameTypeCache, sameTypeCache);
+        if (cache == null) {
+            return isSameType(source, target, new HashSet<>());
+        }
+
+        TypeIdentityPair pair = new TypeIdentityPair(source, target);
+        Boolean cachedResult = cache.get(pair);
+        if (cachedResult != null) {
+            sameTypeCacheHits++;
+            return cachedResult;
+        }
+        sameTypeCacheMisses++;
+
+        boolean result = isSameType(source, target, new HashSet<>());
+        cacheRelation(cache, pair, result);
+        return result;
     }
 
     private boolean isSameType(BType source, BType target, Set<TypePair> unresolvedTypes) {
@@ -424,7 +533,23 @@ public class Types {
      * @return true if source type is assignable to the target type.
      */
     public boolean isAssignable(BType source, BType target) {
-        return isAssignable(source, target, new HashSet<>());
+        Map<TypeIdentityPair, Boolean> cache = getRelationCache(source, target, resolvedAssignableCache,
+                                                                assignableCache);
+        if (cache == null) {
+            return isAssignable(source, target, new HashSet<>());
+        }
+
+        TypeIdentityPair pair = new TypeIdentityPair(source, target);
+        Boolean cachedResult = cache.get(pair);
+        if (cachedResult != null) {
+            assignableCacheHits++;
+            return cachedResult;
+        }
+        assignableCacheMisses++;
+
+        boolean result = isAssignable(source, target, new HashSet<>());
+        cacheRelation(cache, pair, result);
+        return result;
     }
 
     boolean isStampingAllowed(BType source, BType target) {
@@ -3353,6 +3478,34 @@ public class Types {
         }
     }
 
+    /**
+     * A pair of types which is compared by the identity of the types, unlike {@link TypePair}.
+     */
+    private static class TypeIdentityPair {
+        private final BType sourceType;
+        private final BType targetType;
+
+        TypeIdentityPair(BType sourceType, BType targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TypeIdentityPair)) {
+                return false;
+            }
+
+            TypeIdentityPair other = (TypeIdentityPair) obj;
+            return this.sourceType == other.sourceType && this.targetType == other.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+    }
+
     /**
      * A functional interface for parameterizing the type of type checking that needs to be done on the source and
      * target types.
@@ -95,6 +95,10 @@ public class ProjectDirConstants {
     public static final String BIR_CACHE_DIR_NAME = "bir_cache";
     public static final String JAR_CACHE_DIR_NAME = "jar_cache";
     public static final String JSON_CACHE_DIR_NAME = "json_cache";
+    public static final String EXECUTABLE_LAYER_CACHE_DIR_NAME = "executable_layer_cache";
+    public static final String EXECUTABLE_LIB_DIR_NAME = "lib";
+    public static final String CODE_GEN_CACHE_DIR_NAME = "codegen_cache";
+    public static final String TEST_IMPACT_DIR_NAME = "test_impact";
 
     public static final String BLANG_PKG_DEFAULT_VERSION = "0.0.0";
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.ballerinalang.compiler.semantics.analyzer;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for caching the type relations in {@link Types}.
+ *
+ * @since 2.0.0
+ */
+public class TypeRelationCacheTest {
+
+    private Types types;
+    private SymbolTable symTable;
+
+    @BeforeClass
+    public void init() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context);
+        symTable = SymbolTable.getInstance(context);
+        types = Types.getInstance(context);
+    }
+
+    @AfterMethod
+    public void disableCache() {
+        types.resetRelationCache(false);
+    }
+
+    @Test(description = "Types mutated in place are checked again while the cache is disabled")
+    public void testMutationSeenWhileDisabled() {
+        types.resetRelationCache(false);
+        BUnionType union = BUnionType.create(null, symTable.intType);
+        Assert.assertFalse(types.isAssignable(symTable.stringType, union));
+
+        union.add(symTable.stringType);
+        Assert.assertTrue(types.isAssignable(symTable.stringType, union));
+    }
+
+    @Test(description = "Resetting the cache discards the relations cached before a type was mutated")
+    public void testResetDiscardsCachedRelations() {
+        types.resetRelationCache(true);
+        BUnionType union = BUnionType.create(null, symTable.intType);
+        Assert.assertFalse(types.isAssignable(symTable.stringType, union));
+
+        union.add(symTable.stringType);
+        types.resetRelationCache(true);
+        Assert.assertTrue(types.isAssignable(symTable.stringType, union));
+    }
+
+    @Test(description = "Relations cached for a type are not matched with types which equal it after it is mutated")
+    public void testTypesCachedByIdentity() {
+        types.resetRelationCache(true);
+        List<BType> paramTypes = new ArrayList<>(Collections.singletonList(symTable.intType));
+        BInvokableType source = new BInvokableType(paramTypes, symTable.nilType, null);
+        BInvokableType target = new BInvokableType(Collections.singletonList(symTable.intType), symTable.nilType,
+                                                   null);
+        Assert.assertTrue(types.isSameType(source, target));
+
+        // Adding a parameter changes the hash code of the type. A structurally equal type must not be matched with
+        // the relation cached for the original one.
+        paramTypes.add(symTable.stringType);
+        BInvokableType other = new BInvokableType(new ArrayList<>(paramTypes), symTable.nilType, null);
+        Assert.assertFalse(types.isSameType(other, target));
+    }
+
+    @Test(description = "Relations between resolved types are cached while the cache is disabled, and are kept once " +
+            "it is reset")
+    public void testResolvedTypesCached() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context);
+        SymbolTable symTable = SymbolTable.getInstance(context);
+        Types types = Types.getInstance(context);
+        types.resetRelationCache(false);
+
+        PackageID pkgID = new PackageID(new Name("test"), new Name("resolved"), new Name("1.0.0"));
+        BPackageSymbol pkgSymbol = new BPackageSymbol(pkgID, null, null, SymbolOrigin.COMPILED_SOURCE);
+        pkgSymbol.scope = new Scope(pkgSymbol);
+        BUnionType resolvedUnion = BUnionType.create(null, symTable.intType);
+        Name typeName = new Name("IntType");
+        pkgSymbol.scope.define(typeName, Symbols.createTypeSymbol(SymTag.UNION_TYPE, Flags.PUBLIC, typeName, pkgID,
+                                                                  resolvedUnion, pkgSymbol, null,
+                                                                  SymbolOrigin.COMPILED_SOURCE));
+        types.markTypesResolved(symTable.rootPkgSymbol);
+        types.markTypesResolved(pkgSymbol);
+
+        long hits = types.getRelationCacheHits();
+        Assert.assertFalse(types.isAssignable(symTable.stringType, resolvedUnion));
+        Assert.assertFalse(types.isAssignable(symTable.stringType, resolvedUnion));
+        Assert.assertTrue(types.getRelationCacheHits() > hits);
+
+        // Resolved types are not expected to be mutated. The type is mutated here only to show that the relation is
+        // still served from the cache once the cache is reset.
+        resolvedUnion.add(symTable.stringType);
+        types.resetRelationCache(true);
+        types.resetRelationCache(false);
+        Assert.assertFalse(types.isAssignable(symTable.stringType, resolvedUnion));
+
+        // Relations of types which are not resolved are checked again while the cache is disabled.
+        BUnionType union = BUnionType.create(null, symTable.intType);
+        Assert.assertFalse(types.isAssignable(symTable.stringType, union));
+        union.add(symTable.stringType);
+        Assert.assertTrue(types.isAssignable(symTable.stringType, union));
+    }
+}
@@ -26,7 +26,7 @@ import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.util.exceptions.BLangExceptionHelper;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 import static io.ballerina.runtime.api.ErrorCreator.createError;
 import static io.ballerina.runtime.util.exceptions.BallerinaErrorReasons.BALLERINA_PREFIXED_CONVERSION_ERROR;
@@ -58,7 +58,11 @@ public class CloneUtils {
         }
 
         BRefValue refValue = (BRefValue) value;
-        return refValue.copy(new HashMap<>());
+        if (refValue.isFrozen()) {
+            // Immutable values are not copied, hence there is no need to track the references.
+            return refValue;
+        }
+        return refValue.copy(new IdentityHashMap<>());
     }
 
     /**
@@ -78,7 +82,11 @@ public class CloneUtils {
         }
 
         BRefValue refValue = (BRefValue) value;
-        return refValue.frozenCopy(new HashMap<>());
+        if (refValue.isFrozen()) {
+            // Immutable values are not copied, hence there is no need to track the references.
+            return refValue;
+        }
+        return refValue.frozenCopy(new IdentityHashMap<>());
     }
 
     public static BError createConversionError(Object inputValue, Type targetType) {
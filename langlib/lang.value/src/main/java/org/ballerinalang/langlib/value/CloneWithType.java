@@ -47,6 +47,7 @@ import io.ballerina.runtime.util.exceptions.RuntimeErrors;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -191,7 +192,7 @@ public class CloneWithType {
             case TypeTags.XML_PI_TAG:
             case TypeTags.XML_TEXT_TAG:
             case TypeTags.ERROR_TAG:
-                newValue = value.copy(new HashMap<>());
+                newValue = value.copy(new IdentityHashMap<>());
                 break;
             default:
                 // should never reach here
@@ -22,7 +22,7 @@ import io.ballerina.runtime.api.values.BXML;
 import io.ballerina.runtime.scheduling.Strand;
 import io.ballerina.runtime.util.exceptions.BLangExceptionHelper;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 /**
  * Make a deep copy of an XML.
@@ -39,7 +39,7 @@ public class Copy {
 
     public static BXML copy(Strand strand, BXML xml) {
         try {
-            return (BXML) xml.copy(new HashMap<>());
+            return (BXML) xml.copy(new IdentityHashMap<>());
         } catch (Throwable e) {
             BLangExceptionHelper.handleXMLException(OPERATION, e);
         }
@@ -374,6 +374,26 @@ public class LangLibValueTest {
         };
     }
 
+    @Test(dataProvider = "cloneFunctions")
+    public void testClone(String function) {
+        BRunUtil.invoke(compileResult, function);
+    }
+
+    @DataProvider(name = "cloneFunctions")
+    public Object[][] cloneFunctions() {
+        return new Object[][] {
+                { "testCloneIntArrayMutateSource" },
+                { "testCloneIntArrayMutateClone" },
+                { "testCloneArrayFillPastSize" },
+                { "testCloneNestedArrayFillingRead" },
+                { "testCloneSimpleBasicTypeArrays" },
+                { "testCloneReadOnlyArrayMutateSource" },
+                { "testCloneReadOnlyArrayMutateClone" },
+                { "testCloneDistinctEqualArrays" },
+                { "testCloneReadOnlyCyclicMap" }
+        };
+    }
+
     @Test
     public void testEnsureType() {
         BRunUtil.invokeFunction(compileResult, "testEnsureType");
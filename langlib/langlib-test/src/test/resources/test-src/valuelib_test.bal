@@ -1245,3 +1245,207 @@ function testEnsureTypeNegative() {
     assertEquality("error(\"{ballerina}TypeCastError\",message=\"incompatible types: '()' cannot be cast to 'int'\")", e5.toString());
     assertEquality("error(\"{ballerina/lang.map}KeyNotFound\",message=\"Key 'children' not found in JSON mapping\")", e6.toString());
 }
+
+///////////////////////// Tests for `clone()` and `cloneReadOnly()` ///////////////////////////
+
+function testCloneIntArrayMutateSource() {
+    int[] source = [1, 2, 3];
+    int[] clone = source.clone();
+
+    source[1] = 20;
+    source.push(4);
+    assert(source, [1, 20, 3, 4]);
+    assert(clone, [1, 2, 3]);
+
+    _ = source.shift();
+    source.unshift(0);
+    source.setLength(2);
+    assert(source, [0, 20]);
+    assert(clone, [1, 2, 3]);
+}
+
+function testCloneIntArrayMutateClone() {
+    int[] source = [1, 2, 3];
+    int[] clone = source.clone();
+
+    clone[0] = 10;
+    assert(clone, [10, 2, 3]);
+    assert(source, [1, 2, 3]);
+
+    int[] second = source.clone();
+    second.push(4);
+    assert(second, [1, 2, 3, 4]);
+    assert(source, [1, 2, 3]);
+
+    int[] third = source.clone();
+    assert(third.shift(), 1);
+    assert(third, [2, 3]);
+    assert(source, [1, 2, 3]);
+
+    int[] fourth = source.clone();
+    fourth.unshift(-1, 0);
+    assert(fourth, [-1, 0, 1, 2, 3]);
+    assert(source, [1, 2, 3]);
+
+    int[] fifth = source.clone();
+    fifth.setLength(1);
+    assert(fifth, [1]);
+    fifth.setLength(3);
+    assert(fifth, [1, 0, 0]);
+    assert(source, [1, 2, 3]);
+}
+
+function testCloneArrayFillPastSize() {
+    int[] source = [1, 2, 3, 4];
+    _ = source.shift();
+    // The storage of the source still holds the shifted out member past its size.
+    int[] clone = source.clone();
+
+    clone[5] = 9;
+    assert(clone, [2, 3, 4, 0, 0, 9]);
+    assert(source, [2, 3, 4]);
+
+    source[4] = 7;
+    assert(source, [2, 3, 4, 0, 7]);
+    assert(clone, [2, 3, 4, 0, 0, 9]);
+
+    string[] strings = ["a", "b"];
+    string[] stringsClone = strings.clone();
+    stringsClone[3] = "d";
+    assert(stringsClone, ["a", "b", "", "d"]);
+    assert(strings, ["a", "b"]);
+}
+
+function testCloneNestedArrayFillingRead() {
+    int[][] source = [[1, 2], [3]];
+    int[][] clone = source.clone();
+
+    // Filling reads past the size of the outer and the inner arrays.
+    clone[3][1] = 5;
+    clone[1][2] = 6;
+    assert(clone, [[1, 2], [3, 0, 6], [], [0, 5]]);
+    assert(source, [[1, 2], [3]]);
+
+    source[0][3] = 4;
+    assert(source, [[1, 2, 0, 4], [3]]);
+    assert(clone, [[1, 2], [3, 0, 6], [], [0, 5]]);
+}
+
+function testCloneSimpleBasicTypeArrays() {
+    float[] floats = [1.5, 2.5];
+    float[] floatsClone = floats.clone();
+    floatsClone.push(3.5);
+    floats[0] = 0.5;
+    assert(floats, [0.5, 2.5]);
+    assert(floatsClone, [1.5, 2.5, 3.5]);
+
+    byte[] bytes = [1, 2, 3];
+    byte[] bytesClone = bytes.clone();
+    _ = bytes.shift();
+    bytesClone[1] = 20;
+    assert(bytes, [2, 3]);
+    assert(bytesClone, [1, 20, 3]);
+
+    boolean[] booleans = [true, false];
+    boolean[] booleansClone = booleans.clone();
+    booleans.unshift(false);
+    booleansClone.setLength(3);
+    assert(booleans, [false, true, false]);
+    assert(booleansClone, [true, false, false]);
+
+    string[] strings = ["a", "b", "c"];
+    string[] stringsClone = strings.clone();
+    strings.setLength(1);
+    _ = stringsClone.pop();
+    stringsClone.push("d");
+    assert(strings, ["a"]);
+    assert(stringsClone, ["a", "b", "d"]);
+}
+
+function testCloneReadOnlyArrayMutateSource() {
+    int[] source = [1, 2, 3];
+    int[] & readonly clone = source.cloneReadOnly();
+
+    source.push(4);
+    source[0] = 10;
+    assert(clone, [1, 2, 3]);
+
+    _ = source.shift();
+    source.unshift(5);
+    source.setLength(6);
+    assert(source, [5, 2, 3, 4, 0, 0]);
+    assert(clone, [1, 2, 3]);
+
+    string[] strings = ["a", "b"];
+    string[] & readonly stringsClone = strings.cloneReadOnly();
+    strings[1] = "c";
+    assert(stringsClone, ["a", "b"]);
+
+    // A clone of a readonly array is the array itself.
+    assertEquality(true, clone.clone() === clone);
+}
+
+function testCloneReadOnlyArrayMutateClone() {
+    int[] source = [1, 2, 3];
+    int[] & readonly clone = source.cloneReadOnly();
+    int[] mutable = clone;
+
+    error? pushResult = trap mutable.push(4);
+    assertEquality(true, pushResult is error);
+    error? setResult = trap setIntMember(mutable, 0, 10);
+    assertEquality(true, setResult is error);
+    int|error shiftResult = trap mutable.shift();
+    assertEquality(true, shiftResult is error);
+
+    assert(clone, [1, 2, 3]);
+    assert(source, [1, 2, 3]);
+}
+
+function setIntMember(int[] arr, int index, int value) {
+    arr[index] = value;
+}
+
+function testCloneDistinctEqualArrays() {
+    int[] a = [1, 2];
+    int[] b = [1, 2];
+    map<int[]> m = {a: a, b: b, c: a};
+    map<int[]> clone = m.clone();
+
+    assertEquality(false, clone.get("a") === clone.get("b"));
+    assertEquality(true, clone.get("a") === clone.get("c"));
+
+    clone.get("a").push(3);
+    assert(clone.get("c"), [1, 2, 3]);
+    assert(clone.get("b"), [1, 2]);
+    assert(a, [1, 2]);
+}
+
+function testCloneReadOnlyCyclicMap() {
+    map<anydata> source = {name: "root"};
+    anydata[] members = [source, 1];
+    source["self"] = source;
+    source["members"] = members;
+
+    map<anydata> & readonly clone = source.cloneReadOnly();
+    assertEquality(false, clone === source);
+    assertEquality(true, clone["self"] === clone);
+    anydata members2 = clone["members"];
+    assertEquality(true, members2 is anydata[] & readonly);
+    anydata[] clonedMembers = <anydata[]> members2;
+    assertEquality(true, clonedMembers[0] === clone);
+    assertEquality(true, clone["self"] is readonly);
+
+    source["name"] = "changed";
+    assert(clone["name"], "root");
+
+    map<anydata> mutable = clone;
+    error? result = trap putMember(mutable, "name", "other");
+    assertEquality(true, result is error);
+
+    // Cloning a readonly value again returns the same value.
+    assertEquality(true, clone.cloneReadOnly() === clone);
+}
+
+function putMember(map<anydata> m, string key, anydata value) {
+    m[key] = value;
+}
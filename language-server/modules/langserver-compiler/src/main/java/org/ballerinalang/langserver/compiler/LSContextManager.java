@@ -148,9 +148,9 @@ public class LSContextManager {
 
     private static void clearCurrentPackage(@Nullable PackageID packageID, CompilerContext context) {
         LSPackageCache instance = LSPackageCache.getInstance(context);
-        //Remove current package from cache
+        //Remove current package and the packages depending on it from cache
         if (packageID != null) {
-            instance.invalidate(packageID);
+            instance.invalidateWithDependents(packageID);
         }
         //Set the package local cache into current context
         PackageCache.setInstance(instance.getPackageCache(), context);
@@ -20,13 +20,18 @@ import com.google.common.cache.CacheBuilder;
 import org.ballerinalang.model.elements.PackageID;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -78,6 +83,16 @@ public class LSPackageCache {
         packageCache.remove(packageID);
     }
 
+    /**
+     * Removes the package along with the cached packages which import it directly or transitively, since their
+     * symbols refer to the symbols of the removed package. Other cached modules are kept and reused as they are.
+     *
+     * @param packageID ballerina package id to be removed.
+     */
+    public void invalidateWithDependents(PackageID packageID) {
+        packageCache.removeWithDependents(packageID);
+    }
+
     /**
      * Remove the modules with the names.
      * 
@@ -155,6 +170,56 @@ public class LSPackageCache {
             }
         }
         
+        public void removeWithDependents(PackageID packageID) {
+            if (packageID == null) {
+                return;
+            }
+            Set<String> invalidatedModules = new HashSet<>();
+            invalidatedModules.add(getModuleName(packageID));
+            List<String> dependentModules = new ArrayList<>();
+            boolean foundDependent = true;
+            while (foundDependent) {
+                foundDependent = false;
+                for (BLangPackage bLangPackage : this.packageMap.values()) {
+                    String moduleName = getModuleName(bLangPackage.packageID);
+                    if (!invalidatedModules.contains(moduleName) && importsAny(bLangPackage, invalidatedModules)) {
+                        invalidatedModules.add(moduleName);
+                        dependentModules.add(moduleName);
+                        foundDependent = true;
+                    }
+                }
+            }
+            remove(packageID);
+            remove(dependentModules);
+        }
+
+        private static boolean importsAny(BLangPackage bLangPackage, Set<String> modules) {
+            if (importsAny(bLangPackage.imports, modules)) {
+                return true;
+            }
+            for (BLangTestablePackage testablePackage : bLangPackage.getTestablePkgs()) {
+                if (importsAny(testablePackage.imports, modules)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean importsAny(List<BLangImportPackage> imports, Set<String> modules) {
+            for (BLangImportPackage importPackage : imports) {
+                if (importPackage.symbol != null && modules.contains(getModuleName(importPackage.symbol.pkgID))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String getModuleName(PackageID packageID) {
+            return packageID.getNameComps().stream()
+                    .map(Name::getValue)
+                    .collect(Collectors.joining("."));
+        }
+
         public void remove(List<String> modules) {
             if (modules.isEmpty()) {
                 return;
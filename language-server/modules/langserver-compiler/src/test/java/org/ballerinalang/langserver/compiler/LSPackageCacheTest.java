@@ -8,11 +8,17 @@ import org.ballerinalang.langserver.compiler.exception.CompilationFailedExceptio
 import org.ballerinalang.langserver.compiler.workspace.ExtendedWorkspaceDocumentManagerImpl;
 import org.ballerinalang.langserver.compiler.workspace.WorkspaceDocumentManagerImpl;
 import org.ballerinalang.langserver.compiler.workspace.repository.WorkspacePackageRepository;
+import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.symbols.SymbolOrigin;
 import org.ballerinalang.repository.PackageRepository;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -39,6 +45,54 @@ public class LSPackageCacheTest {
         compileFileAndCheckCache(filePath);
     }
 
+    @Test
+    public void testInvalidateWithDependents() {
+        LSPackageCache packageCache = LSPackageCache.getInstance(new CompilerContext());
+        PackageID base = createPackageID("base");
+        PackageID mid = createPackageID("mid");
+        PackageID top = createPackageID("top");
+        PackageID tested = createPackageID("tested");
+        PackageID unrelated = createPackageID("unrelated");
+        packageCache.put(base, createPackage(base));
+        packageCache.put(mid, createPackage(mid, base));
+        packageCache.put(top, createPackage(top, mid));
+        BLangPackage testedPackage = createPackage(tested);
+        BLangTestablePackage testablePackage = (BLangTestablePackage) TreeBuilder.createTestablePackageNode();
+        testablePackage.imports.add(createImport(top));
+        testedPackage.addTestablePkg(testablePackage);
+        packageCache.put(tested, testedPackage);
+        packageCache.put(unrelated, createPackage(unrelated, createPackageID("lib")));
+
+        packageCache.invalidateWithDependents(mid);
+
+        // Modules importing the invalidated module directly, transitively or from their tests are invalidated
+        Assert.assertNull(packageCache.get(mid));
+        Assert.assertNull(packageCache.get(top));
+        Assert.assertNull(packageCache.get(tested));
+        // Modules imported by the invalidated module and unrelated modules are kept
+        Assert.assertNotNull(packageCache.get(base));
+        Assert.assertNotNull(packageCache.get(unrelated));
+    }
+
+    private static PackageID createPackageID(String name) {
+        return new PackageID(new Name("testorg"), new Name(name), new Name("0.1.0"));
+    }
+
+    private static BLangPackage createPackage(PackageID packageID, PackageID... imports) {
+        BLangPackage bLangPackage = (BLangPackage) TreeBuilder.createPackageNode();
+        bLangPackage.packageID = packageID;
+        for (PackageID importID : imports) {
+            bLangPackage.imports.add(createImport(importID));
+        }
+        return bLangPackage;
+    }
+
+    private static BLangImportPackage createImport(PackageID packageID) {
+        BLangImportPackage importPackage = (BLangImportPackage) TreeBuilder.createImportPackageNode();
+        importPackage.symbol = new BPackageSymbol(packageID, null, null, SymbolOrigin.SOURCE);
+        return importPackage;
+    }
+
     private void compileFileAndCheckCache(Path filePath)
             throws IOException, CompilationFailedException, WorkspaceDocumentException {
         // Read test bal file
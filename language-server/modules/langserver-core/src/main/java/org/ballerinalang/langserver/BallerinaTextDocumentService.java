@@ -24,6 +24,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.ballerinalang.langserver.codeaction.CodeActionRouter;
@@ -528,12 +529,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
             try {
                 CommonUtil.getPathFromURI(fileUri);
                 SyntaxTree syntaxTree = docManager.getTree(formattingFilePath.get());
-                String formattedSource = Formatter.format(syntaxTree).toSourceCode();
-
-                LinePosition eofPos = syntaxTree.rootNode().lineRange().endLine();
-                Range range = new Range(new Position(0, 0), new Position(eofPos.line() + 1, eofPos.offset()));
-                textEdit = new TextEdit(range, formattedSource);
-                return Collections.singletonList(textEdit);
+                return toTextEdits(syntaxTree, Formatter.formatToEdits(syntaxTree, null));
             } catch (UserErrorException | FormatterException e) {
                 notifyUser("Formatting", e);
                 return Collections.singletonList(textEdit);
@@ -573,12 +569,9 @@ class BallerinaTextDocumentService implements TextDocumentService {
                 LinePosition endPos = LinePosition.from(range.getEnd().getLine(), range.getEnd().getCharacter());
 
                 LineRange lineRange = LineRange.from(syntaxTree.filePath(), startPos, endPos);
-                SyntaxTree formattedTree = Formatter.format(syntaxTree, lineRange);
-
-                LinePosition eofPos = syntaxTree.rootNode().lineRange().endLine();
-                Range updateRange = new Range(new Position(0, 0), new Position(eofPos.line() + 1, eofPos.offset()));
-                textEdit = new TextEdit(updateRange, formattedTree.toSourceCode());
-                return Collections.singletonList(textEdit);
+                // Only the changed parts of the document are sent back, since the range is usually a small part of
+                // a large document.
+                return toTextEdits(syntaxTree, Formatter.formatToEdits(syntaxTree, lineRange));
             } catch (UserErrorException | FormatterException e) {
                 notifyUser("Formatting", e);
                 return Collections.singletonList(textEdit);
@@ -744,9 +737,14 @@ class BallerinaTextDocumentService implements TextDocumentService {
             LSClientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CHANGE.getName() + "' {fileUri: '" +
                     compilationPath + "'} updated}");
 
-            // Schedule diagnostics
+            // Schedule diagnostics. Changes to any file of a module supersede the pending diagnostics run of the
+            // module, since each run recompiles the module of the changed file.
             ExtendedLanguageClient client = this.languageServer.getClient();
-            this.diagPushDebouncer.call(compilationPath, () -> {
+            String fileURI = params.getTextDocument().getUri();
+            LSDocumentIdentifier lsDocument = new LSDocumentIdentifierImpl(fileURI);
+            Path debounceKey = lsDocument.getOwnerModule().isEmpty() || lsDocument.getOwnerModulePath() == null
+                    ? compilationPath : lsDocument.getOwnerModulePath();
+            this.diagPushDebouncer.call(debounceKey, isCancelled -> {
                 // Need to lock since debouncer triggers later
                 Optional<Lock> nLock = docManager.lockFile(compilationPath);
                 try {
@@ -755,10 +753,11 @@ class BallerinaTextDocumentService implements TextDocumentService {
                             .withStdLibDefinitionParam(this.enableStdlibDefinition)
                             .withCommonParams(null, fileUri, docManager)
                             .build();
-                    String fileURI = params.getTextDocument().getUri();
 
-                    LSDocumentIdentifier lsDocument = new LSDocumentIdentifierImpl(fileURI);
-                    diagnosticsHelper.compileAndSendDiagnostics(client, context, lsDocument, docManager);
+                    if (!diagnosticsHelper.compileAndSendDiagnostics(client, context, lsDocument, docManager,
+                            isCancelled)) {
+                        return;
+                    }
                     if (clientCapabilities.getExperimentalCapabilities().isSemanticSyntaxEnabled()) {
                         SemanticHighlightProvider.sendHighlights(client, context, docManager);
                     }
@@ -810,4 +809,18 @@ class BallerinaTextDocumentService implements TextDocumentService {
     @Override
     public void didSave(DidSaveTextDocumentParams params) {
     }
+
+    private static List<TextEdit> toTextEdits(SyntaxTree syntaxTree,
+                                              List<io.ballerina.tools.text.TextEdit> formattingEdits) {
+        TextDocument textDocument = syntaxTree.textDocument();
+        List<TextEdit> textEdits = new ArrayList<>();
+        for (io.ballerina.tools.text.TextEdit formattingEdit : formattingEdits) {
+            LinePosition startPos = textDocument.linePositionFrom(formattingEdit.range().startOffset());
+            LinePosition endPos = textDocument.linePositionFrom(formattingEdit.range().endOffset());
+            Range range = new Range(new Position(startPos.line(), startPos.offset()),
+                    new Position(endPos.line(), endPos.offset()));
+            textEdits.add(new TextEdit(range, formattingEdit.text()));
+        }
+        return textEdits;
+    }
 }
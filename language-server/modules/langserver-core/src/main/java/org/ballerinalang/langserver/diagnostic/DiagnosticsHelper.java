@@ -37,6 +37,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 
 /**
  * Utilities for the diagnostics related operations.
@@ -73,6 +74,40 @@ public class DiagnosticsHelper {
             throws CompilationFailedException {
         // Compile diagnostics
         List<BLangPackage> packages = LSModuleCompiler.getBLangPackages(context, docManager, true, true, true);
+        sendDiagnostics(client, packages, lsDoc);
+    }
+
+    /**
+     * Compiles and publishes diagnostics for a changed source file. Only the module of the file and the modules
+     * depending on it are recompiled, while the other modules of the project are reused from the package cache.
+     * Diagnostics are not published if the run has been cancelled by the time the compilation completes.
+     *
+     * @param client      Language server client
+     * @param context     LS context
+     * @param lsDoc       {@link LSDocumentIdentifierImpl}
+     * @param docManager  LS Document manager
+     * @param isCancelled returns whether the run has been superseded by a later change
+     * @return whether the diagnostics were published
+     * @throws CompilationFailedException throws a LS compiler exception
+     */
+    public synchronized boolean compileAndSendDiagnostics(ExtendedLanguageClient client, LSContext context,
+                                                          LSDocumentIdentifier lsDoc,
+                                                          WorkspaceDocumentManager docManager,
+                                                          BooleanSupplier isCancelled)
+            throws CompilationFailedException {
+        if (isCancelled.getAsBoolean()) {
+            return false;
+        }
+        List<BLangPackage> packages = LSModuleCompiler.getBLangPackages(context, docManager, true, false, true);
+        if (isCancelled.getAsBoolean()) {
+            return false;
+        }
+        sendDiagnostics(client, packages, lsDoc);
+        return true;
+    }
+
+    private void sendDiagnostics(ExtendedLanguageClient client, List<BLangPackage> packages,
+                                 LSDocumentIdentifier lsDoc) {
         Map<String, List<Diagnostic>> diagnosticMap = new HashMap<>();
         for (BLangPackage pkg : packages) {
             populateDiagnostics(diagnosticMap, pkg.packageID, pkg.getDiagnostics(), lsDoc);
@@ -21,15 +21,20 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 /**
  * A debouncer to be used to debounce calls to lang-server upon fast editing.
  * This is to minimize resource usage of lang-server while pushing updates to client.
  * Based on https://stackoverflow.com/a/20978973
+ * <p>
+ * A call supersedes the pending call with the same path. If the superseded call is already running, it is not
+ * interrupted, but it can check whether it has been cancelled and drop its results.
  */
 public class Debouncer {
     private final ScheduledExecutorService sched = Executors.newScheduledThreadPool(1);
-    private final ConcurrentHashMap<Path, Future<?>> delayedMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Path, DebouncedTask> delayedMap = new ConcurrentHashMap<>();
     private final int interval;
 
     public Debouncer(int interval) {
@@ -37,19 +42,62 @@ public class Debouncer {
     }
 
     public void call(Path path, Runnable runnable) {
-        final Future<?> prev = delayedMap.put(path, sched.schedule(() -> {
-            try {
-                runnable.run();
-            } finally {
-                delayedMap.remove(path);
-            }
-        }, interval, TimeUnit.MILLISECONDS));
+        call(path, isCancelled -> runnable.run());
+    }
+
+    /**
+     * Schedules a task, cancelling the previous task scheduled with the same path.
+     *
+     * @param path     key of the task
+     * @param runnable task, which accepts a supplier returning whether the task has been superseded
+     */
+    public void call(Path path, Consumer<BooleanSupplier> runnable) {
+        DebouncedTask task = new DebouncedTask(path, runnable);
+        DebouncedTask prev = delayedMap.put(path, task);
         if (prev != null) {
-            prev.cancel(true);
+            prev.cancel();
         }
+        task.schedule();
     }
 
     public void terminate() {
         sched.shutdownNow();
     }
+
+    private class DebouncedTask implements Runnable {
+        private final Path path;
+        private final Consumer<BooleanSupplier> runnable;
+        private volatile boolean cancelled = false;
+        private Future<?> future;
+
+        DebouncedTask(Path path, Consumer<BooleanSupplier> runnable) {
+            this.path = path;
+            this.runnable = runnable;
+        }
+
+        synchronized void schedule() {
+            if (!cancelled) {
+                future = sched.schedule(this, interval, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (future != null) {
+                // Do not interrupt a running task, since interrupting file channels of the compiler closes them
+                future.cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!cancelled) {
+                    runnable.accept(() -> cancelled);
+                }
+            } finally {
+                delayedMap.remove(path, this);
+            }
+        }
+    }
 }
@@ -16,12 +16,18 @@
 package org.ballerinalang.langserver.formatting;
 
 import com.google.gson.Gson;
-import com.google.gson.internal.LinkedTreeMap;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.langserver.util.FileUtils;
 import org.ballerinalang.langserver.util.TestUtil;
 import org.eclipse.lsp4j.DocumentFormattingParams;
 import org.eclipse.lsp4j.FormattingOptions;
+import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
 import org.slf4j.Logger;
@@ -36,7 +42,6 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
 
 /**
  * Test suit for source code formatting.
@@ -75,12 +80,29 @@ public class FormattingTest {
         String result = TestUtil.getFormattingResponse(documentFormattingParams, this.serviceEndpoint);
         Gson gson = new Gson();
         ResponseMessage responseMessage = gson.fromJson(result, ResponseMessage.class);
-        String actual = (String) ((LinkedTreeMap) ((List) responseMessage.getResult()).get(0)).get("newText");
+        TextEdit[] textEdits = gson.fromJson(gson.toJson(responseMessage.getResult()), TextEdit[].class);
+        String actual = applyTextEdits(new String(Files.readAllBytes(inputFilePath)), textEdits);
         actual = actual.replaceAll("\\r\\n", "\n");
         TestUtil.closeDocument(this.serviceEndpoint, inputFilePath);
         Assert.assertEquals(actual, expected, "Did not match: " + expectedFile);
     }
 
+    private static String applyTextEdits(String source, TextEdit[] textEdits) {
+        TextDocument textDocument = TextDocuments.from(source);
+        io.ballerina.tools.text.TextEdit[] edits = new io.ballerina.tools.text.TextEdit[textEdits.length];
+        for (int i = 0; i < textEdits.length; i++) {
+            int startOffset = toOffset(textDocument, textEdits[i].getRange().getStart());
+            int endOffset = toOffset(textDocument, textEdits[i].getRange().getEnd());
+            edits[i] = io.ballerina.tools.text.TextEdit.from(TextRange.from(startOffset, endOffset - startOffset),
+                    textEdits[i].getNewText());
+        }
+        return textDocument.apply(TextDocumentChange.from(edits)).toString();
+    }
+
+    private static int toOffset(TextDocument textDocument, Position position) {
+        return textDocument.textPositionFrom(LinePosition.from(position.getLine(), position.getCharacter()));
+    }
+
     @DataProvider(name = "fileProvider")
     public Object[][] fileProvider() {
         log.info("Test textDocument/format");
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.util;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the {@link Debouncer}.
+ *
+ * @since 2.0.0
+ */
+public class DebouncerTest {
+
+    private static final int INTERVAL = 100;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final Path modulePath = Paths.get("project", "src", "module1");
+    private Debouncer debouncer;
+
+    @BeforeMethod
+    public void init() {
+        debouncer = new Debouncer(INTERVAL);
+    }
+
+    @AfterMethod
+    public void terminate() {
+        debouncer.terminate();
+    }
+
+    @Test(description = "A pending call is cancelled by a newer call with the same path")
+    public void testPendingCallSuperseded() throws InterruptedException {
+        AtomicInteger supersededRuns = new AtomicInteger();
+        AtomicInteger latestRuns = new AtomicInteger();
+        CountDownLatch latestRun = new CountDownLatch(1);
+
+        debouncer.call(modulePath, () -> supersededRuns.incrementAndGet());
+        debouncer.call(modulePath, () -> {
+            latestRuns.incrementAndGet();
+            latestRun.countDown();
+        });
+
+        Assert.assertTrue(latestRun.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        // Give the superseded call time to run, if it was not cancelled
+        Thread.sleep(INTERVAL * 3);
+        Assert.assertEquals(supersededRuns.get(), 0);
+        Assert.assertEquals(latestRuns.get(), 1);
+    }
+
+    @Test(description = "Calls with different paths do not cancel each other")
+    public void testCallsWithDifferentPaths() throws InterruptedException {
+        CountDownLatch runs = new CountDownLatch(2);
+
+        debouncer.call(modulePath, runs::countDown);
+        debouncer.call(Paths.get("project", "src", "module2"), runs::countDown);
+
+        Assert.assertTrue(runs.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test(description = "A running call is not interrupted by a newer call, but sees that it has been cancelled")
+    public void testRunningCallCancelled() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch superseded = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean cancelledBeforeSuperseded = new AtomicBoolean(true);
+        AtomicBoolean cancelledAfterSuperseded = new AtomicBoolean();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch latestRun = new CountDownLatch(1);
+
+        debouncer.call(modulePath, isCancelled -> {
+            cancelledBeforeSuperseded.set(isCancelled.getAsBoolean());
+            started.countDown();
+            try {
+                superseded.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            cancelledAfterSuperseded.set(isCancelled.getAsBoolean());
+            finished.countDown();
+        });
+        Assert.assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        debouncer.call(modulePath, isCancelled -> latestRun.countDown());
+        superseded.countDown();
+
+        Assert.assertTrue(finished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertFalse(cancelledBeforeSuperseded.get());
+        Assert.assertTrue(cancelledAfterSuperseded.get());
+        Assert.assertFalse(interrupted.get());
+        // The newer call runs once the cancelled one has finished
+        Assert.assertTrue(latestRun.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+}
@@ -43,6 +43,7 @@ import org.ballerinalang.debugadapter.utils.PackageUtils;
 import org.ballerinalang.debugadapter.variable.BCompoundVariable;
 import org.ballerinalang.debugadapter.variable.BSimpleVariable;
 import org.ballerinalang.debugadapter.variable.BVariable;
+import org.ballerinalang.debugadapter.variable.IndexedCompoundVariable;
 import org.ballerinalang.debugadapter.variable.VariableFactory;
 import org.eclipse.lsp4j.debug.Breakpoint;
 import org.eclipse.lsp4j.debug.Capabilities;
@@ -78,6 +79,7 @@ import org.eclipse.lsp4j.debug.Thread;
 import org.eclipse.lsp4j.debug.ThreadsResponse;
 import org.eclipse.lsp4j.debug.Variable;
 import org.eclipse.lsp4j.debug.VariablesArguments;
+import org.eclipse.lsp4j.debug.VariablesArgumentsFilter;
 import org.eclipse.lsp4j.debug.VariablesResponse;
 import org.eclipse.lsp4j.debug.services.IDebugProtocolClient;
 import org.eclipse.lsp4j.debug.services.IDebugProtocolServer;
@@ -646,11 +648,24 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
 
     private Variable[] computeChildVariables(VariablesArguments args) {
         BCompoundVariable parentVar = loadedVariables.get(args.getVariablesReference());
-        Map<String, Value> childVariables = parentVar.getChildVariables();
         Long stackFrameId = variableToStackFrameMap.get(args.getVariablesReference());
         if (stackFrameId == null) {
             return new Variable[0];
         }
+        // Indexed variables (arrays and tuples) do not have named children.
+        if (args.getFilter() == VariablesArgumentsFilter.NAMED && parentVar instanceof IndexedCompoundVariable) {
+            return new Variable[0];
+        }
+        Map<String, Value> childVariables;
+        if (args.getStart() != null || args.getCount() != null) {
+            // Clients page through large variables by requesting a range of children, in which case only the
+            // requested range is read from the debuggee. A missing or zero count requests all remaining children.
+            int start = args.getStart() != null ? args.getStart().intValue() : 0;
+            int count = args.getCount() != null && args.getCount() > 0 ? args.getCount().intValue() : Integer.MAX_VALUE;
+            childVariables = parentVar.getChildVariables(start, count);
+        } else {
+            childVariables = parentVar.getChildVariables();
+        }
         return childVariables.entrySet().stream().map(entry -> {
             String name = entry.getKey();
             Value value = entry.getValue();
@@ -20,6 +20,7 @@ import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.eclipse.lsp4j.debug.Variable;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static io.ballerina.runtime.IdentifierUtils.decodeIdentifier;
@@ -90,10 +91,31 @@ public abstract class BCompoundVariable implements BVariable {
         return childVariables;
     }
 
+    /**
+     * Returns a range of the child variables, in the same order as {@link #getChildVariables()}.
+     *
+     * @param start index of the first child variable to be returned
+     * @param count maximum number of child variables to be returned
+     * @return JDI value representations of the child variables against their names
+     */
+    public Map<String, Value> getChildVariables(int start, int count) {
+        Map<String, Value> childVariablesRange = new LinkedHashMap<>();
+        getChildVariables().entrySet().stream()
+                .skip(Math.max(start, 0))
+                .limit(Math.max(count, 0))
+                .forEach(entry -> childVariablesRange.put(entry.getKey(), entry.getValue()));
+        return childVariablesRange;
+    }
+
+    /**
+     * Returns the number of child variables.
+     */
+    public int getChildrenCount() {
+        return getChildVariables().size();
+    }
+
     public Value getChildByName(String name) throws DebugVariableException {
-        if (childVariables == null) {
-            childVariables = computeChildVariables();
-        }
+        Map<String, Value> childVariables = getChildVariables();
         if (!childVariables.containsKey(name)) {
             throw new DebugVariableException("No child variables found with name: '" + name + "'");
         }
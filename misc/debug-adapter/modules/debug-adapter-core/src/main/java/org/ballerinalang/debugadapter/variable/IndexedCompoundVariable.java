@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.debugadapter.variable;
+
+import com.sun.jdi.Value;
+import org.ballerinalang.debugadapter.SuspendedContext;
+import org.eclipse.lsp4j.debug.Variable;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base implementation for ballerina variable types with indexed child variables, such as arrays and tuples. The child
+ * variables are fetched from the debuggee lazily, in the ranges requested by the client, and the fetched values are
+ * retained until the debuggee is resumed.
+ */
+public abstract class IndexedCompoundVariable extends BCompoundVariable {
+
+    private int childrenCount = -1;
+    // Child values which are already fetched, against their indexes.
+    private final Map<Integer, Value> childValues = new HashMap<>();
+
+    public IndexedCompoundVariable(SuspendedContext context, String varName, BVariableType bVariableType,
+                                   Value jvmValue) {
+        super(context, varName, bVariableType, jvmValue);
+    }
+
+    /**
+     * Returns the number of child variables, without fetching them.
+     */
+    protected abstract int computeChildrenCount();
+
+    /**
+     * Returns the JDI value representations of a range of the child variables.
+     *
+     * @param start index of the first child variable
+     * @param count number of child variables, which are all within the bounds of the variable
+     * @return values of the child variables in the range
+     */
+    protected abstract List<Value> computeChildValues(int start, int count);
+
+    @Override
+    protected Map<String, Value> computeChildVariables() {
+        return getChildVariables(0, getChildrenCount());
+    }
+
+    @Override
+    public Map<String, Value> getChildVariables(int start, int count) {
+        Map<String, Value> childVariables = new LinkedHashMap<>();
+        int from = Math.max(start, 0);
+        int to = (int) Math.min((long) from + Math.max(count, 0), getChildrenCount());
+        if (from >= to) {
+            return childVariables;
+        }
+        for (int index = from; index < to; index++) {
+            if (!childValues.containsKey(index)) {
+                // Fetches the rest of the range at once, since a JDI request is costlier than reading more values.
+                List<Value> values = computeChildValues(index, to - index);
+                for (int i = 0; i < values.size(); i++) {
+                    childValues.put(index + i, values.get(i));
+                }
+                break;
+            }
+        }
+        for (int index = from; index < to; index++) {
+            childVariables.put(getChildName(index), childValues.get(index));
+        }
+        return childVariables;
+    }
+
+    @Override
+    public int getChildrenCount() {
+        if (childrenCount < 0) {
+            try {
+                childrenCount = computeChildrenCount();
+            } catch (Exception e) {
+                childrenCount = 0;
+            }
+        }
+        return childrenCount;
+    }
+
+    @Override
+    public Value getChildByName(String name) throws DebugVariableException {
+        int index;
+        try {
+            index = Integer.parseInt(name.substring(1, name.length() - 1));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new DebugVariableException("No child variables found with name: '" + name + "'");
+        }
+        if (!name.equals(getChildName(index)) || index < 0 || index >= getChildrenCount()) {
+            throw new DebugVariableException("No child variables found with name: '" + name + "'");
+        }
+        return getChildVariables(index, 1).get(name);
+    }
+
+    @Override
+    public Variable getDapVariable() {
+        Variable dapVariable = super.getDapVariable();
+        // Lets the client request the child variables in ranges.
+        dapVariable.setIndexedVariables((long) getChildrenCount());
+        return dapVariable;
+    }
+
+    private static String getChildName(int index) {
+        return String.format("[%d]", index);
+    }
+}
@@ -22,14 +22,12 @@ import com.sun.jdi.IntegerValue;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
-import org.ballerinalang.debugadapter.variable.BCompoundVariable;
 import org.ballerinalang.debugadapter.variable.BVariableType;
+import org.ballerinalang.debugadapter.variable.IndexedCompoundVariable;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.ballerinalang.debugadapter.variable.VariableUtils.UNKNOWN_VALUE;
@@ -38,7 +36,7 @@ import static org.ballerinalang.debugadapter.variable.VariableUtils.getStringFro
 /**
  * Ballerina array variable type.
  */
-public class BArray extends BCompoundVariable {
+public class BArray extends IndexedCompoundVariable {
 
     public BArray(SuspendedContext context, String name, Value value) {
         super(context, name, BVariableType.ARRAY, value);
@@ -60,10 +58,18 @@ public class BArray extends BCompoundVariable {
     }
 
     @Override
-    public Map<String, Value> computeChildVariables() {
+    protected int computeChildrenCount() {
+        if (!(jvmValue instanceof ObjectReference)) {
+            return 0;
+        }
+        return getArraySize((ObjectReference) jvmValue);
+    }
+
+    @Override
+    protected List<Value> computeChildValues(int start, int count) {
         try {
             if (!(jvmValue instanceof ObjectReference)) {
-                return new HashMap<>();
+                return new ArrayList<>();
             }
             ObjectReference jvmValueRef = (ObjectReference) jvmValue;
             List<Field> fields = jvmValueRef.referenceType().allFields();
@@ -71,18 +77,10 @@ public class BArray extends BCompoundVariable {
                     fieldValueEntry.getValue() != null && fieldValueEntry.getKey().toString().endsWith("Values"))
                     .map(Map.Entry::getKey).collect(Collectors.toList()).get(0);
 
-            List<Value> valueList = ((ArrayReference) jvmValueRef.getValue(arrayValueField)).getValues();
-            // List length is 100 by default. Create a sub list with actual array size.
-            List<Value> valueSubList = valueList.subList(0, getArraySize(jvmValueRef));
-            Map<String, Value> values = new TreeMap<>();
-            AtomicInteger nextVarIndex = new AtomicInteger(0);
-            valueSubList.forEach(item -> {
-                int varIndex = nextVarIndex.getAndIncrement();
-                values.put(String.format("[%d]", varIndex), valueSubList.get(varIndex));
-            });
-            return values;
+            // Backing array is larger than the array size. Only the requested range is read from the debuggee.
+            return ((ArrayReference) jvmValueRef.getValue(arrayValueField)).getValues(start, count);
         } catch (Exception ignored) {
-            return new HashMap<>();
+            return new ArrayList<>();
         }
     }
 
@@ -22,17 +22,15 @@ import com.sun.jdi.IntegerValue;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
-import org.ballerinalang.debugadapter.variable.BCompoundVariable;
 import org.ballerinalang.debugadapter.variable.BVariableType;
+import org.ballerinalang.debugadapter.variable.IndexedCompoundVariable;
 import org.ballerinalang.debugadapter.variable.VariableUtils;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
-import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.ballerinalang.debugadapter.variable.VariableUtils.UNKNOWN_VALUE;
@@ -41,7 +39,7 @@ import static org.ballerinalang.debugadapter.variable.VariableUtils.getStringFro
 /**
  * Ballerina tuple variable type.
  */
-public class BTuple extends BCompoundVariable {
+public class BTuple extends IndexedCompoundVariable {
 
     public BTuple(SuspendedContext context, String name, Value value) {
         super(context, name, BVariableType.TUPLE, value);
@@ -57,26 +55,25 @@ public class BTuple extends BCompoundVariable {
     }
 
     @Override
-    public Map<String, Value> computeChildVariables() {
+    protected int computeChildrenCount() {
+        if (!(jvmValue instanceof ObjectReference)) {
+            return 0;
+        }
+        return getTupleSize((ObjectReference) jvmValue);
+    }
+
+    @Override
+    protected List<Value> computeChildValues(int start, int count) {
         try {
             if (!(jvmValue instanceof ObjectReference)) {
-                return new HashMap<>();
+                return new ArrayList<>();
             }
             ObjectReference jvmValueRef = (ObjectReference) jvmValue;
             Field valueField = jvmValueRef.referenceType().fieldByName("refValues");
-            List<Value> valueList = ((ArrayReference) jvmValueRef.getValue(valueField)).getValues();
-
-            // List length is 100 by default. Create a sub list with actual array size.
-            List<Value> valueSubList = valueList.subList(0, getTupleSize(jvmValueRef));
-            Map<String, Value> values = new TreeMap<>();
-            AtomicInteger nextVarIndex = new AtomicInteger(0);
-            valueSubList.forEach(item -> {
-                int varIndex = nextVarIndex.getAndIncrement();
-                values.put("[" + varIndex + "]", valueSubList.get(varIndex));
-            });
-            return values;
+            // Backing array is larger than the tuple size. Only the requested range is read from the debuggee.
+            return ((ArrayReference) jvmValueRef.getValue(valueField)).getValues(start, count);
         } catch (Exception ignored) {
-            return new HashMap<>();
+            return new ArrayList<>();
         }
     }
 
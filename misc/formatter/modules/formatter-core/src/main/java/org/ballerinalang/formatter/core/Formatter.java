@@ -20,6 +20,9 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.LineRange;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+
+import java.util.List;
 
 /**
  * Class that exposes the formatting APIs.
@@ -102,6 +105,36 @@ public class Formatter {
         return modifyTree(syntaxTree, options, null);
     }
 
+    /**
+     * Formats a line range of the provided SyntaxTree and returns back the changes as text edits, instead of the
+     * formatted SyntaxTree. Only the nodes falling within the line range are visited, and the edits cover only the
+     * text changed by the formatting. Hence this is preferred for formatting a part of a large source.
+     *
+     * @param syntaxTree The complete SyntaxTree, of which a part is to be formatted
+     * @param range LineRange which needs to be formatted, or null to format the complete SyntaxTree
+     * @return Text edits to be applied on the source of the SyntaxTree, ordered by their position
+     * @throws FormatterException Exception caught while formatting
+     */
+    public static List<TextEdit> formatToEdits(SyntaxTree syntaxTree, LineRange range) throws FormatterException {
+        return formatToEdits(syntaxTree, range, new FormattingOptions());
+    }
+
+    /**
+     * Formats a line range of the provided SyntaxTree while using the formatting options provided, and returns back
+     * the changes as text edits, instead of the formatted SyntaxTree.
+     *
+     * @param syntaxTree The complete SyntaxTree, of which a part is to be formatted
+     * @param range LineRange which needs to be formatted, or null to format the complete SyntaxTree
+     * @param options Formatting options that are to be used when formatting
+     * @return Text edits to be applied on the source of the SyntaxTree, ordered by their position
+     * @throws FormatterException Exception caught while formatting
+     */
+    public static List<TextEdit> formatToEdits(SyntaxTree syntaxTree, LineRange range, FormattingOptions options)
+            throws FormatterException {
+        SyntaxTree formattedTree = modifyTree(syntaxTree, options, range);
+        return FormattingEditsCollector.collect(syntaxTree, formattedTree);
+    }
+
     private static SyntaxTree modifyTree(SyntaxTree syntaxTree, FormattingOptions options, LineRange range)
             throws FormatterException {
         FormattingTreeModifier treeModifier = new FormattingTreeModifier(options, range);
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.formatter.core;
+
+import io.ballerina.compiler.syntax.tree.ChildNodeList;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the text edits which transform the source of a syntax tree into the source of its formatted tree.
+ * <p>
+ * The formatter shares the unchanged subtrees of the original tree with the formatted tree. Hence the two trees
+ * are walked together, skipping the shared subtrees, and only the tokens of which the source has changed
+ * produce edits. Since formatting mostly changes minutiae, the edits are narrowed down to the changed minutiae.
+ *
+ * @since 2.0.0
+ */
+class FormattingEditsCollector {
+
+    private final List<TextEdit> edits = new ArrayList<>();
+
+    private FormattingEditsCollector() {
+    }
+
+    /**
+     * Returns the text edits to be applied on the source of the original tree to get the source of the formatted
+     * tree. The edits are ordered by their position and do not overlap.
+     *
+     * @param originalTree  Syntax tree which was formatted
+     * @param formattedTree Syntax tree produced by formatting the original tree
+     * @return Text edits in terms of the positions of the original source
+     */
+    static List<TextEdit> collect(SyntaxTree originalTree, SyntaxTree formattedTree) {
+        FormattingEditsCollector collector = new FormattingEditsCollector();
+        collector.visit(originalTree.rootNode(), formattedTree.rootNode());
+        return collector.edits;
+    }
+
+    private void visit(Node oldNode, Node newNode) {
+        if (oldNode.internalNode() == newNode.internalNode()) {
+            return;
+        }
+
+        if (oldNode instanceof Token && newNode instanceof Token) {
+            visitToken((Token) oldNode, (Token) newNode);
+            return;
+        }
+
+        if (oldNode.kind() == newNode.kind() && oldNode instanceof NonTerminalNode &&
+                newNode instanceof NonTerminalNode) {
+            ChildNodeList oldChildren = ((NonTerminalNode) oldNode).children();
+            ChildNodeList newChildren = ((NonTerminalNode) newNode).children();
+            if (oldChildren.size() == newChildren.size()) {
+                for (int index = 0; index < oldChildren.size(); index++) {
+                    visit(oldChildren.get(index), newChildren.get(index));
+                }
+                return;
+            }
+        }
+
+        // Structure of the node has changed. Hence the whole node is replaced.
+        addEdit(oldNode.textRangeWithMinutiae(), newNode.toSourceCode());
+    }
+
+    private void visitToken(Token oldToken, Token newToken) {
+        TextRange rangeWithMinutiae = oldToken.textRangeWithMinutiae();
+        if (oldToken.kind() != newToken.kind() || !oldToken.text().equals(newToken.text())) {
+            addEdit(rangeWithMinutiae, newToken.toSourceCode());
+            return;
+        }
+
+        TextRange range = oldToken.textRange();
+        String newLeadingMinutiae = newToken.leadingMinutiae().toString();
+        if (!oldToken.leadingMinutiae().toString().equals(newLeadingMinutiae)) {
+            addEdit(TextRange.from(rangeWithMinutiae.startOffset(),
+                    range.startOffset() - rangeWithMinutiae.startOffset()), newLeadingMinutiae);
+        }
+
+        String newTrailingMinutiae = newToken.trailingMinutiae().toString();
+        if (!oldToken.trailingMinutiae().toString().equals(newTrailingMinutiae)) {
+            addEdit(TextRange.from(range.endOffset(), rangeWithMinutiae.endOffset() - range.endOffset()),
+                    newTrailingMinutiae);
+        }
+    }
+
+    private void addEdit(TextRange range, String text) {
+        // Merge with the previous edit if they are adjacent, such as the trailing minutiae of a token
+        // and the leading minutiae of the next token.
+        int lastIndex = edits.size() - 1;
+        if (lastIndex >= 0) {
+            TextEdit lastEdit = edits.get(lastIndex);
+            if (lastEdit.range().endOffset() == range.startOffset()) {
+                TextRange mergedRange = TextRange.from(lastEdit.range().startOffset(),
+                        lastEdit.range().length() + range.length());
+                edits.set(lastIndex, TextEdit.from(mergedRange, lastEdit.text() + text));
+                return;
+            }
+        }
+        edits.add(TextEdit.from(range, text));
+    }
+}
@@ -3745,6 +3745,13 @@ public class FormattingTreeModifier extends TreeModifier {
             return (T) NodeFactory.createMissingToken(token.kind(), newLeadingMinutiaeList, newTrailingMinutiaeList);
         }
 
+        // Keep the original token if the formatting does not change it. This lets the parent nodes which are
+        // already formatted to be reused as they are, instead of being re-created.
+        if (token.leadingMinutiae().toString().equals(newLeadingMinutiaeList.toString()) &&
+                token.trailingMinutiae().toString().equals(newTrailingMinutiaeList.toString())) {
+            return token;
+        }
+
         return (T) token.modify(newLeadingMinutiaeList, newTrailingMinutiaeList);
     }
 
@@ -19,7 +19,9 @@ package org.ballerinalang.formatter.core;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -62,6 +64,11 @@ public abstract class FormatterTest {
         try {
             SyntaxTree newSyntaxTree = Formatter.format(syntaxTree);
             Assert.assertEquals(newSyntaxTree.toSourceCode(), getSourceText(assertFilePath));
+
+            // Applying the formatting edits on the source should give the same formatted source.
+            TextEdit[] textEdits = Formatter.formatToEdits(syntaxTree, null).toArray(new TextEdit[0]);
+            TextDocument formattedDocument = textDocument.apply(TextDocumentChange.from(textEdits));
+            Assert.assertEquals(formattedDocument.toString(), getSourceText(assertFilePath));
         } catch (FormatterException e) {
             Assert.fail(e.getMessage(), e);
         }
@@ -82,6 +82,7 @@ public class TestAnnotationProcessor extends AbstractCompilerPlugin {
     private static final String GROUP_ANNOTATION_NAME = "groups";
     private static final String VALUE_SET_ANNOTATION_NAME = "dataProvider";
     private static final String TEST_ENABLE_ANNOTATION_NAME = "enable";
+    private static final String SERIAL_EXECUTION_ANNOTATION_NAME = "serialExecution";
     private static final String AFTER_SUITE_ALWAYS_RUN_FIELD_NAME = "alwaysRun";
     private static final String MOCK_ANNOTATION_DELIMITER = "#";
     private static final String MOCK_FN_DELIMITER = "~";
@@ -299,6 +300,10 @@ public class TestAnnotationProcessor extends AbstractCompilerPlugin {
                                         (test::addDependsOnTestFunction);
                             }
                         }
+
+                        if (SERIAL_EXECUTION_ANNOTATION_NAME.equals(name)) {
+                            test.setSerialExecution("true".equals(valueExpr.toString()));
+                        }
                     }
                 }
                 if (groups != null && !groups.isEmpty() && !groupsFound.get() && shouldIncludeGroups) {
@@ -20,23 +20,29 @@ package org.ballerinalang.testerina.natives.mock;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BIterator;
 import io.ballerina.runtime.api.values.BObject;
+import org.ballerinalang.test.runtime.entity.TestScope;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Singleton registry to hold cases registered for mocking.
+ * <p>
+ * Cases registered by a test which is executed concurrently with other tests are kept in the scope of the test, so
+ * that they are neither visible to nor overwritten by the other tests. Cases registered outside a test scope, e.g.
+ * in the before suite functions, are visible to all tests.
  */
 public class MockRegistry {
 
     public static final String ANY = "__ANY__";
+    private static final String MOCK_CASES_ATTRIBUTE = "mockCases";
     private static MockRegistry instance = new MockRegistry();
 
     public static MockRegistry getInstance() {
         return instance;
     }
-    private Map<String, Object> casesMap = new HashMap();
-    private Map<String, Integer> memberFuncHitsMap = new HashMap();
+    private final MockCases globalCases = new MockCases();
 
     /**
      * Register a case for object mocking when a sequence of return value is provided.
@@ -50,11 +56,12 @@ public class MockRegistry {
     public void registerCase(BObject mockObject, String functionName, BArray argsList, Object returnVal,
                              int hittingCount) {
         String caseId = constructCaseId(mockObject, functionName, argsList);
-        if (!hasHitCount(caseId)) {
-            memberFuncHitsMap.put(caseId, 1);
+        MockCases cases = getCurrentCases();
+        if (!cases.memberFuncHitsMap.containsKey(caseId)) {
+            cases.memberFuncHitsMap.put(caseId, 1);
         }
         caseId += "-" + hittingCount;
-        casesMap.put(caseId, returnVal);
+        cases.casesMap.put(caseId, returnVal);
     }
 
     /**
@@ -67,7 +74,7 @@ public class MockRegistry {
      */
     public void registerCase(BObject mockObject, String functionName, BArray argsList, Object returnVal) {
         String caseId = constructCaseId(mockObject, functionName, argsList);
-        casesMap.put(caseId, returnVal);
+        getCurrentCases().casesMap.put(caseId, returnVal);
     }
 
     private String constructCaseId(BObject mockObject, String functionName, BArray argsList) {
@@ -94,7 +101,7 @@ public class MockRegistry {
      * @return return value
      */
     public Object getReturnValue(String caseId) {
-        return casesMap.get(caseId);
+        return getCasesContaining(caseId).casesMap.get(caseId);
     }
 
     /**
@@ -104,7 +111,7 @@ public class MockRegistry {
      * @return whether the case exists
      */
     public boolean hasCase(String caseId) {
-        return casesMap.containsKey(caseId);
+        return getCasesContaining(caseId).casesMap.containsKey(caseId);
     }
 
     /**
@@ -113,7 +120,7 @@ public class MockRegistry {
      * @return map containing current hitting count of the function
      */
     public Map<String, Integer> getMemberFuncHitsMap() {
-        return memberFuncHitsMap;
+        return getCurrentCases().memberFuncHitsMap;
     }
 
     /**
@@ -123,6 +130,37 @@ public class MockRegistry {
      * @return whether the case exists
      */
     public boolean hasHitCount(String caseId) {
-        return memberFuncHitsMap.containsKey(caseId);
+        return getCurrentCases().memberFuncHitsMap.containsKey(caseId);
+    }
+
+    private MockCases getCurrentCases() {
+        Optional<TestScope> scope = TestScope.current();
+        if (scope.isEmpty()) {
+            return globalCases;
+        }
+        // Hit counts of the cases registered outside the test continue from the counts reached before the test
+        return scope.get().computeAttributeIfAbsent(MOCK_CASES_ATTRIBUTE,
+                () -> new MockCases(globalCases.memberFuncHitsMap));
+    }
+
+    private MockCases getCasesContaining(String caseId) {
+        MockCases cases = getCurrentCases();
+        return cases.casesMap.containsKey(caseId) ? cases : globalCases;
+    }
+
+    /**
+     * Mock cases and hit counts registered within a scope.
+     */
+    private static class MockCases {
+        private final Map<String, Object> casesMap = new ConcurrentHashMap<>();
+        private final Map<String, Integer> memberFuncHitsMap;
+
+        MockCases() {
+            this.memberFuncHitsMap = new ConcurrentHashMap<>();
+        }
+
+        MockCases(Map<String, Integer> memberFuncHitsMap) {
+            this.memberFuncHitsMap = new ConcurrentHashMap<>(memberFuncHitsMap);
+        }
     }
 }
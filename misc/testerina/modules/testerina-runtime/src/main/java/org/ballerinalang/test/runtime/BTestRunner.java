@@ -44,6 +44,8 @@ import io.ballerina.runtime.values.MapValue;
 import io.ballerina.runtime.values.ObjectValue;
 import io.ballerina.runtime.values.XMLValue;
 import org.ballerinalang.test.runtime.entity.Test;
+import org.ballerinalang.test.runtime.entity.TestGroup;
+import org.ballerinalang.test.runtime.entity.TestScope;
 import org.ballerinalang.test.runtime.entity.TestSuite;
 import org.ballerinalang.test.runtime.entity.TesterinaFunction;
 import org.ballerinalang.test.runtime.entity.TesterinaReport;
@@ -61,11 +63,23 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 import java.util.Vector;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 /**
@@ -316,31 +330,138 @@ public class BTestRunner {
 
     private void executeTests(TestSuite suite, String packageName, ClassLoader classLoader, Scheduler scheduler,
                               AtomicBoolean shouldSkip, AtomicBoolean shouldSkipAfterGroups) {
-        List<String> failedOrSkippedTests = new ArrayList<>();
-        List<String> failedAfterFuncTests = new ArrayList<>();
-        suite.getTests().forEach(test -> {
-            AtomicBoolean shouldSkipTest = new AtomicBoolean(false);
-
-            // execute the before groups functions
-            executeBeforeGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
-                    shouldSkipTest, shouldSkipAfterGroups);
-
-            // run the before each tests
-            executeBeforeEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
-            // run the before tests
-            executeBeforeFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
-            // run the test
-            executeFunction(test, suite, packageName, classLoader, scheduler, shouldSkip, shouldSkipTest,
-                            failedOrSkippedTests, failedAfterFuncTests);
-            // run the after tests
-            executeAfterFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest, failedAfterFuncTests);
-            // run the after each tests
-            executeAfterEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
-
-            // execute the after groups functions
-            executeAfterGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
-                    shouldSkipTest, shouldSkipAfterGroups);
+        List<String> failedOrSkippedTests = Collections.synchronizedList(new ArrayList<>());
+        List<String> failedAfterFuncTests = Collections.synchronizedList(new ArrayList<>());
+        if (suite.getParallelism() > 1) {
+            executeTestsInParallel(suite, packageName, classLoader, shouldSkip, shouldSkipAfterGroups,
+                    failedOrSkippedTests, failedAfterFuncTests);
+            return;
+        }
+        suite.getTests().forEach(test -> executeTest(test, suite, packageName, classLoader, scheduler, shouldSkip,
+                shouldSkipAfterGroups, failedOrSkippedTests, failedAfterFuncTests));
+    }
+
+    /**
+     * Executes the tests concurrently, starting each test once all the tests it depends on have completed. Each test
+     * runs on its own scheduler within a {@link TestScope}, which isolates the mock cases registered by the test.
+     * Tests opting out with {@code serialExecution}, and tests of groups with before or after groups functions, are
+     * executed while no other test is running.
+     */
+    private void executeTestsInParallel(TestSuite suite, String packageName, ClassLoader classLoader,
+                                        AtomicBoolean shouldSkip, AtomicBoolean shouldSkipAfterGroups,
+                                        List<String> failedOrSkippedTests, List<String> failedAfterFuncTests) {
+        List<Test> tests = suite.getTests();
+        Map<Test, Integer> pendingDependencies = new HashMap<>();
+        Map<String, List<Test>> dependentTests = new HashMap<>();
+        for (Test test : tests) {
+            pendingDependencies.put(test, test.getDependsOnTestFunctions().size());
+            for (String dependsOnFn : test.getDependsOnTestFunctions()) {
+                dependentTests.computeIfAbsent(dependsOnFn, k -> new ArrayList<>()).add(test);
+            }
+        }
+
+        // Serial tests acquire the write lock, so that they wait for the running tests and block the others
+        ReadWriteLock executionLock = new ReentrantReadWriteLock(true);
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(suite.getParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "testerina-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
         });
+        CompletionService<Test> completionService = new ExecutorCompletionService<>(executor);
+        int runningTests = 0;
+        try {
+            for (Test test : tests) {
+                if (pendingDependencies.get(test) == 0) {
+                    submitTest(completionService, executionLock, test, suite, packageName, classLoader, shouldSkip,
+                            shouldSkipAfterGroups, failedOrSkippedTests, failedAfterFuncTests);
+                    runningTests++;
+                }
+            }
+            while (runningTests > 0) {
+                Test completedTest = completionService.take().get();
+                runningTests--;
+                for (Test test : dependentTests.getOrDefault(completedTest.getTestName(), new ArrayList<>())) {
+                    int pending = pendingDependencies.get(test) - 1;
+                    pendingDependencies.put(test, pending);
+                    if (pending == 0) {
+                        submitTest(completionService, executionLock, test, suite, packageName, classLoader,
+                                shouldSkip, shouldSkipAfterGroups, failedOrSkippedTests, failedAfterFuncTests);
+                        runningTests++;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaException("test execution interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new BallerinaException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void submitTest(CompletionService<Test> completionService, ReadWriteLock executionLock, Test test,
+                            TestSuite suite, String packageName, ClassLoader classLoader, AtomicBoolean shouldSkip,
+                            AtomicBoolean shouldSkipAfterGroups, List<String> failedOrSkippedTests,
+                            List<String> failedAfterFuncTests) {
+        Lock lock = isSerialTest(test, suite) ? executionLock.writeLock() : executionLock.readLock();
+        completionService.submit(() -> {
+            lock.lock();
+            Scheduler testScheduler = new Scheduler(4, false);
+            TestScope scope = TestScope.open(test.getTestName(), testScheduler);
+            try {
+                executeTest(test, suite, packageName, classLoader, testScheduler, shouldSkip, shouldSkipAfterGroups,
+                        failedOrSkippedTests, failedAfterFuncTests);
+            } finally {
+                scope.close();
+                lock.unlock();
+            }
+            return test;
+        });
+    }
+
+    private static boolean isSerialTest(Test test, TestSuite suite) {
+        if (test.isSerialExecution()) {
+            return true;
+        }
+        // Before and after groups functions rely on the order in which the tests of the group are executed
+        for (String groupName : test.getGroups()) {
+            TestGroup group = suite.getGroups().get(groupName);
+            if (!group.getBeforeGroupsFunctions().isEmpty() || !group.getAfterGroupsFunctions().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void executeTest(Test test, TestSuite suite, String packageName, ClassLoader classLoader,
+                             Scheduler scheduler, AtomicBoolean shouldSkip, AtomicBoolean shouldSkipAfterGroups,
+                             List<String> failedOrSkippedTests, List<String> failedAfterFuncTests) {
+        AtomicBoolean shouldSkipTest = new AtomicBoolean(false);
+
+        // execute the before groups functions
+        executeBeforeGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
+                shouldSkipTest, shouldSkipAfterGroups);
+
+        // run the before each tests
+        executeBeforeEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+        // run the before tests
+        executeBeforeFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+        // run the test
+        executeFunction(test, suite, packageName, classLoader, scheduler, shouldSkip, shouldSkipTest,
+                        failedOrSkippedTests, failedAfterFuncTests);
+        // run the after tests
+        executeAfterFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest, failedAfterFuncTests);
+        // run the after each tests
+        executeAfterEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+
+        // execute the after groups functions
+        executeAfterGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
+                shouldSkipTest, shouldSkipAfterGroups);
     }
 
     private void executeBeforeGroupFunctions(Test test, TestSuite suite, ClassLoader classLoader, Scheduler scheduler,
@@ -749,12 +870,15 @@ public class BTestRunner {
      * @param failedTests List of failed tests
      * @param jsonFile File to save failed tests
      */
-    private void writeFailedTestsToJson(List<String> failedTests, File jsonFile) {
+    private synchronized void writeFailedTestsToJson(List<String> failedTests, File jsonFile) {
         String errorMsg;
 
         try (Writer writer = new OutputStreamWriter(new FileOutputStream(jsonFile), StandardCharsets.UTF_8)) {
             Gson gson = new Gson();
-            String json = gson.toJson(failedTests);
+            String json;
+            synchronized (failedTests) {
+                json = gson.toJson(failedTests);
+            }
             writer.write(new String(json.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
         } catch (IOException e) {
             errorMsg = "Could not write to Rerun Test json. Rerunning tests will not work";
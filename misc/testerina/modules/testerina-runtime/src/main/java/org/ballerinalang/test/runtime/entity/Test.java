@@ -32,6 +32,7 @@ public class Test {
     String dataProvider;
     List<String> dependsOnTestFunctions = new ArrayList<>();
     List<String> groups = new ArrayList<>();
+    boolean serialExecution;
 
     public String getTestName() {
         return testName;
@@ -85,6 +86,19 @@ public class Test {
         return groups;
     }
 
+    /**
+     * Returns whether the test should not be executed concurrently with other tests.
+     *
+     * @return true if the test should be executed alone
+     */
+    public boolean isSerialExecution() {
+        return serialExecution;
+    }
+
+    public void setSerialExecution(boolean serialExecution) {
+        this.serialExecution = serialExecution;
+    }
+
     @Override
     public String toString() {
         return getTestName();
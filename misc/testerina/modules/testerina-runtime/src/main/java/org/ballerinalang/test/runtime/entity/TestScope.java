@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.runtime.entity;
+
+import io.ballerina.runtime.scheduling.Scheduler;
+import io.ballerina.runtime.scheduling.Strand;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the state of a test which is executed concurrently with other tests, such as the mock cases registered by
+ * the test. Each concurrent test runs on its own {@link Scheduler}, hence the scope of the current strand is found
+ * through the scheduler of the strand.
+ *
+ * @since 2.0.0
+ */
+public class TestScope {
+
+    private static final Map<Scheduler, TestScope> SCOPES = new ConcurrentHashMap<>();
+
+    private final String testName;
+    private final Scheduler scheduler;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    private TestScope(String testName, Scheduler scheduler) {
+        this.testName = testName;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Opens a scope for a test, which applies to the strands of the given scheduler until the scope is closed.
+     *
+     * @param testName  name of the test
+     * @param scheduler scheduler the test functions are executed on
+     * @return the opened scope
+     */
+    public static TestScope open(String testName, Scheduler scheduler) {
+        TestScope scope = new TestScope(testName, scheduler);
+        SCOPES.put(scheduler, scope);
+        return scope;
+    }
+
+    /**
+     * Returns the scope of the test executing the current strand, if the test is executed concurrently with other
+     * tests.
+     *
+     * @return scope of the current test
+     */
+    public static Optional<TestScope> current() {
+        if (SCOPES.isEmpty()) {
+            return Optional.empty();
+        }
+        Strand strand;
+        try {
+            strand = Scheduler.getStrand();
+        } catch (IllegalStateException e) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(SCOPES.get(strand.scheduler));
+    }
+
+    /**
+     * Closes the scope, discarding the state held for the test.
+     */
+    public void close() {
+        SCOPES.remove(scheduler, this);
+        attributes.clear();
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    /**
+     * Returns the attribute of the scope with the given key, creating it if it is absent.
+     *
+     * @param key      attribute key
+     * @param supplier supplies the attribute if it is absent
+     * @param <T>      attribute type
+     * @return attribute value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T computeAttributeIfAbsent(String key, Supplier<T> supplier) {
+        return (T) attributes.computeIfAbsent(key, k -> supplier.get());
+    }
+}
@@ -53,6 +53,7 @@ public class TestSuite {
     private Map<String, TestGroup> groups = new HashMap<>();
 
     private boolean isReportRequired;
+    private int parallelism;
 
     /**
      * Key - unique identifier for the function to be mocked.
@@ -215,6 +216,20 @@ public class TestSuite {
         this.tests.add(tests);
     }
 
+    /**
+     * Returns the maximum number of tests to be executed concurrently. Tests are executed one after another if the
+     * parallelism is not greater than one.
+     *
+     * @return maximum number of concurrent tests
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public boolean isReportRequired() {
         return isReportRequired;
     }
@@ -18,12 +18,15 @@
 
 package org.ballerinalang.stdlib.config;
 
+import org.ballerinalang.config.ConfigHandle;
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.config.ConfigSnapshot;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -225,6 +228,97 @@ public class ConfigRegistryTest {
         Assert.assertEquals(port, "9090");
     }
 
+    @Test
+    public void testGetHandle() throws IOException {
+        registry.initRegistry(new HashMap<>(), null, null);
+        ConfigHandle handle = registry.getHandle("echo", "http.port");
+        Assert.assertFalse(handle.contains());
+
+        registry.addConfiguration("echo.http.port", "9090");
+        Assert.assertTrue(handle.contains());
+        Assert.assertEquals(handle.getAsInt(), 9090);
+        Assert.assertEquals(handle.getAsString(), "9090");
+
+        registry.removeConfiguration("echo.http.port");
+        Assert.assertFalse(handle.contains());
+    }
+
+    @Test
+    public void testSnapshot() throws IOException {
+        registry.initRegistry(new HashMap<>(), null, null);
+        registry.addConfiguration("hello.http.port", 8080L);
+        ConfigSnapshot snapshot = registry.getSnapshot();
+
+        registry.initRegistry(new HashMap<>(), null, null);
+        Assert.assertFalse(registry.contains("hello.http.port"));
+        Assert.assertEquals(snapshot.getAsInt("hello.http.port"), 8080L);
+        Assert.assertEquals(snapshot.getAsMap("hello").get("http.port"), 8080L);
+    }
+
+    @Test
+    public void testSnapshotUpdatedIncrementally() throws IOException {
+        registry.initRegistry(new HashMap<>(), null, null);
+        registry.addConfiguration("hello.http.port", 8080L);
+        registry.addConfiguration("hello.http.host", "localhost");
+        registry.addConfiguration("hello.cache.enabled", true);
+        ConfigSnapshot snapshot = registry.getSnapshot();
+        ConfigHandle handle = registry.getHandle("hello.http.host");
+        Assert.assertEquals(handle.getAsString(), "localhost");
+
+        registry.addConfiguration("hello.http.port", 9090L);
+        registry.addConfiguration("hello.http.timeout", 30L);
+        registry.removeConfiguration("hello.cache.enabled");
+        registry.removeConfiguration("non_existent_config");
+
+        ConfigSnapshot updated = registry.getSnapshot();
+        Assert.assertNotSame(updated, snapshot);
+        Assert.assertEquals(updated.getAsInt("hello.http.port"), 9090L);
+        Assert.assertEquals(updated.getAsInt("hello.http.timeout"), 30L);
+        Assert.assertEquals(updated.getAsString("hello.http.host"), "localhost");
+        Assert.assertFalse(updated.contains("hello.cache.enabled"));
+        Assert.assertEquals(updated.keySet().size(), snapshot.keySet().size());
+        Map<String, Object> httpSection = updated.getAsMap("hello.http");
+        Assert.assertEquals(httpSection.size(), 3);
+        Assert.assertEquals(httpSection.get("port"), 9090L);
+        Assert.assertEquals(httpSection.get("timeout"), 30L);
+        Map<String, Object> helloSection = updated.getAsMap("hello");
+        Assert.assertEquals(helloSection.size(), 3);
+        Assert.assertFalse(helloSection.containsKey("cache.enabled"));
+        Assert.assertTrue(updated.getAsMap("hello.cache").isEmpty());
+        Assert.assertEquals(handle.getAsString(), "localhost");
+
+        // The earlier snapshot is not changed by the updates.
+        Assert.assertEquals(snapshot.getAsInt("hello.http.port"), 8080L);
+        Assert.assertFalse(snapshot.contains("hello.http.timeout"));
+        Assert.assertTrue(snapshot.getAsBoolean("hello.cache.enabled"));
+        Assert.assertEquals(snapshot.getAsMap("hello.http").size(), 2);
+        Assert.assertEquals(snapshot.getAsMap("hello").size(), 3);
+        Assert.assertEquals(snapshot.getAsMap("hello.cache").get("enabled"), true);
+    }
+
+    @Test
+    public void testEarlierSnapshotsNotRetained() throws IOException, InterruptedException {
+        registry.initRegistry(new HashMap<>(), null, null);
+        registry.addConfiguration("hello.http.port", 8080L);
+        registry.addConfiguration("hello.http.host", "localhost");
+        ConfigHandle handle = registry.getHandle("hello.http.host");
+        Assert.assertEquals(handle.getAsString(), "localhost");
+        WeakReference<ConfigSnapshot> snapshot = new WeakReference<>(registry.getSnapshot());
+
+        // The later snapshots share the entries of the earlier ones, which should not refer to their snapshots.
+        for (long i = 0; i < 100; i++) {
+            registry.addConfiguration("hello.http.port", i);
+            Assert.assertEquals(registry.getAsInt("hello.http.port"), i);
+            Assert.assertEquals(handle.getAsString(), "localhost");
+        }
+        for (int i = 0; i < 50 && snapshot.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(snapshot.get());
+        Assert.assertEquals(registry.getAsString("hello.http.host"), "localhost");
+    }
+
     @AfterClass
     public void resetRegistry() {
         registry.resetRegistry();
@@ -2,6 +2,7 @@ module io.ballerina.mime {
     exports org.ballerinalang.mime.util;
     exports org.ballerinalang.mime.nativeimpl;
     requires io.ballerina.runtime;
+    requires io.ballerina.config;
     requires slf4j.api;
     requires io.ballerina.io;
     requires io.ballerina.lang;
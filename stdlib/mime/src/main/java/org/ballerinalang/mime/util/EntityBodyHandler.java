@@ -31,6 +31,8 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXML;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
 import org.ballerinalang.stdlib.io.channels.TempFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
@@ -54,6 +56,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 
+import static org.ballerinalang.mime.util.MimeConstants.BLOB_DATA_SOURCE;
 import static org.ballerinalang.mime.util.MimeConstants.BODY_PARTS;
 import static org.ballerinalang.mime.util.MimeConstants.CHARSET;
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_TYPE;
@@ -61,8 +64,13 @@ import static org.ballerinalang.mime.util.MimeConstants.ENTITY;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_BODY_PART_INDEX;
 import static org.ballerinalang.mime.util.MimeConstants.MESSAGE_DATA_SOURCE;
+import static org.ballerinalang.mime.util.MimeConstants.METRIC_BUFFERED_BYTES;
+import static org.ballerinalang.mime.util.MimeConstants.METRIC_BUFFERED_BYTES_DESC;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
 import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_MIME_PKG_ID;
+import static org.ballerinalang.mime.util.MimeConstants.SIZE_FIELD;
+import static org.ballerinalang.mime.util.MimeConstants.TAG_DATA_SOURCE_TYPE;
 import static org.ballerinalang.mime.util.MimeUtil.isNotNullAndEmpty;
 
 /**
@@ -159,7 +167,7 @@ public class EntityBodyHandler {
             return (BArray) ValueCreator.createArrayValue(new byte[0]);
         }
         try {
-            return constructBlobDataSource(byteChannel.getInputStream());
+            return constructBlobDataSource(byteChannel.getInputStream(), entityObj.getIntValue(SIZE_FIELD));
         } finally {
             closeByteChannel(byteChannel);
         }
@@ -172,13 +180,26 @@ public class EntityBodyHandler {
      * @return Data source for binary data which is kept in memory
      */
     public static BArray constructBlobDataSource(InputStream inputStream) {
+        return constructBlobDataSource(inputStream, NO_CONTENT_LENGTH_FOUND);
+    }
+
+    /**
+     * Construct BlobDataSource from the given input stream, of which the length is declared. The byte array of the
+     * data source grows as the bytes are read, up to the declared length.
+     *
+     * @param inputStream   Represent the input stream
+     * @param contentLength Declared length of the input stream, or a non-positive value if it is not known
+     * @return Data source for binary data which is kept in memory
+     */
+    public static BArray constructBlobDataSource(InputStream inputStream, long contentLength) {
         byte[] byteData;
         try {
-            byteData = MimeUtil.getByteArray(inputStream);
+            byteData = MimeUtil.getByteArray(inputStream, contentLength);
         } catch (IOException ex) {
             throw ErrorCreator.createError(StringUtils.fromString(("Error occurred while reading input stream :" +
                     ex.getMessage())));
         }
+        reportBufferedBytes(byteData.length);
         return (BArray) ValueCreator.createArrayValue(byteData);
     }
 
@@ -416,6 +437,12 @@ public class EntityBodyHandler {
                 (ENTITY_BYTE_CHANNEL) : null;
     }
 
+    private static void reportBufferedBytes(long bytes) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            BufferedBytesCounter.BLOB.increment(bytes);
+        }
+    }
+
     private static void closeByteChannel(Channel byteChannel) {
         try {
             byteChannel.close();
@@ -423,4 +450,14 @@ public class EntityBodyHandler {
             log.error("Error occurred while closing byte channel", e);
         }
     }
+
+    /**
+     * Counter of the bytes buffered in memory as blob data sources, which is registered once, when the first bytes
+     * are reported.
+     */
+    private static class BufferedBytesCounter {
+
+        private static final Counter BLOB = Counter.builder(METRIC_BUFFERED_BYTES)
+                .description(METRIC_BUFFERED_BYTES_DESC).tag(TAG_DATA_SOURCE_TYPE, BLOB_DATA_SOURCE).register();
+    }
 }
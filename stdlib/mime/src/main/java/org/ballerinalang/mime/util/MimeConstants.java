@@ -165,6 +165,21 @@ public class MimeConstants {
 
     public static final int READABLE_BUFFER_SIZE = 8192; //8KB
     public static final double MAX_THRESHOLD_PERCENTAGE = 0.1;
+    // Initial size of the buffer of a body with a declared length, so that a large declared length does not allocate
+    // a large array before the body is received
+    public static final int INITIAL_BODY_BUFFER_SIZE = 64 * 1024; //64KB
+    public static final int MAX_BODY_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    // Configurations of how multipart bodies are buffered
+    public static final String CONFIG_TABLE_MULTIPART = "b7a.mime.multipart";
+    public static final String MULTIPART_MEMORY_THRESHOLD_CONFIG = CONFIG_TABLE_MULTIPART + ".memory.threshold";
+    public static final String MULTIPART_TEMP_DIR_CONFIG = CONFIG_TABLE_MULTIPART + ".temp.dir";
+
+    // Metric of the entity body bytes buffered in memory as blob data sources
+    public static final String METRIC_BUFFERED_BYTES = "mime_entity_body_buffered_bytes_total";
+    public static final String METRIC_BUFFERED_BYTES_DESC = "Number of entity body bytes buffered in memory";
+    public static final String TAG_DATA_SOURCE_TYPE = "data_source_type";
+    public static final String BLOB_DATA_SOURCE = "blob";
 
     public static final String UTF_8 = "UTF-8";
     public static final String CONTENT_TRANSFER_ENCODING_7_BIT = "7bit";
@@ -42,6 +42,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.Random;
 
@@ -63,7 +64,9 @@ import static org.ballerinalang.mime.util.MimeConstants.DEFAULT_SUB_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.DISPOSITION_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.DOUBLE_QUOTE;
 import static org.ballerinalang.mime.util.MimeConstants.FORM_DATA_PARAM;
+import static org.ballerinalang.mime.util.MimeConstants.INITIAL_BODY_BUFFER_SIZE;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_TYPE_ERROR;
+import static org.ballerinalang.mime.util.MimeConstants.MAX_BODY_BUFFER_SIZE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
@@ -386,6 +389,50 @@ public class MimeUtil {
         }
     }
 
+    /**
+     * Given an input stream of which the length is declared, get a byte array. The declared length is not trusted, as
+     * it usually comes from a Content-Length header. The buffer starts small and grows as the bytes arrive, up to the
+     * declared length, hence an array of the declared length is allocated only once that many bytes are received. The
+     * buffer does not need to be copied at the end if the stream has the declared length.
+     *
+     * @param input          Represent an input stream
+     * @param expectedLength Declared number of bytes in the input stream, or a non-positive value if it is not known
+     * @return A byte array
+     * @throws IOException In case an error occurs while reading input stream
+     */
+    public static byte[] getByteArray(InputStream input, long expectedLength) throws IOException {
+        if (expectedLength <= 0) {
+            return getByteArray(input);
+        }
+        long limit = Math.min(expectedLength, MAX_BODY_BUFFER_SIZE);
+        byte[] bytes = new byte[(int) Math.min(limit, INITIAL_BODY_BUFFER_SIZE)];
+        int offset = 0;
+        while (true) {
+            if (offset == bytes.length) {
+                if (offset >= limit) {
+                    // The declared length is reached. Grow beyond it only if the stream turns out to be longer.
+                    int nextByte = input.read();
+                    if (nextByte == -1) {
+                        return bytes;
+                    }
+                    if (offset == MAX_BODY_BUFFER_SIZE) {
+                        throw new IOException("Entity body is too large to be buffered in memory");
+                    }
+                    limit = MAX_BODY_BUFFER_SIZE;
+                    bytes = Arrays.copyOf(bytes, (int) Math.min((long) offset * 2, limit));
+                    bytes[offset++] = (byte) nextByte;
+                    continue;
+                }
+                bytes = Arrays.copyOf(bytes, (int) Math.min((long) offset * 2, limit));
+            }
+            int len = input.read(bytes, offset, bytes.length - offset);
+            if (len == -1) {
+                return offset == bytes.length ? bytes : Arrays.copyOf(bytes, offset);
+            }
+            offset += len;
+        }
+    }
+
     /**
      * Check whether the given string is not null and empty.
      *
@@ -21,9 +21,12 @@ package org.ballerinalang.mime.util;
 import io.ballerina.runtime.api.StringUtils;
 import io.ballerina.runtime.api.ValueCreator;
 import io.ballerina.runtime.api.values.BObject;
+import org.ballerinalang.config.ConfigRegistry;
 import org.jvnet.mimepull.MIMEConfig;
 import org.jvnet.mimepull.MIMEMessage;
 import org.jvnet.mimepull.MIMEPart;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
 import java.util.ArrayList;
@@ -39,9 +42,12 @@ import static org.ballerinalang.mime.util.MimeConstants.ENTITY;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_ELEMENT;
 import static org.ballerinalang.mime.util.MimeConstants.MAX_THRESHOLD_PERCENTAGE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_MEMORY_THRESHOLD_CONFIG;
+import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_TEMP_DIR_CONFIG;
 import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
 import static org.ballerinalang.mime.util.MimeConstants.PARSER_ERROR;
 import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_MIME_PKG_ID;
+import static org.ballerinalang.mime.util.MimeUtil.isNotNullAndEmpty;
 
 /**
  * Responsible for decoding an inputstream to get a set of multiparts.
@@ -50,6 +56,8 @@ import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_MIME_PKG_ID;
  */
 public class MultipartDecoder {
 
+    private static final Logger log = LoggerFactory.getLogger(MultipartDecoder.class);
+
     /**
      * Decode inputstream and populate ballerina body parts.
      *  @param entity      Represent ballerina entity which needs to be populated with body parts
@@ -85,22 +93,38 @@ public class MultipartDecoder {
     }
 
     /**
-     * Create mime configuration with the maximum memory limit.
+     * Create mime configuration with the maximum memory limit. Parts which exceed the limit are written to temporary
+     * files, which are created in the directory given by the {@code b7a.mime.multipart.temp.dir} configuration, if
+     * it is set.
      *
      * @return MIMEConfig which defines configuration for MIME message parsing and storing
      */
     private static MIMEConfig getMimeConfig() {
         MIMEConfig mimeConfig = new MIMEConfig();
         mimeConfig.setMemoryThreshold(getMemoryThreshold());
+        String tempDir = ConfigRegistry.getInstance().getAsString(MULTIPART_TEMP_DIR_CONFIG);
+        if (isNotNullAndEmpty(tempDir)) {
+            mimeConfig.setDir(tempDir);
+        }
         return mimeConfig;
     }
 
     /**
-     * Get the maximum memory threshold value to be used with multiparts.
+     * Get the maximum memory threshold value to be used with multiparts. The threshold is given in bytes by the
+     * {@code b7a.mime.multipart.memory.threshold} configuration. If it is not set, a percentage of the free memory
+     * is used.
      *
      * @return max threshold value
      */
     private static Long getMemoryThreshold() {
+        String configuredThreshold = ConfigRegistry.getInstance().getAsString(MULTIPART_MEMORY_THRESHOLD_CONFIG);
+        if (isNotNullAndEmpty(configuredThreshold)) {
+            try {
+                return Long.parseLong(configuredThreshold.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Invalid multipart memory threshold '{}', using the default threshold", configuredThreshold);
+            }
+        }
         Long freeMemorySize = Runtime.getRuntime().freeMemory();
         Double maxThreshold = freeMemorySize * MAX_THRESHOLD_PERCENTAGE;
         return maxThreshold.longValue();
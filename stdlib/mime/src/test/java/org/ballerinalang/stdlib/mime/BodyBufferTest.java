@@ -0,0 +1,113 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.stdlib.mime;
+
+import org.ballerinalang.mime.util.MimeUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.ballerinalang.mime.util.MimeConstants.INITIAL_BODY_BUFFER_SIZE;
+
+/**
+ * Tests for buffering entity bodies of which the length is declared.
+ *
+ * @since 2.0.0
+ */
+public class BodyBufferTest {
+
+    @Test(description = "A large declared length does not allocate a large buffer before the body is received")
+    public void testLargeDeclaredLength() throws IOException {
+        byte[] body = createBody(10);
+        TrackingInputStream input = new TrackingInputStream(body, body.length);
+
+        byte[] bytes = MimeUtil.getByteArray(input, 1024L * 1024 * 1024);
+        Assert.assertEquals(bytes, body);
+        Assert.assertTrue(input.largestBuffer <= INITIAL_BODY_BUFFER_SIZE,
+                          "Buffer of " + input.largestBuffer + " bytes allocated for a body of 10 bytes");
+    }
+
+    @Test(description = "The buffer grows as the bytes of a large body arrive in chunks")
+    public void testBodyOfDeclaredLength() throws IOException {
+        byte[] body = createBody(INITIAL_BODY_BUFFER_SIZE * 5 + 17);
+        TrackingInputStream input = new TrackingInputStream(body, 1000);
+
+        byte[] bytes = MimeUtil.getByteArray(input, body.length);
+        Assert.assertEquals(bytes, body);
+        // The buffer is not grown beyond the declared length.
+        Assert.assertEquals(input.largestBuffer, body.length);
+    }
+
+    @Test(description = "A body shorter than its declared length is read fully")
+    public void testBodyShorterThanDeclaredLength() throws IOException {
+        byte[] body = createBody(INITIAL_BODY_BUFFER_SIZE + 1);
+        Assert.assertEquals(MimeUtil.getByteArray(new TrackingInputStream(body, 4096), body.length + 1000L), body);
+    }
+
+    @Test(description = "A body longer than its declared length is read fully")
+    public void testBodyLongerThanDeclaredLength() throws IOException {
+        byte[] body = createBody(INITIAL_BODY_BUFFER_SIZE * 2);
+        Assert.assertEquals(MimeUtil.getByteArray(new TrackingInputStream(body, 4096), 100), body);
+        Assert.assertEquals(MimeUtil.getByteArray(new TrackingInputStream(body, 4096), body.length - 1), body);
+    }
+
+    @Test(description = "A body of which the length is not declared is read fully")
+    public void testUndeclaredLength() throws IOException {
+        byte[] body = createBody(INITIAL_BODY_BUFFER_SIZE * 3);
+        Assert.assertEquals(MimeUtil.getByteArray(new TrackingInputStream(body, 4096), -1), body);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(new byte[0]), 0), new byte[0]);
+    }
+
+    private static byte[] createBody(int length) {
+        byte[] body = new byte[length];
+        new Random(length).nextBytes(body);
+        return body;
+    }
+
+    /**
+     * Input stream which returns at most a given number of bytes per read, and records the largest buffer given to
+     * it.
+     */
+    private static class TrackingInputStream extends InputStream {
+
+        private final ByteArrayInputStream input;
+        private final int maxChunkSize;
+        private int largestBuffer;
+
+        TrackingInputStream(byte[] bytes, int maxChunkSize) {
+            this.input = new ByteArrayInputStream(bytes);
+            this.maxChunkSize = maxChunkSize;
+        }
+
+        @Override
+        public int read() {
+            return input.read();
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            largestBuffer = Math.max(largestBuffer, bytes.length);
+            return input.read(bytes, offset, Math.min(length, maxChunkSize));
+        }
+    }
+}
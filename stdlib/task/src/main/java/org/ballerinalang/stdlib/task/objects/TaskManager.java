@@ -19,16 +19,20 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.ballerinalang.stdlib.task.utils.TimerWheel;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.impl.StdSchedulerFactory;
 
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD_VALUE;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT_VALUE;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_WHEEL_THREAD_NAME;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_WHEEL_TICK_IN_MILLIS;
 
 
 /**
@@ -36,6 +40,7 @@ import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_CO
  */
 public class TaskManager {
     private Scheduler scheduler;
+    private TimerWheel timerWheel;
 
     private static class TaskManagerHelper {
         private static final TaskManager INSTANCE = new TaskManager();
@@ -61,6 +66,20 @@ public class TaskManager {
         return this.scheduler;
     }
 
+    /**
+     * Returns the timer wheel on which the timers are scheduled, starting it if it is not started yet.
+     *
+     * @return the timer wheel shared by the timers
+     */
+    public synchronized TimerWheel getTimerWheel() {
+        if (this.timerWheel == null) {
+            this.timerWheel = new TimerWheel(TIMER_WHEEL_TICK_IN_MILLIS, TimeUnit.MILLISECONDS,
+                                             TIMER_WHEEL_THREAD_NAME);
+            this.timerWheel.start();
+        }
+        return this.timerWheel;
+    }
+
     private Properties createSchedulerProperties() {
         Properties properties = new Properties();
         properties.setProperty(QUARTZ_MISFIRE_THRESHOLD, QUARTZ_MISFIRE_THRESHOLD_VALUE);
@@ -18,18 +18,12 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
-import org.ballerinalang.stdlib.task.utils.TaskJob;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleScheduleBuilder;
-import org.quartz.Trigger;
+import org.ballerinalang.stdlib.task.utils.TaskExecutor;
+import org.ballerinalang.stdlib.task.utils.TimerWheel;
 
-import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
-import static org.quartz.JobBuilder.newJob;
-import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
-import static org.quartz.TriggerBuilder.newTrigger;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD_VALUE;
 
 /**
  * Represents a Timer object used to create and run Timers.
@@ -38,8 +32,18 @@ import static org.quartz.TriggerBuilder.newTrigger;
  */
 public class Timer extends AbstractTask {
 
+    // Timers follow the misfire threshold used by the Quartz scheduler for appointments.
+    private static final long MISFIRE_THRESHOLD_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(Long.parseLong(QUARTZ_MISFIRE_THRESHOLD_VALUE));
+
     private long interval, delay;
 
+    // The following fields are guarded by this timer.
+    private TimerWheel.Timeout timeout;
+    private long nextFireTime;
+    private long runs;
+    private boolean paused;
+
     /**
      * Creates a Timer object.
      *
@@ -73,12 +77,43 @@ public class Timer extends AbstractTask {
      * {@inheritDoc}
      */
     @Override
-    public void start() throws SchedulingException {
-        JobDataMap jobDataMap = getJobDataMapFromTask();
-        try {
-            scheduleTimer(jobDataMap);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Failed to schedule task.", e);
+    public synchronized void start() throws SchedulingException {
+        if (this.timeout != null || this.paused) {
+            throw new SchedulingException("Failed to schedule task. Task is already scheduled.");
+        }
+        this.runs = 0;
+        this.nextFireTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.getDelay());
+        scheduleNextRun();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void stop() {
+        cancelNextRun();
+        this.paused = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void pause() {
+        if (this.timeout != null) {
+            cancelNextRun();
+            this.paused = true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void resume() {
+        if (this.paused) {
+            this.paused = false;
+            scheduleNextRun();
         }
     }
 
@@ -109,6 +144,24 @@ public class Timer extends AbstractTask {
         return this.maxRuns;
     }
 
+    /**
+     * Gets the number of runs of this Timer, including the runs skipped as misfires.
+     *
+     * @return the number of runs of this timer.
+     */
+    synchronized long getRuns() {
+        return this.runs;
+    }
+
+    /**
+     * Checks whether the next run of this Timer is scheduled.
+     *
+     * @return true if the next run is scheduled, false if the timer is stopped, paused or has run out of runs.
+     */
+    synchronized boolean isScheduled() {
+        return this.timeout != null;
+    }
+
     private void validateTimerConfigurations(long delay, long interval) throws SchedulingException {
         if (delay < 0) {
             throw new SchedulingException("Timer scheduling delay should be a non-negative value.");
@@ -119,49 +172,42 @@ public class Timer extends AbstractTask {
     }
 
     /**
-     * Schedule a Timer.
-     *
-     * @param jobData Map containing the details of the job.
-     * @throws SchedulerException if scheduling is failed.
+     * Schedules the next run of the timer on the timer wheel. If the timer is late by more than the misfire threshold,
+     * such as after being paused, the missed runs are skipped and counted as runs, similar to the
+     * {@code MISFIRE_INSTRUCTION_RESCHEDULE_NEXT_WITH_REMAINING_COUNT} instruction of Quartz.
      */
-    private void scheduleTimer(JobDataMap jobData) throws SchedulerException, SchedulingException {
-        SimpleScheduleBuilder schedule = createSchedulerBuilder(this.getInterval(), this.getMaxRuns());
-        String triggerId = this.getId();
-        JobDetail job = newJob(TaskJob.class).usingJobData(jobData).withIdentity(triggerId).build();
-        Trigger trigger;
-
-        if (this.getDelay() > 0) {
-            Date startTime = new Date(System.currentTimeMillis() + this.getDelay());
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startAt(startTime)
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
-        } else {
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startNow()
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
+    private void scheduleNextRun() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(this.getInterval());
+        long lateness = System.nanoTime() - this.nextFireTime;
+        if (lateness > MISFIRE_THRESHOLD_NANOS) {
+            long missedRuns = lateness / intervalNanos + 1;
+            this.nextFireTime += missedRuns * intervalNanos;
+            this.runs += missedRuns;
         }
+        if (this.getMaxRuns() > 0 && this.runs >= this.getMaxRuns()) {
+            this.timeout = null;
+            return;
+        }
+        this.timeout = TaskManager.getInstance().getTimerWheel().schedule(this::run, this.nextFireTime);
+    }
 
-        TaskManager.getInstance().getScheduler().scheduleJob(job, trigger);
-        quartzJobs.put(triggerId, job.getKey());
+    private void cancelNextRun() {
+        if (this.timeout != null) {
+            this.timeout.cancel();
+            this.timeout = null;
+        }
     }
 
-    private static SimpleScheduleBuilder createSchedulerBuilder(long interval, long maxRuns) {
-        SimpleScheduleBuilder simpleScheduleBuilder = simpleSchedule()
-                .withMisfireHandlingInstructionNextWithRemainingCount()
-                .withIntervalInMilliseconds(interval);
-        if (maxRuns > 0) {
-            // Quartz uses number of repeats, but we count total number of runs.
-            // Hence we subtract 1 from the maxRuns to get the repeat count.
-            simpleScheduleBuilder.withRepeatCount((int) (maxRuns - 1));
-        } else {
-            simpleScheduleBuilder.repeatForever();
+    private synchronized void run(TimerWheel.Timeout expiredTimeout) {
+        if (expiredTimeout != this.timeout) {
+            // The timer is stopped or paused after the timeout has expired.
+            return;
+        }
+        for (ServiceInformation serviceInformation : this.getServicesMap().values()) {
+            TaskExecutor.executeFunction(serviceInformation);
         }
-        return simpleScheduleBuilder;
+        this.runs++;
+        this.nextFireTime += TimeUnit.MILLISECONDS.toNanos(this.getInterval());
+        scheduleNextRun();
     }
 }
@@ -81,4 +81,8 @@ public class TaskConstants {
     public static final String QUARTZ_THREAD_COUNT_VALUE = "10";
     // Defines how late the trigger should be to be considered misfired
     public static final String QUARTZ_MISFIRE_THRESHOLD_VALUE = "5000";
+
+    // Timer wheel related values
+    public static final long TIMER_WHEEL_TICK_IN_MILLIS = 1;
+    public static final String TIMER_WHEEL_THREAD_NAME = "ballerina-task-timer";
 }
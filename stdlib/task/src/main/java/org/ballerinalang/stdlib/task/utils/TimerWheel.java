@@ -0,0 +1,319 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.stdlib.task.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * A hashed hierarchical timer wheel, which expires the scheduled timeouts on a single thread.
+ * <p>
+ * Each level of the wheel has {@code WHEEL_SIZE} buckets, and a bucket of a level spans a full rotation of the level
+ * below it. A timeout is kept in the bucket of the lowest level covering its deadline, and is moved down to the lower
+ * levels as the wheel advances. Hence scheduling and cancelling a timeout take constant time regardless of the number
+ * of pending timeouts. The tasks of the expired timeouts are run on the wheel thread, hence they should only hand
+ * over the work to be done, such as by scheduling a strand.
+ */
+public class TimerWheel {
+
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 5;
+    // Timeouts further than this are kept in the highest level, and placed again when their bucket is cascaded.
+    private static final long MAX_DELTA_TICKS = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+
+    private final long tickNanos;
+    private final Thread workerThread;
+    private final Bucket[][] wheels = new Bucket[LEVELS][WHEEL_SIZE];
+    private final Queue<Timeout> additions = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancellations = new ConcurrentLinkedQueue<>();
+    private final long startTime;
+    // Time until which the worker thread is parked. A timeout which expires earlier wakes up the thread.
+    private volatile long wakeupTime = Long.MIN_VALUE;
+    private volatile boolean stopped;
+
+    // Accessed only by the worker thread.
+    private long tick;
+    private int pendingTimeouts;
+
+    /**
+     * Creates a timer wheel. The wheel does not expire any timeouts until it is started.
+     *
+     * @param tickDuration duration of a tick, which is the precision of the timeouts
+     * @param unit         time unit of the tick duration
+     * @param threadName   name of the worker thread of the wheel
+     */
+    public TimerWheel(long tickDuration, TimeUnit unit, String threadName) {
+        this.tickNanos = unit.toNanos(tickDuration);
+        if (this.tickNanos < 1) {
+            throw new IllegalArgumentException("Timer wheel tick duration should be a positive value.");
+        }
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+        this.startTime = System.nanoTime();
+        this.workerThread = new Thread(this::run, threadName);
+        // Similar to the Quartz scheduler threads, the worker thread keeps the program running.
+        this.workerThread.setDaemon(false);
+    }
+
+    /**
+     * Starts the worker thread of the wheel.
+     */
+    public void start() {
+        workerThread.start();
+    }
+
+    /**
+     * Stops the worker thread of the wheel. The pending timeouts do not expire after the wheel is stopped.
+     */
+    public void stop() {
+        stopped = true;
+        LockSupport.unpark(workerThread);
+    }
+
+    /**
+     * Schedules a task to be run at the given time.
+     *
+     * @param task     task to be run with the timeout when it expires
+     * @param deadline time at which the timeout expires, in terms of {@link System#nanoTime()}
+     * @return handle of the scheduled timeout, which can be used to cancel it
+     */
+    public Timeout schedule(Consumer<Timeout> task, long deadline) {
+        Timeout timeout = new Timeout(this, task, deadline);
+        additions.add(timeout);
+        if (deadline < wakeupTime) {
+            LockSupport.unpark(workerThread);
+        }
+        return timeout;
+    }
+
+    private void run() {
+        while (!stopped) {
+            processCancellations();
+            long currentTick = (System.nanoTime() - startTime) / tickNanos;
+            if (pendingTimeouts == 0) {
+                // All the buckets are empty, hence the idle ticks need not be processed.
+                tick = Math.max(tick, currentTick);
+            }
+            processAdditions();
+            while (tick < currentTick) {
+                advance();
+            }
+            park();
+        }
+    }
+
+    private void park() {
+        long parkUntil = pendingTimeouts == 0 ? Long.MAX_VALUE : startTime + nextWakeupTick() * tickNanos;
+        wakeupTime = parkUntil;
+        // Checked after publishing the wakeup time, so that a timeout added concurrently either is seen here or
+        // unparks the thread.
+        if (additions.isEmpty() && !stopped) {
+            if (parkUntil == Long.MAX_VALUE) {
+                LockSupport.park(this);
+            } else {
+                long parkNanos = parkUntil - System.nanoTime();
+                if (parkNanos > 0) {
+                    LockSupport.parkNanos(this, parkNanos);
+                }
+            }
+        }
+        wakeupTime = Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the next tick at which a timeout may expire, which is either a tick of a non-empty bucket of the lowest
+     * level or the end of the current rotation of the lowest level, where the higher levels get cascaded.
+     */
+    private long nextWakeupTick() {
+        long rotationEnd = (tick | WHEEL_MASK) + 1;
+        for (long nextTick = tick + 1; nextTick < rotationEnd; nextTick++) {
+            if (!wheels[0][(int) (nextTick & WHEEL_MASK)].isEmpty()) {
+                return nextTick;
+            }
+        }
+        return rotationEnd;
+    }
+
+    private void processAdditions() {
+        for (Timeout timeout = additions.poll(); timeout != null; timeout = additions.poll()) {
+            if (timeout.state.get() != STATE_INIT) {
+                continue;
+            }
+            long deadlineTick = (timeout.deadline - startTime + tickNanos - 1) / tickNanos;
+            // Ticks up to the current tick are already processed, hence overdue timeouts expire at the next tick.
+            timeout.deadlineTick = Math.max(deadlineTick, tick + 1);
+            place(timeout);
+            pendingTimeouts++;
+        }
+    }
+
+    private void processCancellations() {
+        for (Timeout timeout = cancellations.poll(); timeout != null; timeout = cancellations.poll()) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                pendingTimeouts--;
+            }
+        }
+    }
+
+    private void advance() {
+        tick++;
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = WHEEL_BITS * level;
+            if ((tick & ((1L << shift) - 1)) != 0) {
+                break;
+            }
+            cascade(wheels[level][(int) ((tick >>> shift) & WHEEL_MASK)]);
+        }
+        expire(wheels[0][(int) (tick & WHEEL_MASK)]);
+    }
+
+    private void cascade(Bucket bucket) {
+        for (Timeout timeout = bucket.poll(); timeout != null; timeout = bucket.poll()) {
+            place(timeout);
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        for (Timeout timeout = bucket.poll(); timeout != null; timeout = bucket.poll()) {
+            pendingTimeouts--;
+            if (!timeout.state.compareAndSet(STATE_INIT, STATE_EXPIRED)) {
+                continue;
+            }
+            try {
+                timeout.task.accept(timeout);
+            } catch (Throwable t) {
+                workerThread.getUncaughtExceptionHandler().uncaughtException(workerThread, t);
+            }
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long delta = Math.min(timeout.deadlineTick - tick, MAX_DELTA_TICKS);
+        if (delta <= 0) {
+            wheels[0][(int) (tick & WHEEL_MASK)].add(timeout);
+            return;
+        }
+        long placementTick = tick + delta;
+        int level = 0;
+        while ((delta >>> (WHEEL_BITS * (level + 1))) != 0) {
+            level++;
+        }
+        wheels[level][(int) ((placementTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)].add(timeout);
+    }
+
+    /**
+     * Handle of a task scheduled on a {@link TimerWheel}.
+     */
+    public static class Timeout {
+
+        private final TimerWheel wheel;
+        private final Consumer<Timeout> task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+
+        // Accessed only by the worker thread.
+        private long deadlineTick;
+        private Bucket bucket;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(TimerWheel wheel, Consumer<Timeout> task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout, so that its task does not get run.
+         *
+         * @return true if the timeout is cancelled, false if it is already expired or cancelled
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_INIT, STATE_CANCELLED)) {
+                return false;
+            }
+            // The timeout is removed from its bucket by the worker thread, the next time it wakes up.
+            wheel.cancellations.add(this);
+            return true;
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts in a bucket of the wheel.
+     */
+    private static class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        boolean isEmpty() {
+            return head == null;
+        }
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.previous = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.bucket = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+
+        Timeout poll() {
+            Timeout timeout = head;
+            if (timeout != null) {
+                remove(timeout);
+            }
+            return timeout;
+        }
+    }
+}
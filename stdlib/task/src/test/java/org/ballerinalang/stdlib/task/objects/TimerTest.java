@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.objects;
+
+import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD_VALUE;
+
+/**
+ * Tests for pausing and resuming a {@link Timer}.
+ *
+ * @since 2.0.0
+ */
+@Test
+public class TimerTest {
+
+    private static final long INTERVAL = 200;
+    private static final long MISFIRE_THRESHOLD = Long.parseLong(QUARTZ_MISFIRE_THRESHOLD_VALUE);
+
+    @Test(description = "Runs missed while paused for longer than the misfire threshold are skipped and counted")
+    public void testResumeAfterMisfire() throws SchedulingException, InterruptedException {
+        Timer timer = new Timer(0, INTERVAL);
+        Timer limitedTimer = new Timer(0, INTERVAL, 10);
+        try {
+            timer.start();
+            limitedTimer.start();
+            await().atMost(10, TimeUnit.SECONDS).until(() -> timer.getRuns() > 0 && limitedTimer.getRuns() > 0);
+
+            timer.pause();
+            limitedTimer.pause();
+            long runsAtPause = timer.getRuns();
+            long limitedRunsAtPause = limitedTimer.getRuns();
+            Assert.assertFalse(timer.isScheduled());
+            Thread.sleep(MISFIRE_THRESHOLD + 600);
+            Assert.assertEquals(timer.getRuns(), runsAtPause);
+
+            timer.resume();
+            limitedTimer.resume();
+            // The next run was due at most an interval after the timer was paused, and each missed run is counted.
+            long minMissedRuns = (MISFIRE_THRESHOLD + 600 - INTERVAL) / INTERVAL;
+            long maxMissedRuns = (MISFIRE_THRESHOLD + 600) / INTERVAL + 5;
+            long missedRuns = timer.getRuns() - runsAtPause;
+            Assert.assertTrue(missedRuns >= minMissedRuns && missedRuns <= maxMissedRuns,
+                              "Unexpected number of missed runs: " + missedRuns);
+            Assert.assertTrue(timer.isScheduled());
+
+            // The limited timer has run out of runs with the missed runs.
+            Assert.assertTrue(limitedTimer.getRuns() >= 10);
+            Assert.assertTrue(limitedRunsAtPause < 10);
+            Assert.assertFalse(limitedTimer.isScheduled());
+
+            // The timer keeps running after the skipped runs.
+            long runsAfterResume = timer.getRuns();
+            await().atMost(10, TimeUnit.SECONDS).until(() -> timer.getRuns() > runsAfterResume);
+        } finally {
+            timer.stop();
+            limitedTimer.stop();
+        }
+    }
+
+    @Test(description = "Runs missed while paused for less than the misfire threshold are run when resumed")
+    public void testResumeWithinMisfireThreshold() throws SchedulingException, InterruptedException {
+        Timer timer = new Timer(0, INTERVAL);
+        try {
+            timer.start();
+            await().atMost(10, TimeUnit.SECONDS).until(() -> timer.getRuns() > 0);
+
+            timer.pause();
+            long runsAtPause = timer.getRuns();
+            Thread.sleep(INTERVAL * 3);
+            timer.resume();
+            // No run is skipped. The late run may have fired already.
+            Assert.assertTrue(timer.getRuns() <= runsAtPause + 1);
+
+            // The late run fires right away.
+            await().atMost(10, TimeUnit.SECONDS).until(() -> timer.getRuns() > runsAtPause);
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Test(description = "A stopped timer does not run again")
+    public void testStop() throws SchedulingException, InterruptedException {
+        Timer timer = new Timer(0, INTERVAL);
+        timer.start();
+        await().atMost(10, TimeUnit.SECONDS).until(() -> timer.getRuns() > 0);
+
+        timer.stop();
+        long runsAtStop = timer.getRuns();
+        Assert.assertFalse(timer.isScheduled());
+        Thread.sleep(INTERVAL * 3);
+        Assert.assertEquals(timer.getRuns(), runsAtStop);
+
+        // A paused timer is not resumed once stopped.
+        timer.resume();
+        Assert.assertFalse(timer.isScheduled());
+    }
+}
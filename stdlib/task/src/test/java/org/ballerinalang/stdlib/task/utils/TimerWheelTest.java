@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests for the {@link TimerWheel}.
+ *
+ * @since 2.0.0
+ */
+@Test
+public class TimerWheelTest {
+
+    // A short tick makes the timeouts of a few seconds span the three lowest levels of the wheel, which have 256,
+    // 65536 and 16777216 ticks, instead of waiting minutes for the cascades of a 1 ms tick.
+    private static final long TICK_MICROS = 10;
+    private static final long TICK_NANOS = TimeUnit.MICROSECONDS.toNanos(TICK_MICROS);
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private TimerWheel wheel;
+
+    @BeforeMethod
+    public void init() {
+        wheel = new TimerWheel(TICK_MICROS, TimeUnit.MICROSECONDS, "timer-wheel-test");
+        wheel.start();
+    }
+
+    @AfterMethod
+    public void stop() {
+        wheel.stop();
+    }
+
+    @Test(description = "Random timeouts expire on time, unless they are cancelled")
+    public void testRandomTimeouts() throws InterruptedException {
+        int count = 20000;
+        long maxDelayNanos = TimeUnit.SECONDS.toNanos(2);
+        Random random = new Random(42);
+        List<Entry> entries = new ArrayList<>(count);
+        CountDownLatch expired = new CountDownLatch(count / 2);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            long deadline = start + (long) (random.nextDouble() * maxDelayNanos);
+            Entry entry = new Entry(deadline, i % 2 == 0 ? expired : null);
+            entry.timeout = wheel.schedule(entry::expire, deadline);
+            entries.add(entry);
+        }
+        // Cancel half of the timeouts, some of them after they are placed on the wheel or moved to a lower level.
+        for (int i = 1; i < count; i += 2) {
+            if (i % 1000 == 1) {
+                Thread.sleep(50);
+            }
+            Entry entry = entries.get(i);
+            entry.cancelled = entry.timeout.cancel();
+        }
+
+        Assert.assertTrue(expired.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        // Leave time for a cancelled timeout to expire wrongly.
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(maxDelayNanos) + 100);
+        for (int i = 0; i < count; i++) {
+            Entry entry = entries.get(i);
+            if (i % 2 == 0) {
+                Assert.assertTrue(entry.firedAt.get() >= entry.deadline, "Timeout " + i + " expired early");
+                Assert.assertFalse(entry.timeout.cancel(), "Expired timeout " + i + " is cancelled");
+            } else if (entry.cancelled) {
+                Assert.assertEquals(entry.firedAt.get(), Long.MIN_VALUE, "Cancelled timeout " + i + " expired");
+            } else {
+                // The timeout expired before it was cancelled.
+                Assert.assertTrue(entry.firedAt.get() >= entry.deadline, "Timeout " + i + " expired early");
+            }
+        }
+    }
+
+    @Test(description = "Timeouts placed on the higher levels cascade down and expire on time")
+    public void testCascadeAcrossLevels() throws InterruptedException {
+        long[] deadlineTicks = {1, 255, 256, 257, 511, 512, 65535, 65536, 65537, 65536 + 256, 131071, 131072};
+        List<Entry> entries = new ArrayList<>();
+        CountDownLatch expired = new CountDownLatch(deadlineTicks.length);
+
+        long start = System.nanoTime();
+        for (long deadlineTick : deadlineTicks) {
+            long deadline = start + deadlineTick * TICK_NANOS;
+            Entry entry = new Entry(deadline, expired);
+            entry.timeout = wheel.schedule(entry::expire, deadline);
+            entries.add(entry);
+        }
+
+        Assert.assertTrue(expired.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        for (int i = 0; i < deadlineTicks.length; i++) {
+            Assert.assertTrue(entries.get(i).firedAt.get() >= entries.get(i).deadline,
+                              "Timeout at tick " + deadlineTicks[i] + " expired early");
+        }
+    }
+
+    @Test(description = "A timeout which is already due expires right away")
+    public void testOverdueTimeout() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        wheel.schedule(timeout -> expired.countDown(), System.nanoTime() - TimeUnit.SECONDS.toNanos(1));
+        Assert.assertTrue(expired.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test(description = "A timeout cancelled before it expires never expires")
+    public void testCancelledTimeout() throws InterruptedException {
+        CountDownLatch cancelledExpired = new CountDownLatch(1);
+        CountDownLatch expired = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+
+        TimerWheel.Timeout cancelled = wheel.schedule(timeout -> cancelledExpired.countDown(), deadline);
+        wheel.schedule(timeout -> expired.countDown(), deadline);
+        Assert.assertTrue(cancelled.cancel());
+        Assert.assertFalse(cancelled.cancel());
+
+        Assert.assertTrue(expired.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertFalse(cancelledExpired.await(100, TimeUnit.MILLISECONDS));
+    }
+
+    private static class Entry {
+
+        private final long deadline;
+        private final CountDownLatch expired;
+        private final AtomicLong firedAt = new AtomicLong(Long.MIN_VALUE);
+        private volatile TimerWheel.Timeout timeout;
+        private volatile boolean cancelled;
+
+        private Entry(long deadline, CountDownLatch expired) {
+            this.deadline = deadline;
+            this.expired = expired;
+        }
+
+        private void expire(TimerWheel.Timeout expiredTimeout) {
+            long now = System.nanoTime();
+            if (!firedAt.compareAndSet(Long.MIN_VALUE, now)) {
+                // Expired more than once.
+                firedAt.set(Long.MIN_VALUE + 1);
+            }
+            if (expired != null) {
+                expired.countDown();
+            }
+        }
+    }
+}
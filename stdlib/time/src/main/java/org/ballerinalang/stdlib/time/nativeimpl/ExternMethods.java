@@ -27,12 +27,12 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.time.util.FixedDateTimeFormat;
 import org.ballerinalang.stdlib.time.util.TimeUtils;
 
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Arrays;
 
@@ -68,8 +68,7 @@ public class ExternMethods {
     public static Object format(BMap<BString, Object> timeRecord, BString pattern) {
         try {
             if ("RFC_1123".equals(pattern.getValue())) {
-                ZonedDateTime zonedDateTime = getZonedDateTime(timeRecord);
-                return StringUtils.fromString(zonedDateTime.format(DateTimeFormatter.RFC_1123_DATE_TIME));
+                return FixedDateTimeFormat.formatRfc1123(getZonedDateTime(timeRecord));
             } else {
                 return getFormattedString(timeRecord, pattern);
             }
@@ -185,7 +184,7 @@ public class ExternMethods {
         try {
             TemporalAccessor parsedDateTime;
             if ("RFC_1123".equals(pattern.getValue())) {
-                parsedDateTime = DateTimeFormatter.RFC_1123_DATE_TIME.parse(dateString.getValue());
+                parsedDateTime = FixedDateTimeFormat.parseRfc1123(dateString.getValue());
                 return getTimeRecord(parsedDateTime, dateString, pattern);
             }
             return parseTime(dateString, pattern);
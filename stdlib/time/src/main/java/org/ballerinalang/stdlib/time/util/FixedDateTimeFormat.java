@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.time.util;
+
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * Formats and parses the fixed layout ISO 8601 and RFC 1123 date-time formats without going through a
+ * {@link DateTimeFormatter}, which builds a print or parse context for each call. The characters are written
+ * directly to a byte buffer, since both the formats are ASCII.
+ * <p>
+ * Only the common forms of the formats are handled here, such as the years from 0 to 9999 and the offsets in whole
+ * minutes. Any other value is handed over to the {@link DateTimeFormatter} of the format, hence the results and the
+ * errors are the same as the ones of the formatter.
+ *
+ * @since 2.0.0
+ */
+public class FixedDateTimeFormat {
+
+    private static final String[] DAYS_OF_WEEK = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct",
+            "Nov", "Dec"};
+    private static final String GMT = "GMT";
+    // Length of "2017-06-26T09:46:22.123456789+05:30".
+    private static final int ISO_MAX_LENGTH = 35;
+    // Length of "Mon, 26 Jun 2017 09:46:22 +0530".
+    private static final int RFC_1123_MAX_LENGTH = 31;
+    private static final int MAX_YEAR = 9999;
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private FixedDateTimeFormat() {
+    }
+
+    /**
+     * Formats the date-time as {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} does.
+     *
+     * @param dateTime date-time to be formatted
+     * @return the formatted date-time
+     */
+    public static BString formatIsoOffsetDateTime(ZonedDateTime dateTime) {
+        int year = dateTime.getYear();
+        int offset = dateTime.getOffset().getTotalSeconds();
+        if (year < 0 || year > MAX_YEAR || offset % SECONDS_PER_MINUTE != 0) {
+            return StringUtils.fromString(dateTime.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        }
+
+        byte[] buffer = new byte[ISO_MAX_LENGTH];
+        int pos = writeDigits(buffer, 0, year, 4);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, dateTime.getMonthValue(), 2);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, dateTime.getDayOfMonth(), 2);
+        buffer[pos++] = 'T';
+        pos = writeDigits(buffer, pos, dateTime.getHour(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, dateTime.getMinute(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, dateTime.getSecond(), 2);
+        pos = writeFraction(buffer, pos, dateTime.getNano());
+        if (offset == 0) {
+            buffer[pos++] = 'Z';
+        } else {
+            pos = writeOffset(buffer, pos, offset, true);
+        }
+        return toBString(buffer, pos);
+    }
+
+    /**
+     * Formats the date-time as {@link DateTimeFormatter#RFC_1123_DATE_TIME} does.
+     *
+     * @param dateTime date-time to be formatted
+     * @return the formatted date-time
+     */
+    public static BString formatRfc1123(ZonedDateTime dateTime) {
+        int year = dateTime.getYear();
+        int offset = dateTime.getOffset().getTotalSeconds();
+        if (year < 0 || year > MAX_YEAR || offset % SECONDS_PER_MINUTE != 0) {
+            return StringUtils.fromString(dateTime.format(DateTimeFormatter.RFC_1123_DATE_TIME));
+        }
+
+        byte[] buffer = new byte[RFC_1123_MAX_LENGTH];
+        int pos = writeText(buffer, 0, DAYS_OF_WEEK[dateTime.getDayOfWeek().ordinal()]);
+        buffer[pos++] = ',';
+        buffer[pos++] = ' ';
+        int day = dateTime.getDayOfMonth();
+        pos = writeDigits(buffer, pos, day, day < 10 ? 1 : 2);
+        buffer[pos++] = ' ';
+        pos = writeText(buffer, pos, MONTHS[dateTime.getMonthValue() - 1]);
+        buffer[pos++] = ' ';
+        pos = writeDigits(buffer, pos, year, 4);
+        buffer[pos++] = ' ';
+        pos = writeDigits(buffer, pos, dateTime.getHour(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, dateTime.getMinute(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, dateTime.getSecond(), 2);
+        buffer[pos++] = ' ';
+        if (offset == 0) {
+            pos = writeText(buffer, pos, GMT);
+        } else {
+            pos = writeOffset(buffer, pos, offset, false);
+        }
+        return toBString(buffer, pos);
+    }
+
+    /**
+     * Parses the text as {@link DateTimeFormatter#RFC_1123_DATE_TIME} does.
+     *
+     * @param text text to be parsed
+     * @return the parsed date-time
+     * @throws java.time.format.DateTimeParseException if the text cannot be parsed
+     */
+    public static TemporalAccessor parseRfc1123(String text) {
+        ZonedDateTime dateTime = parseCanonicalRfc1123(text);
+        if (dateTime != null) {
+            return dateTime;
+        }
+        return DateTimeFormatter.RFC_1123_DATE_TIME.parse(text);
+    }
+
+    /**
+     * Parses the text if it is in the form written by {@link #formatRfc1123(ZonedDateTime)}, with an optional day of
+     * the week. Returns null for any other text, including the invalid dates, which are left to the formatter to be
+     * resolved or reported.
+     */
+    private static ZonedDateTime parseCanonicalRfc1123(String text) {
+        int length = text.length();
+        int pos = 0;
+        int dayOfWeek = -1;
+        if (length > 0 && isLetter(text.charAt(0))) {
+            dayOfWeek = indexOf(DAYS_OF_WEEK, text, 0);
+            if (dayOfWeek < 0 || length < 5 || text.charAt(3) != ',' || text.charAt(4) != ' ') {
+                return null;
+            }
+            pos = 5;
+        }
+
+        int dayLength = pos + 1 < length && isDigit(text.charAt(pos + 1)) ? 2 : 1;
+        int day = readDigits(text, pos, dayLength);
+        pos += dayLength;
+        if (day < 0 || !isChar(text, pos, ' ')) {
+            return null;
+        }
+        int month = indexOf(MONTHS, text, pos + 1) + 1;
+        pos += 4;
+        if (month == 0 || !isChar(text, pos, ' ')) {
+            return null;
+        }
+        int year = readDigits(text, pos + 1, 4);
+        pos += 5;
+        if (year < 0 || !isChar(text, pos, ' ')) {
+            return null;
+        }
+        int hour = readDigits(text, pos + 1, 2);
+        int minute = isChar(text, pos + 3, ':') ? readDigits(text, pos + 4, 2) : -1;
+        int second = isChar(text, pos + 6, ':') ? readDigits(text, pos + 7, 2) : -1;
+        pos += 9;
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 ||
+                !isChar(text, pos, ' ')) {
+            return null;
+        }
+
+        ZoneOffset offset = readOffset(text, pos + 1);
+        if (offset == null) {
+            return null;
+        }
+        LocalDate date;
+        try {
+            date = LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+        if (dayOfWeek >= 0 && date.getDayOfWeek().ordinal() != dayOfWeek) {
+            return null;
+        }
+        return ZonedDateTime.of(date.atTime(hour, minute, second), offset);
+    }
+
+    private static ZoneOffset readOffset(String text, int pos) {
+        int length = text.length();
+        if (length == pos + GMT.length() && text.startsWith(GMT, pos)) {
+            return ZoneOffset.UTC;
+        }
+        if (length != pos + 5) {
+            return null;
+        }
+        char sign = text.charAt(pos);
+        int hours = readDigits(text, pos + 1, 2);
+        int minutes = readDigits(text, pos + 3, 2);
+        if ((sign != '+' && sign != '-') || hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+            return null;
+        }
+        int totalSeconds = hours * SECONDS_PER_HOUR + minutes * SECONDS_PER_MINUTE;
+        if (totalSeconds > 18 * SECONDS_PER_HOUR) {
+            return null;
+        }
+        return ZoneOffset.ofTotalSeconds(sign == '-' ? -totalSeconds : totalSeconds);
+    }
+
+    private static int writeDigits(byte[] buffer, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+
+    private static int writeFraction(byte[] buffer, int pos, int nano) {
+        if (nano == 0) {
+            return pos;
+        }
+        // The fraction is written with the least number of digits, as the trailing zeros are omitted.
+        int width = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            width--;
+        }
+        buffer[pos++] = '.';
+        return writeDigits(buffer, pos, nano, width);
+    }
+
+    private static int writeOffset(byte[] buffer, int pos, int offset, boolean withColon) {
+        buffer[pos++] = (byte) (offset < 0 ? '-' : '+');
+        int absOffset = Math.abs(offset);
+        pos = writeDigits(buffer, pos, absOffset / SECONDS_PER_HOUR, 2);
+        if (withColon) {
+            buffer[pos++] = ':';
+        }
+        return writeDigits(buffer, pos, absOffset / SECONDS_PER_MINUTE % 60, 2);
+    }
+
+    private static int writeText(byte[] buffer, int pos, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer[pos++] = (byte) text.charAt(i);
+        }
+        return pos;
+    }
+
+    private static BString toBString(byte[] buffer, int length) {
+        return StringUtils.fromString(new String(buffer, 0, length, StandardCharsets.ISO_8859_1));
+    }
+
+    private static int readDigits(String text, int pos, int width) {
+        if (pos < 0 || pos + width > text.length()) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = pos; i < pos + width; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int indexOf(String[] names, String text, int pos) {
+        for (int i = 0; i < names.length; i++) {
+            if (text.startsWith(names[i], pos)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isChar(String text, int pos, char c) {
+        return pos < text.length() && text.charAt(pos) == c;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
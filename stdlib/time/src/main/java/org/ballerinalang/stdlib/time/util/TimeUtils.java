@@ -34,8 +34,8 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.time.zone.ZoneRulesException;
-import java.util.Date;
-import java.util.TimeZone;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.stdlib.time.util.Constants.KEY_ZONED_DATETIME;
 import static org.ballerinalang.stdlib.time.util.Constants.STRUCT_TYPE_TIME;
@@ -52,13 +52,20 @@ import static org.ballerinalang.stdlib.time.util.Constants.ZONE_ID_FIELD;
  */
 public class TimeUtils {
 
+    // The patterns and the zone IDs may be built at runtime, hence these are not cached once the caches are full.
+    private static final int MAX_CACHED_FORMATTERS = 256;
+    private static final int MAX_CACHED_ZONES = 1024;
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    private static final Map<String, ZoneId> ZONES = new ConcurrentHashMap<>();
+    private static final BString TIME_FIELD_KEY = StringUtils.fromString(TIME_FIELD);
+    private static final BString ZONE_FIELD_KEY = StringUtils.fromString(ZONE_FIELD);
+    private static final BString ZONE_ID_FIELD_KEY = StringUtils.fromString(ZONE_ID_FIELD);
+
     public static BMap<BString, Object> createTimeZone(BMap<BString, Object> timeZoneRecord,
                                                        BString zoneIdValue) {
         ZoneId zoneId = getTimeZone(zoneIdValue);
         //Get offset in seconds
-        TimeZone tz = TimeZone.getTimeZone(zoneId);
-        int offsetInMills = tz.getOffset(new Date().getTime());
-        long offset = offsetInMills / 1000;
+        long offset = zoneId.getRules().getOffset(Instant.now()).getTotalSeconds();
         return ValueCreator.createRecordValue(timeZoneRecord, zoneIdValue, offset);
 
     }
@@ -79,11 +86,39 @@ public class TimeUtils {
     }
 
     public static ZoneId getTimeZone(BString zoneIdValue) {
+        String zoneIdName = zoneIdValue.getValue();
+        ZoneId zoneId = ZONES.get(zoneIdName);
+        if (zoneId != null) {
+            return zoneId;
+        }
         try {
-            return ZoneId.of(zoneIdValue.getValue());
+            zoneId = ZoneId.of(zoneIdName);
         } catch (ZoneRulesException e) {
             throw TimeUtils.getTimeError("invalid timezone id: " + zoneIdValue);
         }
+        if (ZONES.size() < MAX_CACHED_ZONES) {
+            ZONES.putIfAbsent(zoneIdName, zoneId);
+        }
+        return zoneId;
+    }
+
+    /**
+     * Returns the formatter of the given pattern, which is compiled only on the first use of the pattern.
+     *
+     * @param pattern date-time pattern
+     * @return formatter of the pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter getDateTimeFormatter(String pattern) {
+        DateTimeFormatter formatter = FORMATTERS.get(pattern);
+        if (formatter != null) {
+            return formatter;
+        }
+        formatter = DateTimeFormatter.ofPattern(pattern);
+        if (FORMATTERS.size() < MAX_CACHED_FORMATTERS) {
+            FORMATTERS.putIfAbsent(pattern, formatter);
+        }
+        return formatter;
     }
 
     public static BMap<BString, Object> createTimeRecord(BMap<BString, Object> timeZoneRecord,
@@ -128,18 +163,18 @@ public class TimeUtils {
     public static BString getFormattedString(BMap<BString, Object> timeRecord, BString pattern)
             throws IllegalArgumentException {
         ZonedDateTime dateTime = getZonedDateTime(timeRecord);
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(pattern.getValue());
+        DateTimeFormatter dateTimeFormatter = getDateTimeFormatter(pattern.getValue());
         return StringUtils.fromString(dateTime.format(dateTimeFormatter));
     }
 
     public static BString getDefaultString(BMap<BString, Object> timeRecord) {
         ZonedDateTime dateTime = getZonedDateTime(timeRecord);
-        return StringUtils.fromString(dateTime.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        return FixedDateTimeFormat.formatIsoOffsetDateTime(dateTime);
     }
 
     public static BMap<BString, Object> parseTime(BString dateValue, BString pattern) {
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern.getValue());
+            DateTimeFormatter formatter = getDateTimeFormatter(pattern.getValue());
             TemporalAccessor temporalAccessor = formatter.parse(dateValue.getValue());
             //Initialize with default values
             int year = 1970;
@@ -196,16 +231,16 @@ public class TimeUtils {
         if (dateTime != null) {
             return dateTime;
         }
-        long timeData = timeRecord.getIntValue(StringUtils.fromString(TIME_FIELD));
+        long timeData = timeRecord.getIntValue(TIME_FIELD_KEY);
         BMap<BString, Object> zoneData =
-                (BMap<BString, Object>) timeRecord.getMapValue(StringUtils.fromString(ZONE_FIELD));
+                (BMap<BString, Object>) timeRecord.getMapValue(ZONE_FIELD_KEY);
         ZoneId zoneId;
         if (zoneData != null) {
-            String zoneIdName = zoneData.getStringValue(StringUtils.fromString(ZONE_ID_FIELD)).toString();
-            if (zoneIdName.isEmpty()) {
+            BString zoneIdName = zoneData.getStringValue(ZONE_ID_FIELD_KEY);
+            if (zoneIdName.getValue().isEmpty()) {
                 zoneId = ZoneId.systemDefault();
             } else {
-                zoneId = TimeUtils.getTimeZone(StringUtils.fromString(zoneIdName));
+                zoneId = TimeUtils.getTimeZone(zoneIdName);
             }
         } else {
             zoneId = ZoneId.systemDefault();
@@ -217,7 +252,7 @@ public class TimeUtils {
 
     public static BMap<BString, Object> changeTimezone(BMap<BString, Object> timeRecord, BString zoneId) {
         BMap<BString, Object> timezone = TimeUtils.createTimeZone(TimeUtils.getTimeZoneRecord(), zoneId);
-        timeRecord.put(StringUtils.fromString(ZONE_FIELD), timezone);
+        timeRecord.put(ZONE_FIELD_KEY, timezone);
         clearRecordCache(timeRecord);
         return timeRecord;
     }
@@ -228,7 +263,7 @@ public class TimeUtils {
 
     public static BString getZoneId(BMap<BString, Object> timeRecord) {
         BMap<BString, Object> zoneData =
-                (BMap<BString, Object>) timeRecord.getMapValue(StringUtils.fromString(ZONE_FIELD));
-        return zoneData.getStringValue(StringUtils.fromString(ZONE_ID_FIELD));
+                (BMap<BString, Object>) timeRecord.getMapValue(ZONE_FIELD_KEY);
+        return zoneData.getStringValue(ZONE_ID_FIELD_KEY);
     }
 }
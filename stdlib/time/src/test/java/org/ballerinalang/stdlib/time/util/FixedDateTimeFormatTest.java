@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.time.util;
+
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Tests that {@link FixedDateTimeFormat} formats and parses the date-times as
+ * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} and {@link DateTimeFormatter#RFC_1123_DATE_TIME} do, including the
+ * date-times which are handed over to them.
+ *
+ * @since 2.0.0
+ */
+public class FixedDateTimeFormatTest {
+
+    private static final int[] YEARS = {0, 1, 9, 99, 999, 1000, 1970, 2020, 9999, 10000, 123456, -1, -999, -10000};
+    private static final int[] NANOS = {0, 1, 10, 123_000_000, 120_000_000, 100_000, 999_999_999};
+    private static final ZoneOffset[] OFFSETS = {ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(5, 30),
+            ZoneOffset.ofHours(-3), ZoneOffset.ofHoursMinutes(0, -30), ZoneOffset.ofHoursMinutes(-9, -45),
+            ZoneOffset.MAX, ZoneOffset.MIN, ZoneOffset.ofHoursMinutesSeconds(1, 0, 30),
+            ZoneOffset.ofHoursMinutesSeconds(0, 0, -45), ZoneOffset.ofHoursMinutesSeconds(-5, -30, -15)};
+    private static final int RANDOM_DATE_TIMES = 100_000;
+
+    @Test(description = "Format the date-times of the edge cases of the years, the fractions and the offsets")
+    public void testFormatEdgeCases() {
+        for (ZonedDateTime dateTime : getEdgeCases()) {
+            assertFormat(dateTime);
+        }
+    }
+
+    @Test(description = "Format random date-times in random zones")
+    public void testFormatRandomDateTimes() {
+        Random random = new Random(48);
+        List<String> zoneIds = new ArrayList<>(ZoneId.getAvailableZoneIds());
+        zoneIds.sort(null);
+        for (int i = 0; i < RANDOM_DATE_TIMES; i++) {
+            // Up to the year 4000, which includes the offsets in seconds of the local mean times of the early years.
+            Instant instant = Instant.ofEpochSecond(random.nextLong() % 64_000_000_000L, random.nextInt(1_000_000_000));
+            ZoneId zone = random.nextBoolean() ? ZoneId.of(zoneIds.get(random.nextInt(zoneIds.size()))) :
+                    ZoneOffset.ofTotalSeconds(random.nextInt(2 * 18 * 3600 + 1) - 18 * 3600);
+            assertFormat(ZonedDateTime.ofInstant(instant, zone));
+        }
+    }
+
+    @Test(description = "Parse the RFC 1123 date-times written by the formatter")
+    public void testParseFormattedDateTimes() {
+        for (ZonedDateTime dateTime : getEdgeCases()) {
+            String text;
+            try {
+                text = DateTimeFormatter.RFC_1123_DATE_TIME.format(dateTime);
+            } catch (DateTimeException e) {
+                // The year cannot be written in four digits.
+                continue;
+            }
+            assertParse(text);
+            // The day of the week is optional.
+            assertParse(text.substring(text.indexOf(' ') + 1));
+        }
+    }
+
+    @Test(description = "Parse the RFC 1123 date-times which are handed over to the formatter or are invalid")
+    public void testParseEdgeCases() {
+        String[] texts = {
+                "Tue, 3 Jun 2008 11:05:30 GMT",
+                "Tue, 03 Jun 2008 11:05:30 GMT",
+                "3 Jun 2008 11:05:30 GMT",
+                "Sat, 1 Jan 0000 00:00:00 GMT",
+                "Fri, 31 Dec 9999 23:59:59 -1800",
+                "Tue, 3 Jun 2008 11:05:30 +1800",
+                "Tue, 3 Jun 2008 11:05:30 -0000",
+                "Tue, 3 Jun 2008 11:05:30 -0930",
+                // Without seconds
+                "Tue, 3 Jun 2008 11:05 GMT",
+                // Leap days
+                "Fri, 29 Feb 2008 00:00:00 GMT",
+                "Sun, 29 Feb 1900 00:00:00 GMT",
+                // Invalid day of the week, day of the month, time or offset
+                "Mon, 3 Jun 2008 11:05:30 GMT",
+                "Tue, 31 Jun 2008 11:05:30 GMT",
+                "Tue, 3 Jun 2008 24:00:00 GMT",
+                "Tue, 3 Jun 2008 11:60:30 GMT",
+                "Tue, 3 Jun 2008 11:05:60 GMT",
+                "Tue, 3 Jun 2008 11:05:30 +1801",
+                "Tue, 3 Jun 2008 11:05:30 +0560",
+                "Tue, 3 Jun 2008 11:05:30 +05:30",
+                "Tue, 3 Jun 2008 11:05:30 UTC",
+                "Tue, 3 Jun 2008 11:05:30",
+                // Invalid layouts
+                "Tue 3 Jun 2008 11:05:30 GMT",
+                "Tue,  3 Jun 2008 11:05:30 GMT",
+                "Tue, 3 June 2008 11:05:30 GMT",
+                "Tue, 3 Jun 08 11:05:30 GMT",
+                "Tue, 3 Jun 12008 11:05:30 GMT",
+                "tue, 3 jun 2008 11:05:30 GMT",
+                "Tue, 3 Jun 2008 11:05:30 GMT ",
+                "2008-06-03T11:05:30Z",
+                ""
+        };
+        for (String text : texts) {
+            assertParse(text);
+        }
+    }
+
+    private static List<ZonedDateTime> getEdgeCases() {
+        List<ZonedDateTime> dateTimes = new ArrayList<>();
+        for (int year : YEARS) {
+            for (int nano : NANOS) {
+                for (ZoneOffset offset : OFFSETS) {
+                    dateTimes.add(ZonedDateTime.of(year, 1, 1, 0, 0, 0, nano, offset));
+                    dateTimes.add(ZonedDateTime.of(year, 12, 31, 23, 59, 59, nano, offset));
+                }
+            }
+        }
+        dateTimes.add(ZonedDateTime.of(2008, 6, 3, 9, 5, 7, 0, ZoneId.of("Asia/Colombo")));
+        dateTimes.add(ZonedDateTime.of(2020, 2, 29, 12, 0, 0, 0, ZoneId.of("America/St_Johns")));
+        // Local mean time of Amsterdam, of which the offset is +00:19:32.
+        dateTimes.add(ZonedDateTime.of(1900, 6, 1, 12, 0, 0, 0, ZoneId.of("Europe/Amsterdam")));
+        return dateTimes;
+    }
+
+    private static void assertFormat(ZonedDateTime dateTime) {
+        assertFormat(dateTime, DateTimeFormatter.ISO_OFFSET_DATE_TIME, FixedDateTimeFormat::formatIsoOffsetDateTime);
+        assertFormat(dateTime, DateTimeFormatter.RFC_1123_DATE_TIME, FixedDateTimeFormat::formatRfc1123);
+    }
+
+    private static void assertFormat(ZonedDateTime dateTime, DateTimeFormatter formatter,
+                                     Function<ZonedDateTime, BString> format) {
+        String expected;
+        try {
+            expected = formatter.format(dateTime);
+        } catch (DateTimeException e) {
+            DateTimeException actual = Assert.expectThrows(DateTimeException.class, () -> format.apply(dateTime));
+            Assert.assertEquals(actual.getMessage(), e.getMessage(), dateTime.toString());
+            return;
+        }
+        Assert.assertEquals(format.apply(dateTime).getValue(), expected, dateTime.toString());
+    }
+
+    private static void assertParse(String text) {
+        TemporalAccessor expected;
+        try {
+            expected = DateTimeFormatter.RFC_1123_DATE_TIME.parse(text);
+        } catch (DateTimeParseException e) {
+            DateTimeParseException actual = Assert.expectThrows(DateTimeParseException.class,
+                                                                () -> FixedDateTimeFormat.parseRfc1123(text));
+            Assert.assertEquals(actual.getMessage(), e.getMessage(), text);
+            return;
+        }
+        TemporalAccessor actual = FixedDateTimeFormat.parseRfc1123(text);
+        Assert.assertEquals(ZonedDateTime.from(actual), ZonedDateTime.from(expected), text);
+    }
+}
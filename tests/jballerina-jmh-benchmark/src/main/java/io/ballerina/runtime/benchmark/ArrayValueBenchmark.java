@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.TypeCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.values.ArrayValueImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks growing {@link ArrayValueImpl}s of primitive and reference element types one element at a time.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayValueBenchmark {
+
+    @Param({"16", "10000"})
+    public int size;
+
+    private ArrayType intArrayType;
+    private ArrayType anyArrayType;
+    private BString element;
+
+    @Setup
+    public void setup() {
+        intArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        anyArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY);
+        element = StringUtils.fromString("element");
+    }
+
+    @Benchmark
+    public ArrayValueImpl growIntArray() {
+        ArrayValueImpl array = new ArrayValueImpl(intArrayType);
+        for (int i = 0; i < size; i++) {
+            array.add(i, (long) i);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public ArrayValueImpl growRefArray() {
+        ArrayValueImpl array = new ArrayValueImpl(anyArrayType);
+        for (int i = 0; i < size; i++) {
+            array.append(element);
+        }
+        return array;
+    }
+}
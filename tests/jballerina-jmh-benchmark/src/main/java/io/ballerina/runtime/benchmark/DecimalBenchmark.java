@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.values.DecimalValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DecimalValue} arithmetic on amounts with a few fractional digits, which fit in the compact
+ * representation, and on amounts with more digits than a long can hold.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecimalBenchmark {
+
+    @Param({"compact", "wide"})
+    public String kind;
+
+    private DecimalValue price;
+    private DecimalValue quantity;
+    private DecimalValue taxRate;
+
+    @Setup
+    public void setup() {
+        if ("compact".equals(kind)) {
+            price = new DecimalValue("1249.99");
+            quantity = new DecimalValue("3");
+            taxRate = new DecimalValue("0.0825");
+        } else {
+            price = new DecimalValue("1249.9912345678901234567890");
+            quantity = new DecimalValue("3.000000000000000000001");
+            taxRate = new DecimalValue("0.08250000000000000000001");
+        }
+    }
+
+    @Benchmark
+    public DecimalValue add() {
+        return price.add(taxRate);
+    }
+
+    @Benchmark
+    public DecimalValue subtract() {
+        return price.subtract(taxRate);
+    }
+
+    @Benchmark
+    public DecimalValue multiply() {
+        return price.multiply(quantity);
+    }
+
+    @Benchmark
+    public DecimalValue divide() {
+        return price.multiply(quantity).divide(quantity);
+    }
+
+    /**
+     * Computes the total of an invoice line, including the tax, as done in a billing calculation.
+     */
+    @Benchmark
+    public DecimalValue lineTotal() {
+        DecimalValue subtotal = price.multiply(quantity);
+        return subtotal.add(subtotal.multiply(taxRate));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+/**
+ * Generates JSON and XML documents used by the benchmarks.
+ *
+ * @since 2.0.0
+ */
+public class DocumentSamples {
+
+    private DocumentSamples() {
+    }
+
+    /**
+     * Creates a JSON object with an array of the given number of order lines.
+     *
+     * @param lines number of order lines
+     * @return JSON string
+     */
+    public static String createJson(int lines) {
+        StringBuilder json = new StringBuilder("{\"id\":\"ORD-1001\",\"customer\":{\"name\":\"Jane Doe\","
+                + "\"email\":\"jane@example.com\",\"vip\":true},\"lines\":[");
+        for (int i = 0; i < lines; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"sku\":\"SKU-").append(i).append("\",\"quantity\":").append(i % 5 + 1)
+                    .append(",\"price\":").append(10.5 + i).append(",\"note\":null}");
+        }
+        return json.append("],\"total\":1234.5}").toString();
+    }
+
+    /**
+     * Creates an XML document with the given number of order lines.
+     *
+     * @param lines number of order lines
+     * @return XML string
+     */
+    public static String createXml(int lines) {
+        StringBuilder xml = new StringBuilder("<order id=\"ORD-1001\" xmlns:c=\"http://example.com/customer\">"
+                + "<c:customer vip=\"true\"><c:name>Jane Doe</c:name></c:customer><lines>");
+        for (int i = 0; i < lines; i++) {
+            xml.append("<line sku=\"SKU-").append(i).append("\"><quantity>").append(i % 5 + 1)
+                    .append("</quantity><price>").append(10.5 + i).append("</price><!-- line ").append(i)
+                    .append(" --></line>");
+        }
+        return xml.append("</lines></order>").toString();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against a recorded baseline and fails when a benchmark regresses by more than the
+ * given threshold, or when a benchmark has no baseline entry, so that a missing or incomplete baseline cannot make
+ * the comparison pass. Baseline entries of benchmarks which were not run are ignored, which allows comparing a subset
+ * of the benchmarks.
+ * <p>
+ * Usage: {@code JmhBaselineComparator <results.json> <baseline.json> <threshold-percent>}
+ * <p>
+ * With {@code --update} as the first argument, the results are merged into the baseline instead, replacing the
+ * entries of the benchmarks which were run: {@code JmhBaselineComparator --update <results.json> <baseline.json>}
+ *
+ * @since 2.0.0
+ */
+public class JmhBaselineComparator {
+
+    private static final PrintStream OUT = System.out;
+    private static final String THROUGHPUT_MODE = "thrpt";
+    private static final String UPDATE_OPTION = "--update";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 3 && UPDATE_OPTION.equals(args[0])) {
+            updateBaseline(Paths.get(args[1]), Paths.get(args[2]));
+            return;
+        }
+        if (args.length != 3) {
+            OUT.println("usage: JmhBaselineComparator <results.json> <baseline.json> <threshold-percent>");
+            OUT.println("       JmhBaselineComparator --update <results.json> <baseline.json>");
+            System.exit(2);
+        }
+        Map<String, Score> results = toScores(readRuns(Paths.get(args[0])));
+        Map<String, Score> baseline = toScores(readRuns(Paths.get(args[1])));
+        double threshold = Double.parseDouble(args[2]);
+
+        if (results.isEmpty()) {
+            OUT.println("no benchmark results found in " + args[0]);
+            System.exit(1);
+        }
+        int regressions = 0;
+        int missing = 0;
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score current = entry.getValue();
+            Score previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                missing++;
+                OUT.printf("MISS  %s: no baseline%n", entry.getKey());
+                continue;
+            }
+            double change = (current.value - previous.value) / previous.value * 100;
+            // Lower is better for time based modes, higher is better for throughput.
+            double regression = THROUGHPUT_MODE.equals(current.mode) ? -change : change;
+            boolean regressed = regression > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            OUT.printf("%s %s: %.3f -> %.3f %s (%+.2f%%)%n", regressed ? "FAIL " : "OK   ", entry.getKey(),
+                       previous.value, current.value, current.unit, change);
+        }
+
+        if (regressions > 0) {
+            OUT.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+        }
+        if (missing > 0) {
+            OUT.printf("%d benchmark(s) have no baseline. Record them on the reference machine with the " +
+                               "jmhUpdateBaseline task%n", missing);
+        }
+        if (regressions > 0 || missing > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void updateBaseline(Path resultsPath, Path baselinePath) throws IOException {
+        Map<String, JsonObject> runs = Files.exists(baselinePath) ? readRuns(baselinePath) : new LinkedHashMap<>();
+        Map<String, JsonObject> newRuns = readRuns(resultsPath);
+        runs.putAll(newRuns);
+        JsonArray baseline = new JsonArray();
+        new TreeMap<>(runs).values().forEach(baseline::add);
+        try (Writer writer = Files.newBufferedWriter(baselinePath, StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(baseline, writer);
+        }
+        OUT.printf("recorded %d benchmark(s) in %s, which now has %d benchmark(s)%n", newRuns.size(), baselinePath,
+                   runs.size());
+    }
+
+    private static Map<String, JsonObject> readRuns(Path path) throws IOException {
+        Map<String, JsonObject> runs = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            for (JsonElement element : new JsonParser().parse(reader).getAsJsonArray()) {
+                JsonObject run = element.getAsJsonObject();
+                runs.put(getKey(run), run);
+            }
+        }
+        return runs;
+    }
+
+    private static Map<String, Score> toScores(Map<String, JsonObject> runs) {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonObject> entry : runs.entrySet()) {
+            JsonObject run = entry.getValue();
+            JsonObject metric = run.getAsJsonObject("primaryMetric");
+            scores.put(entry.getKey(), new Score(run.get("mode").getAsString(), metric.get("score").getAsDouble(),
+                                                 metric.get("scoreUnit").getAsString()));
+        }
+        return scores;
+    }
+
+    private static String getKey(JsonObject run) {
+        StringBuilder key = new StringBuilder(run.get("benchmark").getAsString());
+        JsonObject params = run.getAsJsonObject("params");
+        if (params != null) {
+            Map<String, String> sortedParams = new TreeMap<>();
+            for (Map.Entry<String, JsonElement> param : params.entrySet()) {
+                sortedParams.put(param.getKey(), param.getValue().getAsString());
+            }
+            key.append(sortedParams);
+        }
+        return key.toString();
+    }
+
+    private static class Score {
+
+        final String mode;
+        final double value;
+        final String unit;
+
+        Score(String mode, double value, String unit) {
+            this.mode = mode;
+            this.value = value;
+            this.unit = unit;
+        }
+    }
+}
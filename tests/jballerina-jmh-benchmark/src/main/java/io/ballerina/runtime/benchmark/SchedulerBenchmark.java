@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.scheduling.State;
+import io.ballerina.runtime.scheduling.Strand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks strand creation and yielding in the {@link io.ballerina.runtime.scheduling.Scheduler}.
+ *
+ * @since 2.0.0
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    @Param({"1", "4"})
+    public int threads;
+
+    @Param({"1000"})
+    public int strands;
+
+    private SchedulerHarness harness;
+
+    private static final Function<Object[], Object> EMPTY_FUNCTION = args -> null;
+
+    private static final int YIELD_COUNT = 100;
+
+    private static final Function<Object[], Object> YIELDING_FUNCTION = args -> {
+        Strand strand = (Strand) args[0];
+        if (strand.resumeIndex < YIELD_COUNT) {
+            strand.resumeIndex++;
+            strand.setState(State.YIELD);
+        }
+        return null;
+    };
+
+    @Setup
+    public void setup() {
+        harness = new SchedulerHarness(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        harness.shutdown();
+    }
+
+    @Benchmark
+    public void spawnStrands() {
+        harness.spawn(strands, EMPTY_FUNCTION);
+    }
+
+    @Benchmark
+    public Object yieldStrand() {
+        return harness.run(YIELDING_FUNCTION);
+    }
+}
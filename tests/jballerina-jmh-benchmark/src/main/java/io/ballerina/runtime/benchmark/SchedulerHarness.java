@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.scheduling.Scheduler;
+import io.ballerina.runtime.scheduling.Strand;
+import io.ballerina.runtime.values.FutureValue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+
+/**
+ * Runs an immortal {@link Scheduler} in the background so that benchmarks can execute functions on strands, the
+ * same way generated code does.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerHarness {
+
+    private final Scheduler scheduler;
+
+    public SchedulerHarness(int numThreads) {
+        scheduler = new Scheduler(numThreads, true);
+        Thread schedulerThread = new Thread(scheduler::start, "jmh-scheduler-main");
+        schedulerThread.setDaemon(true);
+        schedulerThread.start();
+    }
+
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Runs a function on a new strand and waits for it to complete. The first parameter passed to the function is
+     * the strand, as with generated functions. A function which blocks the strand is executed again once the strand
+     * is unblocked, and is expected to continue from {@link Strand#resumeIndex}.
+     *
+     * @param function function to run
+     * @return the value returned by the function
+     */
+    public Object run(Function<Object[], Object> function) {
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        FutureValue future = scheduler.schedule(new Object[1], function, null, new Callback() {
+            @Override
+            public void notifySuccess() {
+                completion.complete(null);
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                completion.completeExceptionally(error);
+            }
+        }, null, null);
+        completion.join();
+        return future.result;
+    }
+
+    /**
+     * Spawns the given number of strands running the function and waits for all of them to complete.
+     *
+     * @param count    number of strands
+     * @param function function to run in each strand
+     */
+    public void spawn(int count, Function<Object[], Object> function) {
+        CountDownLatch latch = new CountDownLatch(count);
+        Callback callback = new Callback() {
+            @Override
+            public void notifySuccess() {
+                latch.countDown();
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                latch.countDown();
+            }
+        };
+        for (int i = 0; i < count; i++) {
+            scheduler.schedule(new Object[1], function, null, callback, null, null);
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public void shutdown() {
+        scheduler.poison();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.BLock;
+import io.ballerina.runtime.scheduling.Strand;
+import io.ballerina.runtime.scheduling.WorkerDataChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the uncontended paths of {@link BLock} and {@link WorkerDataChannel}, which are taken by generated code
+ * for lock statements and worker interactions.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrandSynchronizationBenchmark {
+
+    private static final Long MESSAGE = 42L;
+
+    private Strand sender;
+    private Strand receiver;
+    private BLock lock;
+    private WorkerDataChannel channel;
+
+    @Setup
+    public void setup() {
+        sender = new Strand("sender", null, null, null, null);
+        receiver = new Strand("receiver", null, null, null, null);
+        lock = new BLock();
+        channel = new WorkerDataChannel("bench");
+    }
+
+    @Benchmark
+    public boolean lockUnlock() {
+        boolean acquired = lock.lock(sender);
+        lock.unlock();
+        return acquired;
+    }
+
+    @Benchmark
+    public Object sendReceive() throws Throwable {
+        channel.sendData(MESSAGE, sender);
+        return channel.tryTakeData(receiver);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks common {@link BString} operations on BMP and non-BMP strings.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringBenchmark {
+
+    @Param({"bmp", "nonBmp"})
+    public String kind;
+
+    private String javaString;
+    private BString string;
+    private BString suffix;
+    private BString needle;
+
+    @Setup
+    public void setup() {
+        String unit = "bmp".equals(kind) ? "ballerina-" : "ballerina\uD83D\uDE00";
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            builder.append(unit);
+        }
+        javaString = builder.toString();
+        string = StringUtils.fromString(javaString);
+        suffix = StringUtils.fromString(unit);
+        needle = StringUtils.fromString("ballerina" + unit.substring(9) + "end");
+        string = string.concat(needle);
+    }
+
+    @Benchmark
+    public BString fromString() {
+        return StringUtils.fromString(javaString);
+    }
+
+    @Benchmark
+    public BString concat() {
+        return string.concat(suffix);
+    }
+
+    @Benchmark
+    public BString substring() {
+        return string.substring(10, 100);
+    }
+
+    @Benchmark
+    public Long indexOf() {
+        return string.indexOf(needle, 0);
+    }
+
+    @Benchmark
+    public int codePoints() {
+        int sum = 0;
+        int length = string.length();
+        for (int i = 0; i < length; i++) {
+            sum += string.getCodePoint(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark;
+
+import io.ballerina.runtime.JSONParser;
+import io.ballerina.runtime.TypeChecker;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.TypeCreator;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.util.Flags;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link TypeChecker#checkIsType(Object, Type)} for simple, union, json and record types.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeCheckerBenchmark {
+
+    private Object intValue;
+    private Type intStringOrNil;
+    private Object jsonValue;
+    private Type mapOfAnydata;
+    private BMap<BString, Object> recordValue;
+    private RecordType closedRecordType;
+
+    @Setup
+    public void setup() {
+        intValue = 42L;
+        intStringOrNil = TypeCreator.createUnionType(Arrays.asList(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_NULL));
+        jsonValue = JSONParser.parse(DocumentSamples.createJson(20));
+        mapOfAnydata = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+
+        Module module = new Module("bench", "types", "1.0.0");
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", Flags.REQUIRED));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", Flags.REQUIRED));
+        fields.put("price", TypeCreator.createField(PredefinedTypes.TYPE_DECIMAL, "price", Flags.OPTIONAL));
+        fields.put("tags", TypeCreator.createField(TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING),
+                "tags", Flags.OPTIONAL));
+        RecordType openRecordType = TypeCreator.createRecordType("Item", module, 0, new LinkedHashMap<>(fields),
+                PredefinedTypes.TYPE_ANYDATA, false, 0);
+        closedRecordType = TypeCreator.createRecordType("ClosedItem", module, 0, fields, null, true, 0);
+        recordValue = ValueCreator.createMapValue(openRecordType);
+        recordValue.put(StringUtils.fromString("id"), 1L);
+        recordValue.put(StringUtils.fromString("name"), StringUtils.fromString("item"));
+    }
+
+    @Benchmark
+    public boolean intAgainstUnion() {
+        return TypeChecker.checkIsType(intValue, intStringOrNil);
+    }
+
+    @Benchmark
+    public boolean jsonAgainstJson() {
+        return TypeChecker.checkIsType(jsonValue, PredefinedTypes.TYPE_JSON);
+    }
+
+    @Benchmark
+    public boolean jsonAgainstMapOfAnydata() {
+        return TypeChecker.checkIsType(jsonValue, mapOfAnydata);
+    }
+
+    @Benchmark
+    public boolean recordAgainstClosedRecord() {
+        return TypeChecker.checkIsType(recordValue, closedRecordType);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark.compiler;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.ballerinalang.compiler.Compiler;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.TaintAnalyzer;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
+
+/**
+ * Benchmarks the taint analysis of a generated module in which most functions are analyzed before the functions they
+ * call, and which contains mutually recursive functions. Each invocation compiles the module up to the phase before
+ * the taint analysis, hence the {@code ballerina.home} system property should point to a Ballerina distribution.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TaintAnalyzerBenchmark {
+
+    private static final String SOURCE_FILE = "taint_chain.bal";
+
+    @Param({"200", "1000"})
+    public int functionCount;
+
+    private Path sourceRoot;
+    private CompilerContext context;
+    private BLangPackage pkgNode;
+
+    @Setup(Level.Trial)
+    public void generateSource() throws IOException {
+        sourceRoot = Files.createTempDirectory("taint-benchmark");
+        Files.write(sourceRoot.resolve(SOURCE_FILE), generateModule(functionCount).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Setup(Level.Invocation)
+    public void compile() {
+        context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(PROJECT_DIR, sourceRoot.toString());
+        options.put(COMPILER_PHASE, CompilerPhase.ISOLATION_ANALYZE.toString());
+        options.put(PRESERVE_WHITESPACE, "false");
+        options.put(OFFLINE, "true");
+        pkgNode = Compiler.getInstance(context).compile(SOURCE_FILE);
+    }
+
+    @Benchmark
+    public BLangPackage analyze() {
+        return TaintAnalyzer.getInstance(context).analyze(pkgNode);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteSource() throws IOException {
+        try (Stream<Path> paths = Files.walk(sourceRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Generates functions which call the functions declared after them, so that the callers get blocked on their
+     * callees, along with pairs of mutually recursive functions called from the chain.
+     */
+    private static String generateModule(int functionCount) {
+        StringBuilder source = new StringBuilder();
+        source.append("public function main() {\n    int result = f0(10);\n}\n\n");
+        for (int i = 0; i < functionCount; i++) {
+            source.append("function f").append(i).append("(int n) returns int {\n");
+            source.append("    int result = n;\n");
+            if (i + 1 < functionCount) {
+                source.append("    result += f").append(i + 1).append("(n);\n");
+            }
+            if (i + 2 < functionCount) {
+                source.append("    result += f").append(i + 2).append("(n - 1);\n");
+            }
+            if (i % 10 == 0) {
+                source.append("    result += r").append(i).append("a(n);\n");
+            }
+            source.append("    return result;\n}\n\n");
+            if (i % 10 == 0) {
+                appendRecursivePair(source, "r" + i);
+            }
+        }
+        return source.toString();
+    }
+
+    private static void appendRecursivePair(StringBuilder source, String prefix) {
+        source.append("function ").append(prefix).append("a(int n) returns int {\n");
+        source.append("    if (n <= 0) {\n        return 0;\n    }\n");
+        source.append("    return ").append(prefix).append("b(n - 1) + 1;\n}\n\n");
+        source.append("function ").append(prefix).append("b(int n) returns int {\n");
+        source.append("    if (n <= 0) {\n        return 0;\n    }\n");
+        source.append("    return ").append(prefix).append("a(n - 1) + 1;\n}\n\n");
+    }
+}
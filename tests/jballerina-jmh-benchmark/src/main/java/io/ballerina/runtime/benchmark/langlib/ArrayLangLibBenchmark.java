@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.benchmark.langlib;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.TypeCreator;
+import io.ballerina.runtime.api.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.benchmark.SchedulerHarness;
+import io.ballerina.runtime.scheduling.Strand;
+import io.ballerina.runtime.types.BFunctionType;
+import org.ballerinalang.langlib.array.Filter;
+import org.ballerinalang.langlib.array.Map;
+import org.ballerinalang.langlib.array.Sort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks the lang.array sort, map and filter functions. Map and filter invoke a function pointer per element, so
+ * they are executed on a strand of a running scheduler.
+ *
+ * @since 2.0.0
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayLangLibBenchmark {
+
+    private static final BString ASCENDING = StringUtils.fromString("ascending");
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private SchedulerHarness harness;
+    private BArray array;
+    private BFunctionPointer<Object, Object> increment;
+    private BFunctionPointer<Object, Boolean> isEven;
+
+    @Setup
+    public void setup() {
+        harness = new SchedulerHarness(1);
+        array = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_INT));
+        Random random = new Random(size);
+        for (int i = 0; i < size; i++) {
+            array.add(i, (long) random.nextInt());
+        }
+        // Function pointer arguments are passed as (strand, value, true), following generated code.
+        Function<Object[], Object> incrementFn = args -> (Long) args[1] + 1;
+        Function<Object[], Object> isEvenFn = args -> (Long) args[1] % 2 == 0;
+        increment = ValueCreator.createFPValue(incrementFn,
+                new BFunctionType(new Type[]{PredefinedTypes.TYPE_INT}, null, PredefinedTypes.TYPE_INT, 0));
+        isEven = ValueCreator.createFPValue(isEvenFn,
+                new BFunctionType(new Type[]{PredefinedTypes.TYPE_INT}, null, PredefinedTypes.TYPE_BOOLEAN, 0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        harness.shutdown();
+    }
+
+    @Benchmark
+    public BArray sort() {
+        return Sort.sort(array.slice(0, size), ASCENDING, null);
+    }
+
+    @Benchmark
+    public Object map() {
+        return harness.run(onStrand(strand -> Map.map(array, increment)));
+    }
+
+    @Benchmark
+    public Object filter() {
+        return harness.run(onStrand(strand -> Filter.filter(array, isEven)));
+    }
+
+    /**
+     * Wraps a langlib call which blocks its strand until the function pointer invocations complete, and picks up
+     * the result once the strand is resumed.
+     */
+    private static Function<Object[], Object> onStrand(Function<Strand, Object> call) {
+        return args -> {
+            Strand strand = (Strand) args[0];
+            if (strand.resumeIndex == 0) {
+                strand.resumeIndex = 1;
+                Object result = call.apply(strand);
+                if (strand.isBlocked()) {
+                    return null;
+                }
+                return result;
+            }
+            strand.blockedOnExtern = false;
+            return strand.returnValue;
+        };
+    }
+}
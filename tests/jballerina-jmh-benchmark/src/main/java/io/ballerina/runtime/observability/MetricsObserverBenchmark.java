@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability;
+
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per call overhead of {@link BallerinaMetricsObserver}. No-op metrics are used so that only the
+ * work done by the observer itself is measured. Run with {@code -Pjmh.profiler=gc} to see the allocation rate.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsObserverBenchmark {
+
+    private BallerinaMetricsObserver observer;
+    private ObserverContext reusedContext;
+
+    @Setup
+    public void setup() {
+        if (DefaultMetricRegistry.getInstance() == null) {
+            DefaultMetricRegistry.setInstance(new MetricRegistry(new NoOpMetricProvider()));
+        }
+        observer = new BallerinaMetricsObserver();
+        reusedContext = newObserverContext();
+    }
+
+    @Benchmark
+    public ObserverContext observeWithReusedContext() {
+        observer.startClientObservation(reusedContext);
+        observer.stopClientObservation(reusedContext);
+        return reusedContext;
+    }
+
+    @Benchmark
+    public ObserverContext observeWithNewContext() {
+        ObserverContext observerContext = newObserverContext();
+        observer.startClientObservation(observerContext);
+        observer.stopClientObservation(observerContext);
+        return observerContext;
+    }
+
+    private static ObserverContext newObserverContext() {
+        ObserverContext observerContext = new ObserverContext();
+        observerContext.addTag(ObservabilityConstants.TAG_KEY_MODULE, "foo/bar:1.0.0");
+        observerContext.addTag(ObservabilityConstants.TAG_KEY_INVOCATION_POSITION, "main.bal:12:5");
+        observerContext.addTag(ObservabilityConstants.TAG_KEY_FUNCTION, "calculate");
+        observerContext.addTag(ObservabilityConstants.TAG_KEY_SERVICE, "billing");
+        observerContext.addTag(ObservabilityConstants.TAG_KEY_RESOURCE, "invoice");
+        observerContext.setStarted();
+        return observerContext;
+    }
+}
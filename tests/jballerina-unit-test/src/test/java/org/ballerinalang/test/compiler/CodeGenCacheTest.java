@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.compiler;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.PackageCache;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Tests for loading the modules of a project from the BIR cached by a previous build, when the
+ * {@link CompilerOptionName#CODE_GEN_CACHE_DIR} option is set.
+ *
+ * @since 2.0.0
+ */
+public class CodeGenCacheTest {
+
+    private static final Path PROJECT = Paths.get("src", "test", "resources", "test-src", "compiler", "codegen_cache");
+    private static final String APP_MODULE = "app";
+    private static final String UTIL_MODULE = "util";
+
+    private Path projectDir;
+    private Path cacheDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        Path tempDir = Files.createTempDirectory("codegen-cache-test");
+        projectDir = tempDir.resolve("project");
+        cacheDir = tempDir.resolve("codegen_cache");
+        Path source = PROJECT.toAbsolutePath();
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Path target = projectDir.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.copy(path, target);
+                }
+            }
+        }
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(projectDir.getParent())) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "Unchanged modules are loaded from the cached BIR instead of being compiled again")
+    public void testUnchangedModules() {
+        Build first = build();
+        Assert.assertFalse(first.isCached(APP_MODULE));
+        Assert.assertFalse(first.isCached(UTIL_MODULE));
+        Assert.assertEquals(first.getValue(), 11);
+
+        Build second = build();
+        Assert.assertTrue(second.isCached(APP_MODULE));
+        Assert.assertTrue(second.isCached(UTIL_MODULE));
+        BLangPackage app = second.getModule(APP_MODULE);
+        Assert.assertNotNull(app.symbol.birPackageFile);
+        Assert.assertEquals(app.symbol.compiledJarFile.getJarEntries().keySet(),
+                            first.getModule(APP_MODULE).symbol.compiledJarFile.getJarEntries().keySet());
+    }
+
+    @Test(description = "A changed module invalidates the modules importing it, while its imports stay cached")
+    public void testChangedDependency() throws IOException {
+        build();
+        Files.write(projectDir.resolve(Paths.get("src", UTIL_MODULE, "util.bal")),
+                    "public function getValue() returns int {\n    return 2;\n}\n".getBytes(StandardCharsets.UTF_8));
+
+        Build changed = build();
+        Assert.assertFalse(changed.isCached(UTIL_MODULE));
+        Assert.assertFalse(changed.isCached(APP_MODULE));
+        Assert.assertEquals(changed.getValue(), 12);
+
+        Build unchanged = build();
+        Assert.assertTrue(unchanged.isCached(UTIL_MODULE));
+        Assert.assertTrue(unchanged.isCached(APP_MODULE));
+
+        Files.write(projectDir.resolve(Paths.get("src", APP_MODULE, "app.bal")),
+                    ("import util;\n\npublic function getValue() returns int {\n    return util:getValue() + 20;\n}\n")
+                            .getBytes(StandardCharsets.UTF_8));
+        Build changedImporter = build();
+        Assert.assertTrue(changedImporter.isCached(UTIL_MODULE));
+        Assert.assertFalse(changedImporter.isCached(APP_MODULE));
+        Assert.assertEquals(changedImporter.getValue(), 22);
+    }
+
+    private Build build() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(CompilerOptionName.CODE_GEN_CACHE_DIR, cacheDir.toString());
+        CompileResult result = BCompileUtil.compileOnJBallerina(context, projectDir.toString(), APP_MODULE, false,
+                                                                true);
+        Assert.assertEquals(result.getErrorCount(), 0);
+        return new Build(context, result);
+    }
+
+    /**
+     * The result of building the test project.
+     */
+    private static class Build {
+
+        private final CompilerContext context;
+        private final CompileResult result;
+
+        Build(CompilerContext context, CompileResult result) {
+            this.context = context;
+            this.result = result;
+        }
+
+        BLangPackage getModule(String moduleName) {
+            BLangPackage app = (BLangPackage) result.getAST();
+            if (APP_MODULE.equals(moduleName)) {
+                return app;
+            }
+            BPackageSymbol importSymbol = app.symbol.imports.stream()
+                    .filter(symbol -> symbol.pkgID.name.value.equals(moduleName))
+                    .findAny()
+                    .orElseThrow(() -> new AssertionError("module not imported: " + moduleName));
+            return PackageCache.getInstance(context).get(importSymbol.pkgID);
+        }
+
+        boolean isCached(String moduleName) {
+            // A module loaded from the cached BIR has no compilation units, and all its phases are completed.
+            BLangPackage module = getModule(moduleName);
+            boolean cached = module.getCompilationUnits().isEmpty();
+            Assert.assertEquals(module.completedPhases.contains(CompilerPhase.CODE_GEN), cached);
+            return cached;
+        }
+
+        long getValue() {
+            // The functions of a module are invoked through its BIR, which is generated only when it is compiled.
+            BValue[] returns = BRunUtil.invoke(result, "getValue");
+            return ((BInteger) returns[0]).intValue();
+        }
+    }
+}
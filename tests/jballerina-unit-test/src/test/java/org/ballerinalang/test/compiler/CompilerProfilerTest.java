@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.compiler;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.CompilerProfiler;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the compiler profile written when the {@link CompilerOptionName#PROFILE_COMPILER} option is set.
+ *
+ * @since 2.0.0
+ */
+public class CompilerProfilerTest {
+
+    private static final Set<CompilerPhase> MODULE_PHASES = EnumSet.of(CompilerPhase.DEFINE,
+            CompilerPhase.TYPE_CHECK, CompilerPhase.CODE_ANALYZE, CompilerPhase.DESUGAR, CompilerPhase.BIR_GEN,
+            CompilerPhase.CODE_GEN);
+
+    private Path reportDir;
+    private String moduleName;
+    private Path reportFile;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        reportDir = Files.createTempDirectory("compiler-profile-test");
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.PROFILE_COMPILER, reportDir.toString());
+        CompileResult result = BCompileUtil.compile("test-src/compiler/compiler_profile.bal", context,
+                                                    CompilerPhase.CODE_GEN);
+        Assert.assertEquals(result.getErrorCount(), 0);
+        moduleName = ((BLangPackage) result.getAST()).packageID.toString();
+
+        CompilerProfiler profiler = CompilerProfiler.getInstance(context);
+        Assert.assertTrue(profiler.isEnabled());
+        reportFile = profiler.writeReport();
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(reportDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "The report holds the totals of each phase run on the compiled module")
+    public void testReport() throws IOException {
+        Assert.assertEquals(reportFile, reportDir.resolve(CompilerProfiler.REPORT_FILE_NAME));
+        JsonObject report = parse(reportFile);
+        Assert.assertTrue(report.get("totalTimeMillis").getAsDouble() > 0);
+        Assert.assertTrue(report.has("allocationTracked"));
+        Assert.assertTrue(report.get("counters").isJsonObject());
+
+        Set<CompilerPhase> profiledPhases = EnumSet.noneOf(CompilerPhase.class);
+        for (JsonElement phaseElement : report.getAsJsonArray("phases")) {
+            JsonObject phase = phaseElement.getAsJsonObject();
+            CompilerPhase compilerPhase = CompilerPhase.fromValue(phase.get("phase").getAsString());
+            Assert.assertTrue(phase.get("count").getAsInt() > 0);
+            Assert.assertTrue(phase.get("inclusiveTimeMillis").getAsDouble() >= phase.get("timeMillis").getAsDouble());
+
+            JsonArray modules = phase.getAsJsonArray("modules");
+            Assert.assertTrue(modules.size() > 0);
+            for (JsonElement moduleElement : modules) {
+                JsonObject module = moduleElement.getAsJsonObject();
+                if (module.get("module").getAsString().equals(moduleName)) {
+                    Assert.assertEquals(module.get("count").getAsInt(), 1, compilerPhase.toString());
+                    profiledPhases.add(compilerPhase);
+                }
+            }
+        }
+        Assert.assertTrue(profiledPhases.containsAll(MODULE_PHASES), "profiled phases: " + profiledPhases);
+    }
+
+    @Test(description = "The Chrome trace holds a complete event for each phase run on the compiled module")
+    public void testTrace() throws IOException {
+        JsonObject trace = parse(reportDir.resolve(CompilerProfiler.TRACE_FILE_NAME));
+        Assert.assertEquals(trace.get("displayTimeUnit").getAsString(), "ms");
+
+        Set<String> tracedPhases = new HashSet<>();
+        for (JsonElement eventElement : trace.getAsJsonArray("traceEvents")) {
+            JsonObject event = eventElement.getAsJsonObject();
+            Assert.assertEquals(event.get("ph").getAsString(), "X");
+            Assert.assertTrue(event.get("ts").getAsLong() >= 0);
+            Assert.assertTrue(event.get("dur").getAsLong() >= 0);
+            JsonObject args = event.getAsJsonObject("args");
+            if (args.get("module").getAsString().equals(moduleName)) {
+                tracedPhases.add(event.get("name").getAsString());
+            }
+        }
+        for (CompilerPhase phase : MODULE_PHASES) {
+            Assert.assertTrue(tracedPhases.contains(phase.toString()), "traced phases: " + tracedPhases);
+        }
+    }
+
+    @Test(description = "No report is written when the option is not set")
+    public void testDisabled() throws IOException {
+        CompilerContext context = new CompilerContext();
+        CompileResult result = BCompileUtil.compile("test-src/compiler/compiler_profile.bal", context,
+                                                    CompilerPhase.CODE_GEN);
+        Assert.assertEquals(result.getErrorCount(), 0);
+        CompilerProfiler profiler = CompilerProfiler.getInstance(context);
+        Assert.assertFalse(profiler.isEnabled());
+        Assert.assertNull(profiler.writeReport());
+    }
+
+    private static JsonObject parse(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return new JsonParser().parse(reader).getAsJsonObject();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.compiler;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.CompilerProfiler;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the hit rate of the type relation cache while compiling a module, as reported in the compiler profile.
+ *
+ * @since 2.0.0
+ */
+public class TypeRelationCacheProfileTest {
+
+    private Path reportDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        reportDir = Files.createTempDirectory("type-relation-cache-test");
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(reportDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "Relations between the types of the lang modules and the built-in types are cached while a " +
+            "module which uses them is compiled")
+    public void testCacheHits() throws IOException {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.PROFILE_COMPILER, reportDir.toString());
+        CompileResult result = BCompileUtil.compile("test-src/compiler/type_relation_cache.bal", context,
+                                                    CompilerPhase.CODE_GEN);
+        Assert.assertEquals(result.getErrorCount(), 0);
+
+        Path reportFile = CompilerProfiler.getInstance(context).writeReport();
+        JsonObject counters;
+        try (Reader reader = Files.newBufferedReader(reportFile, StandardCharsets.UTF_8)) {
+            counters = new JsonParser().parse(reader).getAsJsonObject().getAsJsonObject("counters");
+        }
+        long assignableHits = counters.get("typeRelationCache.isAssignable.hits").getAsLong();
+        long assignableMisses = counters.get("typeRelationCache.isAssignable.misses").getAsLong();
+        long sameTypeHits = counters.get("typeRelationCache.isSameType.hits").getAsLong();
+        long sameTypeMisses = counters.get("typeRelationCache.isSameType.misses").getAsLong();
+
+        Assert.assertTrue(assignableHits > 0, "isAssignable hits: " + assignableHits);
+        Assert.assertTrue(assignableMisses > 0, "isAssignable misses: " + assignableMisses);
+        Assert.assertTrue(sameTypeHits + sameTypeMisses > 0);
+    }
+}
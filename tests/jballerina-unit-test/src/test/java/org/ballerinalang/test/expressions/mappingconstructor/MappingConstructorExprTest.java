@@ -238,6 +238,8 @@ public class MappingConstructorExprTest {
                 { "testSpreadOpInConstMap" },
                 { "testSpreadOpInGlobalMap" },
                 { "testMappingConstrExprAsSpreadExpr" },
+                { "testReadOnlySnapshotAsSpreadOp" },
+                { "testLargeReadOnlySnapshotAsSpreadOp" },
         };
     }
 
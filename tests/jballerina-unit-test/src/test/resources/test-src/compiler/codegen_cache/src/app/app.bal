@@ -0,0 +1,5 @@
+import util;
+
+public function getValue() returns int {
+    return util:getValue() + 10;
+}
@@ -0,0 +1,17 @@
+type Person record {|
+    string name;
+    int age;
+|};
+
+function getNames(Person[] people) returns string[] {
+    string[] names = [];
+    foreach Person person in people {
+        names.push(person.name);
+    }
+    return names;
+}
+
+public function countNames() returns int {
+    Person[] people = [{name: "Alice", age: 30}, {name: "Bob", age: 25}];
+    return getNames(people).length();
+}
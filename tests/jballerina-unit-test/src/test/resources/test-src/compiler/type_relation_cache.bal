@@ -0,0 +1,53 @@
+import ballerina/lang.'string as strings;
+
+type Address record {|
+    string street;
+    string city;
+|};
+
+type Employee record {|
+    string name;
+    int age;
+    decimal salary;
+    Address address;
+|};
+
+function getEmployees() returns Employee[] {
+    return [
+        {name: "Alice", age: 30, salary: 1200.50, address: {street: "Main Street", city: "Colombo"}},
+        {name: "Bob", age: 25, salary: 1100.25, address: {street: "Lake Road", city: "Kandy"}}
+    ];
+}
+
+function totalSalary(Employee[] employees) returns decimal {
+    decimal total = 0;
+    foreach Employee employee in employees {
+        total += employee.salary;
+    }
+    return total;
+}
+
+function cities(Employee[] employees) returns string {
+    string[] names = [];
+    foreach Employee employee in employees {
+        names.push(strings:toUpperAscii(employee.address.city));
+    }
+    return strings:'join(", ", ...names);
+}
+
+function oldest(Employee[] employees) returns Employee? {
+    Employee? result = ();
+    foreach Employee employee in employees {
+        if result is () || employee.age > result.age {
+            result = employee;
+        }
+    }
+    return result;
+}
+
+public function summary() returns [decimal, string, string] {
+    Employee[] employees = getEmployees();
+    Employee? employee = oldest(employees);
+    string name = employee is Employee ? employee.name : "";
+    return [totalSalary(employees), cities(employees), name];
+}
@@ -130,6 +130,60 @@ function testMappingConstrExprAsSpreadExpr() {
     assertEquality(true, f["oth"]);
 }
 
+function testReadOnlySnapshotAsSpreadOp() {
+    map<int> & readonly snapshot = {a: 1, b: 2, c: 3};
+
+    // Members of the snapshot are within the constraint of the new map.
+    map<int|string> updated = {...snapshot, d: "four"};
+    assertEquality(4, updated.length());
+    assertEquality(1, updated["a"]);
+    assertEquality(3, updated["c"]);
+    assertEquality("four", updated["d"]);
+    updated["a"] = "one";
+    assertEquality("one", updated["a"]);
+    assertEquality(1, snapshot["a"]);
+
+    map<int> & readonly next = {...snapshot, e: 5};
+    assertEquality(4, next.length());
+    assertEquality(5, next["e"]);
+    assertEquality(3, snapshot.length());
+
+    // Members of a spread record are checked against the constraint of the new map one by one.
+    Bar & readonly bar = {s: "str", i: 1};
+    map<anydata> fromRecord = {...bar, f: 2.0};
+    assertEquality(3, fromRecord.length());
+    assertEquality("str", fromRecord["s"]);
+    assertEquality(1, fromRecord["i"]);
+}
+
+function testLargeReadOnlySnapshotAsSpreadOp() {
+    map<int> entries = {};
+    foreach int i in 0 ..< 100 {
+        entries["k" + i.toString()] = i;
+    }
+    map<int> & readonly snapshot = entries.cloneReadOnly();
+
+    // A replaced member keeps its position, while a new member is added last.
+    map<int> & readonly next = {...snapshot, k5: -5, extra: 100};
+    assertEquality(101, next.length());
+    assertEquality(-5, next["k5"]);
+    assertEquality(99, next["k99"]);
+    assertEquality(100, next["extra"]);
+    string[] keys = next.keys();
+    assertEquality("k5", keys[5]);
+    assertEquality("extra", keys[100]);
+
+    assertEquality(100, snapshot.length());
+    assertEquality(5, snapshot["k5"]);
+    assertEquality((), snapshot["extra"]);
+    assertEquality(true, snapshot == entries);
+
+    map<int> & readonly last = {...next, extra: 101};
+    assertEquality(101, last.length());
+    assertEquality(101, last["extra"]);
+    assertEquality(100, next["extra"]);
+}
+
 type Baz record {
     int i;
     string s;
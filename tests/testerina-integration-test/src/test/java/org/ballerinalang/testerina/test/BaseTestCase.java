@@ -45,6 +45,7 @@ public class BaseTestCase {
     static Path outsideTestsProjectPath;
     static Path rerunFailedProjectPath;
     static Path predeclaredImportProjectPath;
+    static Path parallelTestsProjectPath;
 
     @BeforeSuite(alwaysRun = true)
     public void initialize() throws BallerinaTestException, IOException {
@@ -96,6 +97,11 @@ public class BaseTestCase {
                 "rerun-failed-tests").toAbsolutePath();
         rerunFailedProjectPath = tempProjectDirectory.resolve("rerun-failed-tests");
         FileUtils.copyFolder(rerunFailedProj, rerunFailedProjectPath);
+
+        Path parallelTestsProj = Paths.get("src", "test", "resources", "project-based-tests",
+                "parallel-tests").toAbsolutePath();
+        parallelTestsProjectPath = tempProjectDirectory.resolve("parallel-tests");
+        FileUtils.copyFolder(parallelTestsProj, parallelTestsProjectPath);
     }
 
     @AfterSuite(alwaysRun = true)
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.testerina.test;
+
+import org.ballerinalang.test.context.BMainInstance;
+import org.ballerinalang.test.context.BallerinaTestException;
+import org.ballerinalang.test.context.LogLeecher;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test class to test the parallel execution of tests with the `--parallelism` option.
+ */
+public class ParallelExecutionTest extends BaseTestCase {
+
+    private BMainInstance balClient;
+    private String projectPath;
+
+    @BeforeClass
+    public void setup() throws BallerinaTestException {
+        balClient = new BMainInstance(balServer);
+        projectPath = parallelTestsProjectPath.toString();
+    }
+
+    @Test(description = "Independent tests are executed in parallel, while a serial test is executed alone")
+    public void testParallelExecution() throws BallerinaTestException {
+        runTests("parallel", 5);
+    }
+
+    @Test(description = "Tests of a group with before and after groups functions are executed alone and in order")
+    public void testGroupsExecution() throws BallerinaTestException {
+        runTests("groups", 5);
+    }
+
+    @Test(description = "Mock cases registered by a test are not visible to the concurrently executed tests")
+    public void testMockIsolation() throws BallerinaTestException {
+        runTests("mocking", 3);
+    }
+
+    @Test(description = "A chain of dependent tests is executed in order alongside independent tests")
+    public void testDependsOnChain() throws BallerinaTestException {
+        runTests("depends-on", 5);
+    }
+
+    private void runTests(String moduleName, int passingTests) throws BallerinaTestException {
+        LogLeecher passingLeecher = new LogLeecher(passingTests + " passing");
+        LogLeecher failingLeecher = new LogLeecher("0 failing");
+        balClient.runMain("test", new String[]{"--parallelism", "4", moduleName}, null, new String[]{},
+                new LogLeecher[]{passingLeecher, failingLeecher}, projectPath);
+        passingLeecher.waitForText(40000);
+        failingLeecher.waitForText(40000);
+    }
+}
@@ -0,0 +1,70 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/runtime;
+import ballerina/test;
+
+// Tests that a chain of dependent tests is executed in order while independent tests run alongside it.
+
+string chain = "";
+
+@test:Config {
+    dependsOn: ["test2"]
+}
+function test3() {
+    runtime:sleep(200);
+    lock {
+        chain += "3";
+    }
+}
+
+@test:Config {}
+function test1() {
+    runtime:sleep(200);
+    lock {
+        chain += "1";
+    }
+}
+
+@test:Config {
+    dependsOn: ["test1"]
+}
+function test2() {
+    runtime:sleep(200);
+    lock {
+        chain += "2";
+    }
+}
+
+@test:Config {}
+function testIndependent() {
+    runtime:sleep(200);
+    lock {
+        chain += "i";
+    }
+}
+
+@test:Config {
+    dependsOn: ["test3"]
+}
+function test4() {
+    string result;
+    lock {
+        result = chain;
+    }
+    // The independent test runs alongside the first test of the chain, hence it completes before the second one.
+    test:assertTrue(result == "1i23" || result == "i123", msg = "Order is not correct: " + result);
+}
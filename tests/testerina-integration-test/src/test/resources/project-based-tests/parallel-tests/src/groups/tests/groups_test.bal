@@ -0,0 +1,95 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/runtime;
+import ballerina/test;
+
+// Tests that the tests of a group with before and after groups functions are executed alone, with the before groups
+// function executed before the first test of the group and the after groups function after the last one.
+
+int running = 0;
+int runningGroupTests = 0;
+string groupLog = "";
+boolean overlapped = false;
+
+function enter(boolean groupTest) {
+    lock {
+        running += 1;
+        if (groupTest) {
+            runningGroupTests += 1;
+        }
+        if (running > 1 && runningGroupTests > 0) {
+            overlapped = true;
+        }
+    }
+}
+
+function exit(boolean groupTest) {
+    lock {
+        running -= 1;
+        if (groupTest) {
+            runningGroupTests -= 1;
+        }
+    }
+}
+
+@test:BeforeGroups { value: ["g1"] }
+function beforeGroupsFunc() {
+    groupLog += "b";
+}
+
+@test:AfterGroups { value: ["g1"] }
+function afterGroupsFunc() {
+    groupLog += "a";
+}
+
+@test:Config { groups: ["g1"] }
+function testGroup1() {
+    enter(true);
+    groupLog += "t";
+    runtime:sleep(500);
+    exit(true);
+}
+
+@test:Config { groups: ["g1"] }
+function testGroup2() {
+    enter(true);
+    groupLog += "t";
+    runtime:sleep(500);
+    exit(true);
+}
+
+@test:Config {}
+function testOther1() {
+    enter(false);
+    runtime:sleep(500);
+    exit(false);
+}
+
+@test:Config {}
+function testOther2() {
+    enter(false);
+    runtime:sleep(500);
+    exit(false);
+}
+
+@test:Config {
+    dependsOn: ["testGroup1", "testGroup2", "testOther1", "testOther2"]
+}
+function testGroupsExecution() {
+    test:assertFalse(overlapped, msg = "A test of a group with before or after groups functions was not run alone");
+    test:assertEquals(groupLog, "btta");
+}
@@ -0,0 +1,48 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/runtime;
+import ballerina/test;
+
+// Tests that the mock cases registered by a test are not visible to the tests executed concurrently with it. Each
+// test registers its case while the other tests are running, and calls the mocked function after they have
+// registered theirs.
+
+@test:Mock { functionName: "intAdd" }
+test:MockFunction intAddMockFn = new();
+
+@test:Config {}
+function testMockReturnValue1() {
+    test:when(intAddMockFn).thenReturn(100);
+    runtime:sleep(1000);
+    test:assertEquals(intAdd(1, 2), 100);
+}
+
+@test:Config {}
+function testMockReturnValue2() {
+    runtime:sleep(300);
+    test:when(intAddMockFn).thenReturn(200);
+    runtime:sleep(700);
+    test:assertEquals(intAdd(1, 2), 200);
+}
+
+@test:Config {}
+function testMockCallOriginal() {
+    runtime:sleep(600);
+    test:when(intAddMockFn).callOriginal();
+    runtime:sleep(400);
+    test:assertEquals(intAdd(1, 2), 3);
+}
@@ -0,0 +1,90 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/runtime;
+import ballerina/test;
+
+// Tests the concurrent execution of independent tests, and of the tests which opt out of it. The tests are expected
+// to be executed with a parallelism greater than one.
+
+int running = 0;
+int maxRunning = 0;
+
+function enter() returns int {
+    int current;
+    lock {
+        running += 1;
+        if (running > maxRunning) {
+            maxRunning = running;
+        }
+        current = running;
+    }
+    return current;
+}
+
+function exit() {
+    lock {
+        running -= 1;
+    }
+}
+
+function getRunning() returns int {
+    int current;
+    lock {
+        current = running;
+    }
+    return current;
+}
+
+@test:Config {}
+function testIndependent1() {
+    _ = enter();
+    runtime:sleep(1000);
+    exit();
+}
+
+@test:Config {}
+function testIndependent2() {
+    _ = enter();
+    runtime:sleep(1000);
+    exit();
+}
+
+@test:Config {}
+function testIndependent3() {
+    _ = enter();
+    runtime:sleep(1000);
+    exit();
+}
+
+@test:Config {
+    serialExecution: true
+}
+function testSerial() {
+    int runningOnStart = enter();
+    runtime:sleep(1000);
+    int runningOnEnd = getRunning();
+    exit();
+    test:assertEquals(runningOnStart, 1, msg = "Test started while other tests were running");
+    test:assertEquals(runningOnEnd, 1, msg = "Tests started while a serial test was running");
+}
+
+@test:Config {
+    dependsOn: ["testIndependent1", "testIndependent2", "testIndependent3", "testSerial"]
+}
+function testParallelExecution() {
+    test:assertTrue(maxRunning > 1, msg = "Independent tests were not executed in parallel");
+}